@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightMap;
+import com.googlecode.mgwt.collection.shared.PersistentStorage;
+
+/**
+ * A {@link PersistentStorage} using IndexedDB.
+ * 
+ * Every storage uses its own database. The database is opened on first use, operations issued
+ * before that are queued. If the database can not be opened (e.g. in private browsing mode) all
+ * operations go to the fallback storage instead.
+ */
+public class JsIndexedDbStorage implements PersistentStorage {
+
+	private static final String DB_PREFIX = "mgwt.";
+
+  /**
+   * is IndexedDB available
+   * 
+   * @return true if IndexedDB is available
+   */
+	public static native boolean isSupported() /*-{
+		try {
+			return !!$wnd.indexedDB;
+		} catch (e) {
+			return false;
+		}
+  }-*/;
+
+	private final String name;
+	private final PersistentStorage fallback;
+	private final LightArray<ScheduledCommand> pending;
+
+	private JavaScriptObject db;
+	private boolean opening;
+	private boolean failed;
+
+  /**
+   * Construct a {@link JsIndexedDbStorage}
+   * 
+   * @param name the name of the storage
+   * @param fallback the storage to use if the database can not be opened, may be null
+   */
+	public JsIndexedDbStorage(String name, PersistentStorage fallback) {
+		if (name == null) {
+			throw new IllegalArgumentException("name can not be null");
+		}
+		this.name = name;
+		this.fallback = fallback;
+		pending = CollectionFactory.constructArray();
+	}
+
+	@Override
+	public void load(final Callback<LightMap<String>, Throwable> callback) {
+		whenOpen(new ScheduledCommand() {
+
+			@Override
+			public void execute() {
+				if (failed) {
+					if (fallback != null) {
+						fallback.load(callback);
+					} else {
+						callback.onFailure(new RuntimeException("can not open database: " + name));
+					}
+					return;
+				}
+				nativeLoad(db, callback);
+			}
+		});
+	}
+
+	@Override
+	public void write(final LightMap<String> puts, final LightArray<String> removes, final Callback<Void, Throwable> callback) {
+		whenOpen(new ScheduledCommand() {
+
+			@Override
+			public void execute() {
+				if (failed) {
+					if (fallback != null) {
+						fallback.write(puts, removes, callback);
+					} else {
+						callback.onFailure(new RuntimeException("can not open database: " + name));
+					}
+					return;
+				}
+
+				JavaScriptObject store;
+				try {
+					store = openStore(db, name, callback);
+				} catch (JavaScriptException e) {
+					callback.onFailure(e);
+					return;
+				}
+				// all requests are issued synchronously, so the transaction stays active. A request
+				// that throws aborts the transaction, which reports the failure.
+				try {
+					LightArray<String> keys = puts.getKeys();
+					for (int i = 0; i < keys.length(); i++) {
+						String key = keys.get(i);
+						nativePut(store, key, puts.get(key));
+					}
+					for (int i = 0; i < removes.length(); i++) {
+						nativeDelete(store, removes.get(i));
+					}
+				} catch (JavaScriptException e) {
+					abort(store);
+				}
+			}
+		});
+	}
+
+	private void whenOpen(ScheduledCommand command) {
+		if (db != null || failed) {
+			command.execute();
+			return;
+		}
+		pending.push(command);
+		if (!opening) {
+			opening = true;
+			nativeOpen(DB_PREFIX + name);
+		}
+	}
+
+	private void onOpen(JavaScriptObject database) {
+		db = database;
+		runPending();
+	}
+
+	private void onOpenFailed() {
+		failed = true;
+		runPending();
+	}
+
+	private void runPending() {
+		opening = false;
+		while (pending.length() > 0) {
+			pending.shift().execute();
+		}
+	}
+
+	private native void nativeOpen(String dbName) /*-{
+		var that = this;
+		var request;
+		try {
+			request = $wnd.indexedDB.open(dbName, 1);
+		} catch (e) {
+			that.@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onOpenFailed()();
+			return;
+		}
+		request.onupgradeneeded = function() {
+			request.result.createObjectStore("entries");
+		};
+		request.onsuccess = $entry(function() {
+			that.@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onOpen(Lcom/google/gwt/core/client/JavaScriptObject;)(request.result);
+		});
+		request.onerror = $entry(function(evt) {
+			if (evt && evt.preventDefault) {
+				evt.preventDefault();
+			}
+			that.@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onOpenFailed()();
+		});
+  }-*/;
+
+	private static void onLoaded(JavaScriptObject values, Callback<LightMap<String>, Throwable> callback) {
+		callback.onSuccess(new JsLightMap<String>(values));
+	}
+
+	private static void onLoadFailed(Callback<LightMap<String>, Throwable> callback) {
+		callback.onFailure(new RuntimeException("can not read from database"));
+	}
+
+	private static native void nativeLoad(JavaScriptObject db, Callback<LightMap<String>, Throwable> callback) /*-{
+		var values = {};
+		var request = db.transaction([ "entries" ], "readonly").objectStore("entries").openCursor();
+		request.onsuccess = $entry(function() {
+			var cursor = request.result;
+			if (cursor) {
+				values[cursor.key] = cursor.value;
+				cursor["continue"]();
+				return;
+			}
+			@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onLoaded(Lcom/google/gwt/core/client/JavaScriptObject;Lcom/google/gwt/core/client/Callback;)(values, callback);
+		});
+		request.onerror = $entry(function() {
+			@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onLoadFailed(Lcom/google/gwt/core/client/Callback;)(callback);
+		});
+  }-*/;
+
+	private static void onWritten(Callback<Void, Throwable> callback) {
+		callback.onSuccess(null);
+	}
+
+	private static void onWriteFailed(String name, String error, Callback<Void, Throwable> callback) {
+		callback.onFailure(new RuntimeException("can not write to database " + name + ": " + error));
+	}
+
+	private static native JavaScriptObject openStore(JavaScriptObject db, String name, Callback<Void, Throwable> callback) /*-{
+		var transaction = db.transaction([ "entries" ], "readwrite");
+		var done = false;
+		transaction.oncomplete = $entry(function() {
+			done = true;
+			@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onWritten(Lcom/google/gwt/core/client/Callback;)(callback);
+		});
+		// a failing request fires error on the transaction before it aborts, report only once
+		var failed = $entry(function(evt) {
+			if (done) {
+				return;
+			}
+			done = true;
+			var error = (evt && evt.target && evt.target.error) || transaction.error;
+			@com.googlecode.mgwt.collection.client.JsIndexedDbStorage::onWriteFailed(Ljava/lang/String;Ljava/lang/String;Lcom/google/gwt/core/client/Callback;)(name, error ? error.name : "aborted", callback);
+		});
+		transaction.onerror = failed;
+		transaction.onabort = failed;
+		return transaction.objectStore("entries");
+  }-*/;
+
+	private static native void abort(JavaScriptObject store) /*-{
+		try {
+			store.transaction.abort();
+		} catch (e) {
+			// the transaction is already finished
+		}
+  }-*/;
+
+	private static native void nativePut(JavaScriptObject store, String key, String value) /*-{
+		store.put(value, key);
+  }-*/;
+
+	private static native void nativeDelete(JavaScriptObject store, String key) /*-{
+		store["delete"](key);
+  }-*/;
+}
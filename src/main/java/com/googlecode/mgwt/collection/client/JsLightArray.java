@@ -13,6 +13,8 @@
  */
 package com.googlecode.mgwt.collection.client;
 
+import java.util.Comparator;
+
 import com.google.gwt.core.client.JavaScriptObject;
 import com.googlecode.mgwt.collection.shared.LightArray;
 
@@ -83,4 +85,88 @@ public class JsLightArray<T> implements LightArray<T> {
 		this.@com.googlecode.mgwt.collection.client.JsLightArray::array.unshift(value);
   }-*/;
 
+  @Override
+  public native void clear() /*-{
+		this.@com.googlecode.mgwt.collection.client.JsLightArray::array.length = 0;
+  }-*/;
+
+  @Override
+  public void addAll(LightArray<T> values) {
+    if (values instanceof JsLightArray) {
+      nativeAddAll(((JsLightArray<T>) values).array);
+      return;
+    }
+    int length = values.length();
+    for (int i = 0; i < length; i++) {
+      push(values.get(i));
+    }
+  }
+
+  private native void nativeAddAll(JavaScriptObject values) /*-{
+		var array = this.@com.googlecode.mgwt.collection.client.JsLightArray::array;
+		// push in chunks to stay below the argument limit of apply
+		for ( var i = 0; i < values.length; i += 8192) {
+			Array.prototype.push.apply(array, values.slice(i, i + 8192));
+		}
+  }-*/;
+
+  @Override
+  public native int indexOf(T value) /*-{
+		return this.@com.googlecode.mgwt.collection.client.JsLightArray::array.indexOf(value);
+  }-*/;
+
+  @Override
+  public LightArray<T> slice(int start, int end) {
+    return new JsLightArray<T>(nativeSlice(start, end));
+  }
+
+  private native JavaScriptObject nativeSlice(int start, int end) /*-{
+		return this.@com.googlecode.mgwt.collection.client.JsLightArray::array.slice(start, end);
+  }-*/;
+
+  @Override
+  public LightArray<T> splice(int start, int deleteCount) {
+    return new JsLightArray<T>(nativeSplice(start, deleteCount));
+  }
+
+  private native JavaScriptObject nativeSplice(int start, int deleteCount) /*-{
+		return this.@com.googlecode.mgwt.collection.client.JsLightArray::array.splice(start, Math.max(0, deleteCount));
+  }-*/;
+
+  @Override
+  public LightArray<T> splice(int start, int deleteCount, LightArray<T> values) {
+    if (values == null) {
+      return splice(start, deleteCount);
+    }
+    JavaScriptObject insert;
+    if (values instanceof JsLightArray) {
+      insert = ((JsLightArray<T>) values).array;
+    } else {
+      JsLightArray<T> copy = new JsLightArray<T>();
+      copy.addAll(values);
+      insert = copy.array;
+    }
+    return new JsLightArray<T>(nativeSplice(start, deleteCount, insert));
+  }
+
+  private native JavaScriptObject nativeSplice(int start, int deleteCount, JavaScriptObject values) /*-{
+		var args = [ start, Math.max(0, deleteCount) ].concat(values);
+		var array = this.@com.googlecode.mgwt.collection.client.JsLightArray::array;
+		return array.splice.apply(array, args);
+  }-*/;
+
+  @Override
+  public void sort(Comparator<? super T> comparator) {
+    if (comparator == null) {
+      throw new IllegalArgumentException("comparator can not be null");
+    }
+    nativeSort(comparator);
+  }
+
+  private native void nativeSort(Comparator<? super T> comparator) /*-{
+		this.@com.googlecode.mgwt.collection.client.JsLightArray::array.sort(function(a, b) {
+			return comparator.@java.util.Comparator::compare(Ljava/lang/Object;Ljava/lang/Object;)(a, b);
+		});
+  }-*/;
+
 }
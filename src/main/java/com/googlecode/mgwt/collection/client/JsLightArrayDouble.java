@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.googlecode.mgwt.collection.shared.LightArrayDouble;
+
+/**
+ * An implementation of {@link LightArrayDouble} that uses native javascript arrays
+ */
+public class JsLightArrayDouble implements LightArrayDouble {
+
+	private JavaScriptObject array;
+
+  /**
+   * Construct a {@link JsLightArrayDouble}
+   */
+	public JsLightArrayDouble() {
+		this(JavaScriptObject.createArray());
+	}
+
+  /**
+   * Construct a {@link JsLightArrayDouble} with a given javascript array
+   * 
+   * @param array the array to use
+   * 
+   */
+	public JsLightArrayDouble(JavaScriptObject array) {
+		this.array = array;
+	}
+
+	@Override
+	public native void push(double value)/*-{
+		this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array[this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array.length] = value;
+  }-*/;
+
+	@Override
+	public native double shift() /*-{
+		var array = this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array;
+		return array.length == 0 ? 0 : array.shift();
+  }-*/;
+
+	@Override
+	public native double get(int index) /*-{
+		var array = this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array;
+		return index >= 0 && index < array.length ? array[index] : 0;
+  }-*/;
+
+	@Override
+	public native void set(int index, double value) /*-{
+		if (index < 0) {
+			return;
+		}
+		var array = this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array;
+		// fill up the gap, so that missing values read as 0 instead of undefined
+		for (var i = array.length; i < index; i++) {
+			array[i] = 0;
+		}
+		array[index] = value;
+  }-*/;
+
+	@Override
+	public native int length()/*-{
+		return this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array.length;
+  }-*/;
+
+	@Override
+	public native void unshift(double value)/*-{
+		this.@com.googlecode.mgwt.collection.client.JsLightArrayDouble::array
+				.unshift(value);
+  }-*/;
+
+  /**
+   * get the underlying javascript array
+   * 
+   * @return the underlying javascript array
+   */
+	public JavaScriptObject getArray() {
+		return array;
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightIntMap;
+
+/**
+ * An implementation of {@link LightIntMap} that uses native javascript objects as dictionaries
+ * 
+ * @param <V> the type of object to store
+ */
+public class JsLightIntMap<V> implements LightIntMap<V> {
+	private JavaScriptObject map;
+	private int size;
+
+  /**
+   * Construct a {@link JsLightIntMap}
+   */
+	public JsLightIntMap() {
+		map = JavaScriptObject.createObject();
+	}
+
+	@Override
+	public void clear() {
+		map = JavaScriptObject.createObject();
+		size = 0;
+	}
+
+	@Override
+	public native boolean containsKey(int key) /*-{
+		return key in this.@com.googlecode.mgwt.collection.client.JsLightIntMap::map;
+  }-*/;
+
+	@Override
+	public void remove(int key) {
+		if (containsKey(key)) {
+			nativeDelete(key);
+			size--;
+		}
+	}
+
+	private native void nativeDelete(int key) /*-{
+		delete (this.@com.googlecode.mgwt.collection.client.JsLightIntMap::map)[key];
+  }-*/;
+
+	@Override
+	public native V get(int key) /*-{
+		var value = (this.@com.googlecode.mgwt.collection.client.JsLightIntMap::map)[key];
+		return value === undefined ? null : value;
+  }-*/;
+
+	@Override
+	public void put(int key, V value) {
+		if (!containsKey(key)) {
+			size++;
+		}
+		nativePut(key, value);
+	}
+
+	private native void nativePut(int key, V value) /*-{
+		(this.@com.googlecode.mgwt.collection.client.JsLightIntMap::map)[key] = value;
+  }-*/;
+
+	@Override
+	public LightArrayInt getKeys() {
+		return new JsLightArrayInteger(getNativeKeyArray());
+	}
+
+	private native JavaScriptObject getNativeKeyArray()/*-{
+		var array = [];
+		for ( var key in this.@com.googlecode.mgwt.collection.client.JsLightIntMap::map) {
+			array.push(key | 0);
+		}
+		return array;
+  }-*/;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
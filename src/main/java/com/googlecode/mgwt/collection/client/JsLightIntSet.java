@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightIntSet;
+
+/**
+ * An implementation of {@link LightIntSet} that uses a native javascript object as dictionary
+ */
+public class JsLightIntSet implements LightIntSet {
+	private JavaScriptObject set;
+	private int size;
+
+  /**
+   * Construct a {@link JsLightIntSet}
+   */
+	public JsLightIntSet() {
+		set = JavaScriptObject.createObject();
+	}
+
+	@Override
+	public void clear() {
+		set = JavaScriptObject.createObject();
+		size = 0;
+	}
+
+	@Override
+	public native boolean contains(int value) /*-{
+		return value in this.@com.googlecode.mgwt.collection.client.JsLightIntSet::set;
+  }-*/;
+
+	@Override
+	public boolean add(int value) {
+		if (contains(value)) {
+			return false;
+		}
+		nativeAdd(value);
+		size++;
+		return true;
+	}
+
+	private native void nativeAdd(int value) /*-{
+		(this.@com.googlecode.mgwt.collection.client.JsLightIntSet::set)[value] = true;
+  }-*/;
+
+	@Override
+	public boolean remove(int value) {
+		if (!contains(value)) {
+			return false;
+		}
+		nativeDelete(value);
+		size--;
+		return true;
+	}
+
+	private native void nativeDelete(int value) /*-{
+		delete (this.@com.googlecode.mgwt.collection.client.JsLightIntSet::set)[value];
+  }-*/;
+
+	@Override
+	public LightArrayInt getValues() {
+		return new JsLightArrayInteger(getNativeValueArray());
+	}
+
+	private native JavaScriptObject getNativeValueArray()/*-{
+		var array = [];
+		for ( var value in this.@com.googlecode.mgwt.collection.client.JsLightIntSet::set) {
+			array.push(value | 0);
+		}
+		return array;
+  }-*/;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightSet;
+
+/**
+ * An implementation of {@link LightSet} that uses a native javascript object as dictionary.
+ * 
+ * Values are prefixed internally so that they can not collide with properties of Object.prototype.
+ */
+public class JsLightSet implements LightSet {
+	private JavaScriptObject set;
+	private int size;
+
+  /**
+   * Construct a {@link JsLightSet}
+   */
+	public JsLightSet() {
+		set = JavaScriptObject.createObject();
+	}
+
+	@Override
+	public void clear() {
+		set = JavaScriptObject.createObject();
+		size = 0;
+	}
+
+	@Override
+	public boolean contains(String value) {
+		if (value == null) {
+			return false;
+		}
+		return nativeContains(value);
+	}
+
+	private native boolean nativeContains(String value) /*-{
+		return (this.@com.googlecode.mgwt.collection.client.JsLightSet::set).hasOwnProperty(':' + value);
+  }-*/;
+
+	@Override
+	public boolean add(String value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value can not be null");
+		}
+		if (nativeContains(value)) {
+			return false;
+		}
+		nativeAdd(value);
+		size++;
+		return true;
+	}
+
+	private native void nativeAdd(String value) /*-{
+		(this.@com.googlecode.mgwt.collection.client.JsLightSet::set)[':' + value] = true;
+  }-*/;
+
+	@Override
+	public boolean remove(String value) {
+		if (!contains(value)) {
+			return false;
+		}
+		nativeDelete(value);
+		size--;
+		return true;
+	}
+
+	private native void nativeDelete(String value) /*-{
+		delete (this.@com.googlecode.mgwt.collection.client.JsLightSet::set)[':' + value];
+  }-*/;
+
+	@Override
+	public LightArray<String> getValues() {
+		return new JsLightArray<String>(getNativeValueArray());
+	}
+
+	private native JavaScriptObject getNativeValueArray()/*-{
+		var array = [];
+		var set = this.@com.googlecode.mgwt.collection.client.JsLightSet::set;
+		for ( var value in set) {
+			if (set.hasOwnProperty(value)) {
+				array.push(value.substring(1));
+			}
+		}
+		return array;
+  }-*/;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightMap;
+import com.googlecode.mgwt.collection.shared.PersistentStorage;
+
+/**
+ * A {@link PersistentStorage} using the browsers localStorage.
+ * 
+ * All keys are prefixed with the name of the storage, so that multiple storages can share the
+ * localStorage of an origin.
+ */
+public class JsLocalStorage implements PersistentStorage {
+
+  /**
+   * can the localStorage be used. Some browsers throw on every write in private mode.
+   * 
+   * @return true if the localStorage can be used
+   */
+	public static native boolean isSupported() /*-{
+		try {
+			var key = "__mgwt_test__";
+			$wnd.localStorage.setItem(key, key);
+			$wnd.localStorage.removeItem(key);
+			return true;
+		} catch (e) {
+			return false;
+		}
+  }-*/;
+
+	private final String prefix;
+
+  /**
+   * Construct a {@link JsLocalStorage}
+   * 
+   * @param name the name of the storage
+   */
+	public JsLocalStorage(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("name can not be null");
+		}
+		this.prefix = name + ":";
+	}
+
+	@Override
+	public void load(Callback<LightMap<String>, Throwable> callback) {
+		callback.onSuccess(new JsLightMap<String>(nativeLoad(prefix)));
+	}
+
+	private static native JavaScriptObject nativeLoad(String prefix) /*-{
+		var storage = $wnd.localStorage;
+		var values = {};
+		for ( var i = 0; i < storage.length; i++) {
+			var key = storage.key(i);
+			if (key != null && key.indexOf(prefix) == 0) {
+				values[key.substring(prefix.length)] = storage.getItem(key);
+			}
+		}
+		return values;
+  }-*/;
+
+	@Override
+	public void write(LightMap<String> puts, LightArray<String> removes, Callback<Void, Throwable> callback) {
+		try {
+			LightArray<String> keys = puts.getKeys();
+			for (int i = 0; i < keys.length(); i++) {
+				String key = keys.get(i);
+				setItem(prefix + key, puts.get(key));
+			}
+			for (int i = 0; i < removes.length(); i++) {
+				removeItem(prefix + removes.get(i));
+			}
+		} catch (JavaScriptException e) {
+			// e.g. a QuotaExceededError once the localStorage of the origin is full
+			callback.onFailure(e);
+			return;
+		}
+		callback.onSuccess(null);
+	}
+
+	private static native void setItem(String key, String value) /*-{
+		$wnd.localStorage.setItem(key, value);
+  }-*/;
+
+	private static native void removeItem(String key) /*-{
+		$wnd.localStorage.removeItem(key);
+  }-*/;
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.user.client.Timer;
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.PersistentLightMap;
+import com.googlecode.mgwt.collection.shared.PersistentStorage;
+import com.googlecode.mgwt.collection.shared.WriteBehindLightMap;
+import com.googlecode.mgwt.collection.shared.java.JavaPersistentStorage;
+
+/**
+ * Browser implementation of {@link PersistentLightMap}
+ * 
+ * Changes are written with a GWT timer once no further change happened for the write delay. Pending
+ * changes are also written when the page is hidden or unloaded, since mobile browsers may kill a
+ * hidden page without further notice. One pair of page listeners is shared by all maps, a map is
+ * only referenced by it while it has pending changes.
+ * 
+ * Failed writes are reported with {@link GWT#reportUncaughtException(Throwable)}, the changes are
+ * written again with the next flush.
+ */
+public class JsPersistentLightMap extends WriteBehindLightMap {
+
+  /**
+   * the default time in ms to wait for further changes before writing
+   */
+	public static final int DEFAULT_WRITE_DELAY = 300;
+
+	private static final LightArray<JsPersistentLightMap> pendingMaps = CollectionFactory.constructArray();
+
+	private static boolean pageHideHandlerRegistered;
+
+  /**
+   * create the best storage available: IndexedDB, localStorage or memory only
+   * 
+   * @param name the name of the storage
+   * @return the storage
+   */
+	public static PersistentStorage createStorage(String name) {
+		PersistentStorage localStorage = JsLocalStorage.isSupported() ? new JsLocalStorage(name) : null;
+		if (JsIndexedDbStorage.isSupported()) {
+			return new JsIndexedDbStorage(name, localStorage);
+		}
+		if (localStorage != null) {
+			return localStorage;
+		}
+		return new JavaPersistentStorage();
+	}
+
+	private final int writeDelay;
+	private final Timer timer = new Timer() {
+
+		@Override
+		public void run() {
+			flush();
+		}
+	};
+
+  /**
+   * Construct a {@link JsPersistentLightMap} using the best storage available
+   * 
+   * @param name the name of the storage
+   */
+	public JsPersistentLightMap(String name) {
+		this(createStorage(name), DEFAULT_WRITE_DELAY);
+	}
+
+  /**
+   * Construct a {@link JsPersistentLightMap}
+   * 
+   * @param storage the storage to use
+   * @param writeDelay the time in ms to wait for further changes before writing
+   */
+	public JsPersistentLightMap(PersistentStorage storage, int writeDelay) {
+		super(storage);
+		if (writeDelay < 0) {
+			throw new IllegalArgumentException("writeDelay can not be negative");
+		}
+		this.writeDelay = writeDelay;
+	}
+
+	@Override
+	protected void scheduleFlush() {
+		addPending(this);
+		timer.schedule(writeDelay);
+	}
+
+	@Override
+	public void flush() {
+		super.flush();
+		if (!hasPendingWrites()) {
+			removePending(this);
+		}
+	}
+
+	@Override
+	protected void onWriteFailure(Throwable reason) {
+		// keep the map around, so the changes are written when the page is hidden
+		addPending(this);
+		GWT.reportUncaughtException(reason);
+	}
+
+	@Override
+	protected void cancelScheduledFlush() {
+		timer.cancel();
+	}
+
+	private static void addPending(JsPersistentLightMap map) {
+		if (pendingMaps.indexOf(map) != -1) {
+			return;
+		}
+		pendingMaps.push(map);
+		if (!pageHideHandlerRegistered) {
+			pageHideHandlerRegistered = true;
+			registerPageHideHandler();
+		}
+	}
+
+	private static void removePending(JsPersistentLightMap map) {
+		int index = pendingMaps.indexOf(map);
+		if (index != -1) {
+			pendingMaps.splice(index, 1);
+		}
+	}
+
+	private static void flushAll() {
+		// flushing removes the maps from the pending ones
+		LightArray<JsPersistentLightMap> maps = pendingMaps.slice(0, pendingMaps.length());
+		for (int i = 0; i < maps.length(); i++) {
+			maps.get(i).flush();
+		}
+	}
+
+	private static native void registerPageHideHandler() /*-{
+		var flush = $entry(function() {
+			@com.googlecode.mgwt.collection.client.JsPersistentLightMap::flushAll()();
+		});
+		$wnd.addEventListener("pagehide", flush, false);
+		$doc.addEventListener("visibilitychange", function() {
+			if ($doc.visibilityState == "hidden") {
+				flush();
+			}
+		}, false);
+  }-*/;
+}
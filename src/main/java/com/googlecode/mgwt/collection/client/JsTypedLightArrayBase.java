@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Base class for light arrays backed by javascript typed arrays.
+ * 
+ * The typed array is grown by doubling and keeps a head offset, so that push, shift and unshift
+ * are amortized O(1) and the element storage stays packed and monomorphic for the JIT.
+ */
+abstract class JsTypedLightArrayBase {
+
+  private static final int MIN_CAPACITY = 8;
+
+  protected JavaScriptObject data;
+  protected int head;
+  protected int length;
+
+  protected JsTypedLightArrayBase() {
+    data = createData(MIN_CAPACITY);
+  }
+
+  /**
+   * create a new typed array
+   * 
+   * @param capacity the number of elements
+   * @return the typed array
+   */
+  protected abstract JavaScriptObject createData(int capacity);
+
+  public int length() {
+    return length;
+  }
+
+  /**
+   * get a typed array view of the current elements, sharing storage with this array
+   * 
+   * @return the typed array view
+   */
+  public JavaScriptObject getArray() {
+    return subarray(data, head, head + length);
+  }
+
+  protected int pushIndex() {
+    ensureCapacity(length + 1);
+    length++;
+    return head + length - 1;
+  }
+
+  protected int setIndex(int index) {
+    if (index >= length) {
+      ensureCapacity(index + 1);
+      clear(data, head + length, head + index);
+      length = index + 1;
+    }
+    return head + index;
+  }
+
+  protected int shiftIndex() {
+    int index = head;
+    length--;
+    head = length == 0 ? 0 : head + 1;
+    return index;
+  }
+
+  protected int unshiftIndex() {
+    if (head == 0) {
+      // open up a gap in front so that following unshifts are cheap
+      int gap = Math.max(MIN_CAPACITY, length >> 1);
+      JavaScriptObject newData = createData(gap + Math.max(capacity(data), length + 1));
+      copy(data, 0, length, newData, gap);
+      data = newData;
+      head = gap;
+    }
+    head--;
+    length++;
+    return head;
+  }
+
+  private void ensureCapacity(int capacity) {
+    int current = capacity(data);
+    if (head + capacity <= current)
+      return;
+
+    JavaScriptObject target = data;
+    // only grow if the array is more than half full, otherwise just compact
+    if (capacity > current >> 1) {
+      target = createData(Math.max(current << 1, capacity));
+    }
+    copy(data, head, head + length, target, 0);
+    data = target;
+    head = 0;
+  }
+
+  private static native int capacity(JavaScriptObject data) /*-{
+		return data.length;
+  }-*/;
+
+  private static native JavaScriptObject subarray(JavaScriptObject data, int from, int to) /*-{
+		return data.subarray(from, to);
+  }-*/;
+
+  // when compacting in place offset is always smaller than from, so copying front to back is safe
+  private static native void copy(JavaScriptObject source, int from, int to, JavaScriptObject target, int offset) /*-{
+		for ( var i = from; i < to; i++) {
+			target[offset++] = source[i];
+		}
+  }-*/;
+
+  private static native void clear(JavaScriptObject data, int from, int to) /*-{
+		for ( var i = from; i < to; i++) {
+			data[i] = 0;
+		}
+  }-*/;
+}
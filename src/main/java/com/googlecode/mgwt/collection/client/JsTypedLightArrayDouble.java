@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.googlecode.mgwt.collection.shared.LightArrayDouble;
+
+/**
+ * An implementation of {@link LightArrayDouble} that uses a growable javascript Float64Array.
+ * 
+ * Use {@link #isSupported()} to check for typed array support, otherwise fall back to
+ * {@link JsLightArrayDouble}.
+ */
+public class JsTypedLightArrayDouble extends JsTypedLightArrayBase implements LightArrayDouble {
+
+  /**
+   * Are Float64Arrays supported by the current browser
+   * 
+   * @return true if supported
+   */
+  public static native boolean isSupported() /*-{
+		return !!$wnd.Float64Array;
+  }-*/;
+
+  @Override
+  protected native JavaScriptObject createData(int capacity) /*-{
+		return new $wnd.Float64Array(capacity);
+  }-*/;
+
+  @Override
+  public double get(int index) {
+    // behave like js!
+    if (index < 0 || index >= length)
+      return 0;
+    return get(data, head + index);
+  }
+
+  @Override
+  public void set(int index, double value) {
+    if (index < 0)
+      return;
+    set(data, setIndex(index), value);
+  }
+
+  @Override
+  public void push(double value) {
+    int index = pushIndex();
+    set(data, index, value);
+  }
+
+  @Override
+  public double shift() {
+    if (length == 0)
+      return 0;
+    return get(data, shiftIndex());
+  }
+
+  @Override
+  public void unshift(double value) {
+    int index = unshiftIndex();
+    set(data, index, value);
+  }
+
+  private static native double get(JavaScriptObject data, int index) /*-{
+		return data[index];
+  }-*/;
+
+  private static native void set(JavaScriptObject data, int index, double value) /*-{
+		data[index] = value;
+  }-*/;
+}
@@ -17,11 +17,25 @@ package com.googlecode.mgwt.collection.shared;
 
 import com.google.gwt.core.client.GWT;
 import com.googlecode.mgwt.collection.client.JsLightArray;
+import com.googlecode.mgwt.collection.client.JsLightArrayBoolean;
+import com.googlecode.mgwt.collection.client.JsLightArrayDouble;
 import com.googlecode.mgwt.collection.client.JsLightArrayInteger;
+import com.googlecode.mgwt.collection.client.JsLightIntMap;
+import com.googlecode.mgwt.collection.client.JsLightIntSet;
 import com.googlecode.mgwt.collection.client.JsLightMap;
+import com.googlecode.mgwt.collection.client.JsLightSet;
+import com.googlecode.mgwt.collection.client.JsPersistentLightMap;
+import com.googlecode.mgwt.collection.client.JsTypedLightArrayDouble;
+import com.googlecode.mgwt.collection.client.JsTypedLightArrayInteger;
 import com.googlecode.mgwt.collection.shared.java.JavaLightArray;
+import com.googlecode.mgwt.collection.shared.java.JavaLightArrayBoolean;
+import com.googlecode.mgwt.collection.shared.java.JavaLightArrayDouble;
 import com.googlecode.mgwt.collection.shared.java.JavaLightArrayInt;
+import com.googlecode.mgwt.collection.shared.java.JavaLightIntMap;
+import com.googlecode.mgwt.collection.shared.java.JavaLightIntSet;
 import com.googlecode.mgwt.collection.shared.java.JavaLightMap;
+import com.googlecode.mgwt.collection.shared.java.JavaLightSet;
+import com.googlecode.mgwt.collection.shared.java.JavaPersistentLightMap;
 
 /**
  * A factory to create instances of the light collections api.
@@ -47,6 +61,64 @@ public class CollectionFactory {
 		}
 	}
 
+  /**
+   * Construct a {@link PersistentLightMap} backed by IndexedDB or localStorage.
+   * 
+   * Unlike the other collections the browser implementation is also used in dev mode, so that
+   * values are persisted there as well. Inside a plain JVM values are only kept in memory.
+   * 
+   * @param name the name of the storage, maps with the same name share their values
+   * @return the map, call {@link PersistentLightMap#load(com.google.gwt.core.client.Callback)}
+   *         before reading from it
+   */
+	public static PersistentLightMap constructPersistentMap(String name) {
+		if (GWT.isClient()) {
+			return new JsPersistentLightMap(name);
+		} else {
+			return new JavaPersistentLightMap();
+		}
+	}
+
+  /**
+   * Construct a map with int keys
+   * 
+   * @param <V> the type of the map
+   * @return the map
+   */
+	public static <V> LightIntMap<V> constructIntMap() {
+		if (GWT.isProdMode()) {
+			return new JsLightIntMap<V>();
+		} else {
+			return new JavaLightIntMap<V>();
+		}
+	}
+
+  /**
+   * Construct a set of strings
+   * 
+   * @return the set
+   */
+	public static LightSet constructSet() {
+		if (GWT.isProdMode()) {
+			return new JsLightSet();
+		} else {
+			return new JavaLightSet();
+		}
+	}
+
+  /**
+   * Construct a set of ints
+   * 
+   * @return the set
+   */
+	public static LightIntSet constructIntSet() {
+		if (GWT.isProdMode()) {
+			return new JsLightIntSet();
+		} else {
+			return new JavaLightIntSet();
+		}
+	}
+
   /**
    * Construct a {@link LightArray}
    * 
@@ -62,15 +134,47 @@ public class CollectionFactory {
 	}
 
   /**
-   * Construct an array of integers
+   * Construct an array of integers, backed by an Int32Array if the browser supports typed arrays
    * 
    * @return the array
    */
 	public static LightArrayInt constructIntegerArray() {
 		if (GWT.isProdMode()) {
+			if (JsTypedLightArrayInteger.isSupported()) {
+				return new JsTypedLightArrayInteger();
+			}
 			return new JsLightArrayInteger();
 		} else {
 			return new JavaLightArrayInt();
 		}
 	}
+
+  /**
+   * Construct an array of booleans
+   * 
+   * @return the array
+   */
+	public static LightArrayBoolean constructBooleanArray() {
+		if (GWT.isProdMode()) {
+			return new JsLightArrayBoolean();
+		} else {
+			return new JavaLightArrayBoolean();
+		}
+	}
+
+  /**
+   * Construct an array of doubles, backed by a Float64Array if the browser supports typed arrays
+   * 
+   * @return the array
+   */
+	public static LightArrayDouble constructDoubleArray() {
+		if (GWT.isProdMode()) {
+			if (JsTypedLightArrayDouble.isSupported()) {
+				return new JsTypedLightArrayDouble();
+			}
+			return new JsLightArrayDouble();
+		} else {
+			return new JavaLightArrayDouble();
+		}
+	}
 }
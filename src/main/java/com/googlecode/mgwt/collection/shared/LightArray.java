@@ -15,6 +15,8 @@
  */
 package com.googlecode.mgwt.collection.shared;
 
+import java.util.Comparator;
+
 /**
  * A light array implements the same interface as a javascript array.
  * 
@@ -68,4 +70,62 @@ public interface LightArray<T> {
    */
 	public void unshift(T value);
 
+  /**
+   * remove all values from the array
+   */
+	public void clear();
+
+  /**
+   * append all values of another array to this array
+   * 
+   * @param values the values to append
+   */
+	public void addAll(LightArray<T> values);
+
+  /**
+   * find the first index of a value. Values are compared like javascript's ===: objects by
+   * identity, strings by value. {@link Object#equals(Object)} is not used
+   * 
+   * @param value the value to look for
+   * @return the index or -1 if the value is not part of the array
+   */
+	public int indexOf(T value);
+
+  /**
+   * copy a part of the array into a new array. Negative indices count from the end of the array
+   * 
+   * @param start the first index to copy
+   * @param end the index to stop at (exclusive)
+   * @return a new array containing the values
+   */
+	public LightArray<T> slice(int start, int end);
+
+  /**
+   * remove values from the array. A negative start counts from the end of the array
+   * 
+   * @param start the first index to remove
+   * @param deleteCount the number of values to remove
+   * @return a new array containing the removed values
+   */
+	public LightArray<T> splice(int start, int deleteCount);
+
+  /**
+   * remove values from the array and insert other values in their place. A negative start counts
+   * from the end of the array
+   * 
+   * @param start the first index to remove
+   * @param deleteCount the number of values to remove
+   * @param values the values to insert at start
+   * @return a new array containing the removed values
+   */
+	public LightArray<T> splice(int start, int deleteCount, LightArray<T> values);
+
+  /**
+   * sort the array in place. The javascript implementation may not be stable
+   * 
+   * @param comparator the comparator to use, can not be null
+   * @throws IllegalArgumentException if comparator is null
+   */
+	public void sort(Comparator<? super T> comparator);
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+/**
+ * An array that can store primitive doubles
+ */
+public interface LightArrayDouble {
+  /**
+   * remove the first value from the array
+   * 
+   * @return the removed value or 0 if the array is empty
+   */
+  public double shift();
+
+  /**
+   * get the value at a specific index
+   * 
+   * @param index the index
+   * @return the value or 0 if the index is out of range
+   */
+	public double get(int index);
+
+  /**
+   * put a value to a given index. the array autoexpands and fills up missing values with 0
+   * 
+   * @param index the index
+   * @param value the value to store
+   */
+	public void set(int index, double value);
+
+  /**
+   * the length of the array
+   * 
+   * @return the length of the array
+   */
+	public int length();
+
+  /**
+   * insert a value at the front of the array
+   * 
+   * @param value to insert
+   */
+	public void unshift(double value);
+
+  /**
+   * push a value on to the array
+   * 
+   * @param value
+   */
+  public void push(double value);
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+/**
+ * A bounded double ended queue, backed by a ring buffer.
+ * 
+ * Adding and removing at both ends is O(1) and never allocates. Once the deque is full, adding a
+ * value drops the value at the opposite end, which makes it a good fit for fixed windows of
+ * samples.
+ * 
+ * @param <T> the type of object to store
+ */
+public class LightDeque<T> {
+
+	private final Object[] data;
+	private int head;
+	private int length;
+
+  /**
+   * Construct a {@link LightDeque}
+   * 
+   * @param capacity the maximum number of values to keep
+   */
+	public LightDeque(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1");
+		}
+		data = new Object[capacity];
+	}
+
+  /**
+   * add a value at the end, dropping the first value if the deque is full
+   * 
+   * @param value the value to add
+   */
+	public void push(T value) {
+		if (length == data.length) {
+			data[head] = value;
+			head = next(head);
+			return;
+		}
+		data[index(length)] = value;
+		length++;
+	}
+
+  /**
+   * remove the last value
+   * 
+   * @return the value or null if the deque is empty
+   */
+	@SuppressWarnings("unchecked")
+	public T pop() {
+		if (length == 0)
+			return null;
+		length--;
+		int index = index(length);
+		T value = (T) data[index];
+		data[index] = null;
+		return value;
+	}
+
+  /**
+   * add a value at the front, dropping the last value if the deque is full
+   * 
+   * @param value the value to add
+   */
+	public void unshift(T value) {
+		head = head == 0 ? data.length - 1 : head - 1;
+		data[head] = value;
+		if (length < data.length)
+			length++;
+	}
+
+  /**
+   * remove the first value
+   * 
+   * @return the value or null if the deque is empty
+   */
+	@SuppressWarnings("unchecked")
+	public T shift() {
+		if (length == 0)
+			return null;
+		T value = (T) data[head];
+		data[head] = null;
+		head = next(head);
+		length--;
+		return value;
+	}
+
+  /**
+   * get the value at a specific index, counted from the front
+   * 
+   * @param index the index
+   * @return the value or null if the index is out of bounds
+   */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index < 0 || index >= length)
+			return null;
+		return (T) data[index(index)];
+	}
+
+  /**
+   * the number of values in the deque
+   * 
+   * @return the number of values
+   */
+	public int length() {
+		return length;
+	}
+
+  /**
+   * the maximum number of values the deque keeps
+   * 
+   * @return the capacity
+   */
+	public int capacity() {
+		return data.length;
+	}
+
+  /**
+   * is the deque full, so that adding a value drops another one
+   * 
+   * @return true if full
+   */
+	public boolean isFull() {
+		return length == data.length;
+	}
+
+  /**
+   * remove all values
+   */
+	public void clear() {
+		for (int i = 0; i < length; i++) {
+			data[index(i)] = null;
+		}
+		head = 0;
+		length = 0;
+	}
+
+	private int index(int offset) {
+		int index = head + offset;
+		return index >= data.length ? index - data.length : index;
+	}
+
+	private int next(int index) {
+		return index + 1 == data.length ? 0 : index + 1;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+/**
+ * A bounded double ended queue of primitive doubles, backed by a ring buffer.
+ * 
+ * Adding and removing at both ends is O(1) and never allocates. Once the deque is full, adding a
+ * value drops the value at the opposite end, which makes it a good fit for fixed windows of
+ * samples.
+ */
+public class LightDequeDouble {
+
+	private final double[] data;
+	private int head;
+	private int length;
+
+  /**
+   * Construct a {@link LightDequeDouble}
+   * 
+   * @param capacity the maximum number of values to keep
+   */
+	public LightDequeDouble(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1");
+		}
+		data = new double[capacity];
+	}
+
+  /**
+   * add a value at the end, dropping the first value if the deque is full
+   * 
+   * @param value the value to add
+   */
+	public void push(double value) {
+		if (length == data.length) {
+			data[head] = value;
+			head = next(head);
+			return;
+		}
+		data[index(length)] = value;
+		length++;
+	}
+
+  /**
+   * remove the last value
+   * 
+   * @return the value or 0 if the deque is empty
+   */
+	public double pop() {
+		if (length == 0)
+			return 0;
+		length--;
+		return data[index(length)];
+	}
+
+  /**
+   * add a value at the front, dropping the last value if the deque is full
+   * 
+   * @param value the value to add
+   */
+	public void unshift(double value) {
+		head = head == 0 ? data.length - 1 : head - 1;
+		data[head] = value;
+		if (length < data.length)
+			length++;
+	}
+
+  /**
+   * remove the first value
+   * 
+   * @return the value or 0 if the deque is empty
+   */
+	public double shift() {
+		if (length == 0)
+			return 0;
+		double value = data[head];
+		head = next(head);
+		length--;
+		return value;
+	}
+
+  /**
+   * get the value at a specific index, counted from the front
+   * 
+   * @param index the index
+   * @return the value or 0 if the index is out of bounds
+   */
+	public double get(int index) {
+		if (index < 0 || index >= length)
+			return 0;
+		return data[index(index)];
+	}
+
+  /**
+   * the number of values in the deque
+   * 
+   * @return the number of values
+   */
+	public int length() {
+		return length;
+	}
+
+  /**
+   * the maximum number of values the deque keeps
+   * 
+   * @return the capacity
+   */
+	public int capacity() {
+		return data.length;
+	}
+
+  /**
+   * is the deque full, so that adding a value drops another one
+   * 
+   * @return true if full
+   */
+	public boolean isFull() {
+		return length == data.length;
+	}
+
+  /**
+   * remove all values
+   */
+	public void clear() {
+		head = 0;
+		length = 0;
+	}
+
+	private int index(int offset) {
+		int index = head + offset;
+		return index >= data.length ? index - data.length : index;
+	}
+
+	private int next(int index) {
+		return index + 1 == data.length ? 0 : index + 1;
+	}
+}
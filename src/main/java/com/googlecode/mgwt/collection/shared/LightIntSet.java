@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+/**
+ * 
+ * A set of ints that uses a native implementation if available.
+ */
+public interface LightIntSet {
+
+  /**
+   * remove all values from this set
+   */
+	public void clear();
+
+  /**
+   * does the set contain a value
+   * 
+   * @param value the value to test for
+   * @return true if the value is part of the set
+   */
+	public boolean contains(int value);
+
+  /**
+   * add a value to the set
+   * 
+   * @param value the value
+   * @return true if the value was not already part of the set
+   */
+	public boolean add(int value);
+
+  /**
+   * remove a value from the set
+   * 
+   * @param value the value
+   * @return true if the value was part of the set
+   */
+	public boolean remove(int value);
+
+  /**
+   * get all values of this set
+   * 
+   * @return the values of this set
+   */
+	public LightArrayInt getValues();
+
+  /**
+   * the number of values in this set
+   * 
+   * @return the number of values
+   */
+	public int size();
+}
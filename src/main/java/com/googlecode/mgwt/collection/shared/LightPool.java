@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+/**
+ * A small pool of reusable objects.
+ * 
+ * Use it for objects that are created on hot paths (e.g. for every touch move) and have a clearly
+ * defined end of life. Whoever calls {@link #acquire()} owns the object until handing it back with
+ * {@link #release(Object)}; after that the object may be reused at any time and must not be touched
+ * anymore. Objects that are never released are simply garbage collected.
+ * 
+ * @param <T> the type of objects in the pool
+ */
+public class LightPool<T> {
+
+  /**
+   * creates new objects if the pool is empty
+   * 
+   * @param <T> the type of objects to create
+   */
+	public interface Factory<T> {
+    /**
+     * create a new object
+     * 
+     * @return the new object
+     */
+		T create();
+	}
+
+	private final Factory<T> factory;
+	private final Object[] idle;
+	private int size;
+	private int createdCount;
+
+  /**
+   * Construct a {@link LightPool}
+   * 
+   * @param factory the factory to create new objects with
+   * @param maxSize the maximum number of idle objects to keep, further released objects are dropped
+   */
+	public LightPool(Factory<T> factory, int maxSize) {
+		if (factory == null) {
+			throw new IllegalArgumentException("factory can not be null");
+		}
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be at least 1");
+		}
+		this.factory = factory;
+		idle = new Object[maxSize];
+	}
+
+  /**
+   * take an object from the pool, creating one if the pool is empty
+   * 
+   * @return the object
+   */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		if (size == 0) {
+			createdCount++;
+			return factory.create();
+		}
+		size--;
+		T object = (T) idle[size];
+		idle[size] = null;
+		return object;
+	}
+
+  /**
+   * hand an object back to the pool
+   * 
+   * @param object the object, must not be used by the caller anymore
+   */
+	public void release(T object) {
+		if (object == null) {
+			throw new IllegalArgumentException("object can not be null");
+		}
+		if (size < idle.length) {
+			idle[size++] = object;
+		}
+	}
+
+  /**
+   * the number of idle objects in the pool
+   * 
+   * @return the number of idle objects
+   */
+	public int size() {
+		return size;
+	}
+
+  /**
+   * the number of objects this pool had to create so far
+   * 
+   * @return the number of created objects
+   */
+	public int getCreatedCount() {
+		return createdCount;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import com.google.gwt.core.client.Callback;
+
+/**
+ * A {@link LightMap} of strings that survives application restarts.
+ * 
+ * Reads are always served from memory. Writes update memory immediately and are written to the
+ * underlying storage in batches after a short delay, so that no storage I/O happens inside event
+ * handlers.
+ * 
+ * Call {@link #load(Callback)} once at startup to read the stored values. Values written before
+ * loading has finished take precedence over stored ones.
+ * 
+ * Putting a null value removes the key.
+ */
+public interface PersistentLightMap extends LightMap<String> {
+
+  /**
+   * read the stored values into memory
+   * 
+   * @param callback called once the values are available
+   */
+	public void load(Callback<Void, Throwable> callback);
+
+  /**
+   * have the stored values been read into memory
+   * 
+   * @return true if loading has finished
+   */
+	public boolean isLoaded();
+
+  /**
+   * write all pending changes to the storage now instead of waiting for the scheduled write
+   */
+	public void flush();
+
+  /**
+   * are there changes that have not been written to the storage yet
+   * 
+   * @return true if there are pending changes
+   */
+	public boolean hasPendingWrites();
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import com.google.gwt.core.client.Callback;
+
+/**
+ * The storage behind a {@link PersistentLightMap}.
+ * 
+ * Implementations may work asynchronously, but must apply writes in the order they were issued.
+ */
+public interface PersistentStorage {
+
+  /**
+   * read all stored values
+   * 
+   * @param callback receives the stored values
+   */
+	public void load(Callback<LightMap<String>, Throwable> callback);
+
+  /**
+   * write a batch of changes
+   * 
+   * If the write fails (e.g. because the quota of the origin is exceeded) none, some or all of the
+   * changes may have been stored.
+   * 
+   * @param puts the values to store
+   * @param removes the keys to remove
+   * @param callback called once the batch has been written or the write failed
+   */
+	public void write(LightMap<String> puts, LightArray<String> removes, Callback<Void, Throwable> callback);
+}
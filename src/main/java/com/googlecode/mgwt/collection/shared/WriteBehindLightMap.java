@@ -0,0 +1,231 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import com.google.gwt.core.client.Callback;
+
+/**
+ * Base class for {@link PersistentLightMap} implementations.
+ * 
+ * Keeps all values in memory and remembers which keys changed. Every change (re)schedules a
+ * flush, so a burst of writes ends up as one batch written to the {@link PersistentStorage}.
+ * Subclasses provide the scheduling.
+ * 
+ * If a batch can not be written its keys are marked as changed again, so they are written with
+ * the next flush.
+ * 
+ * Keys changed before {@link #load(Callback)} completed keep their in memory value, even if they
+ * were already flushed and the storage returns an older value.
+ */
+public abstract class WriteBehindLightMap implements PersistentLightMap {
+
+	private final PersistentStorage storage;
+	private final LightMap<String> values;
+	private final LightSet dirty;
+	private final LightSet changedBeforeLoad;
+
+	private boolean loaded;
+	private boolean loading;
+	private boolean clearedBeforeLoad;
+
+  /**
+   * Construct a {@link WriteBehindLightMap}
+   * 
+   * @param storage the storage to read from and write to
+   */
+	protected WriteBehindLightMap(PersistentStorage storage) {
+		if (storage == null) {
+			throw new IllegalArgumentException("storage can not be null");
+		}
+		this.storage = storage;
+		values = CollectionFactory.constructMap();
+		dirty = CollectionFactory.constructSet();
+		changedBeforeLoad = CollectionFactory.constructSet();
+	}
+
+  /**
+   * schedule a call to {@link #flush()}, replacing a flush that is already scheduled
+   */
+	protected abstract void scheduleFlush();
+
+  /**
+   * cancel a scheduled flush
+   */
+	protected abstract void cancelScheduledFlush();
+
+  /**
+   * called if a batch could not be written, its keys are already marked as changed again
+   * 
+   * @param reason the reason of the failure
+   */
+	protected abstract void onWriteFailure(Throwable reason);
+
+	@Override
+	public void load(final Callback<Void, Throwable> callback) {
+		if (loaded) {
+			callback.onSuccess(null);
+			return;
+		}
+		if (loading) {
+			throw new IllegalStateException("map is already loading");
+		}
+		loading = true;
+		storage.load(new Callback<LightMap<String>, Throwable>() {
+
+			@Override
+			public void onSuccess(LightMap<String> stored) {
+				loading = false;
+				merge(stored);
+				loaded = true;
+				callback.onSuccess(null);
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				loading = false;
+				callback.onFailure(reason);
+			}
+		});
+	}
+
+	private void merge(LightMap<String> stored) {
+		LightArray<String> keys = stored.getKeys();
+		for (int i = 0; i < keys.length(); i++) {
+			String key = keys.get(i);
+			// a flush may have written the key already, the read can still return the old value
+			if (changedBeforeLoad.contains(key)) {
+				continue;
+			}
+			if (clearedBeforeLoad) {
+				// cleared before we knew about it, so remove it from the storage as well
+				markDirty(key);
+			} else {
+				values.put(key, stored.get(key));
+			}
+		}
+		clearedBeforeLoad = false;
+		changedBeforeLoad.clear();
+	}
+
+	@Override
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	@Override
+	public void flush() {
+		cancelScheduledFlush();
+		if (dirty.size() == 0) {
+			return;
+		}
+
+		LightMap<String> puts = CollectionFactory.constructMap();
+		LightArray<String> removes = CollectionFactory.constructArray();
+		final LightArray<String> keys = dirty.getValues();
+		for (int i = 0; i < keys.length(); i++) {
+			String key = keys.get(i);
+			if (values.containsKey(key)) {
+				puts.put(key, values.get(key));
+			} else {
+				removes.push(key);
+			}
+		}
+		dirty.clear();
+		storage.write(puts, removes, new Callback<Void, Throwable>() {
+
+			@Override
+			public void onSuccess(Void result) {
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				// keep the changes, the values are read again when they are written next time
+				for (int i = 0; i < keys.length(); i++) {
+					dirty.add(keys.get(i));
+				}
+				onWriteFailure(reason);
+			}
+		});
+	}
+
+	@Override
+	public boolean hasPendingWrites() {
+		return dirty.size() > 0;
+	}
+
+	@Override
+	public void clear() {
+		LightArray<String> keys = values.getKeys();
+		for (int i = 0; i < keys.length(); i++) {
+			markDirty(keys.get(i));
+		}
+		values.clear();
+		if (!loaded) {
+			clearedBeforeLoad = true;
+		}
+	}
+
+	@Override
+	public boolean containsKey(String key) {
+		return values.containsKey(key);
+	}
+
+	@Override
+	public LightArray<String> getKeys() {
+		return values.getKeys();
+	}
+
+	@Override
+	public void remove(String key) {
+		values.remove(key);
+		markDirty(key);
+	}
+
+	@Override
+	public String get(String key) {
+		return values.get(key);
+	}
+
+	@Override
+	public void put(String key, String value) {
+		if (key == null) {
+			throw new IllegalArgumentException("key can not be null");
+		}
+		if (value == null) {
+			remove(key);
+			return;
+		}
+		values.put(key, value);
+		markDirty(key);
+	}
+
+  /**
+   * get the storage of this map
+   * 
+   * @return the storage
+   */
+	public PersistentStorage getStorage() {
+		return storage;
+	}
+
+	private void markDirty(String key) {
+		dirty.add(key);
+		if (!loaded) {
+			changedBeforeLoad.add(key);
+		}
+		scheduleFlush();
+	}
+}
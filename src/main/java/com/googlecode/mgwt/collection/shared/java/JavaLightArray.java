@@ -16,6 +16,9 @@
 package com.googlecode.mgwt.collection.shared.java;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 
 import com.googlecode.mgwt.collection.shared.LightArray;
@@ -84,6 +87,87 @@ public class JavaLightArray<T> implements LightArray<T> {
 
 	}
 
+	@Override
+	public void clear() {
+		list.clear();
+	}
+
+	@Override
+	public void addAll(LightArray<T> values) {
+		if (values instanceof JavaLightArray) {
+			list.addAll(((JavaLightArray<T>) values).list);
+			return;
+		}
+		int length = values.length();
+		list.ensureCapacity(list.size() + length);
+		for (int i = 0; i < length; i++) {
+			list.add(values.get(i));
+		}
+	}
+
+	@Override
+	public int indexOf(T value) {
+		// same as javascript's ===: objects by identity, strings by value
+		boolean isString = value instanceof String;
+		for (int i = 0; i < list.size(); i++) {
+			T element = list.get(i);
+			if (element == value || (isString && value.equals(element))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public LightArray<T> slice(int start, int end) {
+		int from = normalizeIndex(start);
+		int to = normalizeIndex(end);
+		JavaLightArray<T> array = new JavaLightArray<T>();
+		if (from < to) {
+			array.list.addAll(list.subList(from, to));
+		}
+		return array;
+	}
+
+	@Override
+	public LightArray<T> splice(int start, int deleteCount) {
+		return splice(start, deleteCount, null);
+	}
+
+	@Override
+	public LightArray<T> splice(int start, int deleteCount, LightArray<T> values) {
+		int from = normalizeIndex(start);
+		int count = Math.max(0, Math.min(deleteCount, list.size() - from));
+
+		JavaLightArray<T> removed = new JavaLightArray<T>();
+		List<T> range = list.subList(from, from + count);
+		removed.list.addAll(range);
+		range.clear();
+
+		if (values != null && values.length() > 0) {
+			JavaLightArray<T> insert = new JavaLightArray<T>();
+			insert.addAll(values);
+			list.addAll(from, insert.list);
+		}
+		return removed;
+	}
+
+	@Override
+	public void sort(Comparator<? super T> comparator) {
+		if (comparator == null) {
+			throw new IllegalArgumentException("comparator can not be null");
+		}
+		Collections.sort(list, comparator);
+	}
+
+	// behave like js!
+	private int normalizeIndex(int index) {
+		if (index < 0) {
+			return Math.max(0, list.size() + index);
+		}
+		return Math.min(index, list.size());
+	}
+
   /**
    * Construct a {@link JavaLightArray} from a set
    * 
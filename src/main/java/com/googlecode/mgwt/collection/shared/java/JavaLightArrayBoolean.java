@@ -15,63 +15,105 @@
  */
 package com.googlecode.mgwt.collection.shared.java;
 
+import java.util.Arrays;
+
 import com.googlecode.mgwt.collection.shared.LightArrayBoolean;
 
 /**
- * 
  * Implementation of {@link LightArrayBoolean} for java environments
  * 
+ * Values are stored in a growable boolean[] without boxing. The array keeps a
+ * head offset, so that {@link #shift()} and {@link #unshift(boolean)} are
+ * amortized O(1) instead of moving all elements.
+ * 
  * @author Daniel Kurka
  * 
  */
 public class JavaLightArrayBoolean implements LightArrayBoolean {
 
-	private JavaLightArray<Boolean> array;
+	private static final int MIN_CAPACITY = 8;
+
+	private boolean[] data;
+	private int head;
+	private int length;
 
   /**
    * Construct a {@link JavaLightArrayBoolean}
    */
 	public JavaLightArrayBoolean() {
-		array = new JavaLightArray<Boolean>();
+		data = new boolean[MIN_CAPACITY];
 	}
 
 	@Override
 	public boolean get(int index) {
-		Boolean boolean1 = array.get(index);
-		if (boolean1 != null)
-			return boolean1;
-		return false;
+		// behave like js!
+		if (index < 0 || index >= length)
+			return false;
+		return data[head + index];
 	}
 
 	@Override
 	public int length() {
-		return array.length();
+		return length;
 	}
 
 	@Override
 	public void push(boolean value) {
-		array.push(value);
-
+		ensureCapacity(length + 1);
+		data[head + length] = value;
+		length++;
 	}
 
 	@Override
 	public void set(int index, boolean value) {
-		array.set(index, value);
-
+		// behave like js!
+		if (index < 0)
+			return;
+		if (index >= length) {
+			ensureCapacity(index + 1);
+			Arrays.fill(data, head + length, head + index, false);
+			length = index + 1;
+		}
+		data[head + index] = value;
 	}
 
 	@Override
 	public boolean shift() {
-		Boolean shift = array.shift();
-		if (shift != null)
-			return shift;
-		return false;
+		if (length == 0)
+			return false;
+		boolean value = data[head];
+		length--;
+		head = length == 0 ? 0 : head + 1;
+		return value;
 	}
 
 	@Override
 	public void unshift(boolean value) {
-		array.unshift(value);
+		if (head == 0) {
+			// open up a gap in front so that following unshifts are cheap
+			int gap = Math.max(MIN_CAPACITY, length >> 1);
+			boolean[] newData = new boolean[gap + Math.max(data.length, length + 1)];
+			System.arraycopy(data, 0, newData, gap, length);
+			data = newData;
+			head = gap;
+		}
+		head--;
+		data[head] = value;
+		length++;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (head + capacity <= data.length)
+			return;
 
+		boolean[] target = data;
+		// only grow if the array is more than half full, otherwise just compact
+		if (capacity > data.length >> 1) {
+			target = new boolean[Math.max(data.length << 1, capacity)];
+		}
+		System.arraycopy(data, head, target, 0, length);
+		data = target;
+		head = 0;
 	}
 
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import java.util.Arrays;
+
+import com.googlecode.mgwt.collection.shared.LightArrayDouble;
+
+/**
+ * Java implementation of {@link LightArrayDouble}
+ * 
+ * Values are stored in a growable double[] without boxing. The array keeps a head
+ * offset, so that {@link #shift()} and {@link #unshift(double)} are amortized O(1)
+ * instead of moving all elements.
+ */
+public class JavaLightArrayDouble implements LightArrayDouble {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private double[] data;
+	private int head;
+	private int length;
+
+  /**
+   * Construct a {@link JavaLightArrayDouble}
+   */
+	public JavaLightArrayDouble() {
+		data = new double[MIN_CAPACITY];
+	}
+
+	@Override
+	public double get(int index) {
+		// behave like js!
+		if (index < 0 || index >= length)
+			return 0;
+		return data[head + index];
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public void push(double value) {
+		ensureCapacity(length + 1);
+		data[head + length] = value;
+		length++;
+	}
+
+	@Override
+	public void set(int index, double value) {
+		// behave like js!
+		if (index < 0)
+			return;
+		if (index >= length) {
+			ensureCapacity(index + 1);
+			Arrays.fill(data, head + length, head + index, 0);
+			length = index + 1;
+		}
+		data[head + index] = value;
+	}
+
+	@Override
+	public double shift() {
+		if (length == 0)
+			return 0;
+		double value = data[head];
+		length--;
+		head = length == 0 ? 0 : head + 1;
+		return value;
+	}
+
+	@Override
+	public void unshift(double value) {
+		if (head == 0) {
+			// open up a gap in front so that following unshifts are cheap
+			int gap = Math.max(MIN_CAPACITY, length >> 1);
+			double[] newData = new double[gap + Math.max(data.length, length + 1)];
+			System.arraycopy(data, 0, newData, gap, length);
+			data = newData;
+			head = gap;
+		}
+		head--;
+		data[head] = value;
+		length++;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (head + capacity <= data.length)
+			return;
+
+		double[] target = data;
+		// only grow if the array is more than half full, otherwise just compact
+		if (capacity > data.length >> 1) {
+			target = new double[Math.max(data.length << 1, capacity)];
+		}
+		System.arraycopy(data, head, target, 0, length);
+		data = target;
+		head = 0;
+	}
+
+}
@@ -15,62 +15,105 @@
  */
 package com.googlecode.mgwt.collection.shared.java;
 
+import java.util.Arrays;
+
 import com.googlecode.mgwt.collection.shared.LightArrayInt;
 
 /**
  * Java implemntation of {@link LightArrayInt}
  * 
+ * Values are stored in a growable int[] without boxing. The array keeps a head
+ * offset, so that {@link #shift()} and {@link #unshift(int)} are amortized O(1)
+ * instead of moving all elements.
+ * 
  * @author Daniel Kurka
  * 
  */
 public class JavaLightArrayInt implements LightArrayInt {
 
-	private JavaLightArray<Integer> array;
+	private static final int MIN_CAPACITY = 8;
+
+	private int[] data;
+	private int head;
+	private int length;
 
   /**
-   * Construct a {@link JavaLightArray}
+   * Construct a {@link JavaLightArrayInt}
    */
 	public JavaLightArrayInt() {
-		array = new JavaLightArray<Integer>();
+		data = new int[MIN_CAPACITY];
 	}
 
 	@Override
 	public int get(int index) {
-		Integer integer = array.get(index);
-		if (integer != null)
-			return integer;
-		return 0;
+		// behave like js!
+		if (index < 0 || index >= length)
+			return 0;
+		return data[head + index];
 	}
 
 	@Override
 	public int length() {
-		return array.length();
+		return length;
 	}
 
 	@Override
 	public void push(int value) {
-		array.push(Integer.valueOf(value));
-
+		ensureCapacity(length + 1);
+		data[head + length] = value;
+		length++;
 	}
 
 	@Override
 	public void set(int index, int value) {
-		array.set(index, Integer.valueOf(value));
-
+		// behave like js!
+		if (index < 0)
+			return;
+		if (index >= length) {
+			ensureCapacity(index + 1);
+			Arrays.fill(data, head + length, head + index, 0);
+			length = index + 1;
+		}
+		data[head + index] = value;
 	}
 
 	@Override
 	public int shift() {
-		Integer shift = array.shift();
-		if (shift != null)
-			return shift;
-		return 0;
+		if (length == 0)
+			return 0;
+		int value = data[head];
+		length--;
+		head = length == 0 ? 0 : head + 1;
+		return value;
 	}
 
 	@Override
 	public void unshift(int value) {
-		array.unshift(Integer.valueOf(value));
+		if (head == 0) {
+			// open up a gap in front so that following unshifts are cheap
+			int gap = Math.max(MIN_CAPACITY, length >> 1);
+			int[] newData = new int[gap + Math.max(data.length, length + 1)];
+			System.arraycopy(data, 0, newData, gap, length);
+			data = newData;
+			head = gap;
+		}
+		head--;
+		data[head] = value;
+		length++;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (head + capacity <= data.length)
+			return;
 
+		int[] target = data;
+		// only grow if the array is more than half full, otherwise just compact
+		if (capacity > data.length >> 1) {
+			target = new int[Math.max(data.length << 1, capacity)];
+		}
+		System.arraycopy(data, head, target, 0, length);
+		data = target;
+		head = 0;
 	}
 
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightIntMap;
+
+/**
+ * Java implementation of {@link LightIntMap}
+ * 
+ * Uses open addressing with linear probing on primitive int keys, so neither keys nor entries are
+ * allocated on put. Removal shifts following entries back instead of leaving tombstones.
+ * 
+ * @param <V> type of objects to store
+ */
+public class JavaLightIntMap<V> implements LightIntMap<V> {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private int[] keys;
+	private Object[] values;
+	private boolean[] used;
+	private int size;
+	private int mask;
+
+  /**
+   * Construct a {@link JavaLightIntMap}
+   */
+	public JavaLightIntMap() {
+		allocate(MIN_CAPACITY);
+	}
+
+	@Override
+	public void clear() {
+		allocate(MIN_CAPACITY);
+	}
+
+	@Override
+	public boolean containsKey(int key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public LightArrayInt getKeys() {
+		JavaLightArrayInt array = new JavaLightArrayInt();
+		for (int i = 0; i < keys.length; i++) {
+			if (used[i])
+				array.push(keys[i]);
+		}
+		return array;
+	}
+
+	@Override
+	public void remove(int key) {
+		int index = indexOf(key);
+		if (index < 0)
+			return;
+
+		size--;
+		// shift back following entries of the same probe sequence
+		int free = index;
+		int i = index;
+		while (true) {
+			i = (i + 1) & mask;
+			if (!used[i])
+				break;
+			int slot = slot(keys[i]);
+			boolean inRange = free <= i ? (free < slot && slot <= i) : (free < slot || slot <= i);
+			if (inRange)
+				continue;
+			keys[free] = keys[i];
+			values[free] = values[i];
+			free = i;
+		}
+		used[free] = false;
+		values[free] = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V get(int key) {
+		int index = indexOf(key);
+		if (index < 0)
+			return null;
+		return (V) values[index];
+	}
+
+	@Override
+	public void put(int key, V value) {
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				values[i] = value;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+		used[i] = true;
+		keys[i] = key;
+		values[i] = value;
+		size++;
+
+		// keep load factor below 0.75
+		if (size << 2 > keys.length * 3) {
+			rehash(keys.length << 1);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private int indexOf(int key) {
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key)
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int slot(int key) {
+		// spread consecutive keys over the table
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new Object[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldUsed[i])
+				put(oldKeys[i], (V) oldValues[i]);
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightIntSet;
+
+/**
+ * Java implementation of {@link LightIntSet}
+ * 
+ * Uses open addressing with linear probing on primitive ints, so values are never boxed. Removal
+ * shifts following values back instead of leaving tombstones.
+ */
+public class JavaLightIntSet implements LightIntSet {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private int[] values;
+	private boolean[] used;
+	private int size;
+	private int mask;
+
+  /**
+   * Construct a {@link JavaLightIntSet}
+   */
+	public JavaLightIntSet() {
+		allocate(MIN_CAPACITY);
+	}
+
+	@Override
+	public void clear() {
+		allocate(MIN_CAPACITY);
+	}
+
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	@Override
+	public boolean add(int value) {
+		int i = slot(value);
+		while (used[i]) {
+			if (values[i] == value)
+				return false;
+			i = (i + 1) & mask;
+		}
+		used[i] = true;
+		values[i] = value;
+		size++;
+
+		// keep load factor below 0.75
+		if (size << 2 > values.length * 3) {
+			rehash(values.length << 1);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean remove(int value) {
+		int index = indexOf(value);
+		if (index < 0)
+			return false;
+
+		size--;
+		// shift back following values of the same probe sequence
+		int free = index;
+		int i = index;
+		while (true) {
+			i = (i + 1) & mask;
+			if (!used[i])
+				break;
+			int slot = slot(values[i]);
+			boolean inRange = free <= i ? (free < slot && slot <= i) : (free < slot || slot <= i);
+			if (inRange)
+				continue;
+			values[free] = values[i];
+			free = i;
+		}
+		used[free] = false;
+		return true;
+	}
+
+	@Override
+	public LightArrayInt getValues() {
+		JavaLightArrayInt array = new JavaLightArrayInt();
+		for (int i = 0; i < values.length; i++) {
+			if (used[i])
+				array.push(values[i]);
+		}
+		return array;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private int indexOf(int value) {
+		int i = slot(value);
+		while (used[i]) {
+			if (values[i] == value)
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int slot(int value) {
+		// spread consecutive values over the table
+		int h = value * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private void allocate(int capacity) {
+		values = new int[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	private void rehash(int capacity) {
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(capacity);
+		for (int i = 0; i < oldValues.length; i++) {
+			if (oldUsed[i])
+				add(oldValues[i]);
+		}
+	}
+
+}
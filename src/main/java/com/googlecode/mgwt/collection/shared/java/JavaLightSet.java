@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightSet;
+
+/**
+ * Java implementation of {@link LightSet}
+ * 
+ * Uses open addressing with linear probing, so no entry objects are allocated on add. Removal
+ * shifts following values back instead of leaving tombstones.
+ */
+public class JavaLightSet implements LightSet {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private String[] values;
+	private int size;
+	private int mask;
+
+  /**
+   * Construct a {@link JavaLightSet}
+   */
+	public JavaLightSet() {
+		allocate(MIN_CAPACITY);
+	}
+
+	@Override
+	public void clear() {
+		allocate(MIN_CAPACITY);
+	}
+
+	@Override
+	public boolean contains(String value) {
+		if (value == null)
+			return false;
+		return indexOf(value) >= 0;
+	}
+
+	@Override
+	public boolean add(String value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value can not be null");
+		}
+		int i = slot(value);
+		while (values[i] != null) {
+			if (values[i].equals(value))
+				return false;
+			i = (i + 1) & mask;
+		}
+		values[i] = value;
+		size++;
+
+		// keep load factor below 0.75
+		if (size << 2 > values.length * 3) {
+			rehash(values.length << 1);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean remove(String value) {
+		if (value == null)
+			return false;
+		int index = indexOf(value);
+		if (index < 0)
+			return false;
+
+		size--;
+		// shift back following values of the same probe sequence
+		int free = index;
+		int i = index;
+		while (true) {
+			i = (i + 1) & mask;
+			if (values[i] == null)
+				break;
+			int slot = slot(values[i]);
+			boolean inRange = free <= i ? (free < slot && slot <= i) : (free < slot || slot <= i);
+			if (inRange)
+				continue;
+			values[free] = values[i];
+			free = i;
+		}
+		values[free] = null;
+		return true;
+	}
+
+	@Override
+	public LightArray<String> getValues() {
+		JavaLightArray<String> array = new JavaLightArray<String>();
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null)
+				array.push(values[i]);
+		}
+		return array;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private int indexOf(String value) {
+		int i = slot(value);
+		while (values[i] != null) {
+			if (values[i].equals(value))
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int slot(String value) {
+		int h = value.hashCode() * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private void allocate(int capacity) {
+		values = new String[capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	private void rehash(int capacity) {
+		String[] oldValues = values;
+		allocate(capacity);
+		for (int i = 0; i < oldValues.length; i++) {
+			if (oldValues[i] != null)
+				add(oldValues[i]);
+		}
+	}
+
+}
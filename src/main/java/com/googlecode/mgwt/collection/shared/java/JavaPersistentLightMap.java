@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import com.googlecode.mgwt.collection.shared.PersistentLightMap;
+import com.googlecode.mgwt.collection.shared.PersistentStorage;
+import com.googlecode.mgwt.collection.shared.WriteBehindLightMap;
+
+/**
+ * Java implementation of {@link PersistentLightMap}
+ * 
+ * There is no event loop inside a plain JVM, so scheduled writes only happen when {@link #flush()}
+ * is called.
+ */
+public class JavaPersistentLightMap extends WriteBehindLightMap {
+
+	private boolean flushScheduled;
+	private Throwable lastWriteFailure;
+
+  /**
+   * Construct a {@link JavaPersistentLightMap} backed by a {@link JavaPersistentStorage}
+   */
+	public JavaPersistentLightMap() {
+		this(new JavaPersistentStorage());
+	}
+
+  /**
+   * Construct a {@link JavaPersistentLightMap}
+   * 
+   * @param storage the storage to use
+   */
+	public JavaPersistentLightMap(PersistentStorage storage) {
+		super(storage);
+	}
+
+	@Override
+	protected void scheduleFlush() {
+		flushScheduled = true;
+	}
+
+	@Override
+	protected void cancelScheduledFlush() {
+		flushScheduled = false;
+	}
+
+	@Override
+	protected void onWriteFailure(Throwable reason) {
+		lastWriteFailure = reason;
+	}
+
+  /**
+   * is there a write waiting to be flushed
+   * 
+   * @return true if a flush is scheduled
+   */
+	public boolean isFlushScheduled() {
+		return flushScheduled;
+	}
+
+  /**
+   * the reason why the last failed batch could not be written
+   * 
+   * @return the reason or null if no write failed
+   */
+	public Throwable getLastWriteFailure() {
+		return lastWriteFailure;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gwt.core.client.Callback;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightMap;
+import com.googlecode.mgwt.collection.shared.PersistentStorage;
+
+/**
+ * In memory implementation of {@link PersistentStorage} for use inside a JVM, e.g. in tests
+ * 
+ * Loading and writing complete synchronously.
+ */
+public class JavaPersistentStorage implements PersistentStorage {
+
+	private final Map<String, String> stored = new HashMap<String, String>();
+	private int writeCount;
+
+	@Override
+	public void load(Callback<LightMap<String>, Throwable> callback) {
+		JavaLightMap<String> map = new JavaLightMap<String>();
+		for (Map.Entry<String, String> entry : stored.entrySet()) {
+			map.put(entry.getKey(), entry.getValue());
+		}
+		callback.onSuccess(map);
+	}
+
+	@Override
+	public void write(LightMap<String> puts, LightArray<String> removes, Callback<Void, Throwable> callback) {
+		writeCount++;
+		LightArray<String> keys = puts.getKeys();
+		for (int i = 0; i < keys.length(); i++) {
+			stored.put(keys.get(i), puts.get(keys.get(i)));
+		}
+		for (int i = 0; i < removes.length(); i++) {
+			stored.remove(removes.get(i));
+		}
+		callback.onSuccess(null);
+	}
+
+  /**
+   * get a value as it is currently stored
+   * 
+   * @param key the key
+   * @return the stored value or null
+   */
+	public String getStored(String key) {
+		return stored.get(key);
+	}
+
+  /**
+   * the number of stored values
+   * 
+   * @return the number of stored values
+   */
+	public int getStoredSize() {
+		return stored.size();
+	}
+
+  /**
+   * the number of batches written to this storage
+   * 
+   * @return the number of batches
+   */
+	public int getWriteCount() {
+		return writeCount;
+	}
+}
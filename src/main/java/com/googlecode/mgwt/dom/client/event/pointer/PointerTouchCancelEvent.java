@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.pointer;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.dom.client.Touch;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+
+/**
+ * A {@link TouchCancelEvent} that is really a standard <code>pointercancel</code> pointer event.
+ *
+ * The touch lists contain all pointers that are down on the source.
+ */
+public class PointerTouchCancelEvent extends TouchCancelEvent {
+
+  private final JsArray<Touch> touches;
+  private final JsArray<Touch> changedTouches;
+
+  /**
+   * Construct the event
+   *
+   * @param nativeEvent the native pointer event
+   * @param source the source of the event
+   * @param touches the pointers that are down
+   * @param changedTouches the pointers that changed with this event
+   */
+  public PointerTouchCancelEvent(NativeEvent nativeEvent, Object source, JsArray<Touch> touches, JsArray<Touch> changedTouches) {
+    this.touches = touches;
+    this.changedTouches = changedTouches;
+    setNativeEvent(nativeEvent);
+    setSource(source);
+  }
+
+  @Override
+  public JsArray<Touch> getTouches() {
+    return touches;
+  }
+
+  @Override
+  public JsArray<Touch> getChangedTouches() {
+    return changedTouches;
+  }
+}
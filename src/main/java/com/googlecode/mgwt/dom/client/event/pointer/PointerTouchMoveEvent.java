@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.pointer;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.dom.client.Touch;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+
+/**
+ * A {@link TouchMoveEvent} that is really a standard <code>pointermove</code> pointer event.
+ *
+ * The touch lists contain all pointers that are down on the source. One event is created for every
+ * native event, the samples the browser coalesced into it are available through
+ * {@link HasCoalescedSamples}.
+ */
+public class PointerTouchMoveEvent extends TouchMoveEvent implements HasCoalescedSamples {
+
+  private final JsArray<Touch> touches;
+  private final JsArray<Touch> changedTouches;
+  private final double[] sampleTimes;
+  private final int[] samplePageX;
+  private final int[] samplePageY;
+
+  /**
+   * Construct the event
+   *
+   * @param nativeEvent the native pointer event
+   * @param source the source of the event
+   * @param touches the pointers that are down
+   * @param changedTouches the pointers that changed with this event
+   * @param sampleTimes the times of the coalesced samples, oldest first
+   * @param samplePageX the page x positions of the coalesced samples
+   * @param samplePageY the page y positions of the coalesced samples
+   */
+  public PointerTouchMoveEvent(NativeEvent nativeEvent, Object source, JsArray<Touch> touches, JsArray<Touch> changedTouches,
+      double[] sampleTimes, int[] samplePageX, int[] samplePageY) {
+    this.touches = touches;
+    this.changedTouches = changedTouches;
+    this.sampleTimes = sampleTimes;
+    this.samplePageX = samplePageX;
+    this.samplePageY = samplePageY;
+    setNativeEvent(nativeEvent);
+    setSource(source);
+  }
+
+  @Override
+  public JsArray<Touch> getTouches() {
+    return touches;
+  }
+
+  @Override
+  public JsArray<Touch> getChangedTouches() {
+    return changedTouches;
+  }
+
+  @Override
+  public double getSampleTime() {
+    return sampleTimes[sampleTimes.length - 1];
+  }
+
+  @Override
+  public int getSampleCount() {
+    return sampleTimes.length;
+  }
+
+  @Override
+  public double getSampleTime(int index) {
+    return sampleTimes[index];
+  }
+
+  @Override
+  public int getSamplePageX(int index) {
+    return samplePageX[index];
+  }
+
+  @Override
+  public int getSamplePageY(int index) {
+    return samplePageY[index];
+  }
+}
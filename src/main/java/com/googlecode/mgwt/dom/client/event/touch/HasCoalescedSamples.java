@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.touch;
+
+/**
+ * Implemented by move events that carry all samples the browser coalesced into one dispatch.
+ *
+ * The touches of the event are those of the last sample, {@link #getSampleTime()} is its time.
+ * Handlers that only need the current position can ignore the earlier samples, velocity estimation
+ * should add all of them.
+ *
+ * @author Daniel Kurka
+ */
+public interface HasCoalescedSamples extends HasSampleTime {
+
+  /**
+   * the number of samples, at least one
+   *
+   * @return the number of samples, the last one is the position of the event
+   */
+  int getSampleCount();
+
+  /**
+   * the time a sample was taken
+   *
+   * @param index the index of the sample, oldest first
+   * @return the time in ms since the epoch, comparable to <code>System.currentTimeMillis()</code>
+   */
+  double getSampleTime(int index);
+
+  /**
+   * the page x position of the changed touch in a sample
+   *
+   * @param index the index of the sample, oldest first
+   * @return the page x position
+   */
+  int getSamplePageX(int index);
+
+  /**
+   * the page y position of the changed touch in a sample
+   *
+   * @param index the index of the sample, oldest first
+   * @return the page y position
+   */
+  int getSamplePageY(int index);
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.touch;
+
+/**
+ * Implemented by touch events that know when their positions were sampled.
+ *
+ * The time a browser sampled a position differs from the time the handler runs, e.g. if several
+ * samples are coalesced into one dispatch (see {@link HasCoalescedSamples}).
+ *
+ * @author Daniel Kurka
+ */
+public interface HasSampleTime {
+
+  /**
+   * the time the positions of this event were sampled
+   *
+   * @return the time in ms since the epoch, comparable to <code>System.currentTimeMillis()</code>
+   */
+  double getSampleTime();
+}
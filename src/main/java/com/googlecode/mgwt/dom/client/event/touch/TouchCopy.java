@@ -17,19 +17,25 @@ package com.googlecode.mgwt.dom.client.event.touch;
 
 import com.google.gwt.dom.client.Touch;
 
+/**
+ * A copy of a {@link Touch} that stays valid after the native event is gone.
+ *
+ * Copies handed out by recognizers inside a {@link com.googlecode.mgwt.dom.client.recognizer.RecyclableEvent}
+ * are reused for later events. Call {@link #copy()} to keep the values of such a copy.
+ */
 public class TouchCopy {
 
   public static TouchCopy copy(Touch touch) {
     return new TouchCopy(touch);
   }
 
-  private final int pageX;
-  private final int pageY;
-  private final int clientX;
-  private final int clientY;
-  private final int screenX;
-  private final int screenY;
-  private final int id;
+  private int pageX;
+  private int pageY;
+  private int clientX;
+  private int clientY;
+  private int screenX;
+  private int screenY;
+  private int id;
 
   public TouchCopy(int pageX, int pageY, int id) {
     this.pageX = pageX;
@@ -42,6 +48,25 @@ public class TouchCopy {
   }
 
   public TouchCopy(Touch touch) {
+    set(touch);
+  }
+
+  private TouchCopy(TouchCopy touch) {
+    this.pageX = touch.pageX;
+    this.pageY = touch.pageY;
+    this.clientX = touch.clientX;
+    this.clientY = touch.clientY;
+    this.screenX = touch.screenX;
+    this.screenY = touch.screenY;
+    this.id = touch.id;
+  }
+
+  /**
+   * overwrite this copy with the values of a touch. Only meant for the owner of a pooled copy.
+   *
+   * @param touch the touch to copy
+   */
+  public void set(Touch touch) {
     this.pageX = touch.getPageX();
     this.pageY = touch.getPageY();
     this.clientX = touch.getClientX();
@@ -51,6 +76,30 @@ public class TouchCopy {
     this.id = touch.getIdentifier();
   }
 
+  /**
+   * overwrite this copy with the values of another copy. Only meant for the owner of a pooled copy.
+   *
+   * @param touch the copy to take the values from
+   */
+  public void set(TouchCopy touch) {
+    this.pageX = touch.pageX;
+    this.pageY = touch.pageY;
+    this.clientX = touch.clientX;
+    this.clientY = touch.clientY;
+    this.screenX = touch.screenX;
+    this.screenY = touch.screenY;
+    this.id = touch.id;
+  }
+
+  /**
+   * create an independent copy of this copy
+   *
+   * @return the new copy
+   */
+  public TouchCopy copy() {
+    return new TouchCopy(this);
+  }
+
   public int getPageX() {
     return pageX;
   }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.touch.trace;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.Touch;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.googlecode.mgwt.dom.client.event.touch.HasSampleTime;
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace.Event;
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace.Type;
+import com.googlecode.mgwt.dom.client.recognizer.SystemTimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+
+/**
+ * Records the raw touch events of a widget into a {@link GestureTrace}
+ *
+ * <pre>
+ * GestureRecorder recorder = new GestureRecorder();
+ * touchWidget.addTouchHandler(recorder);
+ * // perform the gesture...
+ * String json = recorder.getTrace().toJson();
+ * </pre>
+ *
+ * Events that carry their own sample time ({@link HasSampleTime}) are recorded with it, all other
+ * events with the time they are handled.
+ *
+ * @author Daniel Kurka
+ */
+public class GestureRecorder implements TouchHandler {
+
+  private final TimeProvider timeProvider;
+  private GestureTrace trace;
+  private double startTime;
+
+  public GestureRecorder() {
+    this(new SystemTimeProvider());
+  }
+
+  public GestureRecorder(TimeProvider timeProvider) {
+    if (timeProvider == null) {
+      throw new IllegalArgumentException("timeProvider can not be null");
+    }
+    this.timeProvider = timeProvider;
+    clear();
+  }
+
+  @Override
+  public void onTouchStart(TouchStartEvent event) {
+    record(Type.START, event);
+  }
+
+  @Override
+  public void onTouchMove(TouchMoveEvent event) {
+    record(Type.MOVE, event);
+  }
+
+  @Override
+  public void onTouchEnd(TouchEndEvent event) {
+    record(Type.END, event);
+  }
+
+  @Override
+  public void onTouchCancel(TouchCancelEvent event) {
+    record(Type.CANCEL, event);
+  }
+
+  /**
+   * @return the events recorded since creation or the last call to {@link #clear()}
+   */
+  public GestureTrace getTrace() {
+    return trace;
+  }
+
+  /**
+   * start a new trace
+   */
+  public void clear() {
+    trace = new GestureTrace();
+  }
+
+  private void record(Type type, TouchEvent<?> event) {
+    double time = event instanceof HasSampleTime ? ((HasSampleTime) event).getSampleTime() : timeProvider.getTime();
+    if (trace.size() == 0) {
+      startTime = time;
+    }
+    // sample times and handler times may interleave slightly, keep the trace ordered
+    time = Math.max(time - startTime, trace.getDuration());
+    trace.add(new Event(type, time, toTriples(event.getTouches()), toTriples(event.getChangedTouches())));
+  }
+
+  private static int[] toTriples(JsArray<Touch> touches) {
+    if (touches == null) {
+      return new int[0];
+    }
+    int[] triples = new int[touches.length() * 3];
+    for (int i = 0; i < touches.length(); i++) {
+      Touch touch = touches.get(i);
+      triples[i * 3] = touch.getIdentifier();
+      triples[i * 3 + 1] = touch.getPageX();
+      triples[i * 3 + 2] = touch.getPageY();
+    }
+    return triples;
+  }
+}
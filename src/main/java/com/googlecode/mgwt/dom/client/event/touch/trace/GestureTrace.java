@@ -0,0 +1,355 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.touch.trace;
+
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+
+/**
+ * A recorded sequence of raw touch events
+ *
+ * Traces are recorded on a device with {@link GestureRecorder} and can be written to and read from
+ * a compact JSON form, so that a gesture can be checked in and replayed through recognizers or
+ * scroll panels later:
+ *
+ * <pre>
+ * {"version":1,"events":[["s",0,[0,120,400],[0,120,400]],["m",8.5,[0,121,380],[0,121,380]],["e",16,[],[0,121,380]]]}
+ * </pre>
+ *
+ * Every event is an array of its type (<code>s</code>tart, <code>m</code>ove, <code>e</code>nd,
+ * <code>c</code>ancel), its time in ms relative to the first event, the touches that are down and
+ * the touches that changed with the event. Touches are written as flat triples of identifier, pageX
+ * and pageY.
+ *
+ * @author Daniel Kurka
+ */
+public class GestureTrace {
+
+  /**
+   * the version of the JSON form written by {@link GestureTrace#toJson()}
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * The type of a recorded touch event
+   */
+  public enum Type {
+    START("s"), MOVE("m"), END("e"), CANCEL("c");
+
+    private final String code;
+
+    private Type(String code) {
+      this.code = code;
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public static Type fromCode(String code) {
+      for (Type type : values()) {
+        if (type.code.equals(code)) {
+          return type;
+        }
+      }
+      throw new IllegalArgumentException("unknown event type: '" + code + "'");
+    }
+  }
+
+  /**
+   * One recorded touch event
+   */
+  public static class Event {
+    private final Type type;
+    private final double time;
+    private final int[] touches;
+    private final int[] changedTouches;
+
+    /**
+     * @param type the type of the event
+     * @param time the time in ms relative to the start of the trace
+     * @param touches the touches that are down as triples of identifier, pageX and pageY
+     * @param changedTouches the touches that changed as triples of identifier, pageX and pageY
+     */
+    public Event(Type type, double time, int[] touches, int[] changedTouches) {
+      if (type == null) {
+        throw new IllegalArgumentException("type can not be null");
+      }
+      if (touches.length % 3 != 0 || changedTouches.length % 3 != 0) {
+        throw new IllegalArgumentException("touches have to be triples of identifier, pageX and pageY");
+      }
+      this.type = type;
+      this.time = time;
+      this.touches = touches;
+      this.changedTouches = changedTouches;
+    }
+
+    public Type getType() {
+      return type;
+    }
+
+    public double getTime() {
+      return time;
+    }
+
+    public int getTouchCount() {
+      return touches.length / 3;
+    }
+
+    public int getIdentifier(int index) {
+      return touches[index * 3];
+    }
+
+    public int getPageX(int index) {
+      return touches[index * 3 + 1];
+    }
+
+    public int getPageY(int index) {
+      return touches[index * 3 + 2];
+    }
+
+    public int getChangedTouchCount() {
+      return changedTouches.length / 3;
+    }
+
+    public int getChangedIdentifier(int index) {
+      return changedTouches[index * 3];
+    }
+
+    public int getChangedPageX(int index) {
+      return changedTouches[index * 3 + 1];
+    }
+
+    public int getChangedPageY(int index) {
+      return changedTouches[index * 3 + 2];
+    }
+  }
+
+  private final LightArray<Event> events = CollectionFactory.constructArray();
+
+  /**
+   * add an event to the end of the trace
+   *
+   * @param event the event to add, it may not be older than the last event
+   */
+  public void add(Event event) {
+    if (events.length() > 0 && event.getTime() < events.get(events.length() - 1).getTime()) {
+      throw new IllegalArgumentException("events have to be added in order");
+    }
+    events.push(event);
+  }
+
+  public int size() {
+    return events.length();
+  }
+
+  public Event get(int index) {
+    return events.get(index);
+  }
+
+  /**
+   * @return the time of the last event in ms
+   */
+  public double getDuration() {
+    return events.length() == 0 ? 0 : events.get(events.length() - 1).getTime();
+  }
+
+  public String toJson() {
+    StringBuilder json = new StringBuilder();
+    json.append("{\"version\":").append(VERSION).append(",\"events\":[");
+    for (int i = 0; i < events.length(); i++) {
+      Event event = events.get(i);
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("[\"").append(event.getType().getCode()).append("\",");
+      appendTime(json, event.getTime());
+      json.append(',');
+      appendInts(json, event.touches);
+      json.append(',');
+      appendInts(json, event.changedTouches);
+      json.append(']');
+    }
+    return json.append("]}").toString();
+  }
+
+  private static void appendTime(StringBuilder json, double time) {
+    // sample times of coalesced events are fractional, 1/100 ms is plenty
+    long hundredths = Math.round(time * 100);
+    if (hundredths % 100 == 0) {
+      json.append(hundredths / 100);
+    } else {
+      json.append(hundredths / 100.0);
+    }
+  }
+
+  private static void appendInts(StringBuilder json, int[] values) {
+    json.append('[');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(values[i]);
+    }
+    json.append(']');
+  }
+
+  /**
+   * read a trace from its JSON form
+   *
+   * @param json the trace as written by {@link #toJson()}
+   * @return the trace
+   * @throws IllegalArgumentException if the json is not a valid trace
+   */
+  public static GestureTrace parse(String json) {
+    if (json == null) {
+      throw new IllegalArgumentException("json can not be null");
+    }
+    return new Parser(json).parseTrace();
+  }
+
+  /**
+   * Reads exactly the subset of JSON that {@link GestureTrace#toJson()} writes
+   */
+  private static class Parser {
+    private final String json;
+    private int pos;
+
+    public Parser(String json) {
+      this.json = json;
+    }
+
+    public GestureTrace parseTrace() {
+      GestureTrace trace = new GestureTrace();
+      boolean versionRead = false;
+      expect('{');
+      if (!consume('}')) {
+        do {
+          String key = readString();
+          expect(':');
+          if ("version".equals(key)) {
+            int version = (int) readNumber();
+            if (version != VERSION) {
+              throw new IllegalArgumentException("unsupported trace version: " + version);
+            }
+            versionRead = true;
+          } else if ("events".equals(key)) {
+            readEvents(trace);
+          } else {
+            throw error("unknown key '" + key + "'");
+          }
+        } while (consume(','));
+        expect('}');
+      }
+      skipWhitespace();
+      if (pos != json.length()) {
+        throw error("unexpected content");
+      }
+      if (!versionRead) {
+        throw new IllegalArgumentException("trace has no version");
+      }
+      return trace;
+    }
+
+    private void readEvents(GestureTrace trace) {
+      expect('[');
+      if (consume(']')) {
+        return;
+      }
+      do {
+        expect('[');
+        Type type = Type.fromCode(readString());
+        expect(',');
+        double time = readNumber();
+        expect(',');
+        int[] touches = readInts();
+        expect(',');
+        int[] changedTouches = readInts();
+        expect(']');
+        trace.add(new Event(type, time, touches, changedTouches));
+      } while (consume(','));
+      expect(']');
+    }
+
+    private int[] readInts() {
+      expect('[');
+      if (consume(']')) {
+        return new int[0];
+      }
+      LightArrayInt values = CollectionFactory.constructIntegerArray();
+      do {
+        values.push((int) readNumber());
+      } while (consume(','));
+      expect(']');
+      int[] result = new int[values.length()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = values.get(i);
+      }
+      return result;
+    }
+
+    private String readString() {
+      expect('"');
+      int end = json.indexOf('"', pos);
+      if (end == -1) {
+        throw error("unterminated string");
+      }
+      String value = json.substring(pos, end);
+      pos = end + 1;
+      return value;
+    }
+
+    private double readNumber() {
+      skipWhitespace();
+      int start = pos;
+      while (pos < json.length() && "+-.0123456789eE".indexOf(json.charAt(pos)) != -1) {
+        pos++;
+      }
+      if (start == pos) {
+        throw error("expected a number");
+      }
+      try {
+        return Double.parseDouble(json.substring(start, pos));
+      } catch (NumberFormatException e) {
+        throw error("invalid number");
+      }
+    }
+
+    private boolean consume(char c) {
+      skipWhitespace();
+      if (pos < json.length() && json.charAt(pos) == c) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(char c) {
+      if (!consume(c)) {
+        throw error("expected '" + c + "'");
+      }
+    }
+
+    private void skipWhitespace() {
+      while (pos < json.length() && " \t\r\n".indexOf(json.charAt(pos)) != -1) {
+        pos++;
+      }
+    }
+
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " at position " + pos);
+    }
+  }
+}
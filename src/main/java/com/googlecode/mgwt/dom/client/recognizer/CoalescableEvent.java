@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.google.gwt.event.shared.GwtEvent;
+
+/**
+ * A move event that can absorb later events of the same kind before it is dispatched.
+ *
+ * Used by {@link EventPropagatorFrameImpl} to deliver at most one move event per source and
+ * animation frame. The merged event carries the latest state and the changes accumulated over all
+ * merged events.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public interface CoalescableEvent {
+	/**
+	 * merge an event that was fired later on the same source into this one
+	 *
+	 * @param later the later event, it has the same type as this event
+	 * @return true if the event was merged and must not be dispatched anymore
+	 */
+	boolean coalesce(GwtEvent<?> later);
+}
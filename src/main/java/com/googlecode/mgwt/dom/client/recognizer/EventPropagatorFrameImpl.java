@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationCallback;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArray;
+
+/**
+ * Propagate move events at most once per animation frame.
+ *
+ * Events implementing {@link CoalescableEvent} are merged into a pending event of the same type for
+ * the same source and dispatched with the next animation frame. All other events (start, end, ...)
+ * are dispatched with a deferred command, after every event queued before them, so the order of
+ * events on a source never changes.
+ *
+ * Like {@link EventPropagatorMobileImpl} no event is dispatched from within the browsers touch
+ * handler. Enable this mode in your module with:
+ *
+ * <pre>
+ * &lt;set-property name="mgwt.gesture.dispatch" value="frame" /&gt;
+ * </pre>
+ *
+ * @author Daniel Kurka
+ *
+ */
+public class EventPropagatorFrameImpl implements EventPropagator {
+
+	private final LightArray<HasHandlers> sources;
+	private final LightArray<GwtEvent<?>> events;
+
+	private boolean frameScheduled;
+	private boolean flushScheduled;
+
+	private final AnimationCallback frameCallback = new AnimationCallback() {
+
+		@Override
+		public void execute(double timestamp) {
+			frameScheduled = false;
+			flush();
+		}
+	};
+
+	private final ScheduledCommand flushCommand = new ScheduledCommand() {
+
+		@Override
+		public void execute() {
+			flushScheduled = false;
+			flush();
+		}
+	};
+
+	public EventPropagatorFrameImpl() {
+		sources = CollectionFactory.constructArray();
+		events = CollectionFactory.constructArray();
+	}
+
+	@Override
+	public void fireEvent(HasHandlers source, GwtEvent<?> event) {
+		if (event instanceof CoalescableEvent) {
+			if (coalesceWithLast(source, event)) {
+				recycle(event);
+			} else {
+				enqueue(source, event);
+			}
+			if (!frameScheduled) {
+				frameScheduled = true;
+				scheduleFrame();
+			}
+			return;
+		}
+
+		enqueue(source, event);
+		if (!flushScheduled) {
+			flushScheduled = true;
+			scheduleFlush();
+		}
+	}
+
+	private boolean coalesceWithLast(HasHandlers source, GwtEvent<?> event) {
+		int last = events.length() - 1;
+		if (last < 0 || sources.get(last) != source) {
+			return false;
+		}
+		GwtEvent<?> pending = events.get(last);
+		if (pending.getAssociatedType() != event.getAssociatedType() || !(pending instanceof CoalescableEvent)) {
+			return false;
+		}
+		return ((CoalescableEvent) pending).coalesce(event);
+	}
+
+	private void enqueue(HasHandlers source, GwtEvent<?> event) {
+		sources.push(source);
+		events.push(event);
+	}
+
+	/**
+	 * dispatch all pending events in the order they were fired
+	 */
+	public void flush() {
+		// handlers may fire new events while we are dispatching, they are appended and dispatched as well
+		while (events.length() > 0) {
+			HasHandlers source = sources.shift();
+			GwtEvent<?> event = events.shift();
+			source.fireEvent(event);
+			recycle(event);
+		}
+	}
+
+	/**
+	 * the number of events waiting to be dispatched
+	 *
+	 * @return the number of pending events
+	 */
+	public int getPendingCount() {
+		return events.length();
+	}
+
+	protected void scheduleFrame() {
+		AnimationScheduler.get().requestAnimationFrame(frameCallback);
+	}
+
+	protected void scheduleFlush() {
+		Scheduler.get().scheduleDeferred(flushCommand);
+	}
+
+	private void recycle(GwtEvent<?> event) {
+		if (event instanceof RecyclableEvent) {
+			((RecyclableEvent) event).recycle();
+		}
+	}
+}
@@ -46,6 +46,9 @@ public class EventPropagatorMobileImpl implements EventPropagator {
 		@Override
 		public void execute() {
 			source.fireEvent(event);
+			if (event instanceof RecyclableEvent) {
+				((RecyclableEvent) event).recycle();
+			}
 		}
 	}
 
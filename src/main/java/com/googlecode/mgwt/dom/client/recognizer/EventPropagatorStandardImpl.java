@@ -29,5 +29,8 @@ public class EventPropagatorStandardImpl implements EventPropagator {
 	@Override
 	public void fireEvent(HasHandlers source, GwtEvent<?> event) {
 		source.fireEvent(event);
+		if (event instanceof RecyclableEvent) {
+			((RecyclableEvent) event).recycle();
+		}
 	}
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightArrayBoolean;
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+
+/**
+ * A {@link GestureArena} receives the touch events of a widget once and feeds them to all of its
+ * {@link GestureArenaMember}s.
+ *
+ * Instead of registering every recognizer with the widget, register the arena and add the
+ * recognizers to it. The arena resolves conflicts: as soon as one member accepts the gesture all
+ * other members are rejected and stop processing events until all fingers left the display.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public class GestureArena implements TouchHandler {
+
+	private final LightArray<GestureArenaMember> members;
+	private final LightArrayBoolean rejected;
+
+	private GestureArenaMember winner;
+
+	private int touchCount;
+
+	public GestureArena() {
+		members = CollectionFactory.constructArray();
+		rejected = CollectionFactory.constructBooleanArray();
+	}
+
+	/**
+	 * add a member to the arena
+	 *
+	 * @param member the member to add
+	 */
+	public void add(GestureArenaMember member) {
+		if (member == null) {
+			throw new IllegalArgumentException("member can not be null");
+		}
+		members.push(member);
+		rejected.push(false);
+		member.setGestureArena(this);
+	}
+
+	/**
+	 * a member recognized its gesture, reject all other members for the current gesture
+	 *
+	 * @param member the member that accepts the gesture
+	 */
+	public void accept(GestureArenaMember member) {
+		if (winner != null) {
+			return;
+		}
+		winner = member;
+		for (int i = 0; i < members.length(); i++) {
+			if (members.get(i) != member) {
+				reject(i);
+			}
+		}
+	}
+
+	/**
+	 * a member can not recognize the current gesture, stop sending it events
+	 *
+	 * @param member the member that gives up
+	 */
+	public void reject(GestureArenaMember member) {
+		for (int i = 0; i < members.length(); i++) {
+			if (members.get(i) == member) {
+				reject(i);
+				return;
+			}
+		}
+	}
+
+	private void reject(int index) {
+		if (rejected.get(index)) {
+			return;
+		}
+		rejected.set(index, true);
+		members.get(index).rejectGesture();
+	}
+
+	/**
+	 * is a member still taking part in the current gesture
+	 *
+	 * @param member the member
+	 * @return true if the member has not been rejected
+	 */
+	public boolean isActive(GestureArenaMember member) {
+		for (int i = 0; i < members.length(); i++) {
+			if (members.get(i) == member) {
+				return !rejected.get(i);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * the member that accepted the current gesture
+	 *
+	 * @return the member or null if no member accepted the gesture yet
+	 */
+	public GestureArenaMember getWinner() {
+		return winner;
+	}
+
+	@Override
+	public void onTouchStart(TouchStartEvent event) {
+		if (touchCount == 0) {
+			startGesture();
+		}
+		updateTouches(event);
+
+		for (int i = 0; i < members.length(); i++) {
+			if (!rejected.get(i)) {
+				members.get(i).onTouchStart(event);
+			}
+		}
+	}
+
+	@Override
+	public void onTouchMove(TouchMoveEvent event) {
+		updateTouches(event);
+		for (int i = 0; i < members.length(); i++) {
+			if (!rejected.get(i)) {
+				members.get(i).onTouchMove(event);
+			}
+		}
+	}
+
+	@Override
+	public void onTouchEnd(TouchEndEvent event) {
+		updateTouches(event);
+		for (int i = 0; i < members.length(); i++) {
+			if (!rejected.get(i)) {
+				members.get(i).onTouchEnd(event);
+			}
+		}
+	}
+
+	@Override
+	public void onTouchCancel(TouchCancelEvent event) {
+		updateTouches(event);
+		for (int i = 0; i < members.length(); i++) {
+			if (!rejected.get(i)) {
+				members.get(i).onTouchCancel(event);
+			}
+		}
+	}
+
+	private void startGesture() {
+		winner = null;
+		for (int i = 0; i < rejected.length(); i++) {
+			rejected.set(i, false);
+		}
+	}
+
+	private void updateTouches(TouchEvent<?> event) {
+		touchCount = event.getTouches().length();
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+
+/**
+ * A recognizer that takes part in a {@link GestureArena}.
+ *
+ * Members receive the touch events of the arena as long as they have not been rejected for the
+ * current gesture. A member that recognized its gesture calls {@link GestureArena#accept} so that
+ * all others are rejected; a member that can not recognize its gesture anymore calls
+ * {@link GestureArena#reject} to stop receiving events early.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public interface GestureArenaMember extends TouchHandler {
+
+	/**
+	 * called by the arena when the member is added to it
+	 *
+	 * @param arena the arena
+	 */
+	void setGestureArena(GestureArena arena);
+
+	/**
+	 * the member will not receive any more events for the current gesture. Reset to be ready for
+	 * the next one.
+	 */
+	void rejectGesture();
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.google.gwt.dom.client.NativeEvent;
+
+/**
+ * Swallows the click a browser synthesizes about 300 ms after a touch that was already handled as
+ * a tap.
+ *
+ * Those ghost clicks can land on whatever element moved under the finger in the meantime, e.g.
+ * after a transition. The buster remembers where and when taps ended and stops clicks close to one
+ * of those positions in the capture phase of the document.
+ *
+ * Browsers do not delay (and so do not need the buster) if the viewport has a width of
+ * device-width, is not scalable, or if the page uses <code>touch-action: manipulation</code> or
+ * <code>none</code>. In that case no listener is installed at all.
+ */
+public class GhostClickBuster {
+
+  /**
+   * the distance in px a ghost click may be away from the end of the tap
+   */
+  public static final int RADIUS = 25;
+
+  /**
+   * the time in ms after a tap during which a click counts as a ghost click
+   */
+  public static final int DURATION_IN_MS = 2500;
+
+  private static final int CAPACITY = 8;
+
+  private static GhostClickBuster instance;
+
+  /**
+   * @return the buster shared by all tap recognizers
+   */
+  public static GhostClickBuster get() {
+    if (instance == null) {
+      instance = new GhostClickBuster(new SystemTimeProvider());
+    }
+    return instance;
+  }
+
+  /**
+   * is an event caused by a finger, as opposed to a mouse emulating touch
+   *
+   * @param event the native event to check
+   * @return true if the browser will synthesize a click for it
+   */
+  public static native boolean isTouch(NativeEvent event) /*-{
+    if (event.type.indexOf("touch") == 0) {
+      return true;
+    }
+    // 2 is MSPOINTER_TYPE_TOUCH of IE10
+    return event.pointerType == "touch" || event.pointerType == 2;
+  }-*/;
+
+  private final TimeProvider timeProvider;
+  private final int[] pageX = new int[CAPACITY];
+  private final int[] pageY = new int[CAPACITY];
+  private final long[] time = new long[CAPACITY];
+  private final boolean[] active = new boolean[CAPACITY];
+  private int next;
+
+  private Boolean needed;
+  private boolean installed;
+
+  // Visible for testing
+  GhostClickBuster(TimeProvider timeProvider) {
+    this.timeProvider = timeProvider;
+  }
+
+  /**
+   * swallow the click the browser will synthesize for a tap that ended at this position
+   *
+   * @param pageX the x position where the tap ended
+   * @param pageY the y position where the tap ended
+   */
+  public void preventGhostClick(int pageX, int pageY) {
+    if (!isNeeded()) {
+      return;
+    }
+    if (!installed) {
+      installed = true;
+      install();
+    }
+
+    this.pageX[next] = pageX;
+    this.pageY[next] = pageY;
+    this.time[next] = timeProvider.getTime();
+    this.active[next] = true;
+    next = (next + 1) % CAPACITY;
+  }
+
+  /**
+   * is a click at this position a ghost click. A tap only swallows one click.
+   *
+   * @param x the x position of the click
+   * @param y the y position of the click
+   * @return true if the click should be stopped
+   */
+  // Visible for testing
+  boolean bust(int x, int y) {
+    long now = timeProvider.getTime();
+    for (int i = 0; i < CAPACITY; i++) {
+      if (!active[i]) {
+        continue;
+      }
+      if (now - time[i] > DURATION_IN_MS) {
+        active[i] = false;
+        continue;
+      }
+      if (Math.abs(x - pageX[i]) <= RADIUS && Math.abs(y - pageY[i]) <= RADIUS) {
+        active[i] = false;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Visible for testing
+  boolean isNeeded() {
+    if (needed == null) {
+      needed = !isClickDelayDisabled();
+    }
+    return needed;
+  }
+
+  // Visible for testing
+  native void install() /*-{
+    var that = this;
+    $doc.addEventListener("click", $entry(function(event) {
+      if (that.@com.googlecode.mgwt.dom.client.recognizer.GhostClickBuster::bust(II)(Math.round(event.pageX), Math.round(event.pageY))) {
+        event.stopPropagation();
+        event.preventDefault();
+      }
+    }), true);
+  }-*/;
+
+  private static native boolean isClickDelayDisabled() /*-{
+    var metas = $doc.getElementsByTagName("meta");
+    for (var i = 0; i < metas.length; i++) {
+      if (metas[i].name == "viewport") {
+        var content = (metas[i].content || "").toLowerCase().replace(/\s/g, "");
+        if (content.indexOf("width=device-width") != -1 || content.indexOf("user-scalable=no") != -1) {
+          return true;
+        }
+      }
+    }
+
+    if (!$wnd.getComputedStyle) {
+      return false;
+    }
+    // touch-action is not inherited, so only look at the root elements
+    var elements = [ $doc.documentElement, $doc.body ];
+    for (var j = 0; j < elements.length; j++) {
+      if (elements[j] == null) {
+        continue;
+      }
+      var style = $wnd.getComputedStyle(elements[j], null);
+      var touchAction = style.touchAction || style.msTouchAction;
+      if (touchAction == "manipulation" || touchAction == "none") {
+        return true;
+      }
+    }
+    return false;
+  }-*/;
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+/**
+ * An event that is taken from a pool and goes back to it once it has been dispatched.
+ *
+ * {@link EventPropagator} implementations call {@link #recycle()} right after the event has been
+ * fired on its source. Handlers must therefore not keep a reference to such an event (or to objects
+ * it returns, like its touch) beyond their handler method. Copy the values you need instead.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public interface RecyclableEvent {
+	/**
+	 * hand the event back to its pool
+	 */
+	void recycle();
+}
@@ -26,7 +26,6 @@ import com.google.gwt.event.shared.HasHandlers;
 
 import com.googlecode.mgwt.dom.client.event.tap.TapEvent;
 import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
-import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
 
 /**
  * A recognizer that recognizes Tap events
@@ -35,7 +34,7 @@ import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
  *
  * @author Daniel Kurka
  */
-public class TapRecognizer implements TouchHandler {
+public class TapRecognizer implements GestureArenaMember {
 
   public static final int DEFAULT_DISTANCE = 15;
 
@@ -47,6 +46,12 @@ public class TapRecognizer implements TouchHandler {
 
   private TouchCopy touchStartCopy;
 
+  private int lastPageX;
+
+  private int lastPageY;
+
+  private boolean fromTouch;
+
   private Element targetElement;
 
   private final HasHandlers source;
@@ -55,6 +60,8 @@ public class TapRecognizer implements TouchHandler {
 
   private static EventPropagator DEFAULT_EVENT_PROPAGATOR;
 
+  private GestureArena gestureArena;
+
   public TapRecognizer(HasHandlers source) {
     this(source, DEFAULT_DISTANCE);
   }
@@ -70,32 +77,65 @@ public class TapRecognizer implements TouchHandler {
 
   @Override
   public void onTouchStart(TouchStartEvent event) {
-    touchCanceled = false;
-    hasMoved = false;
-    if(event.getNativeEvent() != null){
-      targetElement = event.getNativeEvent().getEventTarget().<Element>cast();
-    }else {
-      targetElement = null;
+    Element target = null;
+    boolean touch = false;
+    if (event.getNativeEvent() != null) {
+      target = event.getNativeEvent().getEventTarget().<Element>cast();
+      touch = GhostClickBuster.isTouch(event.getNativeEvent());
     }
-    Touch touch = event.getTouches().get(0);
-    touchStartCopy = TouchCopy.copy(touch);
+    start(target, TouchCopy.copy(event.getTouches().get(0)), touch);
   }
 
   @Override
   public void onTouchMove(TouchMoveEvent event) {
     if (touchStartCopy != null) {
       Touch touch = event.getTouches().get(0);
-      if (Math.abs(touch.getPageX() - touchStartCopy.getPageX()) > distance || Math.abs(touch.getPageY() - touchStartCopy.getPageY()) > distance) {
+      move(touch.getPageX(), touch.getPageY());
+    }
+  }
+
+  @Override
+  public void onTouchEnd(TouchEndEvent event) {
+    end();
+  }
+
+  // Visible for testing
+  void start(Element target, TouchCopy touch, boolean fromTouch) {
+    touchCanceled = false;
+    hasMoved = false;
+    targetElement = target;
+    touchStartCopy = touch;
+    lastPageX = touch.getPageX();
+    lastPageY = touch.getPageY();
+    this.fromTouch = fromTouch;
+  }
+
+  // Visible for testing
+  void move(int pageX, int pageY) {
+    if (touchStartCopy != null) {
+      lastPageX = pageX;
+      lastPageY = pageY;
+      if (Math.abs(pageX - touchStartCopy.getPageX()) > distance || Math.abs(pageY - touchStartCopy.getPageY()) > distance) {
         hasMoved = true;
         touchStartCopy = null;
+        if (gestureArena != null) {
+          gestureArena.reject(this);
+        }
       }
     }
   }
 
-  @Override
-  public void onTouchEnd(TouchEndEvent event) {
+  // Visible for testing
+  void end() {
     if (!hasMoved && !touchCanceled && (touchStartCopy != null)) {
       TapEvent tapEvent = new TapEvent(source, targetElement, touchStartCopy);
+      if (gestureArena != null) {
+        gestureArena.accept(this);
+      }
+      if (fromTouch) {
+        // the browser will still send a click for this touch
+        getGhostClickBuster().preventGhostClick(lastPageX, lastPageY);
+      }
       getEventPropagator().fireEvent(source, tapEvent);
     }
     touchStartCopy = null;
@@ -106,10 +146,25 @@ public class TapRecognizer implements TouchHandler {
     touchCanceled = true;
   }
 
+  @Override
+  public void setGestureArena(GestureArena arena) {
+    this.gestureArena = arena;
+  }
+
+  @Override
+  public void rejectGesture() {
+    touchStartCopy = null;
+  }
+
   public int getDistance() {
     return distance;
   }
 
+  // Visible for testing
+  GhostClickBuster getGhostClickBuster() {
+    return GhostClickBuster.get();
+  }
+
   protected EventPropagator getEventPropagator() {
     if (eventPropagator == null) {
       if (DEFAULT_EVENT_PROPAGATOR == null) {
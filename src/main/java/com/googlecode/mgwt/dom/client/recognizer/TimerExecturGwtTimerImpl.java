@@ -20,12 +20,14 @@ import com.google.gwt.user.client.Timer;
 /**
  * Execute code with a GWT timer
  *
+ * Every execution creates its own native timer, see {@link TimerWheel} for sharing a single one.
+ *
  * @author Daniel Kurka
  *
  */
 public class TimerExecturGwtTimerImpl implements TimerExecutor {
 
-	private static class InternalTimer extends Timer {
+	private static class InternalTimer extends Timer implements TimerHandle {
 
 		private final CodeToRun codeToRun;
 
@@ -40,7 +42,9 @@ public class TimerExecturGwtTimerImpl implements TimerExecutor {
 	}
 
 	@Override
-	public void execute(final CodeToRun codeToRun, int time) {
-		new InternalTimer(codeToRun).schedule(time);
+	public TimerHandle execute(final CodeToRun codeToRun, int time) {
+		InternalTimer timer = new InternalTimer(codeToRun);
+		timer.schedule(time);
+		return timer;
 	}
 }
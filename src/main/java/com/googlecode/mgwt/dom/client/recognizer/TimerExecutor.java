@@ -23,9 +23,23 @@ package com.googlecode.mgwt.dom.client.recognizer;
  */
 public interface TimerExecutor {
 
-	public void execute(CodeToRun codeToRun, int time);
+	/**
+	 * run code once after a delay
+	 *
+	 * @param codeToRun the code to run
+	 * @param time the delay in ms
+	 * @return a handle to cancel the execution
+	 */
+	public TimerHandle execute(CodeToRun codeToRun, int time);
 
 	public interface CodeToRun {
 		void onExecution();
 	}
+
+	public interface TimerHandle {
+		/**
+		 * do not run the code, does nothing if it already ran
+		 */
+		void cancel();
+	}
 }
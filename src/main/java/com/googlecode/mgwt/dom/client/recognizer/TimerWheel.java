@@ -0,0 +1,281 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.user.client.Timer;
+
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArray;
+
+/**
+ * A hashed timer wheel that runs all of its timers from a single native timer
+ *
+ * Timers are kept in a fixed number of slots, a timer goes into the slot of the tick it is due in
+ * modulo the number of slots. While timers are pending a single native timer is scheduled for the
+ * tick of the next timer that is due, the wheel then visits all slots up to that tick and runs the
+ * timers that are due in the current round. Scheduling and cancelling are O(1), a timer may run up
+ * to one tick late.
+ *
+ * Use {@link #get()} to share one wheel between all widgets.
+ */
+public class TimerWheel implements TimerExecutor {
+
+  public static final int DEFAULT_TICK_IN_MS = 10;
+
+  public static final int DEFAULT_SLOTS = 256;
+
+  private static TimerWheel instance;
+
+  /**
+   * @return the wheel that is shared by all widgets
+   */
+  public static TimerWheel get() {
+    if (instance == null) {
+      instance = new TimerWheel();
+    }
+    return instance;
+  }
+
+  private static class Entry implements TimerHandle {
+
+    private final TimerWheel wheel;
+    private CodeToRun codeToRun;
+    private int rounds;
+    private int slot = -1;
+    private Entry previous;
+    private Entry next;
+
+    public Entry(TimerWheel wheel, CodeToRun codeToRun) {
+      this.wheel = wheel;
+      this.codeToRun = codeToRun;
+    }
+
+    @Override
+    public void cancel() {
+      wheel.cancel(this);
+    }
+  }
+
+  private final TimeProvider timeProvider;
+  private final int tick;
+  private final Entry[] slots;
+  private final Entry[] lastInSlot;
+  private final int mask;
+  private final LightArray<Entry> expired;
+
+  private int cursor;
+  private long tickTime;
+  private int size;
+  private boolean ticking;
+  private long wakeTime;
+  private Timer timer;
+
+  public TimerWheel() {
+    this(new SystemTimeProvider(), DEFAULT_TICK_IN_MS, DEFAULT_SLOTS);
+  }
+
+  /**
+   * Construct a timer wheel
+   *
+   * @param timeProvider the time provider to use
+   * @param tick the time between two ticks in ms
+   * @param slots the number of slots, needs to be a power of two
+   */
+  public TimerWheel(TimeProvider timeProvider, int tick, int slots) {
+    if (timeProvider == null) {
+      throw new IllegalArgumentException("timeProvider can not be null");
+    }
+    if (tick < 1) {
+      throw new IllegalArgumentException("tick > 0");
+    }
+    if (slots < 1 || (slots & (slots - 1)) != 0) {
+      throw new IllegalArgumentException("slots needs to be a power of two");
+    }
+    this.timeProvider = timeProvider;
+    this.tick = tick;
+    this.slots = new Entry[slots];
+    this.lastInSlot = new Entry[slots];
+    this.mask = slots - 1;
+    this.expired = CollectionFactory.constructArray();
+  }
+
+  @Override
+  public TimerHandle execute(CodeToRun codeToRun, int time) {
+    if (codeToRun == null) {
+      throw new IllegalArgumentException("codeToRun can not be null");
+    }
+    long now = timeProvider.getTime();
+    if (size == 0) {
+      // an idle wheel starts counting ticks from now
+      tickTime = now;
+    }
+
+    // ticks are counted from the last tick, which may lag behind if the native timer is late
+    long ticks = Math.max(1, (now + Math.max(0, time) - tickTime + tick - 1) / tick);
+
+    Entry entry = new Entry(this, codeToRun);
+    entry.rounds = (int) ((ticks - 1) / slots.length);
+    link(entry, (int) ((cursor + ticks) & mask));
+    size++;
+
+    long due = tickTime + ticks * tick;
+    if (!ticking || due < wakeTime) {
+      wakeAt(due);
+    }
+    return entry;
+  }
+
+  /**
+   * @return the number of timers that did not run yet
+   */
+  public int getPendingCount() {
+    return size;
+  }
+
+  private void cancel(Entry entry) {
+    if (entry.codeToRun == null) {
+      return;
+    }
+    entry.codeToRun = null;
+    // entries that already expired are only waiting to be run
+    if (entry.slot != -1) {
+      unlink(entry);
+      size--;
+      stopTickingIfIdle();
+    }
+  }
+
+  // Visible for testing
+  void advance() {
+    long now = timeProvider.getTime();
+    while (size > 0 && now - tickTime >= tick) {
+      tickTime += tick;
+      cursor = (cursor + 1) & mask;
+      expire(cursor);
+    }
+
+    for (int i = 0; i < expired.length(); i++) {
+      Entry entry = expired.get(i);
+      CodeToRun codeToRun = entry.codeToRun;
+      if (codeToRun != null) {
+        entry.codeToRun = null;
+        try {
+          codeToRun.onExecution();
+        } catch (RuntimeException e) {
+          // one failing timer should not keep the others from running
+          GWT.reportUncaughtException(e);
+        }
+      }
+    }
+    expired.clear();
+    if (size > 0) {
+      wakeAt(tickTime + getTicksToNextTimer() * tick);
+    } else {
+      stopTickingIfIdle();
+    }
+  }
+
+  /**
+   * the number of ticks from the cursor to the next timer that is due, slots without due timers
+   * are skipped
+   */
+  private long getTicksToNextTimer() {
+    long next = Long.MAX_VALUE;
+    for (int i = 1; i <= slots.length && i < next; i++) {
+      for (Entry entry = slots[(cursor + i) & mask]; entry != null; entry = entry.next) {
+        next = Math.min(next, i + (long) entry.rounds * slots.length);
+      }
+    }
+    return next;
+  }
+
+  private void wakeAt(long time) {
+    ticking = true;
+    wakeTime = time;
+    scheduleTick((int) Math.max(0, time - timeProvider.getTime()));
+  }
+
+  // Visible for testing
+  void scheduleTick(int delay) {
+    if (timer == null) {
+      timer = new Timer() {
+
+        @Override
+        public void run() {
+          advance();
+        }
+      };
+    }
+    timer.schedule(delay);
+  }
+
+  // Visible for testing
+  void stopTicking() {
+    timer.cancel();
+  }
+
+  private void stopTickingIfIdle() {
+    if (size == 0 && ticking) {
+      ticking = false;
+      stopTicking();
+    }
+  }
+
+  private void expire(int slot) {
+    Entry entry = slots[slot];
+    while (entry != null) {
+      Entry next = entry.next;
+      if (entry.rounds == 0) {
+        unlink(entry);
+        size--;
+        expired.push(entry);
+      } else {
+        entry.rounds--;
+      }
+      entry = next;
+    }
+  }
+
+  private void link(Entry entry, int slot) {
+    // timers that are due in the same tick run in the order they were scheduled
+    entry.slot = slot;
+    entry.previous = lastInSlot[slot];
+    entry.next = null;
+    if (entry.previous != null) {
+      entry.previous.next = entry;
+    } else {
+      slots[slot] = entry;
+    }
+    lastInSlot[slot] = entry;
+  }
+
+  private void unlink(Entry entry) {
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else {
+      slots[entry.slot] = entry.next;
+    }
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    } else {
+      lastInSlot[entry.slot] = entry.previous;
+    }
+    entry.slot = -1;
+    entry.previous = null;
+    entry.next = null;
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+
+/**
+ * A {@link TouchPredictor} extrapolates the position of a finger to the time the next frame is
+ * presented.
+ *
+ * Content that follows the finger is drawn at the position of the last touch sample, which is
+ * already a frame or two old by the time the frame reaches the screen. The predictor fits the
+ * velocity of the recent samples with a {@link VelocityTracker} and offsets the last sample by the
+ * distance the finger is expected to travel during the lead time.
+ *
+ * The prediction is only meant for visual positioning. Committed results like the final scroll
+ * position or the fling velocity have to be computed from the real samples.
+ *
+ * The offset is limited to {@link #DEFAULT_MAX_DISTANCE} px so a wrong prediction (the finger stops
+ * or turns) never makes the content jump, and it is zero until {@link #MIN_SAMPLES} samples were
+ * added.
+ *
+ * Adding samples and computing the offset does not allocate.
+ *
+ * @author Daniel Kurka
+ */
+public class TouchPredictor {
+
+  /**
+   * the default lead time in ms, one frame on a 60 Hz display
+   */
+  public static final int DEFAULT_LEAD_TIME = 16;
+
+  /**
+   * the default upper bound of the predicted offset in px
+   */
+  public static final int DEFAULT_MAX_DISTANCE = 32;
+
+  /**
+   * the number of samples needed before anything is predicted
+   */
+  public static final int MIN_SAMPLES = 3;
+
+  private final VelocityTracker velocityTracker;
+  private final double leadTime;
+  private final double maxDistance;
+
+  private boolean dirty;
+  private double offsetX;
+  private double offsetY;
+
+  /**
+   * construct a predictor with the default lead time and maximum distance
+   */
+  public TouchPredictor() {
+    this(DEFAULT_LEAD_TIME, DEFAULT_MAX_DISTANCE);
+  }
+
+  /**
+   * construct a predictor
+   *
+   * @param leadTime the time in ms to extrapolate the finger position by
+   * @param maxDistance the maximum length of the predicted offset in px
+   */
+  public TouchPredictor(double leadTime, double maxDistance) {
+    if (leadTime <= 0) {
+      throw new IllegalArgumentException("leadTime > 0");
+    }
+    if (maxDistance <= 0) {
+      throw new IllegalArgumentException("maxDistance > 0");
+    }
+    this.leadTime = leadTime;
+    this.maxDistance = maxDistance;
+    velocityTracker = new VelocityTracker();
+  }
+
+  /**
+   * add the position of the finger at a given time
+   *
+   * @param time the time in ms, has to be increasing
+   * @param x the x position in px
+   * @param y the y position in px
+   */
+  public void addSample(double time, double x, double y) {
+    velocityTracker.addSample(time, x, y);
+    dirty = true;
+  }
+
+  /**
+   * add all samples a move event coalesced, see
+   * {@link VelocityTracker#addSamples(HasCoalescedSamples, double, double)}
+   *
+   * @param samples the samples of the event
+   * @param x the x position in px of the last sample
+   * @param y the y position in px of the last sample
+   */
+  public void addSamples(HasCoalescedSamples samples, double x, double y) {
+    velocityTracker.addSamples(samples, x, y);
+    dirty = true;
+  }
+
+  /**
+   * remove all samples, call this when a new gesture starts
+   */
+  public void clear() {
+    velocityTracker.clear();
+    offsetX = 0;
+    offsetY = 0;
+    dirty = false;
+  }
+
+  /**
+   * the distance on the x axis the finger is expected to move beyond the last sample
+   *
+   * @return the offset in px
+   */
+  public double getOffsetX() {
+    computeOffset();
+    return offsetX;
+  }
+
+  /**
+   * the distance on the y axis the finger is expected to move beyond the last sample
+   *
+   * @return the offset in px
+   */
+  public double getOffsetY() {
+    computeOffset();
+    return offsetY;
+  }
+
+  private void computeOffset() {
+    if (!dirty) {
+      return;
+    }
+    dirty = false;
+    offsetX = 0;
+    offsetY = 0;
+
+    if (velocityTracker.getSampleCount() < MIN_SAMPLES) {
+      return;
+    }
+
+    double x = velocityTracker.getVelocityX() * leadTime;
+    double y = velocityTracker.getVelocityY() * leadTime;
+
+    // scale the vector instead of each axis so a clamped prediction keeps its direction
+    double length = Math.sqrt(x * x + y * y);
+    if (length > maxDistance) {
+      double scale = maxDistance / length;
+      x *= scale;
+      y *= scale;
+    }
+    offsetX = x;
+    offsetY = y;
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.googlecode.mgwt.collection.shared.LightDequeDouble;
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+
+/**
+ * A {@link VelocityTracker} estimates the velocity of a pointer from its recent positions.
+ *
+ * The last samples are kept in a ring buffer and a weighted least squares polynomial (linear or
+ * quadratic) is fitted through the samples of the last {@link #DEFAULT_HORIZON} ms. The velocity is
+ * the slope of the polynomial at the newest sample. Compared to dividing the distance of two samples
+ * by their time difference this averages out the jitter of the digitizer.
+ *
+ * Recent samples weigh more than older ones, and if no sample arrived for
+ * {@link #ASSUME_STOPPED_TIME} ms the pointer is assumed to have stopped and the older samples are
+ * dropped.
+ *
+ * Adding samples and computing the velocity does not allocate.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public class VelocityTracker {
+
+  /**
+   * the default number of samples kept
+   */
+  public static final int DEFAULT_CAPACITY = 20;
+
+  /**
+   * the default age in ms of the oldest sample used for the fit
+   */
+  public static final int DEFAULT_HORIZON = 100;
+
+  /**
+   * the default degree of the polynomial
+   */
+  public static final int DEFAULT_DEGREE = 2;
+
+  /**
+   * a gap between two samples in ms after which the pointer is assumed to have stopped
+   */
+  public static final int ASSUME_STOPPED_TIME = 40;
+
+  private final LightDequeDouble times;
+  private final LightDequeDouble xs;
+  private final LightDequeDouble ys;
+
+  private final int horizon;
+  private final int degree;
+
+  private boolean dirty;
+  private double velocityX;
+  private double velocityY;
+
+  /**
+   * construct a velocity tracker with the default capacity, horizon and degree
+   */
+  public VelocityTracker() {
+    this(DEFAULT_CAPACITY, DEFAULT_HORIZON, DEFAULT_DEGREE);
+  }
+
+  /**
+   * construct a velocity tracker
+   *
+   * @param capacity the number of samples to keep
+   * @param horizon the age in ms of the oldest sample used for the fit
+   * @param degree the degree of the fitted polynomial, 1 or 2
+   */
+  public VelocityTracker(int capacity, int horizon, int degree) {
+    if (capacity < 2) {
+      throw new IllegalArgumentException("capacity > 1");
+    }
+    if (horizon <= 0) {
+      throw new IllegalArgumentException("horizon > 0");
+    }
+    if (degree != 1 && degree != 2) {
+      throw new IllegalArgumentException("degree has to be 1 or 2");
+    }
+    this.horizon = horizon;
+    this.degree = degree;
+    times = new LightDequeDouble(capacity);
+    xs = new LightDequeDouble(capacity);
+    ys = new LightDequeDouble(capacity);
+  }
+
+  /**
+   * add the position of the pointer at a given time
+   *
+   * @param time the time in ms, has to be increasing
+   * @param x the x position in px
+   * @param y the y position in px
+   */
+  public void addSample(double time, double x, double y) {
+    if (times.length() > 0 && time - times.get(times.length() - 1) > ASSUME_STOPPED_TIME) {
+      clear();
+    }
+    times.push(time);
+    xs.push(x);
+    ys.push(y);
+    dirty = true;
+  }
+
+  /**
+   * add all samples a move event coalesced
+   *
+   * The samples are shifted by the same offset, so that the last one is at the given position. This
+   * allows tracking e.g. the position of dragged content instead of the finger.
+   *
+   * @param samples the samples of the event
+   * @param x the x position in px of the last sample
+   * @param y the y position in px of the last sample
+   */
+  public void addSamples(HasCoalescedSamples samples, double x, double y) {
+    int last = samples.getSampleCount() - 1;
+    double offsetX = x - samples.getSamplePageX(last);
+    double offsetY = y - samples.getSamplePageY(last);
+    for (int i = 0; i <= last; i++) {
+      addSample(samples.getSampleTime(i), samples.getSamplePageX(i) + offsetX, samples.getSamplePageY(i) + offsetY);
+    }
+  }
+
+  /**
+   * remove all samples
+   */
+  public void clear() {
+    times.clear();
+    xs.clear();
+    ys.clear();
+    velocityX = 0;
+    velocityY = 0;
+    dirty = false;
+  }
+
+  /**
+   * the number of samples currently kept
+   *
+   * @return the number of samples
+   */
+  public int getSampleCount() {
+    return times.length();
+  }
+
+  /**
+   * the velocity on the x axis at the newest sample
+   *
+   * @return the velocity in px / ms
+   */
+  public double getVelocityX() {
+    computeVelocity();
+    return velocityX;
+  }
+
+  /**
+   * the velocity on the y axis at the newest sample
+   *
+   * @return the velocity in px / ms
+   */
+  public double getVelocityY() {
+    computeVelocity();
+    return velocityY;
+  }
+
+  private void computeVelocity() {
+    if (!dirty) {
+      return;
+    }
+    dirty = false;
+    velocityX = 0;
+    velocityY = 0;
+
+    int newest = times.length() - 1;
+    if (newest < 1) {
+      return;
+    }
+
+    double newestTime = times.get(newest);
+    double newestX = xs.get(newest);
+    double newestY = ys.get(newest);
+
+    // weighted sums of t^k and of t^k * position, with t and position relative to the newest sample
+    double s0 = 0, s1 = 0, s2 = 0, s3 = 0, s4 = 0;
+    double x0 = 0, x1 = 0, x2 = 0;
+    double y0 = 0, y1 = 0, y2 = 0;
+    int count = 0;
+
+    for (int i = newest; i >= 0; i--) {
+      double t = times.get(i) - newestTime;
+      double age = -t;
+      if (age > horizon) {
+        break;
+      }
+      double w = weight(age);
+      double x = xs.get(i) - newestX;
+      double y = ys.get(i) - newestY;
+
+      double wt = w * t;
+      double wt2 = wt * t;
+      s0 += w;
+      s1 += wt;
+      s2 += wt2;
+      s3 += wt2 * t;
+      s4 += wt2 * t * t;
+      x0 += w * x;
+      x1 += wt * x;
+      x2 += wt2 * x;
+      y0 += w * y;
+      y1 += wt * y;
+      y2 += wt2 * y;
+      count++;
+    }
+
+    if (degree == 2 && count > 2) {
+      double det = s0 * (s2 * s4 - s3 * s3) - s1 * (s1 * s4 - s3 * s2) + s2 * (s1 * s3 - s2 * s2);
+      if (Math.abs(det) > 1e-9 * s0 * s2 * s4) {
+        velocityX = (s0 * (x1 * s4 - s3 * x2) - x0 * (s1 * s4 - s3 * s2) + s2 * (s1 * x2 - x1 * s2)) / det;
+        velocityY = (s0 * (y1 * s4 - s3 * y2) - y0 * (s1 * s4 - s3 * s2) + s2 * (s1 * y2 - y1 * s2)) / det;
+        return;
+      }
+    }
+
+    // linear fit, also used if there are too few samples for a quadratic one
+    double det = s0 * s2 - s1 * s1;
+    if (count > 1 && det > 1e-9 * s0 * s2) {
+      velocityX = (s0 * x1 - s1 * x0) / det;
+      velocityY = (s0 * y1 - s1 * y0) / det;
+    }
+  }
+
+  /**
+   * samples within the first half of the horizon weigh 1, older ones fall off linearly to 0.5
+   */
+  private double weight(double age) {
+    double half = horizon / 2.0;
+    if (age <= half) {
+      return 1;
+    }
+    return 1 - (age - half) / horizon;
+  }
+}
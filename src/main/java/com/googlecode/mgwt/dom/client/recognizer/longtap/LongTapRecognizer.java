@@ -25,18 +25,20 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.googlecode.mgwt.collection.shared.CollectionFactory;
 import com.googlecode.mgwt.collection.shared.LightArray;
 import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
-import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
-import com.googlecode.mgwt.dom.client.recognizer.TimerExecturGwtTimerImpl;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArena;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArenaMember;
 import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+import com.googlecode.mgwt.dom.client.recognizer.TimerWheel;
 import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.TimerHandle;
 
 /**
  * This class can recognize long taps
  *
  * @author Daniel Kurka
  */
-public class LongTapRecognizer implements TouchHandler {
+public class LongTapRecognizer implements GestureArenaMember {
 
   public static final int DEFAULT_WAIT_TIME_IN_MS = 1500;
   public static final int DEFAULT_MAX_DISTANCE = 15;
@@ -55,11 +57,14 @@ public class LongTapRecognizer implements TouchHandler {
   private final int distance;
 
   private TimerExecutor timerExecutor;
+  private TimerHandle timerHandle;
 
   private EventPropagator eventPropagator;
 
   private static EventPropagator DEFAULT_EVENT_PROPAGATOR;
 
+  private GestureArena gestureArena;
+
   public LongTapRecognizer(HasHandlers source) {
     this(source, 1);
   }
@@ -116,19 +121,54 @@ public class LongTapRecognizer implements TouchHandler {
 
   @Override
   public void onTouchStart(TouchStartEvent event) {
+    // only copy the new finger while it can still be part of the long tap
+    TouchCopy touch = null;
+    if (state == State.READY || state == State.FINGERS_DOWN) {
+      touch = TouchCopy.copy(event.getTouches().get(touchCount));
+    }
+    start(touch);
+  }
+
+  @Override
+  public void onTouchMove(TouchMoveEvent event) {
+    switch (state) {
+      case WAITING:
+      case FINGERS_DOWN:
+      case FINGERS_UP:
+        // compare positions
+        JsArray<Touch> currentTouches = event.getTouches();
+        for (int i = 0; i < currentTouches.length() && state != State.INVALID; i++) {
+          Touch currentTouch = currentTouches.get(i);
+          move(currentTouch.getIdentifier(), currentTouch.getPageX(), currentTouch.getPageY());
+        }
+
+        break;
 
-    JsArray<Touch> touches = event.getTouches();
+      default:
+        state = State.INVALID;
+        break;
+    }
+    rejectIfInvalid();
+  }
+
+  @Override
+  public void onTouchEnd(TouchEndEvent event) {
+    end(event.getTouches().length());
+  }
+
+  // Visible for testing
+  void start(TouchCopy touch) {
     touchCount++;
 
     switch (state) {
       case INVALID:
         break;
       case READY:
-        startPositions.push(TouchCopy.copy((touches.get(touchCount - 1))));
+        startPositions.push(touch);
         state = State.FINGERS_DOWN;
         break;
       case FINGERS_DOWN:
-        startPositions.push(TouchCopy.copy(touches.get(touchCount - 1)));
+        startPositions.push(touch);
         break;
       case FINGERS_UP:
       default:
@@ -138,15 +178,19 @@ public class LongTapRecognizer implements TouchHandler {
 
     if (touchCount == numberOfFingers) {
       state = State.WAITING;
-      getTimerExecutor().execute(new CodeToRun() {
+      timerHandle = getTimerExecutor().execute(new CodeToRun() {
 
         @Override
         public void onExecution() {
+          timerHandle = null;
           if (state != State.WAITING) {
             // something else happened forget it
             return;
           }
 
+          if (gestureArena != null) {
+            gestureArena.accept(LongTapRecognizer.this);
+          }
           getEventPropagator().fireEvent(source, new LongTapEvent(source, numberOfFingers, time, startPositions));
           reset();
 
@@ -157,46 +201,28 @@ public class LongTapRecognizer implements TouchHandler {
     if (touchCount > numberOfFingers) {
       state = State.INVALID;
     }
+    rejectIfInvalid();
   }
 
-  @Override
-  public void onTouchMove(TouchMoveEvent event) {
-    switch (state) {
-      case WAITING:
-      case FINGERS_DOWN:
-      case FINGERS_UP:
-        // compare positions
-        JsArray<Touch> currentTouches = event.getTouches();
-        for (int i = 0; i < currentTouches.length(); i++) {
-          Touch currentTouch = currentTouches.get(i);
-          for (int j = 0; j < startPositions.length(); j++) {
-            TouchCopy startTouch = startPositions.get(j);
-            if (currentTouch.getIdentifier() == startTouch.getIdentifier()) {
-              if (Math.abs(currentTouch.getPageX() - startTouch.getPageX()) > distance || Math.abs(currentTouch.getPageY() - startTouch.getPageY()) > distance) {
-                state = State.INVALID;
-                break;
-              }
-            }
-            if (state == State.INVALID) {
-              break;
-            }
-          }
+  // Visible for testing
+  void move(int identifier, int pageX, int pageY) {
+    for (int j = 0; j < startPositions.length(); j++) {
+      TouchCopy startTouch = startPositions.get(j);
+      if (identifier == startTouch.getIdentifier()) {
+        if (Math.abs(pageX - startTouch.getPageX()) > distance || Math.abs(pageY - startTouch.getPageY()) > distance) {
+          state = State.INVALID;
+          return;
         }
-
-        break;
-
-      default:
-        state = State.INVALID;
-        break;
+      }
     }
   }
 
-  @Override
-  public void onTouchEnd(TouchEndEvent event) {
-    int currentTouches = event.getTouches().length();
+  // Visible for testing
+  void end(int remainingTouches) {
     switch (state) {
       case WAITING:
         state = State.INVALID;
+        cancelTimer();
         break;
 
       case FINGERS_DOWN:
@@ -204,7 +230,7 @@ public class LongTapRecognizer implements TouchHandler {
         break;
       case FINGERS_UP:
         // are we ready?
-        if (currentTouches == 0 && touchCount == numberOfFingers) {
+        if (remainingTouches == 0 && touchCount == numberOfFingers) {
           // fire and reset
 
           reset();
@@ -213,7 +239,7 @@ public class LongTapRecognizer implements TouchHandler {
 
       case INVALID:
       default:
-        if (currentTouches == 0)
+        if (remainingTouches == 0)
           reset();
         break;
     }
@@ -222,22 +248,47 @@ public class LongTapRecognizer implements TouchHandler {
   @Override
   public void onTouchCancel(TouchCancelEvent event) {
     state = State.INVALID;
+    cancelTimer();
     int currentTouches = event.getTouches().length();
     if (currentTouches == 0) {
       reset();
     }
   }
 
+  @Override
+  public void setGestureArena(GestureArena arena) {
+    this.gestureArena = arena;
+  }
+
+  @Override
+  public void rejectGesture() {
+    reset();
+  }
+
+  private void rejectIfInvalid() {
+    if (gestureArena != null && state == State.INVALID) {
+      gestureArena.reject(this);
+    }
+  }
+
   protected void reset() {
+    cancelTimer();
     state = State.READY;
     touchCount = 0;
     startPositions = CollectionFactory.constructArray();
   }
 
+  private void cancelTimer() {
+    if (timerHandle != null) {
+      timerHandle.cancel();
+      timerHandle = null;
+    }
+  }
+
   // Visible for testing
   TimerExecutor getTimerExecutor() {
     if (timerExecutor == null) {
-      timerExecutor = new TimerExecturGwtTimerImpl();
+      timerExecutor = TimerWheel.get();
     }
     return timerExecutor;
   }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.pinch;
+
+/**
+ * Caches the offsets of an {@link OffsetProvider}.
+ *
+ * Reading offsets from the DOM forces a layout, so multi finger recognizers read them once per
+ * gesture and call {@link #invalidate()} whenever a new gesture starts or the source may have
+ * moved.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public class OffsetCache {
+
+  private final OffsetProvider offsetProvider;
+
+  private boolean valid;
+  private int left;
+  private int top;
+
+  /**
+   * Construct an offset cache
+   *
+   * @param offsetProvider the offset provider to read from
+   */
+  public OffsetCache(OffsetProvider offsetProvider) {
+    if (offsetProvider == null) {
+      throw new IllegalArgumentException("offsetProvider can not be null");
+    }
+    this.offsetProvider = offsetProvider;
+  }
+
+  /**
+   * read the offsets again on the next access
+   */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * the cached left offset
+   *
+   * @return the left offset in px
+   */
+  public int getLeft() {
+    ensureValid();
+    return left;
+  }
+
+  /**
+   * the cached top offset
+   *
+   * @return the top offset in px
+   */
+  public int getTop() {
+    ensureValid();
+    return top;
+  }
+
+  private void ensureValid() {
+    if (!valid) {
+      left = offsetProvider.getLeft();
+      top = offsetProvider.getTop();
+      valid = true;
+    }
+  }
+}
@@ -17,6 +17,10 @@ package com.googlecode.mgwt.dom.client.recognizer.pinch;
 
 import com.google.gwt.event.shared.GwtEvent;
 
+import com.googlecode.mgwt.collection.shared.LightPool;
+import com.googlecode.mgwt.dom.client.recognizer.CoalescableEvent;
+import com.googlecode.mgwt.dom.client.recognizer.RecyclableEvent;
+
 /**
  * A {@link PinchEvent} is fired when a user moves to finger on the display.
  *
@@ -28,16 +32,21 @@ import com.google.gwt.event.shared.GwtEvent;
  * (x1 + x2) / 2 and (y1 + y2) / 2
  * </p>
  *
+ * Events fired by {@link PinchRecognizer} are pooled and reused once they have been dispatched,
+ * see {@link RecyclableEvent}. Do not keep references to them.
  *
  * @author Daniel Kurka
  *
  */
-public class PinchEvent extends GwtEvent<PinchHandler> {
+public class PinchEvent extends GwtEvent<PinchHandler> implements RecyclableEvent, CoalescableEvent {
 
 	private static final GwtEvent.Type<PinchHandler> TYPE = new Type<PinchHandler>();
-	private final int x;
-	private final int y;
-	private final double scaleFactor;
+	private int x;
+	private int y;
+	private double scaleFactor;
+
+	private final LightPool<PinchEvent> pool;
+	private boolean recycled;
 
 	public static GwtEvent.Type<PinchHandler> getType() {
 		return TYPE;
@@ -54,6 +63,37 @@ public class PinchEvent extends GwtEvent<PinchHandler> {
 		this.x = x;
 		this.y = y;
 		this.scaleFactor = scaleFactor;
+		this.pool = null;
+	}
+
+	PinchEvent(LightPool<PinchEvent> pool) {
+		this.pool = pool;
+	}
+
+	void set(int x, int y, double scaleFactor) {
+		this.x = x;
+		this.y = y;
+		this.scaleFactor = scaleFactor;
+		recycled = false;
+	}
+
+	@Override
+	public boolean coalesce(GwtEvent<?> later) {
+		PinchEvent event = (PinchEvent) later;
+		// scale factors are relative to the previous event, so they multiply up
+		this.x = event.x;
+		this.y = event.y;
+		this.scaleFactor *= event.scaleFactor;
+		return true;
+	}
+
+	@Override
+	public void recycle() {
+		if (pool == null || recycled) {
+			return;
+		}
+		recycled = true;
+		pool.release(this);
 	}
 
 	@Override
@@ -21,17 +21,22 @@ import com.google.gwt.event.dom.client.TouchMoveEvent;
 import com.google.gwt.event.dom.client.TouchStartEvent;
 import com.google.gwt.event.shared.HasHandlers;
 
-import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
-import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.collection.shared.LightPool;
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArena;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArenaMember;
 
 /**
  * A PinchRecognizer tracks two finger on a screen that perform a zooming / pinching action
  *
+ * The offsets of the source are read once per gesture, since reading them forces a layout. Call
+ * {@link #invalidateOffsets()} if the source may have moved during a gesture (e.g. on scroll or
+ * resize). Pinch events are pooled, see {@link PinchEvent}.
+ *
  * @author Daniel Kurka
  *
  */
-public class PinchRecognizer implements TouchHandler {
+public class PinchRecognizer implements GestureArenaMember {
 
   private static EventPropagator DEFAULT_EVENT_PROPAGATOR;
 
@@ -45,13 +50,16 @@ public class PinchRecognizer implements TouchHandler {
 
   private State state;
 
-  private TouchCopy touchStart1;
-  private TouchCopy touchStart2;
-
   private int touchCount;
-  private double distance;
 
-  private final OffsetProvider offsetProvider;
+  // squared distance between the two fingers
+  private long distanceSquared;
+
+  private final OffsetCache offsets;
+
+  private final LightPool<PinchEvent> eventPool;
+
+  private GestureArena gestureArena;
 
   /**
    * Construct a {@link PinchRecognizer}
@@ -69,8 +77,16 @@ public class PinchRecognizer implements TouchHandler {
     }
 
     this.source = source;
-    this.offsetProvider = offsetProvider;
+    this.offsets = new OffsetCache(offsetProvider);
     state = State.READY;
+
+    eventPool = new LightPool<PinchEvent>(new LightPool.Factory<PinchEvent>() {
+
+      @Override
+      public PinchEvent create() {
+        return new PinchEvent(eventPool);
+      }
+    }, 4);
   }
 
   @Override
@@ -78,19 +94,19 @@ public class PinchRecognizer implements TouchHandler {
     touchCount++;
     switch (state) {
       case READY:
-        touchStart1 = TouchCopy.copy(event.getTouches().get(0));
         state = State.ONE_FINGER;
         break;
       case ONE_FINGER:
-        touchStart2 = TouchCopy.copy(event.getTouches().get(1));
-        distance = (int) Math.sqrt(Math.pow(touchStart1.getPageX() - touchStart2.getPageX(), 2) + Math.pow(touchStart1.getPageY() - touchStart2.getPageY(), 2));
-        state = State.TWO_FINGER;
+        Touch touch1 = event.getTouches().get(0);
+        Touch touch2 = event.getTouches().get(1);
+        startTwoFinger(touch1.getPageX(), touch1.getPageY(), touch2.getPageX(), touch2.getPageY());
         break;
 
       default:
         state = State.INVALID;
         break;
     }
+    rejectIfInvalid();
   }
 
   @Override
@@ -100,28 +116,14 @@ public class PinchRecognizer implements TouchHandler {
 
         Touch touch1 = event.getTouches().get(0);
         Touch touch2 = event.getTouches().get(1);
-
-        int left = offsetProvider.getLeft();
-        int top = offsetProvider.getTop();
-
-        int x1 = touch1.getPageX() - left;
-        int y1 = touch1.getPageY() - top;
-        int x2 = touch2.getPageX() - left;
-        int y2 = touch2.getPageY() - top;
-
-        double newDistance = Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
-        int x = (x1 + x2) / 2;
-        int y = (y1 + y2) / 2;
-
-        getEventPropagator().fireEvent(source, new PinchEvent(x, y, distance / newDistance));
-        distance = newDistance;
-
+        onTwoFingerMove(touch1.getPageX(), touch1.getPageY(), touch2.getPageX(), touch2.getPageY());
         break;
 
       default:
         state = State.INVALID;
         break;
     }
+    rejectIfInvalid();
   }
 
   @Override
@@ -156,6 +158,71 @@ public class PinchRecognizer implements TouchHandler {
     }
   }
 
+  @Override
+  public void setGestureArena(GestureArena arena) {
+    this.gestureArena = arena;
+  }
+
+  @Override
+  public void rejectGesture() {
+    reset();
+  }
+
+  private void rejectIfInvalid() {
+    if (gestureArena != null && state == State.INVALID) {
+      gestureArena.reject(this);
+    }
+  }
+
+  /**
+   * read the offsets of the source again on the next move
+   */
+  public void invalidateOffsets() {
+    offsets.invalidate();
+  }
+
+  void startTwoFinger(int pageX1, int pageY1, int pageX2, int pageY2) {
+    distanceSquared = distanceSquared(pageX1 - pageX2, pageY1 - pageY2);
+    offsets.invalidate();
+    state = State.TWO_FINGER;
+  }
+
+  // Visible for testing
+  void onTwoFingerMove(int pageX1, int pageY1, int pageX2, int pageY2) {
+    int left = offsets.getLeft();
+    int top = offsets.getTop();
+
+    // the offsets cancel out in the distance, only the center point needs them
+    long newDistanceSquared = distanceSquared(pageX1 - pageX2, pageY1 - pageY2);
+    int x = (pageX1 - left + pageX2 - left) / 2;
+    int y = (pageY1 - top + pageY2 - top) / 2;
+
+    double scaleFactor;
+    if (newDistanceSquared == distanceSquared) {
+      scaleFactor = 1;
+    } else {
+      scaleFactor = Math.sqrt((double) distanceSquared / newDistanceSquared);
+    }
+
+    if (gestureArena != null) {
+      gestureArena.accept(this);
+    }
+
+    PinchEvent pinchEvent = eventPool.acquire();
+    pinchEvent.set(x, y, scaleFactor);
+    getEventPropagator().fireEvent(source, pinchEvent);
+    distanceSquared = newDistanceSquared;
+  }
+
+  private static long distanceSquared(int dx, int dy) {
+    return (long) dx * dx + (long) dy * dy;
+  }
+
+  // Visible for testing
+  LightPool<PinchEvent> getEventPool() {
+    return eventPool;
+  }
+
   private void reset() {
     touchCount = 0;
     state = State.READY;
@@ -28,6 +28,7 @@ public class SwipeEndEvent extends SwipeEvent<SwipeEndHandler> {
 	private final static GwtEvent.Type<SwipeEndHandler> TYPE = new Type<SwipeEndHandler>();
 	private final boolean distanceReached;
 	private final int distance;
+	private final double velocity;
 
 	public static GwtEvent.Type<SwipeEndHandler> getType() {
 		return TYPE;
@@ -41,9 +42,22 @@ public class SwipeEndEvent extends SwipeEvent<SwipeEndHandler> {
 	 * @param direction the direction of the swipe
 	 */
 	public SwipeEndEvent(boolean distanceReached, int distance, SwipeEvent.DIRECTION direction) {
+		this(distanceReached, distance, direction, 0);
+	}
+
+	/**
+	 * Construct a swipe end event
+	 *
+	 * @param distanceReached was the minumum distance reached
+	 * @param distance the distance that was covered by the finger
+	 * @param direction the direction of the swipe
+	 * @param velocity the velocity of the finger in the direction of the swipe when it was lifted
+	 */
+	public SwipeEndEvent(boolean distanceReached, int distance, SwipeEvent.DIRECTION direction, double velocity) {
 		super(direction);
 		this.distanceReached = distanceReached;
 		this.distance = distance;
+		this.velocity = velocity;
 	}
 
 	@Override
@@ -65,6 +79,16 @@ public class SwipeEndEvent extends SwipeEvent<SwipeEndHandler> {
 		return distance;
 	}
 
+	/**
+	 * the velocity of the finger in the direction of the swipe when it was lifted, estimated by a
+	 * {@link com.googlecode.mgwt.dom.client.recognizer.VelocityTracker}
+	 *
+	 * @return the velocity in px / ms, negative if the finger moved back at the end
+	 */
+	public double getVelocity() {
+		return velocity;
+	}
+
 	/**
 	 * is the minimum distance reached by this swipe
 	 *
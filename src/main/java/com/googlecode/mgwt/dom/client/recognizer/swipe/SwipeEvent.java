@@ -31,7 +31,7 @@ public abstract class SwipeEvent<H extends EventHandler> extends GwtEvent<H> {
 		LEFT_TO_RIGHT, RIGHT_TO_LEFT, TOP_TO_BOTTOM, BOTTOM_TO_TOP;
 	}
 
-	private final DIRECTION direction;
+	private DIRECTION direction;
 
 	/**
 	 * Construct a swipe event with a given direction
@@ -50,4 +50,8 @@ public abstract class SwipeEvent<H extends EventHandler> extends GwtEvent<H> {
 	public DIRECTION getDirection() {
 		return direction;
 	}
+
+	void setDirection(DIRECTION direction) {
+		this.direction = direction;
+	}
 }
@@ -17,21 +17,33 @@ package com.googlecode.mgwt.dom.client.recognizer.swipe;
 
 import com.google.gwt.event.shared.GwtEvent;
 
+import com.googlecode.mgwt.collection.shared.LightPool;
+import com.googlecode.mgwt.dom.client.event.touch.HasSampleTime;
 import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
+import com.googlecode.mgwt.dom.client.recognizer.CoalescableEvent;
+import com.googlecode.mgwt.dom.client.recognizer.RecyclableEvent;
 
 /**
  * A {@link SwipeMoveEvent} occurs when the user moves his finger over the
  * display
  *
+ * Events fired by {@link SwipeRecognizer} are pooled: the event and its touch are reused once
+ * the event has been dispatched, see {@link RecyclableEvent}. Handlers that need the values later
+ * have to copy them, e.g. with {@link TouchCopy#copy()}.
+ *
  * @author Daniel Kurka
  *
  */
-public class SwipeMoveEvent extends SwipeEvent<SwipeMoveHandler> {
+public class SwipeMoveEvent extends SwipeEvent<SwipeMoveHandler> implements RecyclableEvent, CoalescableEvent, HasSampleTime {
 
 	private final static GwtEvent.Type<SwipeMoveHandler> TYPE = new Type<SwipeMoveHandler>();
-	private final boolean distanceReached;
-	private final int distance;
-	private final TouchCopy touch;
+	private boolean distanceReached;
+	private int distance;
+	private TouchCopy touch;
+	private double sampleTime;
+
+	private final LightPool<SwipeMoveEvent> pool;
+	private boolean recycled;
 
 	public static GwtEvent.Type<SwipeMoveHandler> getType() {
 		return TYPE;
@@ -47,10 +59,69 @@ public class SwipeMoveEvent extends SwipeEvent<SwipeMoveHandler> {
 	 * @param direction the direction of the swipe
 	 */
 	public SwipeMoveEvent(TouchCopy touch, boolean distanceReached, int distance, SwipeEvent.DIRECTION direction) {
+		this(touch, distanceReached, distance, direction, System.currentTimeMillis());
+	}
+
+	/**
+	 * Construct a {@link SwipeMoveEvent}
+	 *
+	 * @param touch the current touch
+	 * @param distanceReached is the minimum distance reached for this swipe
+	 * @param distance the distance in px
+	 * @param direction the direction of the swipe
+	 * @param sampleTime the time the position of the touch was sampled
+	 */
+	public SwipeMoveEvent(TouchCopy touch, boolean distanceReached, int distance, SwipeEvent.DIRECTION direction, double sampleTime) {
 		super(direction);
 		this.touch = touch;
 		this.distanceReached = distanceReached;
 		this.distance = distance;
+		this.sampleTime = sampleTime;
+		this.pool = null;
+	}
+
+	SwipeMoveEvent(LightPool<SwipeMoveEvent> pool) {
+		super(null);
+		this.pool = pool;
+	}
+
+	void set(TouchCopy touch, boolean distanceReached, int distance, SwipeEvent.DIRECTION direction, double sampleTime) {
+		if (this.touch == null) {
+			this.touch = touch.copy();
+		} else {
+			this.touch.set(touch);
+		}
+		this.distanceReached = distanceReached;
+		this.distance = distance;
+		this.sampleTime = sampleTime;
+		setDirection(direction);
+		recycled = false;
+	}
+
+	@Override
+	public boolean coalesce(GwtEvent<?> later) {
+		SwipeMoveEvent event = (SwipeMoveEvent) later;
+		if (event.getDirection() != getDirection()) {
+			return false;
+		}
+		// distance is absolute, so the later event already carries everything. Swap the touches, the
+		// later event goes back to its pool after this
+		TouchCopy touch = this.touch;
+		this.touch = event.touch;
+		event.touch = touch;
+		this.distance = event.distance;
+		this.distanceReached = event.distanceReached;
+		this.sampleTime = event.sampleTime;
+		return true;
+	}
+
+	@Override
+	public void recycle() {
+		if (pool == null || recycled) {
+			return;
+		}
+		recycled = true;
+		pool.release(this);
 	}
 
 	@Override
@@ -84,4 +155,9 @@ public class SwipeMoveEvent extends SwipeEvent<SwipeMoveHandler> {
 	public TouchCopy getTouch() {
 		return touch;
 	}
+
+	@Override
+	public double getSampleTime() {
+		return sampleTime;
+	}
 }
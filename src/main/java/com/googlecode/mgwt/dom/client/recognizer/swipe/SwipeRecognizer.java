@@ -21,12 +21,19 @@ import com.google.gwt.event.dom.client.TouchMoveEvent;
 import com.google.gwt.event.dom.client.TouchStartEvent;
 import com.google.gwt.event.shared.HasHandlers;
 
+import com.googlecode.mgwt.collection.shared.LightPool;
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+import com.googlecode.mgwt.dom.client.event.touch.HasSampleTime;
 import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
-import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArena;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArenaMember;
+import com.googlecode.mgwt.dom.client.recognizer.SystemTimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.VelocityTracker;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEvent.DIRECTION;
 
-public class SwipeRecognizer implements TouchHandler {
+public class SwipeRecognizer implements GestureArenaMember {
 
   private static EventPropagator DEFAULT_EVENT_PROPAGATOR;
 
@@ -54,6 +61,20 @@ public class SwipeRecognizer implements TouchHandler {
 
   private int y;
 
+  private int lastX;
+
+  private int lastY;
+
+  private final VelocityTracker velocityTracker;
+
+  private TimeProvider timeProvider;
+
+  private final LightPool<SwipeMoveEvent> moveEventPool;
+
+  private GestureArena gestureArena;
+
+  private final TouchCopy moveTouch = new TouchCopy(0, 0, 0);
+
   /**
    * construct a swipe recognizer
    *
@@ -97,10 +118,57 @@ public class SwipeRecognizer implements TouchHandler {
     this.threshold = threshold;
     this.touchCount = 0;
     state = State.READY;
+    velocityTracker = new VelocityTracker();
+    timeProvider = new SystemTimeProvider();
+
+    // a deferred event propagator may hold a few events before dispatching them
+    moveEventPool = new LightPool<SwipeMoveEvent>(new LightPool.Factory<SwipeMoveEvent>() {
+
+      @Override
+      public SwipeMoveEvent create() {
+        return new SwipeMoveEvent(moveEventPool);
+      }
+    }, 4);
   }
 
   @Override
   public void onTouchStart(TouchStartEvent event) {
+    Touch touch = event.getTouches().get(0);
+    start(touch.getPageX(), touch.getPageY());
+  }
+
+  @Override
+  public void onTouchMove(TouchMoveEvent event) {
+    double time = event instanceof HasSampleTime ? ((HasSampleTime) event).getSampleTime() : getTimeProvider().getTime();
+    moveTouch.set(event.getTouches().get(0));
+    if (event instanceof HasCoalescedSamples) {
+      move((HasCoalescedSamples) event, moveTouch);
+    } else {
+      move(time, moveTouch);
+    }
+  }
+
+  // Visible for testing
+  void move(HasCoalescedSamples samples, TouchCopy touch) {
+    if (state == State.FINDER_DOWN || state == State.FOUND_DIRECTION) {
+      // all but the last sample only feed the velocity, the last one is handled like any move
+      int last = samples.getSampleCount() - 1;
+      int offsetX = touch.getPageX() - samples.getSamplePageX(last);
+      int offsetY = touch.getPageY() - samples.getSamplePageY(last);
+      for (int i = 0; i < last; i++) {
+        addSample(samples.getSampleTime(i), samples.getSamplePageX(i) + offsetX, samples.getSamplePageY(i) + offsetY);
+      }
+    }
+    move(samples.getSampleTime(), touch);
+  }
+
+  @Override
+  public void onTouchEnd(TouchEndEvent event) {
+    end();
+  }
+
+  // Visible for testing
+  void start(int pageX, int pageY) {
     touchCount++;
 
     switch (state) {
@@ -110,8 +178,10 @@ public class SwipeRecognizer implements TouchHandler {
       case READY:
         state = State.FINDER_DOWN;
 
-        x = event.getTouches().get(0).getPageX();
-        y = event.getTouches().get(0).getPageY();
+        x = pageX;
+        y = pageY;
+        velocityTracker.clear();
+        addSample(x, y);
         break;
 
       case FINDER_DOWN:
@@ -119,11 +189,14 @@ public class SwipeRecognizer implements TouchHandler {
         state = State.INVALID;
         break;
     }
+    rejectIfInvalid();
   }
 
-  @Override
-  public void onTouchMove(TouchMoveEvent event) {
-    Touch touch = event.getTouches().get(0);
+  // Visible for testing
+  void move(double time, TouchCopy touch) {
+    if (state == State.FINDER_DOWN || state == State.FOUND_DIRECTION) {
+      addSample(time, touch.getPageX(), touch.getPageY());
+    }
 
     switch (state) {
       case INVALID:
@@ -143,7 +216,8 @@ public class SwipeRecognizer implements TouchHandler {
           direction = touch.getPageX() - x > 0 ? DIRECTION.LEFT_TO_RIGHT : DIRECTION.RIGHT_TO_LEFT;
 
           SwipeStartEvent swipeStartEvent =
-              new SwipeStartEvent(TouchCopy.copy(touch), touch.getPageX() - x, direction);
+              new SwipeStartEvent(touch.copy(), touch.getPageX() - x, direction, time);
+          acceptGesture();
 
           getEventPropagator().fireEvent(source, swipeStartEvent);
 
@@ -154,7 +228,8 @@ public class SwipeRecognizer implements TouchHandler {
             direction = touch.getPageY() - y > 0 ? DIRECTION.TOP_TO_BOTTOM : DIRECTION.BOTTOM_TO_TOP;
 
             SwipeStartEvent swipeStartEvent =
-                new SwipeStartEvent(TouchCopy.copy(touch), touch.getPageY() - y, direction);
+                new SwipeStartEvent(touch.copy(), touch.getPageY() - y, direction, time);
+            acceptGesture();
 
             getEventPropagator().fireEvent(source, swipeStartEvent);
 
@@ -169,19 +244,13 @@ public class SwipeRecognizer implements TouchHandler {
           case TOP_TO_BOTTOM:
           case BOTTOM_TO_TOP:
             lastDistance = Math.abs(touch.getPageY() - y);
-            getEventPropagator().fireEvent(
-                source,
-                new SwipeMoveEvent(TouchCopy.copy(touch), lastDistance > minDistance,
-                    lastDistance, direction));
+            fireMoveEvent(touch, time);
             break;
 
           case LEFT_TO_RIGHT:
           case RIGHT_TO_LEFT:
             lastDistance = Math.abs(touch.getPageX() - x);
-            getEventPropagator().fireEvent(
-                source,
-                new SwipeMoveEvent(TouchCopy.copy(touch), lastDistance > minDistance,
-                    lastDistance, direction));
+            fireMoveEvent(touch, time);
 
             break;
 
@@ -194,15 +263,19 @@ public class SwipeRecognizer implements TouchHandler {
       default:
         break;
     }
+    rejectIfInvalid();
   }
 
-  @Override
-  public void onTouchEnd(TouchEndEvent event) {
+  // Visible for testing
+  void end() {
     touchCount--;
 
     switch (state) {
       case FOUND_DIRECTION:
-        getEventPropagator().fireEvent(source, new SwipeEndEvent(lastDistance > minDistance, lastDistance, direction));
+        // the finger did not move before it was lifted, this drops older samples after a pause
+        addSample(lastX, lastY);
+        getEventPropagator().fireEvent(source,
+            new SwipeEndEvent(lastDistance > minDistance, lastDistance, direction, getVelocity()));
         reset();
         break;
       default:
@@ -237,11 +310,74 @@ public class SwipeRecognizer implements TouchHandler {
     return minDistance;
   }
 
+  @Override
+  public void setGestureArena(GestureArena arena) {
+    this.gestureArena = arena;
+  }
+
+  @Override
+  public void rejectGesture() {
+    reset();
+  }
+
+  private void acceptGesture() {
+    if (gestureArena != null) {
+      gestureArena.accept(this);
+    }
+  }
+
+  private void rejectIfInvalid() {
+    if (gestureArena != null && state == State.INVALID) {
+      gestureArena.reject(this);
+    }
+  }
+
+  private void addSample(int pageX, int pageY) {
+    addSample(getTimeProvider().getTime(), pageX, pageY);
+  }
+
+  private void addSample(double time, int pageX, int pageY) {
+    lastX = pageX;
+    lastY = pageY;
+    velocityTracker.addSample(time, pageX, pageY);
+  }
+
+  private double getVelocity() {
+    switch (direction) {
+      case LEFT_TO_RIGHT:
+        return velocityTracker.getVelocityX();
+      case RIGHT_TO_LEFT:
+        return -velocityTracker.getVelocityX();
+      case TOP_TO_BOTTOM:
+        return velocityTracker.getVelocityY();
+      case BOTTOM_TO_TOP:
+        return -velocityTracker.getVelocityY();
+      default:
+        return 0;
+    }
+  }
+
+  private void fireMoveEvent(TouchCopy touch, double time) {
+    SwipeMoveEvent moveEvent = moveEventPool.acquire();
+    moveEvent.set(touch, lastDistance > minDistance, lastDistance, direction, time);
+    getEventPropagator().fireEvent(source, moveEvent);
+  }
+
+  // Visible for testing
+  LightPool<SwipeMoveEvent> getMoveEventPool() {
+    return moveEventPool;
+  }
+
   private void reset() {
     state = State.READY;
     touchCount = 0;
   }
 
+  // Visible for testing
+  TimeProvider getTimeProvider() {
+    return timeProvider;
+  }
+
   // Visible for testing
   EventPropagator getEventPropagator() {
     if (eventPropagator == null) {
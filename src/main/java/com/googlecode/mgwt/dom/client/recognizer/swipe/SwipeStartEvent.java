@@ -17,6 +17,7 @@ package com.googlecode.mgwt.dom.client.recognizer.swipe;
 
 import com.google.gwt.event.shared.GwtEvent;
 
+import com.googlecode.mgwt.dom.client.event.touch.HasSampleTime;
 import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
 
 /**
@@ -25,11 +26,12 @@ import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
  *
  * @author Daniel Kurka
  */
-public class SwipeStartEvent extends SwipeEvent<SwipeStartHandler> {
+public class SwipeStartEvent extends SwipeEvent<SwipeStartHandler> implements HasSampleTime {
 
 	private final static GwtEvent.Type<SwipeStartHandler> TYPE = new Type<SwipeStartHandler>();
 	private final int distance;
 	private final TouchCopy touch;
+	private final double sampleTime;
 
 	public static GwtEvent.Type<SwipeStartHandler> getType() {
 		return TYPE;
@@ -44,9 +46,22 @@ public class SwipeStartEvent extends SwipeEvent<SwipeStartHandler> {
 	 * @param direction the direction of the finger
 	 */
 	public SwipeStartEvent(TouchCopy touch, int distance, SwipeEvent.DIRECTION direction) {
+		this(touch, distance, direction, System.currentTimeMillis());
+	}
+
+	/**
+	 * Construct a {@link SwipeStartEvent}
+	 *
+	 * @param touch the touch that started the swipe
+	 * @param distance the distance the finger already moved
+	 * @param direction the direction of the finger
+	 * @param sampleTime the time the position of the touch was sampled
+	 */
+	public SwipeStartEvent(TouchCopy touch, int distance, SwipeEvent.DIRECTION direction, double sampleTime) {
 		super(direction);
 		this.touch = touch;
 		this.distance = distance;
+		this.sampleTime = sampleTime;
 	}
 
 	@Override
@@ -63,6 +78,11 @@ public class SwipeStartEvent extends SwipeEvent<SwipeStartHandler> {
 		return distance;
 	}
 
+	@Override
+	public double getSampleTime() {
+		return sampleTime;
+	}
+
 	@Override
 	protected void dispatch(SwipeStartHandler handler) {
 		handler.onSwipeStart(this);
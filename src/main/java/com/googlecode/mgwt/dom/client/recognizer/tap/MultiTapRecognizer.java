@@ -24,7 +24,8 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.googlecode.mgwt.collection.shared.CollectionFactory;
 import com.googlecode.mgwt.collection.shared.LightArray;
 import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
-import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArena;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArenaMember;
 import com.googlecode.mgwt.dom.client.recognizer.SystemTimeProvider;
 import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
 
@@ -34,7 +35,7 @@ import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
  * @author Daniel Kurka
  *
  */
-public class MultiTapRecognizer implements TouchHandler {
+public class MultiTapRecognizer implements GestureArenaMember {
 
   public static final int DEFAULT_DISTANCE = 15;
   public static final int DEFAULT_TIME_IN_MS = 300;
@@ -62,6 +63,8 @@ public class MultiTapRecognizer implements TouchHandler {
 
   private LightArray<LightArray<TouchCopy>> savedStartTouches;
 
+  private GestureArena gestureArena;
+
   /**
    * Construct a {@link MultiTapRecognizer}
    *
@@ -138,17 +141,56 @@ public class MultiTapRecognizer implements TouchHandler {
 
   @Override
   public void onTouchStart(TouchStartEvent event) {
+    // only copy the new finger while it can still be part of the tap
+    TouchCopy touch = null;
+    if (state == State.READY || state == State.FINGERS_GOING_DOWN) {
+      touch = TouchCopy.copy(event.getTouches().get(touchCount));
+    }
+    start(touch);
+  }
+
+  @Override
+  public void onTouchMove(TouchMoveEvent event) {
+    switch (state) {
+      case FINGERS_GOING_DOWN:
+      case FINGERS_GOING_UP:
+        // compare positions
+        JsArray<Touch> currentTouches = event.getTouches();
+        for (int i = 0; i < currentTouches.length() && state != State.INVALID; i++) {
+          Touch currentTouch = currentTouches.get(i);
+          move(currentTouch.getIdentifier(), currentTouch.getPageX(), currentTouch.getPageY());
+        }
+
+        break;
+
+      default:
+        break;
+    }
+    rejectIfInvalid();
+  }
+
+  @Override
+  public void onTouchEnd(TouchEndEvent event) {
+    // the remaining touches only matter for leaving an invalid gesture
+    int remainingTouches = 0;
+    if (state == State.INVALID || state == State.READY) {
+      remainingTouches = event.getTouches().length();
+    }
+    end(remainingTouches);
+  }
+
+  // Visible for testing
+  void start(TouchCopy touch) {
     touchCount++;
-    JsArray<Touch> currentTouches = event.getTouches();
 
     switch (state) {
       case READY:
-        touches.push(TouchCopy.copy(currentTouches.get(touchCount - 1)));
+        touches.push(touch);
         state = State.FINGERS_GOING_DOWN;
         break;
 
       case FINGERS_GOING_DOWN:
-        touches.push(TouchCopy.copy(currentTouches.get(touchCount - 1)));
+        touches.push(touch);
         break;
 
       case FINGERS_GOING_UP:
@@ -160,41 +202,24 @@ public class MultiTapRecognizer implements TouchHandler {
     if (touchCount > numberOfFingers) {
       state = State.INVALID;
     }
-
+    rejectIfInvalid();
   }
 
-  @Override
-  public void onTouchMove(TouchMoveEvent event) {
-    switch (state) {
-      case FINGERS_GOING_DOWN:
-      case FINGERS_GOING_UP:
-        // compare positions
-        JsArray<Touch> currentTouches = event.getTouches();
-        for (int i = 0; i < currentTouches.length(); i++) {
-          Touch currentTouch = currentTouches.get(i);
-          for (int j = 0; j < touches.length(); j++) {
-            TouchCopy startTouch = touches.get(j);
-            if (currentTouch.getIdentifier() == startTouch.getIdentifier()) {
-              if (Math.abs(currentTouch.getPageX() - startTouch.getPageX()) > distance || Math.abs(currentTouch.getPageY() - startTouch.getPageY()) > distance) {
-                state = State.INVALID;
-                break;
-              }
-            }
-            if (state == State.INVALID) {
-              break;
-            }
-          }
+  // Visible for testing
+  void move(int identifier, int pageX, int pageY) {
+    for (int j = 0; j < touches.length(); j++) {
+      TouchCopy startTouch = touches.get(j);
+      if (identifier == startTouch.getIdentifier()) {
+        if (Math.abs(pageX - startTouch.getPageX()) > distance || Math.abs(pageY - startTouch.getPageY()) > distance) {
+          state = State.INVALID;
+          return;
         }
-
-        break;
-
-      default:
-        break;
+      }
     }
   }
 
-  @Override
-  public void onTouchEnd(TouchEndEvent event) {
+  // Visible for testing
+  void end(int remainingTouches) {
 
     switch (state) {
       case FINGERS_GOING_DOWN:
@@ -212,7 +237,7 @@ public class MultiTapRecognizer implements TouchHandler {
       case INVALID:
       case READY:
         savedStartTouches = CollectionFactory.constructArray();
-        if (event.getTouches().length() == 0)
+        if (remainingTouches == 0)
           reset();
         break;
       default:
@@ -257,9 +282,29 @@ public class MultiTapRecognizer implements TouchHandler {
   }
 
   protected void fireEvent(MultiTapEvent multiTapEvent) {
+    if (gestureArena != null) {
+      gestureArena.accept(this);
+    }
     source.fireEvent(multiTapEvent);
   }
 
+  @Override
+  public void setGestureArena(GestureArena arena) {
+    this.gestureArena = arena;
+  }
+
+  @Override
+  public void rejectGesture() {
+    savedStartTouches = CollectionFactory.constructArray();
+    reset();
+  }
+
+  private void rejectIfInvalid() {
+    if (gestureArena != null && state == State.INVALID) {
+      gestureArena.reject(this);
+    }
+  }
+
   protected void reset() {
     touchCount = 0;
     foundTaps = 0;
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.transform;
+
+import com.google.gwt.event.shared.GwtEvent;
+
+import com.googlecode.mgwt.collection.shared.LightPool;
+import com.googlecode.mgwt.dom.client.recognizer.CoalescableEvent;
+import com.googlecode.mgwt.dom.client.recognizer.RecyclableEvent;
+
+/**
+ * A {@link TransformEvent} is fired when a user moves two fingers on the display.
+ *
+ * It describes the change since the previous event as a translation of the center point between
+ * the two fingers, a scale and a rotation around that center point. Applying the deltas of all
+ * events in order to an element moves, scales and rotates it along with the fingers.
+ *
+ * Events fired by {@link TransformRecognizer} are pooled and reused once they have been
+ * dispatched, see {@link RecyclableEvent}. Do not keep references to them.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public class TransformEvent extends GwtEvent<TransformHandler> implements RecyclableEvent, CoalescableEvent {
+
+	private static final GwtEvent.Type<TransformHandler> TYPE = new Type<TransformHandler>();
+	private double x;
+	private double y;
+	private double deltaX;
+	private double deltaY;
+	private double scale;
+	private double rotation;
+
+	private final LightPool<TransformEvent> pool;
+	private boolean recycled;
+
+	public static GwtEvent.Type<TransformHandler> getType() {
+		return TYPE;
+	}
+
+	/**
+	 * Construct a transform event
+	 *
+	 * @param x the center point between the fingers in x
+	 * @param y the center point between the fingers in y
+	 * @param deltaX the movement of the center point in x
+	 * @param deltaY the movement of the center point in y
+	 * @param scale the change of the distance between the fingers
+	 * @param rotation the rotation of the fingers in radians
+	 */
+	public TransformEvent(double x, double y, double deltaX, double deltaY, double scale, double rotation) {
+		this.pool = null;
+		set(x, y, deltaX, deltaY, scale, rotation);
+	}
+
+	TransformEvent(LightPool<TransformEvent> pool) {
+		this.pool = pool;
+	}
+
+	void set(double x, double y, double deltaX, double deltaY, double scale, double rotation) {
+		this.x = x;
+		this.y = y;
+		this.deltaX = deltaX;
+		this.deltaY = deltaY;
+		this.scale = scale;
+		this.rotation = rotation;
+		recycled = false;
+	}
+
+	@Override
+	public boolean coalesce(GwtEvent<?> later) {
+		TransformEvent event = (TransformEvent) later;
+		// deltas are relative to the previous event, so they add (or multiply) up
+		this.x = event.x;
+		this.y = event.y;
+		this.deltaX += event.deltaX;
+		this.deltaY += event.deltaY;
+		this.scale *= event.scale;
+		this.rotation += event.rotation;
+		return true;
+	}
+
+	@Override
+	public void recycle() {
+		if (pool == null || recycled) {
+			return;
+		}
+		recycled = true;
+		pool.release(this);
+	}
+
+	@Override
+	public GwtEvent.Type<TransformHandler> getAssociatedType() {
+		return TYPE;
+	}
+
+	@Override
+	protected void dispatch(TransformHandler handler) {
+		handler.onTransform(this);
+	}
+
+	/**
+	 * The x position of the center point between the fingers, relative to the source
+	 *
+	 * @return the x position
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * The y position of the center point between the fingers, relative to the source
+	 *
+	 * @return the y position
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * the movement of the center point in x since the previous event
+	 *
+	 * @return the movement in px
+	 */
+	public double getDeltaX() {
+		return deltaX;
+	}
+
+	/**
+	 * the movement of the center point in y since the previous event
+	 *
+	 * @return the movement in px
+	 */
+	public double getDeltaY() {
+		return deltaY;
+	}
+
+	/**
+	 * the change of the distance between the fingers since the previous event, greater than 1 if
+	 * the fingers moved apart
+	 *
+	 * @return the scale
+	 */
+	public double getScale() {
+		return scale;
+	}
+
+	/**
+	 * the rotation of the line between the fingers since the previous event
+	 *
+	 * @return the rotation in radians, clockwise on screen
+	 */
+	public double getRotation() {
+		return rotation;
+	}
+}
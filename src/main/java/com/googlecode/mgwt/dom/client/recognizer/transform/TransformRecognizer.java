@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.transform;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Touch;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.collection.shared.LightPool;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArena;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArenaMember;
+import com.googlecode.mgwt.dom.client.recognizer.pinch.OffsetCache;
+import com.googlecode.mgwt.dom.client.recognizer.pinch.OffsetProvider;
+import com.googlecode.mgwt.dom.client.recognizer.pinch.PinchRecognizer;
+
+/**
+ * A TransformRecognizer tracks two fingers on a screen and reports how they translate, scale and
+ * rotate, see {@link TransformEvent}.
+ *
+ * All four values are computed in one pass per move with one square root and one arc tangent,
+ * without allocating, so one recognizer replaces stacking a pan, a {@link PinchRecognizer} and a
+ * rotation recognizer. Like the {@link PinchRecognizer} the offsets of the source are read once per
+ * gesture, call {@link #invalidateOffsets()} if the source may have moved during a gesture.
+ *
+ * @author Daniel Kurka
+ *
+ */
+public class TransformRecognizer implements GestureArenaMember {
+
+  private static EventPropagator DEFAULT_EVENT_PROPAGATOR;
+
+  private final HasHandlers source;
+
+  private EventPropagator eventPropagator;
+
+  private enum State {
+    READY, INVALID, ONE_FINGER, TWO_FINGER;
+  }
+
+  private State state;
+
+  private int touchCount;
+
+  // the finger positions of the previous move relative to the source
+  private int lastX1;
+  private int lastY1;
+  private int lastX2;
+  private int lastY2;
+
+  private final OffsetCache offsets;
+
+  private final LightPool<TransformEvent> eventPool;
+
+  private GestureArena gestureArena;
+
+  /**
+   * Construct a {@link TransformRecognizer}
+   *
+   * @param source the source to fire events on
+   * @param offsetProvider the offset provider
+   */
+  public TransformRecognizer(HasHandlers source, OffsetProvider offsetProvider) {
+    if (source == null) {
+      throw new IllegalArgumentException("source can not be null");
+    }
+    if (offsetProvider == null) {
+      throw new IllegalArgumentException("offsetProvider can not be null");
+    }
+
+    this.source = source;
+    this.offsets = new OffsetCache(offsetProvider);
+    state = State.READY;
+
+    eventPool = new LightPool<TransformEvent>(new LightPool.Factory<TransformEvent>() {
+
+      @Override
+      public TransformEvent create() {
+        return new TransformEvent(eventPool);
+      }
+    }, 4);
+  }
+
+  @Override
+  public void onTouchStart(TouchStartEvent event) {
+    touchCount++;
+    switch (state) {
+      case READY:
+        state = State.ONE_FINGER;
+        break;
+      case ONE_FINGER:
+        Touch touch1 = event.getTouches().get(0);
+        Touch touch2 = event.getTouches().get(1);
+        startTwoFinger(touch1.getPageX(), touch1.getPageY(), touch2.getPageX(), touch2.getPageY());
+        break;
+
+      default:
+        state = State.INVALID;
+        break;
+    }
+    rejectIfInvalid();
+  }
+
+  @Override
+  public void onTouchMove(TouchMoveEvent event) {
+    switch (state) {
+      case TWO_FINGER:
+        Touch touch1 = event.getTouches().get(0);
+        Touch touch2 = event.getTouches().get(1);
+        onTwoFingerMove(touch1.getPageX(), touch1.getPageY(), touch2.getPageX(), touch2.getPageY());
+        break;
+
+      case ONE_FINGER:
+        // waiting for the second finger
+        break;
+
+      default:
+        state = State.INVALID;
+        break;
+    }
+    rejectIfInvalid();
+  }
+
+  @Override
+  public void onTouchEnd(TouchEndEvent event) {
+    touchEnded();
+  }
+
+  @Override
+  public void onTouchCancel(TouchCancelEvent event) {
+    touchEnded();
+  }
+
+  @Override
+  public void setGestureArena(GestureArena arena) {
+    this.gestureArena = arena;
+  }
+
+  @Override
+  public void rejectGesture() {
+    reset();
+  }
+
+  /**
+   * read the offsets of the source again on the next move
+   */
+  public void invalidateOffsets() {
+    offsets.invalidate();
+  }
+
+  private void touchEnded() {
+    touchCount--;
+    if (touchCount <= 0) {
+      reset();
+    } else if (state == State.TWO_FINGER) {
+      state = State.ONE_FINGER;
+    }
+  }
+
+  private void rejectIfInvalid() {
+    if (gestureArena != null && state == State.INVALID) {
+      gestureArena.reject(this);
+    }
+  }
+
+  // Visible for testing
+  void startTwoFinger(int pageX1, int pageY1, int pageX2, int pageY2) {
+    offsets.invalidate();
+    lastX1 = pageX1;
+    lastY1 = pageY1;
+    lastX2 = pageX2;
+    lastY2 = pageY2;
+    state = State.TWO_FINGER;
+  }
+
+  // Visible for testing
+  void onTwoFingerMove(int pageX1, int pageY1, int pageX2, int pageY2) {
+    // the offsets cancel out in all deltas, only the center point needs them
+    int left = offsets.getLeft();
+    int top = offsets.getTop();
+
+    int lastVectorX = lastX2 - lastX1;
+    int lastVectorY = lastY2 - lastY1;
+    int vectorX = pageX2 - pageX1;
+    int vectorY = pageY2 - pageY1;
+
+    double deltaX = ((pageX1 + pageX2) - (lastX1 + lastX2)) / 2.0;
+    double deltaY = ((pageY1 + pageY2) - (lastY1 + lastY2)) / 2.0;
+
+    long lastLengthSquared = (long) lastVectorX * lastVectorX + (long) lastVectorY * lastVectorY;
+    long lengthSquared = (long) vectorX * vectorX + (long) vectorY * vectorY;
+
+    double scale;
+    if (lengthSquared == lastLengthSquared || lastLengthSquared == 0) {
+      scale = 1;
+    } else {
+      scale = Math.sqrt((double) lengthSquared / lastLengthSquared);
+    }
+
+    // angle between the two finger vectors from their cross and dot product
+    long cross = (long) lastVectorX * vectorY - (long) lastVectorY * vectorX;
+    long dot = (long) lastVectorX * vectorX + (long) lastVectorY * vectorY;
+    double rotation = cross == 0 && dot >= 0 ? 0 : Math.atan2(cross, dot);
+
+    if (gestureArena != null) {
+      gestureArena.accept(this);
+    }
+
+    TransformEvent transformEvent = eventPool.acquire();
+    transformEvent.set((pageX1 + pageX2) / 2.0 - left, (pageY1 + pageY2) / 2.0 - top, deltaX, deltaY, scale, rotation);
+    getEventPropagator().fireEvent(source, transformEvent);
+
+    lastX1 = pageX1;
+    lastY1 = pageY1;
+    lastX2 = pageX2;
+    lastY2 = pageY2;
+  }
+
+  // Visible for testing
+  LightPool<TransformEvent> getEventPool() {
+    return eventPool;
+  }
+
+  private void reset() {
+    touchCount = 0;
+    state = State.READY;
+  }
+
+  // Visible for testing
+  EventPropagator getEventPropagator() {
+    if (eventPropagator == null) {
+      if (DEFAULT_EVENT_PROPAGATOR == null) {
+        DEFAULT_EVENT_PROPAGATOR = GWT.create(EventPropagator.class);
+      }
+      eventPropagator = DEFAULT_EVENT_PROPAGATOR;
+    }
+    return eventPropagator;
+  }
+}
@@ -41,6 +41,12 @@ public class Html5ManifestServletBase extends HttpServlet {
 
   private Map<String, PropertyProvider> propertyProviders = new HashMap<String, PropertyProvider>();
 
+  /**
+   * max age in seconds that shared caches may keep a manifest, disabled if not
+   * positive
+   */
+  private int sharedCacheMaxAge = -1;
+
   public Html5ManifestServletBase() {
     permutationProvider = new XMLPermutationProvider();
   }
@@ -49,20 +55,54 @@ public class Html5ManifestServletBase extends HttpServlet {
     propertyProviders.put(propertyProvider.getPropertyName(), propertyProvider);
   }
 
+  @Override
+  public void init() throws ServletException {
+    String maxAge = getInitParameter("sharedCacheMaxAge");
+    if (maxAge != null) {
+      try {
+        setSharedCacheMaxAge(Integer.parseInt(maxAge.trim()));
+      } catch (NumberFormatException e) {
+        throw new ServletException("invalid value for sharedCacheMaxAge: '" + maxAge + "'", e);
+      }
+    }
+  }
+
+  /**
+   * Allow shared caches (e.g. a reverse proxy) to keep manifests for the given
+   * amount of seconds.
+   *
+   * Responses vary on {@link PermutationKey#KEY_HEADER}, which the caching
+   * proxy has to compute and send (see {@link PermutationKeyFilter}). They are
+   * only marked as shared cacheable if the request carries that header, it
+   * was not added by a {@link PermutationKeyFilter} in this container and it
+   * matches the bindings computed by this servlet, so a proxy never serves a
+   * manifest to the wrong device.
+   *
+   * @param sharedCacheMaxAge max age in seconds, zero or less disables shared
+   *          caching
+   */
+  protected void setSharedCacheMaxAge(int sharedCacheMaxAge) {
+    this.sharedCacheMaxAge = sharedCacheMaxAge;
+  }
+
   @Override
   protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
 
+    requestClientHints(resp);
+
     String moduleName = getModuleName(req);
 
     String baseUrl = getBaseUrl(req);
 
     Set<BindingProperty> computedBindings = calculateBindinPropertiesForClient(req);
 
+    String permutationKey = PermutationKey.compute(computedBindings);
+
     String strongName = getPermutationStrongName(baseUrl, moduleName, computedBindings);
 
     if (strongName != null) {
       String manifest = readManifest(baseUrl + moduleName + "/" + strongName + PermutationMapLinker.PERMUTATION_MANIFEST_FILE_ENDING);
-      serveStringManifest(req, resp, manifest);
+      serveStringManifest(req, resp, manifest, strongName, permutationKey);
       return;
     }
 
@@ -100,7 +140,7 @@ public class Html5ManifestServletBase extends HttpServlet {
         // dynamically write a new manifest..
         ManifestWriter manifestWriter = new ManifestWriter();
         String writeManifest = manifestWriter.writeManifest(new HashSet<String>(), filesForPermutation);
-        serveStringManifest(req, resp, writeManifest);
+        serveStringManifest(req, resp, writeManifest, moduleNameNonRetina + "," + moduleNameRetina, permutationKey);
         return;
       }
     }
@@ -110,6 +150,24 @@ public class Html5ManifestServletBase extends HttpServlet {
     throw new ServletException("unkown device");
   }
 
+  /**
+   * Ask the browser to send the device pixel ratio client hints on subsequent
+   * requests, so that retina devices can be resolved without the
+   * mgwt_ios_retina cookie
+   * 
+   * @param resp the response
+   */
+  public void requestClientHints(HttpServletResponse resp) {
+    StringBuilder hints = new StringBuilder();
+    for (String hint : MgwtOsPropertyProvider.DPR_CLIENT_HINTS) {
+      if (hints.length() > 0) {
+        hints.append(", ");
+      }
+      hints.append(hint);
+    }
+    resp.setHeader("Accept-CH", hints.toString());
+  }
+
   protected String getBaseUrl(HttpServletRequest req) {
     String base = req.getServletPath();
     // cut off module
@@ -218,9 +276,23 @@ public class Html5ManifestServletBase extends HttpServlet {
   }
 
   public void serveStringManifest(HttpServletRequest req, HttpServletResponse resp, String manifest) throws ServletException {
-    resp.setHeader("Cache-Control", "no-cache");
-    resp.setHeader("Pragma", "no-cache");
-    resp.setDateHeader("Expires", new Date().getTime());
+    serveStringManifest(req, resp, manifest, null, null);
+  }
+
+  public void serveStringManifest(HttpServletRequest req, HttpServletResponse resp, String manifest, String strongName, String permutationKey)
+      throws ServletException {
+    if (isSharedCacheable(req, permutationKey)) {
+      if (strongName != null) {
+        resp.setHeader(PermutationKey.STRONG_NAME_HEADER, strongName);
+      }
+      // browsers still need to revalidate the manifest on every load
+      resp.setHeader("Cache-Control", "public, max-age=0, s-maxage=" + sharedCacheMaxAge);
+      resp.setHeader("Vary", PermutationKey.KEY_HEADER);
+    } else {
+      resp.setHeader("Cache-Control", "no-cache");
+      resp.setHeader("Pragma", "no-cache");
+      resp.setDateHeader("Expires", new Date().getTime());
+    }
 
     resp.setContentType("text/cache-manifest");
 
@@ -243,6 +315,17 @@ public class Html5ManifestServletBase extends HttpServlet {
     }
   }
 
+  public boolean isSharedCacheable(HttpServletRequest req, String permutationKey) {
+    if (sharedCacheMaxAge <= 0 || permutationKey == null) {
+      return false;
+    }
+    // a key added behind the proxy was not seen by its cache
+    if (req.getAttribute(PermutationKeyFilter.KEY_ADDED_ATTRIBUTE) != null) {
+      return false;
+    }
+    return permutationKey.equals(req.getHeader(PermutationKey.KEY_HEADER));
+  }
+
   public String getPermutationStrongName(String baseUrl, String moduleName, Set<BindingProperty> computedBindings) throws ServletException {
 
     if (moduleName == null) {
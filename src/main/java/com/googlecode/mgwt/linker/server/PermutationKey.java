@@ -0,0 +1,63 @@
+package com.googlecode.mgwt.linker.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A normalized key for a set of binding properties.
+ *
+ * Two requests that resolve to the same binding properties (and therefore to
+ * the same permutation) share the same key, no matter how much their raw
+ * User-Agent headers differ. Caching proxies can use the key instead of the
+ * User-Agent to vary manifest responses.
+ */
+public class PermutationKey {
+
+  /**
+   * Request header carrying the normalized permutation key
+   */
+  public static final String KEY_HEADER = "X-MGWT-Permutation-Key";
+
+  /**
+   * Response header carrying the strong name(s) of the served permutation
+   */
+  public static final String STRONG_NAME_HEADER = "X-MGWT-Permutation";
+
+  private static final Comparator<BindingProperty> BY_NAME = new Comparator<BindingProperty>() {
+
+    @Override
+    public int compare(BindingProperty o1, BindingProperty o2) {
+      return o1.getName().compareTo(o2.getName());
+    }
+  };
+
+  private PermutationKey() {
+  }
+
+  /**
+   * Compute the normalized key for a set of binding properties
+   *
+   * @param bindings the bindings computed for a client
+   * @return the key, e.g. <code>mgwt.os=retina;mobile.user.agent=mobilesafari;user.agent=safari</code>
+   */
+  public static String compute(Set<BindingProperty> bindings) {
+    if (bindings == null) {
+      throw new IllegalArgumentException("bindings can not be null");
+    }
+
+    List<BindingProperty> sorted = new ArrayList<BindingProperty>(bindings);
+    Collections.sort(sorted, BY_NAME);
+
+    StringBuilder key = new StringBuilder();
+    for (BindingProperty bindingProperty : sorted) {
+      if (key.length() > 0) {
+        key.append(';');
+      }
+      key.append(bindingProperty.getName()).append('=').append(bindingProperty.getValue());
+    }
+    return key.toString();
+  }
+}
@@ -0,0 +1,149 @@
+package com.googlecode.mgwt.linker.server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import com.googlecode.mgwt.linker.server.propertyprovider.MgwtOsPropertyProvider;
+import com.googlecode.mgwt.linker.server.propertyprovider.MobileUserAgentProvider;
+import com.googlecode.mgwt.linker.server.propertyprovider.PhoneGapPropertyProvider;
+import com.googlecode.mgwt.linker.server.propertyprovider.PropertyProvider;
+import com.googlecode.mgwt.linker.server.propertyprovider.PropertyProviderException;
+import com.googlecode.mgwt.linker.server.propertyprovider.UserAgentPropertyProvider;
+
+/**
+ * Computes the normalized {@link PermutationKey} for a request and adds it as
+ * {@link PermutationKey#KEY_HEADER} request header.
+ *
+ * The key has to be computed by the caching proxy, since only headers that
+ * the proxy sees on the incoming request can be used to key its cache. Install
+ * this filter in the servlet based proxy in front of its cache (or use
+ * {@link #computeKey(HttpServletRequest)} there) and forward the header to the
+ * manifest servlet. A key that is already present on the request is never
+ * replaced.
+ *
+ * A key added by this filter is marked with {@link #KEY_ADDED_ATTRIBUTE}. If
+ * the filter runs in the same container as the manifest servlet, the servlet
+ * knows that no proxy keyed its cache on the header and does not allow shared
+ * caching for that request.
+ *
+ * Set the init parameter <code>phonegap</code> to <code>true</code> when used
+ * with {@link MGWTPhonegapHtml5ManifestServlet}.
+ */
+public class PermutationKeyFilter implements Filter {
+
+  /**
+   * Request attribute that is set if this filter added the key header itself
+   */
+  public static final String KEY_ADDED_ATTRIBUTE = PermutationKeyFilter.class.getName() + ".keyAdded";
+
+  private final List<PropertyProvider> propertyProviders = new ArrayList<PropertyProvider>();
+
+  public PermutationKeyFilter() {
+    addPropertyProvider(new MgwtOsPropertyProvider());
+    addPropertyProvider(new UserAgentPropertyProvider());
+    addPropertyProvider(new MobileUserAgentProvider());
+  }
+
+  protected void addPropertyProvider(PropertyProvider propertyProvider) {
+    propertyProviders.add(propertyProvider);
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {
+    if ("true".equals(filterConfig.getInitParameter("phonegap"))) {
+      addPropertyProvider(new PhoneGapPropertyProvider());
+    }
+  }
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+    if (request instanceof HttpServletRequest) {
+      HttpServletRequest httpRequest = (HttpServletRequest) request;
+      if (httpRequest.getHeader(PermutationKey.KEY_HEADER) == null) {
+        String key = computeKey(httpRequest);
+        if (key != null) {
+          request = new PermutationKeyRequest(httpRequest, key);
+          request.setAttribute(KEY_ADDED_ATTRIBUTE, Boolean.TRUE);
+        }
+      }
+    }
+    chain.doFilter(request, response);
+  }
+
+  @Override
+  public void destroy() {
+  }
+
+  /**
+   * Compute the normalized permutation key for a request
+   *
+   * @param req the request
+   * @return the key or null if the client can not be mapped to a permutation
+   */
+  public String computeKey(HttpServletRequest req) {
+    if (req.getHeader("User-Agent") == null) {
+      return null;
+    }
+
+    Set<BindingProperty> bindings = new HashSet<BindingProperty>();
+    try {
+      for (PropertyProvider propertyProvider : propertyProviders) {
+        bindings.add(new BindingProperty(propertyProvider.getPropertyName(), propertyProvider.getPropertyValue(req)));
+      }
+    } catch (PropertyProviderException e) {
+      return null;
+    }
+    return PermutationKey.compute(bindings);
+  }
+
+  private static class PermutationKeyRequest extends HttpServletRequestWrapper {
+
+    private final String key;
+
+    public PermutationKeyRequest(HttpServletRequest request, String key) {
+      super(request);
+      this.key = key;
+    }
+
+    @Override
+    public String getHeader(String name) {
+      if (PermutationKey.KEY_HEADER.equalsIgnoreCase(name)) {
+        return key;
+      }
+      return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      if (PermutationKey.KEY_HEADER.equalsIgnoreCase(name)) {
+        return Collections.enumeration(Collections.singletonList(key));
+      }
+      return super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+      List<String> names = new ArrayList<String>();
+      Enumeration<String> headerNames = super.getHeaderNames();
+      while (headerNames != null && headerNames.hasMoreElements()) {
+        names.add(headerNames.nextElement());
+      }
+      names.add(PermutationKey.KEY_HEADER);
+      return Collections.enumeration(names);
+    }
+  }
+}
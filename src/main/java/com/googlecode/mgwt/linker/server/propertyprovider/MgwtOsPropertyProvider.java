@@ -19,6 +19,12 @@ public class MgwtOsPropertyProvider extends PropertyProviderBaseImpl {
 	public static final BindingProperty iPad_retina = new BindingProperty("mgwt.os", "ipad_retina");
 	public static final BindingProperty iPad_undefined = new BindingProperty("mgwt.os", "ipad_undefined");
 
+	/**
+	 * Client hint headers carrying the device pixel ratio, in order of
+	 * preference
+	 */
+	public static final String[] DPR_CLIENT_HINTS = new String[] {"Sec-CH-DPR", "DPR"};
+
 	@Override
 	public String getPropertyName() {
 		return "mgwt.os";
@@ -39,7 +45,7 @@ public class MgwtOsPropertyProvider extends PropertyProviderBaseImpl {
 		}
 
 		if (userAgent.contains("ipad")) {
-			String value = getRetinaCookieValue(req);
+			String value = getRetinaValue(req);
 			if (value == null) {
 				return "ipad_undefined";
 			}
@@ -55,7 +61,7 @@ public class MgwtOsPropertyProvider extends PropertyProviderBaseImpl {
 		}
 
 		if (userAgent.contains("iphone")) {
-			String value = getRetinaCookieValue(req);
+			String value = getRetinaValue(req);
 			if (value == null) {
 				return "iphone_undefined";
 			}
@@ -91,4 +97,40 @@ public class MgwtOsPropertyProvider extends PropertyProviderBaseImpl {
 		}
 		return null;
 	}
+
+	/**
+	 * Get the retina value for the client, either from the mgwt_ios_retina
+	 * cookie or, if the cookie has not been set yet, from the device pixel ratio
+	 * client hint
+	 * 
+	 * @param req the request
+	 * @return "1" for retina, "0" for non retina or null if unknown
+	 */
+	public String getRetinaValue(HttpServletRequest req) {
+		String value = getRetinaCookieValue(req);
+		if (value != null) {
+			return value;
+		}
+
+		String dpr = getDevicePixelRatioHint(req);
+		if (dpr == null) {
+			return null;
+		}
+
+		try {
+			return Double.parseDouble(dpr) >= 2 ? "1" : "0";
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	public String getDevicePixelRatioHint(HttpServletRequest req) {
+		for (String header : DPR_CLIENT_HINTS) {
+			String value = req.getHeader(header);
+			if (value != null && value.trim().length() > 0) {
+				return value.trim();
+			}
+		}
+		return null;
+	}
 }
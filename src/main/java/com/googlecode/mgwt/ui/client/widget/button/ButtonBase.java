@@ -17,6 +17,7 @@ import com.google.gwt.event.dom.client.TouchCancelEvent;
 import com.google.gwt.event.dom.client.TouchEndEvent;
 import com.google.gwt.event.dom.client.TouchMoveEvent;
 import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.Element;
 import com.google.gwt.user.client.ui.HasText;
@@ -37,6 +38,8 @@ public abstract class ButtonBase extends TouchWidget implements HasText {
   // until a call is made to set the element for the widget. This is required since
   // it is not possible to add a bitless dom handler until the element has been set
   private boolean defaultHandlersAdded;
+  private TouchHandler defaultTouchHandler;
+  private HandlerRegistration defaultTouchHandlerRegistration;
   
   private final ButtonBaseAppearance baseAppearance;
 
@@ -70,7 +73,7 @@ public abstract class ButtonBase extends TouchWidget implements HasText {
     
     if (!defaultHandlersAdded) {
     
-      addTouchHandler(new TouchHandler() {
+      defaultTouchHandler = new TouchHandler() {
 
         @Override
         public void onTouchCancel(TouchCancelEvent event) {
@@ -107,7 +110,8 @@ public abstract class ButtonBase extends TouchWidget implements HasText {
           }
           active = true;
         }
-      });
+      };
+      defaultTouchHandlerRegistration = addTouchHandler(defaultTouchHandler);
       
       addTapHandler(new TapHandler() {
 
@@ -120,6 +124,20 @@ public abstract class ButtonBase extends TouchWidget implements HasText {
     }
   }
   
+  /**
+   * The default touch handler of the button is registered again, so it follows the passive flag
+   */
+  @Override
+  public void setPassiveTouchHandlers(boolean passive) {
+    if (defaultTouchHandlerRegistration == null) {
+      super.setPassiveTouchHandlers(passive);
+      return;
+    }
+    defaultTouchHandlerRegistration.removeHandler();
+    super.setPassiveTouchHandlers(passive);
+    defaultTouchHandlerRegistration = addTouchHandler(defaultTouchHandler);
+  }
+
   public ButtonBaseAppearance getAppearance() {
     return baseAppearance;
   }
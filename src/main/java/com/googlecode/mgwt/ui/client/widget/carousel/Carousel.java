@@ -28,7 +28,6 @@ import com.google.gwt.event.logical.shared.SelectionEvent;
 import com.google.gwt.event.logical.shared.SelectionHandler;
 import com.google.gwt.uibinder.client.UiFactory;
 import com.google.gwt.uibinder.client.UiField;
-import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.FlowPanel;
@@ -38,6 +37,8 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.googlecode.mgwt.collection.shared.LightArrayInt;
 import com.googlecode.mgwt.dom.client.event.orientation.OrientationChangeEvent;
 import com.googlecode.mgwt.dom.client.event.orientation.OrientationChangeHandler;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.dom.client.recognizer.TimerWheel;
 import com.googlecode.mgwt.ui.client.MGWT;
 import com.googlecode.mgwt.ui.client.widget.panel.flex.FlexPanel;
 import com.googlecode.mgwt.ui.client.widget.panel.flex.FlexPropertyHelper.Justification;
@@ -123,6 +124,10 @@ public class Carousel extends Composite implements HasWidgets, HasSelectionHandl
       @Override
       public void onScrollMove(ScrollMoveEvent event) {
         TouchMoveEvent moveEvent = event.getEvent();
+        // native scrolling has no touch event to stop
+        if (moveEvent == null) {
+          return;
+        }
         moveEvent.stopPropagation();
         moveEvent.preventDefault();
       }
@@ -210,10 +215,10 @@ public class Carousel extends Composite implements HasWidgets, HasSelectionHandl
     final int delay = MGWT.getOsDetection().isAndroid() ? 200 : 1;
     IMPL.adjust(main, container);
     // allow layout to happen..
-    new Timer() {
+    TimerWheel.get().execute(new CodeToRun() {
 
       @Override
-      public void run() {
+      public void onExecution() {
         IMPL.adjust(main, container);
 
         scrollPanel.setScrollingEnabledX(true);
@@ -252,7 +257,7 @@ public class Carousel extends Composite implements HasWidgets, HasSelectionHandl
         scrollPanel.refresh();
       }
 
-    }.schedule(delay);
+    }, delay);
 
   }
 
@@ -292,6 +297,13 @@ public class Carousel extends Composite implements HasWidgets, HasSelectionHandl
     refreshCarouselIndicator();
   }
 
+  /**
+   * @see ScrollPanel#setTouchPrediction(boolean)
+   */
+  public void setTouchPrediction(boolean prediction) {
+    scrollPanel.setTouchPrediction(prediction);
+  }
+
   @Override
   public com.google.gwt.event.shared.HandlerRegistration addSelectionHandler(
       SelectionHandler<Integer> handler) {
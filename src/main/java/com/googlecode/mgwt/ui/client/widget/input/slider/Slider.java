@@ -34,6 +34,7 @@ import com.googlecode.mgwt.dom.client.event.mouse.SimulatedTouchEndEvent;
 import com.googlecode.mgwt.dom.client.event.mouse.SimulatedTouchStartEvent;
 import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
 import com.googlecode.mgwt.ui.client.util.CssUtil;
+import com.googlecode.mgwt.ui.client.widget.touch.TouchAction;
 import com.googlecode.mgwt.ui.client.widget.touch.TouchWidgetImpl;
 
 /**
@@ -103,6 +104,7 @@ public class Slider extends Widget implements HasValue<Integer>, LeafValueEditor
   public Slider(SliderAppearance apperance) {
     this.apperance = apperance;
     setElement(this.apperance.uiBinder().createAndBindUi(this));
+    TouchAction.setDragging(this, true);
     TOUCH_WIDGET_IMPL.addTouchHandler(this, new SliderTouchHandler());
     max = 100;
     value = 0;
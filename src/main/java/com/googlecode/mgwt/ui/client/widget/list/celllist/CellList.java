@@ -29,11 +29,13 @@ import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.uibinder.client.UiFactory;
 import com.google.gwt.uibinder.client.UiField;
-import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.Widget;
 import com.googlecode.mgwt.dom.client.event.tap.Tap;
 import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.TimerHandle;
+import com.googlecode.mgwt.dom.client.recognizer.TimerWheel;
 import com.googlecode.mgwt.ui.client.MGWT;
 import com.googlecode.mgwt.ui.client.widget.touch.TouchWidgetImpl;
 
@@ -161,7 +163,7 @@ public class CellList<T> extends Widget implements HasCellSelectedHandler {
 
   protected final Cell<T> cell;
 
-  protected Timer timer;
+  protected TimerHandle timer;
 
   @UiField
   public Element container;
@@ -263,10 +265,10 @@ public class CellList<T> extends Widget implements HasCellSelectedHandler {
   }
 
   protected void fixBug(final String html) {
-    new Timer() {
+    TimerWheel.get().execute(new CodeToRun() {
 
       @Override
-      public void run() {
+      public void onExecution() {
         getElement().setInnerHTML(html);
         String innerHTML = getElement().getInnerHTML();
         if ("".equals(innerHTML.trim())) {
@@ -275,7 +277,7 @@ public class CellList<T> extends Widget implements HasCellSelectedHandler {
         }
 
       }
-    }.schedule(100);
+    }, 100);
   }
 
   protected void fireSelectionAtIndex(int index, Element element) {
@@ -293,14 +295,13 @@ public class CellList<T> extends Widget implements HasCellSelectedHandler {
       timer = null;
     }
 
-    timer = new Timer() {
+    timer = TimerWheel.get().execute(new CodeToRun() {
 
       @Override
-      public void run() {
+      public void onExecution() {
         node.addClassName(CellList.this.appearance.css().selected());
       }
-    };
-    timer.schedule(150);
+    }, 150);
   }
 
   protected void stopTimer() {
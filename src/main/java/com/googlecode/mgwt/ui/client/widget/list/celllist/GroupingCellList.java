@@ -24,6 +24,9 @@ import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.uibinder.client.UiFactory;
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightIntMap;
 import com.googlecode.mgwt.ui.client.widget.list.celllist.CellListAppearance.CellListCss;
 
 import java.util.HashMap;
@@ -43,8 +46,8 @@ public class GroupingCellList<G, T> extends CellList<T> implements HasSelectionH
   public static final GroupingCellListAppearance DEFAULT_APPEARANCE = GWT.create(GroupingCellListAppearance.class);
 
   private final Cell<G> header;
-  private final Map<Integer, Integer> map = new HashMap<Integer, Integer>();
-  private final Map<Integer, T> modelMap = new HashMap<Integer, T>();
+  private final LightIntMap<Integer> map = CollectionFactory.constructIntMap();
+  private final LightIntMap<T> modelMap = CollectionFactory.constructIntMap();
 
   private GroupingCellListAppearance groupAppearance;
 
@@ -243,9 +246,26 @@ public class GroupingCellList<G, T> extends CellList<T> implements HasSelectionH
   /**
    * get the mapping of index to content
    *
-   * @return the mapping of index to content
+   * @return a copy of the mapping of index to content
+   * @deprecated use {@link #getIndexMapping()}, which does not copy the mapping
    */
+  @Deprecated
   public Map<Integer, Integer> getMapping() {
+    Map<Integer, Integer> mapping = new HashMap<Integer, Integer>();
+    LightArrayInt keys = map.getKeys();
+    for (int i = 0; i < keys.length(); i++) {
+      int key = keys.get(i);
+      mapping.put(key, map.get(key));
+    }
+    return mapping;
+  }
+
+  /**
+   * get the mapping of index to content
+   *
+   * @return the mapping of index to content
+   */
+  public LightIntMap<Integer> getIndexMapping() {
     return map;
   }
 
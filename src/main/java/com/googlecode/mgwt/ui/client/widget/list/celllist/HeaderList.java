@@ -313,7 +313,7 @@ public class HeaderList<G, T> extends Composite implements IsFlexible {
 
 		if (lastPage != currentPage) {
 			lastPage = currentPage;
-			int modelIndex = cellList.getMapping().get(currentPage);
+			int modelIndex = cellList.getIndexMapping().get(currentPage);
 			movingHeader.setHTML(cellList.renderGroupHeader(list.get(modelIndex).getGroup()));
 		}
 
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.list.celllist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.dom.client.Style.Display;
+import com.google.gwt.dom.client.Style.Position;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.user.client.ui.Composite;
+import com.googlecode.mgwt.ui.client.util.CssUtil;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.BeforeScrollEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.BeforeScrollStartEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationMoveEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollMoveEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanel;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollRefreshEvent;
+
+/**
+ * A list inside of a {@link ScrollPanel} that only renders the rows in the visible area and an
+ * overscan band above and below it
+ *
+ * A {@link CellList} puts every model in the DOM, which gets slow to render and to measure and uses
+ * a lot of memory for large lists. This list keeps a small pool of row elements instead and moves
+ * them to the rows that come into view while the user scrolls, so the number of elements and the
+ * work per frame do not grow with the number of models.
+ *
+ * Rows either have a fixed height or are measured once they are rendered for the first time. Rows
+ * that were not measured yet count with an estimated height, so a good estimate keeps the length
+ * of the list and the scroll bar stable. Rows above the visible area that turn out higher or lower
+ * than estimated do not move the visible rows: the rendered rows are shifted against the layout
+ * instead and the scroll position takes the shift over once the panel is at rest.
+ *
+ * The list follows the scroll position through the scroll and animation events of the scroll
+ * panel, so the panel has to animate with animation frames (the default) instead of CSS
+ * transitions.
+ *
+ * @param <T> the type of the model to render
+ * @author Daniel Kurka
+ */
+public class VirtualCellList<T> extends Composite implements HasCellSelectedHandler {
+
+  /**
+   * the default row height in px, used as the estimate for variable row heights
+   */
+  public static final int DEFAULT_ROW_HEIGHT = 44;
+
+  /**
+   * the default height in px of the band above and below the visible area that is rendered as well
+   */
+  public static final int DEFAULT_OVERSCAN = 250;
+
+  private static final CellListAppearance DEFAULT_APPEARANCE = GWT.create(CellListAppearance.class);
+
+  private static final int MAX_MEASURE_PASSES = 3;
+
+  private final ScrollPanel scrollPanel;
+  private final CellList<T> list;
+  private final Cell<T> cell;
+  private final CellListAppearance appearance;
+
+  private VirtualRowLayout layout;
+  private int overscan;
+  private List<T> models;
+
+  // the rendered rows in the order of their index, the first one shows the model at firstIndex
+  private final List<Element> rows;
+  private final List<Element> freeRows;
+  private int firstIndex;
+
+  private int viewportHeight;
+  private int selectedIndex;
+
+  // the rendered rows are moved up by this many px against the layout, so rows above the visible
+  // area that change their height do not move the visible rows
+  private int anchorShift;
+  // the part of anchorShift that a pending scroll to anchorScrollY hands over to the panel
+  private int anchorScrollShift;
+  private int anchorScrollY;
+
+  private boolean touching;
+  private boolean needsRefresh;
+  private boolean refreshScheduled;
+
+  /**
+   * Construct a list with variable row heights
+   *
+   * @param cell the cell to use
+   */
+  public VirtualCellList(Cell<T> cell) {
+    this(cell, DEFAULT_APPEARANCE);
+  }
+
+  /**
+   * Construct a list with variable row heights
+   *
+   * @param cell the cell to use
+   * @param appearance the appearance to use
+   */
+  public VirtualCellList(Cell<T> cell, CellListAppearance appearance) {
+    this.cell = cell;
+    this.appearance = appearance;
+    this.layout = new VirtualRowLayout(DEFAULT_ROW_HEIGHT, false);
+    this.overscan = DEFAULT_OVERSCAN;
+    this.rows = new ArrayList<Element>();
+    this.freeRows = new ArrayList<Element>();
+    this.selectedIndex = -1;
+
+    list = new CellList<T>(cell, appearance);
+    Style style = list.getElement().getStyle();
+    style.setPosition(Position.RELATIVE);
+    style.setHeight(0, Unit.PX);
+
+    scrollPanel = new ScrollPanel();
+    scrollPanel.setScrollingEnabledX(false);
+    scrollPanel.setWidget(list);
+    initWidget(scrollPanel);
+
+    scrollPanel.addScrollMoveHandler(new ScrollMoveEvent.Handler() {
+
+      @Override
+      public void onScrollMove(ScrollMoveEvent event) {
+        update();
+      }
+    });
+
+    scrollPanel.addScrollAnimationMoveHandler(new ScrollAnimationMoveEvent.Handler() {
+
+      @Override
+      public void onScrollAnimationMove(ScrollAnimationMoveEvent event) {
+        update();
+      }
+    });
+
+    scrollPanel.addBeforeScrollStartHandler(new BeforeScrollStartEvent.Handler() {
+
+      @Override
+      public void onBeforeScrollStart(BeforeScrollStartEvent event) {
+        touching = true;
+        // a new gesture stops the scroll that takes over the shift, it is retried at rest
+        anchorScrollShift = 0;
+      }
+    });
+
+    scrollPanel.addBeforeScrollEndHandler(new BeforeScrollEndEvent.Handler() {
+
+      @Override
+      public void onBeforeScrollStart(BeforeScrollEndEvent event) {
+        touching = false;
+      }
+    });
+
+    scrollPanel.addScrollEndHandler(new ScrollEndEvent.Handler() {
+
+      @Override
+      public void onScrollEnd(ScrollEndEvent event) {
+        update();
+        // the scroll panel is at rest, now it can pick up the measured length of the list
+        scheduleRefresh();
+      }
+    });
+
+    scrollPanel.addScrollRefreshHandler(new ScrollRefreshEvent.Handler() {
+
+      @Override
+      public void onScrollRefresh(ScrollRefreshEvent event) {
+        viewportHeight = scrollPanel.getOffsetHeight();
+        update();
+        scheduleRefresh();
+      }
+    });
+  }
+
+  @Override
+  public HandlerRegistration addCellSelectedHandler(CellSelectedHandler cellSelectedHandler) {
+    return list.addCellSelectedHandler(cellSelectedHandler);
+  }
+
+  /**
+   * give all rows the same height, no row is measured
+   *
+   * @param rowHeight the height of a row in px
+   */
+  public void setFixedRowHeight(int rowHeight) {
+    setLayout(new VirtualRowLayout(rowHeight, true));
+  }
+
+  /**
+   * measure every row once it is rendered
+   *
+   * @param estimatedRowHeight the height in px of a row that was not measured yet
+   */
+  public void setVariableRowHeight(int estimatedRowHeight) {
+    setLayout(new VirtualRowLayout(estimatedRowHeight, false));
+  }
+
+  /**
+   * set the height of the band above and below the visible area that is rendered as well, so fast
+   * scrolling does not show empty space
+   *
+   * @param overscan the height in px, default: {@link #DEFAULT_OVERSCAN}
+   */
+  public void setOverscan(int overscan) {
+    if (overscan < 0) {
+      throw new IllegalArgumentException("overscan >= 0");
+    }
+    this.overscan = overscan;
+    update();
+  }
+
+  /**
+   * Render a List of models in this list
+   *
+   * @param models the list of models to render
+   */
+  public void render(List<T> models) {
+    this.models = models;
+    layout.setRowCount(models.size());
+    anchorShift = 0;
+    anchorScrollShift = 0;
+    recycleAll();
+    updateListHeight();
+    update();
+    scheduleRefresh();
+  }
+
+  /**
+   * Set a selected element in the list
+   *
+   * @param index the index of the element
+   * @param selected true to select the element, false to deselect
+   */
+  public void setSelectedIndex(int index, boolean selected) {
+    if (selected) {
+      setSelectedIndex(selectedIndex, false);
+      selectedIndex = index;
+    } else if (selectedIndex == index) {
+      selectedIndex = -1;
+    }
+
+    if (index >= firstIndex && index < firstIndex + rows.size()) {
+      Element row = rows.get(index - firstIndex);
+      if (selected) {
+        row.addClassName(appearance.css().selected());
+      } else {
+        row.removeClassName(appearance.css().selected());
+      }
+    }
+  }
+
+  /**
+   * scroll the top of a row to the top of the visible area
+   *
+   * @param index the index of the row
+   * @param time the duration of the scroll in ms
+   */
+  public void scrollToRow(int index, int time) {
+    int top = Math.min(getRowTop(index), layout.getTotalHeight() - anchorShift - viewportHeight);
+    scrollPanel.scrollTo(0, -Math.max(0, top), time, false);
+  }
+
+  /**
+   * Recalculate the visible area and the rendered rows
+   */
+  public void refresh() {
+    scrollPanel.refresh();
+  }
+
+  public ScrollPanel getScrollPanel() {
+    return scrollPanel;
+  }
+
+  /**
+   * the number of row elements currently in the DOM, rendered or waiting to be reused
+   *
+   * @return the number of row elements
+   */
+  public int getRowElementCount() {
+    return rows.size() + freeRows.size();
+  }
+
+  private void setLayout(VirtualRowLayout layout) {
+    this.layout = layout;
+    if (models != null) {
+      render(models);
+    }
+  }
+
+  private void update() {
+    if (models == null || !isAttached()) {
+      return;
+    }
+    if (anchorScrollShift != 0 && scrollPanel.getY() == anchorScrollY) {
+      // the panel moved in the same frame, so the rows can go to their place in the layout
+      anchorShift -= anchorScrollShift;
+      anchorScrollShift = 0;
+      if (scrollPanel.getY() == 0) {
+        // the scroll position can not take over a shift at the top of the list
+        anchorShift = 0;
+      }
+      translateRows();
+      updateListHeight();
+    }
+    // rows that turn out smaller than estimated can uncover more rows
+    for (int pass = 0; pass < MAX_MEASURE_PASSES; pass++) {
+      if (!updateWindow()) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * render the rows that are in the window and recycle the others
+   *
+   * @return true if a newly rendered row changed the layout
+   */
+  private boolean updateWindow() {
+    if (layout.getRowCount() == 0) {
+      recycleAll();
+      return false;
+    }
+
+    int top = anchorShift - scrollPanel.getY();
+    int first = layout.getRowAt(top - overscan);
+    int last = layout.getRowAt(top + viewportHeight + overscan);
+    int lastIndex = firstIndex + rows.size() - 1;
+
+    if (!rows.isEmpty() && first == firstIndex && last == lastIndex) {
+      return false;
+    }
+
+    if (rows.isEmpty() || last < firstIndex || first > lastIndex) {
+      recycleAll();
+      firstIndex = first;
+    } else {
+      while (firstIndex < first) {
+        recycle(rows.remove(0));
+        firstIndex++;
+      }
+      while (firstIndex + rows.size() - 1 > last) {
+        recycle(rows.remove(rows.size() - 1));
+      }
+    }
+
+    // render all new rows before measuring any of them, so the browser lays out only once
+    int added = 0;
+    while (firstIndex > first) {
+      firstIndex--;
+      rows.add(0, renderRow(firstIndex));
+      added++;
+    }
+    int appendedFrom = rows.size();
+    while (firstIndex + rows.size() <= last) {
+      rows.add(renderRow(firstIndex + rows.size()));
+    }
+
+    if (layout.isFixed()) {
+      return false;
+    }
+
+    // height changes of rows above the first visible row would move the visible rows
+    int anchor = layout.getRowAt(top);
+    int anchorDelta = 0;
+    boolean changed = false;
+    for (int i = 0; i < rows.size(); i++) {
+      if (i == added) {
+        i = appendedFrom;
+        if (i == rows.size()) {
+          break;
+        }
+      }
+      int delta = layout.setRowHeight(firstIndex + i, rows.get(i).getOffsetHeight());
+      if (delta != 0) {
+        changed = true;
+        if (firstIndex + i < anchor) {
+          anchorDelta += delta;
+        }
+      }
+    }
+
+    if (changed) {
+      anchorShift += anchorDelta;
+      translateRows();
+      updateListHeight();
+      needsRefresh = true;
+    }
+    return changed;
+  }
+
+  private Element renderRow(int index) {
+    Element row;
+    if (freeRows.isEmpty()) {
+      row = Document.get().createLIElement();
+      Style style = row.getStyle();
+      style.setPosition(Position.ABSOLUTE);
+      style.setTop(0, Unit.PX);
+      style.setLeft(0, Unit.PX);
+      style.setRight(0, Unit.PX);
+      list.getElement().appendChild(row);
+    } else {
+      row = freeRows.remove(freeRows.size() - 1);
+      row.getStyle().clearDisplay();
+    }
+
+    T model = models.get(index);
+
+    String clazz = appearance.css().entry() + " ";
+    if (cell.canBeSelected(model)) {
+      clazz += appearance.css().canbeSelected() + " ";
+    }
+    if (index == 0) {
+      clazz += appearance.css().first() + " ";
+    }
+    if (index == models.size() - 1) {
+      clazz += appearance.css().last() + " ";
+    }
+    if (index == selectedIndex) {
+      clazz += appearance.css().selected() + " ";
+    }
+
+    SafeHtmlBuilder cellBuilder = new SafeHtmlBuilder();
+    cell.render(cellBuilder, model);
+
+    row.setClassName(clazz);
+    // CellList finds the selected model by this attribute
+    row.setAttribute("__idx", String.valueOf(index));
+    row.setInnerHTML(cellBuilder.toSafeHtml().asString());
+    CssUtil.translate(row, 0, getRowTop(index));
+    return row;
+  }
+
+  private int getRowTop(int index) {
+    return layout.getRowTop(index) - anchorShift;
+  }
+
+  private void translateRows() {
+    for (int i = 0; i < rows.size(); i++) {
+      CssUtil.translate(rows.get(i), 0, getRowTop(firstIndex + i));
+    }
+  }
+
+  private void recycle(Element row) {
+    row.getStyle().setDisplay(Display.NONE);
+    freeRows.add(row);
+  }
+
+  private void recycleAll() {
+    for (int i = rows.size() - 1; i >= 0; i--) {
+      recycle(rows.get(i));
+    }
+    rows.clear();
+  }
+
+  private void updateListHeight() {
+    list.getElement().getStyle().setHeight(layout.getTotalHeight() - anchorShift, Unit.PX);
+  }
+
+  private void scheduleRefresh() {
+    if ((!needsRefresh && anchorShift == 0) || refreshScheduled) {
+      return;
+    }
+    refreshScheduled = true;
+    Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+
+      @Override
+      public void execute() {
+        refreshScheduled = false;
+        // refreshing while the finger is down would end the gesture, this is retried on scroll end
+        if (touching || (!needsRefresh && anchorShift == 0)) {
+          return;
+        }
+        if (needsRefresh) {
+          needsRefresh = false;
+          scrollPanel.refresh();
+        }
+        scrollToAnchor();
+      }
+    });
+  }
+
+  /**
+   * hand the shift of the rows over to the scroll position, the rows follow once the panel moved
+   */
+  private void scrollToAnchor() {
+    if (anchorShift == 0 || anchorScrollShift != 0) {
+      return;
+    }
+    int y = scrollPanel.getY();
+    anchorScrollY = Math.min(0, y - anchorShift);
+    anchorScrollShift = y - anchorScrollY;
+    if (anchorScrollShift == 0) {
+      // already at the top
+      anchorShift = 0;
+      translateRows();
+      updateListHeight();
+      return;
+    }
+    scrollPanel.scrollTo(0, anchorScrollY, 0, false);
+    // the panel may have moved right away
+    update();
+  }
+}
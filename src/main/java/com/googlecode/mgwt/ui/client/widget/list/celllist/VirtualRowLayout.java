@@ -0,0 +1,207 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.list.celllist;
+
+/**
+ * The vertical layout of the rows of a {@link VirtualCellList}
+ *
+ * With a fixed row height the position of a row is computed and nothing is stored per row. With
+ * variable row heights every row starts out with an estimated height that is replaced once the row
+ * has been rendered and measured. The heights are kept in a Fenwick tree so the top of a row, the
+ * row at an offset and updating a height all take O(log n), whatever the number of rows.
+ *
+ * @author Daniel Kurka
+ */
+public class VirtualRowLayout {
+
+  private final boolean fixed;
+  private final int estimatedRowHeight;
+
+  private int rowCount;
+  private int totalHeight;
+
+  // tree[i] holds the sum of the heights of the rows (i - lowbit(i), i], the tree is 1 based
+  private int[] tree;
+  private int highestBit;
+
+  /**
+   * construct a layout
+   *
+   * @param rowHeight the height of every row if fixed, otherwise the estimated height of a row that
+   *        has not been measured yet
+   * @param fixed true if all rows have the same height
+   */
+  public VirtualRowLayout(int rowHeight, boolean fixed) {
+    if (rowHeight <= 0) {
+      throw new IllegalArgumentException("rowHeight > 0");
+    }
+    this.estimatedRowHeight = rowHeight;
+    this.fixed = fixed;
+  }
+
+  /**
+   * set the number of rows, this forgets all measured heights
+   *
+   * @param rowCount the number of rows
+   */
+  public void setRowCount(int rowCount) {
+    if (rowCount < 0) {
+      throw new IllegalArgumentException("rowCount >= 0");
+    }
+    this.rowCount = rowCount;
+    this.totalHeight = rowCount * estimatedRowHeight;
+
+    if (fixed) {
+      return;
+    }
+
+    if (tree == null || tree.length < rowCount + 1) {
+      tree = new int[rowCount + 1];
+    }
+    // linear construction: every node adds itself to its parent
+    for (int i = 1; i <= rowCount; i++) {
+      tree[i] = estimatedRowHeight;
+    }
+    for (int i = 1; i <= rowCount; i++) {
+      int parent = i + (i & -i);
+      if (parent <= rowCount) {
+        tree[parent] += tree[i];
+      }
+    }
+    highestBit = Integer.highestOneBit(Math.max(rowCount, 1));
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public boolean isFixed() {
+    return fixed;
+  }
+
+  /**
+   * the height of all rows
+   *
+   * @return the height in px
+   */
+  public int getTotalHeight() {
+    return totalHeight;
+  }
+
+  /**
+   * the height of a row, the estimated height if it was not measured yet
+   *
+   * @param index the index of the row
+   * @return the height in px
+   */
+  public int getRowHeight(int index) {
+    checkIndex(index);
+    if (fixed) {
+      return estimatedRowHeight;
+    }
+    return prefix(index + 1) - prefix(index);
+  }
+
+  /**
+   * the offset of the top of a row from the top of the first row
+   *
+   * @param index the index of the row, {@link #getRowCount()} for the bottom of the last row
+   * @return the offset in px
+   */
+  public int getRowTop(int index) {
+    if (index < 0 || index > rowCount) {
+      throw new IllegalArgumentException("0 <= index <= rowCount");
+    }
+    if (fixed) {
+      return index * estimatedRowHeight;
+    }
+    return prefix(index);
+  }
+
+  /**
+   * the row that covers an offset, offsets outside of the rows are clamped to the first or the last
+   * row
+   *
+   * @param offset the offset from the top of the first row in px
+   * @return the index of the row or -1 if there are no rows
+   */
+  public int getRowAt(int offset) {
+    if (rowCount == 0) {
+      return -1;
+    }
+    if (offset <= 0) {
+      return 0;
+    }
+    if (offset >= totalHeight) {
+      return rowCount - 1;
+    }
+    if (fixed) {
+      return offset / estimatedRowHeight;
+    }
+
+    // descend the tree to the last row whose top is <= offset
+    int index = 0;
+    int remaining = offset;
+    for (int bit = highestBit; bit != 0; bit >>= 1) {
+      int next = index + bit;
+      if (next <= rowCount && tree[next] <= remaining) {
+        index = next;
+        remaining -= tree[next];
+      }
+    }
+    return index;
+  }
+
+  /**
+   * set the measured height of a row, ignored with fixed row heights
+   *
+   * @param index the index of the row
+   * @param height the height in px
+   * @return the change of the height in px
+   */
+  public int setRowHeight(int index, int height) {
+    checkIndex(index);
+    if (height < 0) {
+      throw new IllegalArgumentException("height >= 0");
+    }
+    if (fixed) {
+      return 0;
+    }
+    int delta = height - getRowHeight(index);
+    if (delta == 0) {
+      return 0;
+    }
+    for (int i = index + 1; i <= rowCount; i += i & -i) {
+      tree[i] += delta;
+    }
+    totalHeight += delta;
+    return delta;
+  }
+
+  private int prefix(int count) {
+    int sum = 0;
+    for (int i = count; i > 0; i -= i & -i) {
+      sum += tree[i];
+    }
+    return sum;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= rowCount) {
+      throw new IllegalArgumentException("0 <= index < rowCount");
+    }
+  }
+}
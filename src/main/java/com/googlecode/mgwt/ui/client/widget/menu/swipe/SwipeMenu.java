@@ -33,6 +33,7 @@ import com.googlecode.mgwt.dom.client.event.animation.TransitionEndEvent;
 import com.googlecode.mgwt.dom.client.event.animation.TransitionEndHandler;
 import com.googlecode.mgwt.dom.client.event.tap.TapEvent;
 import com.googlecode.mgwt.dom.client.event.tap.TapHandler;
+import com.googlecode.mgwt.dom.client.recognizer.TouchPredictor;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEndEvent;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEndHandler;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEvent.DIRECTION;
@@ -41,6 +42,7 @@ import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeMoveHandler;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartEvent;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartHandler;
 import com.googlecode.mgwt.ui.client.util.CssUtil;
+import com.googlecode.mgwt.ui.client.widget.touch.TouchAction;
 import com.googlecode.mgwt.ui.client.widget.touch.TouchDelegate;
 
 /**
@@ -78,6 +80,8 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
 
   private TouchDelegate touchContainer;
 
+  private TouchPredictor touchPredictor;
+
   public SwipeMenu() {
     this(APPEARANCE, /*toggleAutomatically*/ true);
   }
@@ -98,6 +102,7 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
     initWidget(appearance.uiBinder().createAndBindUi(this));
 
     touchContainer = new TouchDelegate(main);
+    TouchAction.setDragging(main, true);
 
     initHandlers(toggleAutomatically);
   }
@@ -152,6 +157,17 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
     }
   }
 
+  /**
+   * draw the menu where the finger is expected to be when the next frame is presented instead of
+   * where it was at the last touch sample, whether the menu opens or closes is still decided by the
+   * real touch samples
+   *
+   * @param prediction true to enable touch prediction, default: false
+   */
+  public void setTouchPrediction(boolean prediction) {
+    this.touchPredictor = prediction ? new TouchPredictor() : null;
+  }
+
   @UiFactory
   protected static SwipeMenuAppearance getAppearance() {
 	return APPEARANCE;
@@ -267,6 +283,7 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
       currentDirection = DIRECTION.LEFT_TO_RIGHT;
       maxDistance = event.getDistance();
       state = STATE.SWIPING_TO_OPEN;
+      startPrediction(event.getSampleTime(), event.getTouch().getPageX());
       updatePosition(-menu.getOffsetWidth() + event.getDistance());
 
     }
@@ -276,6 +293,7 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
       currentDirection = DIRECTION.RIGHT_TO_LEFT;
 
       startX = event.getTouch().getPageX();
+      startPrediction(event.getSampleTime(), startX);
 
       maxDistance = event.getDistance();
       updatePosition(-event.getDistance());
@@ -283,6 +301,11 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
   }
 
   private void handleSwipeMove(SwipeMoveEvent event) {
+    int predicted = 0;
+    if (state == STATE.SWIPING_TO_OPEN || state == STATE.SWIPING_TO_CLOSE) {
+      predicted = predictOffset(event.getSampleTime(), event.getTouch().getPageX());
+    }
+
     if (state == STATE.SWIPING_TO_OPEN) {
       if (event.getDistance() > maxDistance) {
         maxDistance = event.getDistance();
@@ -295,7 +318,7 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
         currentDirection = DIRECTION.LEFT_TO_RIGHT;
       }
 
-      updatePosition(-menu.getOffsetWidth() + event.getDistance());
+      updatePosition(-menu.getOffsetWidth() + event.getDistance() + predicted);
     }
 
     if (state == STATE.SWIPING_TO_CLOSE) {
@@ -315,8 +338,26 @@ public class SwipeMenu extends Composite implements HasOpenHandlers<SwipeMenu>,
         currentDirection = DIRECTION.RIGHT_TO_LEFT;
       }
 
-      updatePosition(-event.getDistance());
+      updatePosition(-event.getDistance() + predicted);
+    }
+  }
+
+  private void startPrediction(double time, int pageX) {
+    if (touchPredictor != null) {
+      touchPredictor.clear();
+      touchPredictor.addSample(time, pageX, 0);
+    }
+  }
+
+  /**
+   * the distance in px the finger is expected to move on the x axis until the next frame
+   */
+  private int predictOffset(double time, int pageX) {
+    if (touchPredictor == null) {
+      return 0;
     }
+    touchPredictor.addSample(time, pageX, 0);
+    return (int) Math.round(touchPredictor.getOffsetX());
   }
 
   private void handleSwipeEnd(SwipeEndEvent event) {
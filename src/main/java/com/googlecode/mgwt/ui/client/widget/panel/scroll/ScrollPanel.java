@@ -35,9 +35,21 @@ import com.googlecode.mgwt.ui.client.widget.panel.scroll.impl.ScrollPanelImpl;
  */
 public class ScrollPanel extends Composite implements HasWidgets, IsFlexible {
 
-  protected final ScrollPanelImpl impl = GWT.create(ScrollPanelImpl.class);
+  protected final ScrollPanelImpl impl;
 
   public ScrollPanel() {
+    this(GWT.<ScrollPanelImpl> create(ScrollPanelImpl.class));
+  }
+
+  /**
+   * Construct a scroll panel with a specific implementation, e.g. a
+   * {@link com.googlecode.mgwt.ui.client.widget.panel.scroll.impl.ScrollPanelNativeImpl} for a
+   * single panel while the others use the implementation of the mgwt.scrolling property
+   *
+   * @param impl the implementation to use
+   */
+  public ScrollPanel(ScrollPanelImpl impl) {
+    this.impl = impl;
     initWidget(impl);
   }
 
@@ -231,6 +243,10 @@ public class ScrollPanel extends Composite implements HasWidgets, IsFlexible {
     impl.setBounceFactor(bounceFactor);
   }
 
+  public void setTouchPrediction(boolean prediction) {
+    impl.setTouchPrediction(prediction);
+  }
+
   /**
    * @deprecated use {@link #setShowVerticalScrollBar(boolean)}
    */
@@ -174,6 +174,17 @@ public abstract class ScrollPanelImpl extends Composite implements HasWidgets {
 
   public abstract void setBounceFactor(double factor);
 
+  /**
+   * draw the content where the finger is expected to be when the next frame is presented instead of
+   * where it was at the last touch sample
+   *
+   * This only changes what is drawn while the finger is down, scroll positions, events and the
+   * momentum are computed from the real touch samples.
+   *
+   * @param prediction true to enable touch prediction, default: false
+   */
+  public abstract void setTouchPrediction(boolean prediction);
+
   public abstract void setShowScrollBarX(boolean show);
 
   public abstract void setShowScrollBarY(boolean show);
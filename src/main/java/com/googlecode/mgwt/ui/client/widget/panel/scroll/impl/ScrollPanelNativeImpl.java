@@ -0,0 +1,846 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.panel.scroll.impl;
+
+import java.util.Iterator;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.core.shared.GWT;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.dom.client.Style.Overflow;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.logical.shared.ResizeEvent;
+import com.google.gwt.event.logical.shared.ResizeHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.ui.IsWidget;
+import com.google.gwt.user.client.ui.SimplePanel;
+import com.google.gwt.user.client.ui.Widget;
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.dom.client.event.orientation.OrientationChangeEvent;
+import com.googlecode.mgwt.dom.client.event.orientation.OrientationChangeHandler;
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.TimerHandle;
+import com.googlecode.mgwt.dom.client.recognizer.TimerWheel;
+import com.googlecode.mgwt.ui.client.MGWT;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.BeforeScrollEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.BeforeScrollStartEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationMoveEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationStartEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollMoveEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanelAppearance;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanelAppearance.ScrollPanelCss;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollRefreshEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollStartEvent;
+import com.googlecode.mgwt.ui.client.widget.touch.PassiveTouchListener;
+import com.googlecode.mgwt.ui.client.widget.touch.TouchDelegate;
+
+/**
+ * A scroll panel implementation that lets the browser scroll an overflow element
+ *
+ * Scrolling, momentum, bouncing and snapping are done by the browser on its compositor thread, so
+ * the panel keeps scrolling smoothly even if the main thread is busy. Touch handlers are registered
+ * as passive listeners and never prevent the default of an event.
+ *
+ * The events of {@link ScrollPanelImpl} are mapped onto native scroll events:
+ * <ul>
+ * <li>{@link ScrollStartEvent} is fired on touch start and on the first scroll event of a scroll
+ * that was not started by a finger, in that case {@link ScrollStartEvent#getEvent()} is null</li>
+ * <li>{@link ScrollMoveEvent} is fired for scroll events while a finger is down,
+ * {@link ScrollMoveEvent#getEvent()} is always null</li>
+ * <li>{@link ScrollAnimationMoveEvent} is fired for scroll events after the finger was lifted
+ * (momentum) or for programmatic scrolling</li>
+ * <li>{@link ScrollEndEvent} is fired once no finger is down and there was no scroll event for
+ * {@link #SCROLL_END_DELAY} ms</li>
+ * </ul>
+ *
+ * Snapping uses css scroll snapping, the snap threshold has no native equivalent and is ignored.
+ * Settings that only make sense for javascript scrolling (bounce factor, touch prediction, offsets
+ * for pull to refresh) are ignored, so a
+ * {@link com.googlecode.mgwt.ui.client.widget.panel.pull.PullPanel} can not pull to refresh with
+ * this implementation.
+ *
+ * Use it by setting the property mgwt.scrolling to native in your module or by passing an instance
+ * to {@link com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanel#ScrollPanel(ScrollPanelImpl)}.
+ *
+ * @author Daniel Kurka
+ */
+public class ScrollPanelNativeImpl extends ScrollPanelImpl {
+
+  /**
+   * the time in ms without a scroll event after which a scroll is considered finished
+   */
+  public static final int SCROLL_END_DELAY = 100;
+
+  private static final ScrollPanelAppearance SPA = GWT.create(ScrollPanelAppearance.class);
+
+  private class TouchListener implements TouchHandler {
+
+    @Override
+    public void onTouchStart(TouchStartEvent event) {
+      start(event);
+    }
+
+    @Override
+    public void onTouchMove(TouchMoveEvent event) {
+    }
+
+    @Override
+    public void onTouchEnd(TouchEndEvent event) {
+      end(event);
+    }
+
+    @Override
+    public void onTouchCancel(TouchCancelEvent event) {
+      end(event);
+    }
+  }
+
+  private final SimplePanel wrapper;
+  private Widget scroller;
+  private final ScrollPanelCss css;
+  private final TouchDelegate touchDelegate;
+  private final TouchListener touchListener = new TouchListener();
+  private final ScrollAnimationMoveEvent scrollAnimationMoveEvent = new ScrollAnimationMoveEvent();
+
+  private HandlerRegistration touchRegistration;
+  private HandlerRegistration scrollRegistration;
+  private HandlerRegistration orientationChangeRegistration;
+
+  private int x;
+  private int y;
+  private int wrapperWidth;
+  private int wrapperHeight;
+  private int maxScrollX;
+  private int maxScrollY;
+  private int minScrollY;
+
+  private boolean hScroll;
+  private boolean vScroll;
+  private boolean hScrollDesired;
+  private boolean vScrollDesired;
+  private boolean hScrollbar;
+  private boolean vScrollbar;
+
+  private boolean touching;
+  private boolean scrolling;
+  private boolean animating;
+  private TimerHandle scrollEndTimer;
+
+  private boolean bounce;
+  private boolean momentum;
+  private boolean snap;
+  private String snapSelector;
+  private int currPageX;
+  private int currPageY;
+  private LightArrayInt pagesX;
+  private LightArrayInt pagesY;
+  private LightArrayInt pagesActualX;
+  private LightArrayInt pagesActualY;
+
+  private boolean shouldHandleResize;
+
+  public ScrollPanelNativeImpl() {
+    wrapper = new SimplePanel();
+
+    css = SPA.css();
+    css.ensureInjected();
+
+    wrapper.addStyleName(css.scrollPanel());
+
+    initWidget(wrapper);
+
+    touchDelegate = new TouchDelegate(wrapper);
+    // the browser scrolls, so there is never a reason to prevent the default
+    PassiveTouchListener.setPassive(wrapper, true);
+
+    shouldHandleResize = true;
+
+    pagesX = CollectionFactory.constructIntegerArray();
+    pagesY = CollectionFactory.constructIntegerArray();
+    pagesActualX = pagesX;
+    pagesActualY = pagesY;
+
+    this.hScroll = true;
+    this.vScroll = true;
+    this.hScrollDesired = true;
+    this.vScrollDesired = true;
+    this.hScrollbar = true;
+    this.vScrollbar = true;
+    this.bounce = true;
+    this.momentum = true;
+    this.snap = false;
+    this.snapSelector = null;
+
+    updateDefaultStyles();
+  }
+
+  private void start(TouchStartEvent event) {
+    touching = true;
+    fireEvent(new BeforeScrollStartEvent(event));
+
+    cancelScrollEnd();
+    if (scrolling) {
+      // the finger caught a running momentum scroll
+      finishAnimation();
+    }
+    scrolling = true;
+    fireEvent(new ScrollStartEvent(event));
+  }
+
+  private void end(TouchEvent<?> event) {
+    if (!touching) {
+      return;
+    }
+    touching = false;
+    fireEvent(new BeforeScrollEndEvent(event));
+
+    // without a pending timer the finger did not scroll (anymore), otherwise the timer ends the
+    // scroll once momentum scrolling has settled
+    if (scrollEndTimer == null) {
+      finishScroll();
+    }
+  }
+
+  // Visible for testing
+  void onScroll() {
+    Element el = wrapper.getElement();
+    x = -el.getScrollLeft();
+    y = -el.getScrollTop();
+
+    if (!scrolling) {
+      scrolling = true;
+      fireEvent(new ScrollStartEvent(null));
+    }
+
+    if (touching) {
+      fireEvent(new ScrollMoveEvent(null));
+    } else {
+      if (!animating) {
+        animating = true;
+        fireEvent(new ScrollAnimationStartEvent());
+      }
+      fireEvent(scrollAnimationMoveEvent);
+    }
+
+    scheduleScrollEnd();
+  }
+
+  private void scheduleScrollEnd() {
+    cancelScrollEnd();
+    scrollEndTimer = getTimerExecutor().execute(new CodeToRun() {
+
+      @Override
+      public void onExecution() {
+        scrollEndTimer = null;
+        if (!touching) {
+          finishScroll();
+        }
+      }
+    }, SCROLL_END_DELAY);
+  }
+
+  private void cancelScrollEnd() {
+    if (scrollEndTimer != null) {
+      scrollEndTimer.cancel();
+      scrollEndTimer = null;
+    }
+  }
+
+  private void finishAnimation() {
+    if (animating) {
+      animating = false;
+      fireEvent(new ScrollAnimationEndEvent());
+    }
+  }
+
+  private void finishScroll() {
+    if (!scrolling) {
+      return;
+    }
+    scrolling = false;
+    finishAnimation();
+
+    currPageX = nearestPage(pagesActualX, x);
+    currPageY = nearestPage(pagesActualY, y);
+
+    fireEvent(new ScrollEndEvent());
+  }
+
+  private int nearestPage(LightArrayInt pages, int pos) {
+    int page = 0;
+    int minDist = Integer.MAX_VALUE;
+    for (int i = 0; i < pages.length(); i++) {
+      int dist = Math.abs(pages.get(i) - pos);
+      if (dist < minDist) {
+        minDist = dist;
+        page = i;
+      }
+    }
+    return page;
+  }
+
+  @Override
+  public void refresh() {
+    if (!isAttached() || scroller == null) {
+      return;
+    }
+
+    // read everything first, styles are only written afterwards
+    Element el = wrapper.getElement();
+    wrapperWidth = Math.max(1, el.getClientWidth());
+    wrapperHeight = Math.max(1, el.getClientHeight());
+
+    maxScrollX = Math.min(0, wrapperWidth - el.getScrollWidth());
+    maxScrollY = Math.min(0, wrapperHeight - el.getScrollHeight());
+
+    x = -el.getScrollLeft();
+    y = -el.getScrollTop();
+
+    hScroll = hScrollDesired && maxScrollX < 0;
+    vScroll = vScrollDesired && maxScrollY < 0;
+
+    if (snapSelector != null) {
+      pagesX = CollectionFactory.constructIntegerArray();
+      pagesY = CollectionFactory.constructIntegerArray();
+      pagesActualX = CollectionFactory.constructIntegerArray();
+      pagesActualY = CollectionFactory.constructIntegerArray();
+
+      JsArray<Element> elements = querySelectorAll(scroller.getElement(), snapSelector);
+      for (int i = 0; i < elements.length(); i++) {
+        int[] pos = offSet(elements.get(i));
+        pagesX.push(Math.max(pos[0], maxScrollX));
+        pagesY.push(Math.max(pos[1], maxScrollY));
+        pagesActualX.push(pos[0]);
+        pagesActualY.push(pos[1]);
+      }
+    } else {
+      pagesX = pages(maxScrollX, wrapperWidth);
+      pagesY = pages(maxScrollY, wrapperHeight);
+      pagesActualX = pagesX;
+      pagesActualY = pagesY;
+    }
+
+    updateDefaultStyles();
+    updateSnapStyles();
+
+    fireEvent(new ScrollRefreshEvent());
+  }
+
+  private LightArrayInt pages(int maxScroll, int size) {
+    LightArrayInt pages = CollectionFactory.constructIntegerArray();
+    int pos = 0;
+    while (pos >= maxScroll) {
+      pages.push(pos);
+      pos -= size;
+    }
+    if (maxScroll % size != 0) {
+      pages.push(maxScroll);
+    }
+    return pages;
+  }
+
+  /**
+   * the position of an element inside the scroller, negated like scroll positions
+   */
+  private int[] offSet(Element el) {
+    Element wrapperElement = wrapper.getElement();
+    int left = 0;
+    int top = 0;
+    while (el != null && el != wrapperElement) {
+      left -= el.getOffsetLeft();
+      top -= el.getOffsetTop();
+      el = el.getOffsetParent();
+    }
+    return new int[] {left, top};
+  }
+
+  private void updateDefaultStyles() {
+    Style style = wrapper.getElement().getStyle();
+    style.setOverflowX(hScrollDesired ? Overflow.AUTO : Overflow.HIDDEN);
+    style.setOverflowY(vScrollDesired ? Overflow.AUTO : Overflow.HIDDEN);
+    style.setProperty("WebkitOverflowScrolling", momentum ? "touch" : "auto");
+    style.setProperty("overscrollBehavior", bounce ? "contain" : "none");
+    if (hScrollbar || vScrollbar) {
+      style.clearProperty("scrollbarWidth");
+    } else {
+      style.setProperty("scrollbarWidth", "none");
+    }
+  }
+
+  private void updateSnapStyles() {
+    Style style = wrapper.getElement().getStyle();
+    if (snap) {
+      String axis = hScrollDesired && vScrollDesired ? "both" : (hScrollDesired ? "x" : "y");
+      style.setProperty("scrollSnapType", axis + " mandatory");
+    } else {
+      style.clearProperty("scrollSnapType");
+    }
+
+    if (scroller == null) {
+      return;
+    }
+
+    if (snapSelector != null) {
+      JsArray<Element> elements = querySelectorAll(scroller.getElement(), snapSelector);
+      for (int i = 0; i < elements.length(); i++) {
+        setSnapAlign(elements.get(i));
+      }
+    } else {
+      Element child = scroller.getElement().getFirstChildElement();
+      while (child != null) {
+        setSnapAlign(child);
+        child = child.getNextSiblingElement();
+      }
+    }
+  }
+
+  private void setSnapAlign(Element el) {
+    if (snap) {
+      el.getStyle().setProperty("scrollSnapAlign", "start");
+    } else {
+      el.getStyle().clearProperty("scrollSnapAlign");
+    }
+  }
+
+  private native JsArray<Element> querySelectorAll(Element el, String selector)/*-{
+		return el.querySelectorAll(selector);
+  }-*/;
+
+  private native void scrollElementTo(Element el, int left, int top, boolean smooth)/*-{
+		if (el.scrollTo && 'scrollBehavior' in el.style) {
+			el.scrollTo({
+				left : left,
+				top : top,
+				behavior : smooth ? 'smooth' : 'auto'
+			});
+		} else {
+			el.scrollLeft = left;
+			el.scrollTop = top;
+		}
+  }-*/;
+
+  @Override
+  public void scrollTo(int x, int y, int time) {
+    scrollTo(x, y, time, false);
+  }
+
+  @Override
+  public void scrollTo(int x, int y, int time, boolean relative) {
+    if (relative) {
+      x += this.x;
+      y += this.y;
+    }
+
+    Element el = wrapper.getElement();
+    scrollElementTo(el, Math.max(0, -x), Math.max(0, -y), time > 0);
+
+    if (time <= 0) {
+      this.x = -el.getScrollLeft();
+      this.y = -el.getScrollTop();
+    }
+  }
+
+  @Override
+  public void scrollToPage(int pageX, int pageY, int time) {
+    scrollToPage(pageX, pageY, time, true);
+  }
+
+  @Override
+  public void scrollToPage(int pageX, int pageY, int time, boolean issueEvent) {
+    if (pagesX.length() == 0 || pagesY.length() == 0) {
+      return;
+    }
+
+    pageX = Math.max(0, Math.min(pageX, pagesX.length() - 1));
+    pageY = Math.max(0, Math.min(pageY, pagesY.length() - 1));
+
+    currPageX = pageX;
+    currPageY = pageY;
+
+    if (issueEvent) {
+      cancelScrollEnd();
+      if (!scrolling) {
+        scrolling = true;
+        fireEvent(new ScrollStartEvent(null));
+      }
+      // ends the scroll even if the position does not change and no scroll event fires
+      scheduleScrollEnd();
+    }
+
+    scrollTo(pagesX.get(pageX), pagesY.get(pageY), time);
+  }
+
+  @Override
+  public void add(Widget w) {
+    if (scroller != null) {
+      throw new IllegalStateException("scrollpanel can only have one child");
+    }
+    setWidget(w);
+  }
+
+  @Override
+  public void clear() {
+    setWidget((Widget) null);
+  }
+
+  @Override
+  public Iterator<Widget> iterator() {
+    return wrapper.iterator();
+  }
+
+  @Override
+  public boolean remove(Widget w) {
+    if (w == scroller) {
+      scroller.removeStyleName(css.container());
+      scroller = null;
+      return wrapper.remove(w);
+    }
+    return false;
+  }
+
+  @Override
+  public void setWidget(IsWidget child) {
+    setWidget(child != null ? child.asWidget() : null);
+  }
+
+  public void setWidget(Widget w) {
+    if (scroller != null) {
+      remove(scroller);
+    }
+
+    scroller = w;
+
+    if (scroller != null) {
+      wrapper.setWidget(scroller);
+      scroller.addStyleName(css.container());
+      if (isAttached()) {
+        scheduleRefresh();
+      }
+    }
+  }
+
+  @Override
+  protected void onAttach() {
+    super.onAttach();
+
+    bindEvents();
+    if (scroller != null) {
+      scheduleRefresh();
+    }
+  }
+
+  @Override
+  protected void onDetach() {
+    super.onDetach();
+
+    unbindEvents();
+    cancelScrollEnd();
+    touching = false;
+    scrolling = false;
+    animating = false;
+  }
+
+  private void scheduleRefresh() {
+    Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+
+      @Override
+      public void execute() {
+        refresh();
+      }
+    });
+  }
+
+  private void bindEvents() {
+    touchRegistration = touchDelegate.addTouchHandler(touchListener);
+    scrollRegistration = wrapper.addDomHandler(new ScrollHandler() {
+
+      @Override
+      public void onScroll(ScrollEvent event) {
+        ScrollPanelNativeImpl.this.onScroll();
+      }
+    }, ScrollEvent.getType());
+
+    if (!MGWT.getFormFactor().isDesktop()) {
+      orientationChangeRegistration = MGWT.addOrientationChangeHandler(new OrientationChangeHandler() {
+
+        @Override
+        public void onOrientationChanged(OrientationChangeEvent event) {
+          if (shouldHandleResize) {
+            scheduleRefresh();
+          }
+        }
+      });
+    } else {
+      orientationChangeRegistration = Window.addResizeHandler(new ResizeHandler() {
+
+        @Override
+        public void onResize(ResizeEvent event) {
+          if (shouldHandleResize) {
+            scheduleRefresh();
+          }
+        }
+      });
+    }
+  }
+
+  private void unbindEvents() {
+    if (touchRegistration != null) {
+      touchRegistration.removeHandler();
+      touchRegistration = null;
+    }
+    if (scrollRegistration != null) {
+      scrollRegistration.removeHandler();
+      scrollRegistration = null;
+    }
+    if (orientationChangeRegistration != null) {
+      orientationChangeRegistration.removeHandler();
+      orientationChangeRegistration = null;
+    }
+  }
+
+  /**
+   * The browser decides if scroll positions are rendered with transforms or not, this setting has
+   * no effect.
+   */
+  @Override
+  public void setUsePos(boolean pos) {
+  }
+
+  @Override
+  public boolean isScrollingEnabledX() {
+    return hScroll;
+  }
+
+  @Override
+  public void setScrollingEnabledX(boolean scrollingEnabledX) {
+    this.hScrollDesired = scrollingEnabledX;
+    this.hScroll = scrollingEnabledX;
+    updateDefaultStyles();
+  }
+
+  @Override
+  public boolean isScrollingEnabledY() {
+    return vScroll;
+  }
+
+  @Override
+  public void setScrollingEnabledY(boolean scrollingEnabledY) {
+    this.vScrollDesired = scrollingEnabledY;
+    this.vScroll = scrollingEnabledY;
+    updateDefaultStyles();
+  }
+
+  /**
+   * Native scrolling always starts at the top of the content, the offset is ignored.
+   */
+  @Override
+  public void setOffSetY(int y) {
+  }
+
+  /**
+   * The browser computes the maximum scroll position, this value is replaced on the next refresh.
+   */
+  @Override
+  public void setMaxScrollY(int y) {
+    this.maxScrollY = y;
+  }
+
+  @Override
+  public int getMaxScrollY() {
+    return maxScrollY;
+  }
+
+  /**
+   * The browser can not scroll above the content, the value is only stored.
+   */
+  @Override
+  public void setMinScrollY(int y) {
+    this.minScrollY = y;
+  }
+
+  @Override
+  public int getMinScrollY() {
+    return minScrollY;
+  }
+
+  /**
+   * Bouncing is done by the browser, disabling it sets overscroll-behavior to none which also stops
+   * the scroll from chaining to the page.
+   */
+  @Override
+  public void setBounce(boolean bounce) {
+    this.bounce = bounce;
+    updateDefaultStyles();
+  }
+
+  /**
+   * Only older iOS browsers can turn off momentum (-webkit-overflow-scrolling), other browsers
+   * always scroll with momentum.
+   */
+  @Override
+  public void setMomentum(boolean momentum) {
+    this.momentum = momentum;
+    updateDefaultStyles();
+  }
+
+  /**
+   * Snaps with css scroll snapping to the elements of the snap selector or to the children of the
+   * scrolled widget.
+   */
+  @Override
+  public void setSnap(boolean snap) {
+    this.snap = snap;
+    updateSnapStyles();
+  }
+
+  /**
+   * The browser decides where to snap to, the threshold is ignored.
+   */
+  @Override
+  public void setSnapThreshold(int threshold) {
+  }
+
+  @Override
+  public int getY() {
+    return y;
+  }
+
+  @Override
+  public int getX() {
+    return x;
+  }
+
+  /**
+   * The browser renders the bounce, the factor is ignored.
+   */
+  @Override
+  public void setBounceFactor(double factor) {
+  }
+
+  /**
+   * The browser moves the content on its own, there is nothing to predict.
+   */
+  @Override
+  public void setTouchPrediction(boolean prediction) {
+  }
+
+  @Deprecated
+  @Override
+  public void setShowScrollBarX(boolean show) {
+    setShowHorizontalScrollBar(show);
+  }
+
+  @Deprecated
+  @Override
+  public void setShowScrollBarY(boolean show) {
+    setShowVerticalScrollBar(show);
+  }
+
+  /**
+   * Native scroll bars can only be hidden for both directions at once, they are hidden if neither
+   * should be shown.
+   */
+  @Override
+  public void setShowHorizontalScrollBar(boolean show) {
+    this.hScrollbar = show;
+    updateDefaultStyles();
+  }
+
+  /**
+   * Native scroll bars can only be hidden for both directions at once, they are hidden if neither
+   * should be shown.
+   */
+  @Override
+  public void setShowVerticalScrollBar(boolean show) {
+    this.vScrollbar = show;
+    updateDefaultStyles();
+  }
+
+  @Override
+  public int getCurrentPageX() {
+    return currPageX;
+  }
+
+  @Override
+  public int getCurrentPageY() {
+    return currPageY;
+  }
+
+  @Override
+  public void setAutoHandleResize(boolean handle) {
+    shouldHandleResize = handle;
+  }
+
+  /**
+   * The browser scrolls exactly to the end of the content, the offset is ignored.
+   */
+  @Override
+  public void setOffSetMaxY(int height) {
+  }
+
+  @Override
+  public void setSnapSelector(String selector) {
+    this.snapSelector = selector;
+    updateSnapStyles();
+  }
+
+  @Override
+  public LightArrayInt getPagesY() {
+    return pagesActualY;
+  }
+
+  @Override
+  public LightArrayInt getPagesX() {
+    return pagesActualX;
+  }
+
+  /**
+   * The browser fades its scroll bars on its own, this setting has no effect.
+   */
+  @Override
+  public void setHideScrollBar(boolean hideScrollBar) {
+  }
+
+  /**
+   * The browser locks the scroll direction on its own, this setting has no effect.
+   */
+  @Override
+  public void setScrollLock(boolean lock) {
+  }
+
+  // Visible for testing
+  TimerExecutor getTimerExecutor() {
+    return TimerWheel.get();
+  }
+
+  // Visible for testing
+  TouchHandler getTouchHandler() {
+    return touchListener;
+  }
+}
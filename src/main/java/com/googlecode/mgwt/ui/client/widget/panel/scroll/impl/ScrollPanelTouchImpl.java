@@ -6,7 +6,6 @@ import java.util.logging.Logger;
 import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.animation.client.AnimationScheduler.AnimationCallback;
 import com.google.gwt.animation.client.AnimationScheduler.AnimationHandle;
-import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.JsArray;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.client.Scheduler.ScheduledCommand;
@@ -31,7 +30,6 @@ import com.google.gwt.event.logical.shared.ResizeEvent;
 import com.google.gwt.event.logical.shared.ResizeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.DOM;
-import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.SimplePanel;
@@ -39,6 +37,7 @@ import com.google.gwt.user.client.ui.Widget;
 import com.googlecode.mgwt.collection.shared.CollectionFactory;
 import com.googlecode.mgwt.collection.shared.LightArray;
 import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightPool;
 import com.googlecode.mgwt.dom.client.event.animation.TransitionEndEvent;
 import com.googlecode.mgwt.dom.client.event.animation.TransitionEndHandler;
 import com.googlecode.mgwt.dom.client.event.mouse.SimulatedTouchMoveEvent;
@@ -46,7 +45,17 @@ import com.googlecode.mgwt.dom.client.event.mouse.SimulatedTouchStartEvent;
 import com.googlecode.mgwt.dom.client.event.mouse.TouchStartToMouseDownHandler;
 import com.googlecode.mgwt.dom.client.event.orientation.OrientationChangeEvent;
 import com.googlecode.mgwt.dom.client.event.orientation.OrientationChangeHandler;
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+import com.googlecode.mgwt.dom.client.event.touch.HasSampleTime;
 import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.dom.client.recognizer.SystemTimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.TimerHandle;
+import com.googlecode.mgwt.dom.client.recognizer.TimerWheel;
+import com.googlecode.mgwt.dom.client.recognizer.TouchPredictor;
+import com.googlecode.mgwt.dom.client.recognizer.VelocityTracker;
 import com.googlecode.mgwt.ui.client.MGWT;
 import com.googlecode.mgwt.ui.client.util.CssUtil;
 import com.googlecode.mgwt.ui.client.widget.panel.scroll.BeforeScrollEndEvent;
@@ -61,6 +70,7 @@ import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanelAppearance;
 import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanelAppearance.ScrollPanelCss;
 import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollRefreshEvent;
 import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollStartEvent;
+import com.googlecode.mgwt.ui.client.widget.touch.TouchAction;
 import com.googlecode.mgwt.ui.client.widget.touch.TouchDelegate;
 import com.googlecode.mgwt.ui.client.widget.touch.TouchSupport;
 
@@ -111,16 +121,15 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
   }
 
   private static class Step {
-    private final int x;
+    private int x;
 
-    private final int y;
+    private int y;
     private int time;
 
-    public Step(int x, int y, int time) {
+    public void set(int x, int y, int time) {
       this.x = x;
       this.y = y;
       this.time = time;
-
     }
 
     public int getX() {
@@ -149,18 +158,12 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
 
   private static class Momentum {
 
-    public static final Momentum ZERO_MOMENTUM = new Momentum(0, 0);
-
-    private final int time;
-    private final int dist;
+    private int time;
+    private int dist;
 
-    /**
-		 *
-		 */
-    public Momentum(int dist, int time) {
+    public void set(int dist, int time) {
       this.dist = dist;
       this.time = time;
-
     }
 
     public int getTime() {
@@ -203,6 +206,21 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
   private int y;
   private LightArray<Step> steps;
 
+  // steps are only referenced by this panel, they go back to the pool once applied or dropped
+  private final LightPool<Step> stepPool = new LightPool<Step>(new LightPool.Factory<Step>() {
+
+    @Override
+    public Step create() {
+      return new Step();
+    }
+  }, 8);
+
+  private final Momentum momentumX = new Momentum();
+  private final Momentum momentumY = new Momentum();
+
+  // carries no state, so one instance serves every animation frame
+  private final ScrollAnimationMoveEvent scrollAnimationMoveEvent = new ScrollAnimationMoveEvent();
+
   private LightArrayInt pagesX;
   private LightArrayInt pagesY;
 
@@ -250,17 +268,29 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
   private boolean momentum;
   private int absStartX;
   private int absStartY;
-  private int startX;
-  private int startY;
   private int pointX;
   private int pointY;
-  private double startTime;
+  private final VelocityTracker velocityTracker = new VelocityTracker();
+  private TouchPredictor touchPredictor;
+  private boolean predicted;
+  private double predictOffsetX;
+  private double predictOffsetY;
+  private AnimationHandle moveFrame;
+  private final AnimationCallback moveFrameCallback = new AnimationCallback() {
+
+    @Override
+    public void execute(double timestamp) {
+      moveFrame = null;
+      drawMove();
+    }
+  };
+  private final TimeProvider timeProvider = new SystemTimeProvider();
   private double touchesDist;
   private double lastScale;
   private boolean bounce;
   private double bounceFactor;
   private boolean lockDirection;
-  private Timer doubleTapTimer;
+  private TimerHandle doubleTapTimer;
   private boolean snap;
   private int snapThreshold;
   private boolean wheelActionZoom;
@@ -286,6 +316,8 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
 
     wrapper = new SimplePanel();
     touchDelegate = new TouchDelegate(wrapper);
+    // the content is moved in javascript, the browser must not pan it
+    TouchAction.setDragging(wrapper, true);
 
     touchListener = new TouchListener();
     setupEvents();
@@ -460,9 +492,9 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
     }
 
     int delay = MGWT.getOsDetection().isAndroid() ? 200 : 1;
-    new Timer() {
+    getTimerExecutor().execute(new CodeToRun() {
       @Override
-      public void run() {
+      public void onExecution() {
         switch (direction) {
           case HORIZONTAL:
             ScrollPanelTouchImpl.this.scrollBarSize[dir] = ScrollPanelTouchImpl.this.scrollBarWrapper[dir].getClientWidth();
@@ -491,24 +523,83 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
         // Reset position
         scrollbarPos(direction, true);
       }
-    }.schedule(delay);
+    }, delay);
   }
 
   private void resize() {
     int delay = MGWT.getOsDetection().isAndroid() ? 200 : 1;
-    new Timer() {
+    getTimerExecutor().execute(new CodeToRun() {
       @Override
-      public void run() {
+      public void onExecution() {
         refresh();
       }
-    }.schedule(delay);
+    }, delay);
   }
 
   private void pos(int x, int y) {
+    // a direct position supersedes a move that was not drawn yet
+    cancelMoveFrame();
 
     x = this.hScroll ? x : 0;
     y = this.vScroll ? y : 0;
 
+    render(x, y);
+    this.predicted = false;
+
+    this.x = x;
+    this.y = y;
+
+    scrollbarPos(DIRECTION.HORIZONTAL, false);
+    scrollbarPos(DIRECTION.VERTICAL, false);
+  }
+
+  /**
+   * Commit the position of a touch move and draw it with the next animation frame
+   *
+   * Touch moves can arrive several times per frame. Only the latest position is drawn, with one
+   * transform and one scroll bar write per frame, and the layout reads of scroll move handlers in
+   * between do not have to flush pending style changes.
+   */
+  private void movePos(int x, int y, double predictX, double predictY) {
+    this.x = this.hScroll ? x : 0;
+    this.y = this.vScroll ? y : 0;
+    this.predictOffsetX = predictX;
+    this.predictOffsetY = predictY;
+
+    if (moveFrame == null) {
+      moveFrame = getAnimationScheduler().requestAnimationFrame(moveFrameCallback, scroller.getElement());
+    }
+  }
+
+  private void drawMove() {
+    int drawX = this.x;
+    int drawY = this.y;
+
+    // draw ahead by the predicted finger movement, but never out of bounds
+    if (touchPredictor != null) {
+      if (this.hScroll && this.x <= 0 && this.x >= this.maxScrollX) {
+        drawX = (int) Math.max(this.maxScrollX, Math.min(0, Math.round(this.x + predictOffsetX)));
+      }
+      if (this.vScroll && this.y <= this.minScrollY && this.y >= this.maxScrollY) {
+        drawY = (int) Math.max(this.maxScrollY, Math.min(this.minScrollY, Math.round(this.y + predictOffsetY)));
+      }
+    }
+
+    render(drawX, drawY);
+    this.predicted = drawX != this.x || drawY != this.y;
+
+    scrollbarPos(DIRECTION.HORIZONTAL, false);
+    scrollbarPos(DIRECTION.VERTICAL, false);
+  }
+
+  private void cancelMoveFrame() {
+    if (moveFrame != null) {
+      moveFrame.cancel();
+      moveFrame = null;
+    }
+  }
+
+  private void render(int x, int y) {
     if (useTransform) {
       CssUtil.translate(scroller.getElement(), x, y);
     } else {
@@ -516,12 +607,6 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       scroller.getElement().getStyle().setLeft(x, Unit.PX);
       scroller.getElement().getStyle().setTop(y, Unit.PX);
     }
-
-    this.x = x;
-    this.y = y;
-
-    scrollbarPos(DIRECTION.HORIZONTAL, false);
-    scrollbarPos(DIRECTION.VERTICAL, false);
   }
 
   private void scrollbarPos(DIRECTION direction, boolean hidden) {
@@ -629,7 +714,7 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
         } else {
           cancelAnimationFrame();
         }
-        this.steps = CollectionFactory.constructArray();
+        clearSteps();
         pos(x, y);
       }
     }
@@ -637,12 +722,15 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
     this.absStartX = this.x;
     this.absStartY = this.y;
 
-    this.startX = this.x;
-    this.startY = this.y;
     this.pointX = touches.get(0).getPageX();
     this.pointY = touches.get(0).getPageY();
 
-    this.startTime = System.currentTimeMillis();
+    velocityTracker.clear();
+    velocityTracker.addSample(getTimeProvider().getTime(), this.x, this.y);
+    if (touchPredictor != null) {
+      touchPredictor.clear();
+      touchPredictor.addSample(getTimeProvider().getTime(), this.pointX, this.pointY);
+    }
 
     fireEvent(new ScrollStartEvent(event));
 
@@ -662,7 +750,9 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
     int deltaY = touches.get(0).getPageY() - this.pointY;
     int newX = this.x + deltaX;
     int newY = this.y + deltaY;
-    double timeStamp = Duration.currentTimeMillis();
+    double timeStamp = event instanceof HasSampleTime ? ((HasSampleTime) event).getSampleTime() : getTimeProvider().getTime();
+    // coalesced samples only feed velocity estimation, the content is moved once per event
+    HasCoalescedSamples samples = event instanceof HasCoalescedSamples ? (HasCoalescedSamples) event : null;
 
     // fire onbeforescroll event
     fireEvent(new BeforeScrollMoveEvent(event));
@@ -686,6 +776,7 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       newX = (int) Math.round(this.originX - this.originX * this.lastScale + this.x);
       newY = (int) Math.round(this.originY - this.originY * this.lastScale + this.y);
 
+      cancelMoveFrame();
       CssUtil.setTranslateAndZoom(this.scroller.getElement(), newX, newY, scale);
 
       // TODO call on zoom
@@ -695,6 +786,18 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
     this.pointX = touches.get(0).getPageX();
     this.pointY = touches.get(0).getPageY();
 
+    double predictX = 0;
+    double predictY = 0;
+    if (touchPredictor != null) {
+      if (samples != null) {
+        touchPredictor.addSamples(samples, this.pointX, this.pointY);
+      } else {
+        touchPredictor.addSample(timeStamp, this.pointX, this.pointY);
+      }
+      predictX = touchPredictor.getOffsetX();
+      predictY = touchPredictor.getOffsetY();
+    }
+
     // slower outside the bounds!
     if (newX > 0 || newX < this.maxScrollX) {
       if (bounce) {
@@ -733,24 +836,26 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       if (this.absDistX > this.absDistY + 5) {
         newY = this.y;
         deltaY = 0;
+        predictY = 0;
       } else {
         if (this.absDistY > this.absDistX + 5) {
           newX = this.x;
           deltaX = 0;
+          predictX = 0;
         }
       }
     }
 
     this.moved = true;
-    pos(newX, newY);
+    movePos(newX, newY, predictX, predictY);
 
     this.dirX = deltaX > 0 ? -1 : deltaX < 0 ? 1 : 0;
     this.dirY = deltaY > 0 ? -1 : deltaY < 0 ? 1 : 0;
 
-    if (timeStamp - this.startTime > 300) {
-      this.startTime = timeStamp;
-      this.startX = this.x;
-      this.startY = this.y;
+    if (samples != null) {
+      velocityTracker.addSamples(samples, this.x, this.y);
+    } else {
+      velocityTracker.addSample(timeStamp, this.x, this.y);
     }
 
     if (this.dirX != 0 && isScrollingEnabledX() || this.dirY != 0 && isScrollingEnabledY()) {
@@ -763,16 +868,21 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       return;
     }
 
-    double duration = Duration.currentTimeMillis() - this.startTime;
     int newPosX = this.x;
     int newPosY = this.y;
-    Momentum momentumX = Momentum.ZERO_MOMENTUM;
-    Momentum momentumY = Momentum.ZERO_MOMENTUM;
+    momentumX.set(0, 0);
+    momentumY.set(0, 0);
 
     unbindMoveEvent();
     unbindEndEvent();
     unbindCancelEvent();
 
+    // draw the committed position before anything animates from it, the predicted position is
+    // only drawn while the finger is down
+    if (moveFrame != null || predicted) {
+      pos(this.x, this.y);
+    }
+
     // fire on before scroll end
     fireEvent(new BeforeScrollEndEvent(event));
 
@@ -805,17 +915,16 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
 
         // TODO fire zoom end after duration
       } else {
-        this.doubleTapTimer = new Timer() {
+        this.doubleTapTimer = getTimerExecutor().execute(new CodeToRun() {
 
           @Override
-          public void run() {
+          public void onExecution() {
             doubleTapTimer = null;
 
             // TODO dispatch tap event
 
           }
-        };
-        this.doubleTapTimer.schedule(this.zoom ? 250 : 1);
+        }, this.zoom ? 250 : 1);
       }
 
       resetPos(200);
@@ -824,24 +933,28 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       return;
     }
 
-    if (duration < 300 && momentum) {
-      if (newPosX != 0) {
-        momentumX = momentum(newPosX - this.startX, duration, -this.x, this.scrollerWidth - this.wrapperWidth + this.x, this.bounce ? this.wrapperWidth : 0);
+    if (momentum) {
+      // the scroller did not move since the last sample, after a pause this drops the older samples
+      velocityTracker.addSample(getTimeProvider().getTime(), this.x, this.y);
+      double velocityX = velocityTracker.getVelocityX();
+      double velocityY = velocityTracker.getVelocityY();
+
+      if (newPosX != 0 && velocityX != 0) {
+        momentum(momentumX, velocityX, -this.x, this.scrollerWidth - this.wrapperWidth + this.x, this.bounce ? this.wrapperWidth : 0);
       }
-      if (newPosY != 0) {
-        momentumY =
-            momentum(newPosY - this.startY, duration, -this.y, (this.maxScrollY < 0 ? this.scrollerHeight - this.wrapperHeight + this.y - this.minScrollY : 0), this.bounce ? this.wrapperHeight : 0);
+      if (newPosY != 0 && velocityY != 0) {
+        momentum(momentumY, velocityY, -this.y, (this.maxScrollY < 0 ? this.scrollerHeight - this.wrapperHeight + this.y - this.minScrollY : 0), this.bounce ? this.wrapperHeight : 0);
       }
 
       newPosX = this.x + momentumX.getDist();
       newPosY = this.y + momentumY.getDist();
 
       if ((this.x > 0 && newPosX > 0) || (this.x < this.maxScrollX && newPosX < this.maxScrollX)) {
-        momentumX = Momentum.ZERO_MOMENTUM;
+        momentumX.set(0, 0);
       }
 
       if ((this.y > this.minScrollY && newPosY > this.minScrollY) || (this.y < this.maxScrollY && newPosY < this.maxScrollY)) {
-        momentumY = Momentum.ZERO_MOMENTUM;
+        momentumY.set(0, 0);
       }
     }
 
@@ -941,17 +1054,17 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
 
         zoom(pageX, pageY, deltaScale, 400);
 
-        new Timer() {
+        getTimerExecutor().execute(new CodeToRun() {
 
           @Override
-          public void run() {
+          public void onExecution() {
             ScrollPanelTouchImpl.this.wheelZoomCount--;
             if (ScrollPanelTouchImpl.this.wheelZoomCount == 0) {
               // TODO maybe fire zoom end
             }
           }
 
-        }.schedule(400);
+        }, 400);
       }
       return;
     }
@@ -1062,7 +1175,9 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       setTransistionTime(step.getTime());
       pos(step.getX(), step.getY());
       this.animating = false;
-      if (step.getTime() != 0) {
+      int time = step.getTime();
+      stepPool.release(step);
+      if (time != 0) {
         bindTransistionEndEvent(issueEvent);
       } else {
         resetPos(0);
@@ -1070,7 +1185,7 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       return;
     }
 
-    final double startTime = Duration.currentTimeMillis();
+    final double startTime = getTimeProvider().getTime();
 
     final AnimationCallback animationCallback = new AnimationCallback() {
 
@@ -1080,6 +1195,7 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
         if (now >= startTime + step.getTime()) {
           ScrollPanelTouchImpl.this.pos(step.x, step.y);
           ScrollPanelTouchImpl.this.animating = false;
+          stepPool.release(step);
           if (issueEvent) {
             fireEvent(new ScrollAnimationEndEvent());
           }
@@ -1092,9 +1208,9 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
         int newX = (int) Math.round((step.getX() - startX) * easeOut + startX);
         int newY = (int) Math.round((step.getY() - startY) * easeOut + startY);
         ScrollPanelTouchImpl.this.pos(newX, newY);
-        fireEvent(new ScrollAnimationMoveEvent());
+        fireEvent(scrollAnimationMoveEvent);
         if (ScrollPanelTouchImpl.this.animating)
-          ScrollPanelTouchImpl.this.aniTime = AnimationScheduler.get().requestAnimationFrame(this);
+          ScrollPanelTouchImpl.this.aniTime = getAnimationScheduler().requestAnimationFrame(this);
 
       }
     };
@@ -1117,30 +1233,30 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
 
   }
 
-  private Momentum momentum(int dist, double time, int maxDistUpper, int maxDistLower, int size) {
+  private void momentum(Momentum target, double velocity, int maxDistUpper, int maxDistLower, int size) {
     double deceleration = 0.0006;
-    double speed = ((double) (Math.abs(dist))) / time;
+    double speed = Math.abs(velocity);
     double newDist = (speed * speed) / (2 * deceleration);
     double newTime = 0;
     double outSideDist = 0;
 
     // Proportinally reduce speed if we are outside of the boundaries
-    if (dist > 0 && newDist > maxDistUpper) {
+    if (velocity > 0 && newDist > maxDistUpper) {
       outSideDist = size / (6 / (newDist / speed * deceleration));
       maxDistUpper = (int) (maxDistUpper + outSideDist);
       speed = speed * maxDistUpper / newDist;
       newDist = maxDistUpper;
-    } else if (dist < 0 && newDist > maxDistLower) {
+    } else if (velocity < 0 && newDist > maxDistLower) {
       outSideDist = size / (6 / (newDist / speed * deceleration));
       maxDistLower = (int) (maxDistLower + outSideDist);
       speed = speed * maxDistLower / newDist;
       newDist = maxDistLower;
     }
 
-    newDist = newDist * (dist < 0 ? -1 : 1);
+    newDist = newDist * (velocity < 0 ? -1 : 1);
     newTime = speed / deceleration;
 
-    return new Momentum((int) Math.round(newDist), (int) Math.round(newTime));
+    target.set((int) Math.round(newDist), (int) Math.round(newTime));
   }
 
   private int[] offSet(com.google.gwt.dom.client.Element el) {
@@ -1360,7 +1476,8 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
       destY = y;
     }
 
-    Step step = new Step(destX, destY, time);
+    Step step = stepPool.acquire();
+    step.set(destX, destY, time);
 
     this.steps.push(step);
 
@@ -1439,11 +1556,17 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
         this.aniTime.cancel();
     }
 
-    this.steps = CollectionFactory.constructArray();
+    clearSteps();
     this.moved = false;
     this.animating = false;
   }
 
+  private void clearSteps() {
+    while (this.steps.length() > 0) {
+      stepPool.release(this.steps.shift());
+    }
+  }
+
   public void zoom(int x, int y, double scale, int time) {
 
     if (!this.useTransform)
@@ -1921,6 +2044,14 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
     this.bounceFactor = factor;
   }
 
+  @Override
+  public void setTouchPrediction(boolean prediction) {
+    if (!prediction && predicted) {
+      pos(this.x, this.y);
+    }
+    this.touchPredictor = prediction ? new TouchPredictor() : null;
+  }
+
   @Deprecated
   @Override
   public void setShowScrollBarX(boolean show) {
@@ -1993,4 +2124,24 @@ public class ScrollPanelTouchImpl extends ScrollPanelImpl {
   public void setScrollLock(boolean lock) {
     this.lockDirection = lock;
   }
+
+  // Visible for testing
+  TimeProvider getTimeProvider() {
+    return timeProvider;
+  }
+
+  // Visible for testing
+  AnimationScheduler getAnimationScheduler() {
+    return AnimationScheduler.get();
+  }
+
+  // Visible for testing
+  TimerExecutor getTimerExecutor() {
+    return TimerWheel.get();
+  }
+
+  // Visible for testing
+  TouchHandler getTouchHandler() {
+    return touchListener;
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.EventTarget;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.dom.client.Node;
+import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Event;
+import com.google.gwt.user.client.EventListener;
+import com.google.gwt.user.client.ui.Widget;
+import com.googlecode.mgwt.collection.shared.CollectionFactory;
+import com.googlecode.mgwt.collection.shared.LightSet;
+
+/**
+ * Listens for touch (and emulating mouse / pointer) events once on the document and routes them to
+ * the widgets that registered handlers through it.
+ *
+ * Handlers are added to the widget without sinking any events on its element, so attaching and
+ * detaching a widget does not touch any DOM listeners. When an event arrives the listener walks up
+ * from the event target and fires the event on every attached widget with delegated handlers, from
+ * the innermost to the outermost, until propagation is stopped.
+ *
+ * The document listeners are registered with <code>passive: false</code> where listener options
+ * are supported, so preventing the default of a touch still works.
+ *
+ * @author Daniel Kurka
+ */
+public class DelegatedTouchListener {
+
+  private static final String DELEGATES_PROPERTY = "__mgwtTouchDelegates";
+
+  private static final LightSet listening = CollectionFactory.constructSet();
+
+  // document level touch listeners are passive by default in some browsers, but widgets of the
+  // javascript scroll panel need to prevent the default
+  private static final JavaScriptObject LISTENER_OPTIONS = PassiveTouchListener.supportsListenerOptions()
+      ? PassiveTouchListener.createOptions(false) : null;
+
+  private DelegatedTouchListener() {
+  }
+
+  /**
+   * Add a handler to a widget that is called by the document listener
+   *
+   * @param w the widget that the handler should be added to
+   * @param handler the handler to add
+   * @param type the type of the dom event
+   * @return the handlerregistration
+   */
+  public static <H extends EventHandler> HandlerRegistration addHandler(Widget w, H handler, DomEvent.Type<H> type) {
+    String eventName = type.getName();
+    if (!listening.contains(eventName)) {
+      listening.add(eventName);
+      listen(eventName, LISTENER_OPTIONS);
+    }
+
+    final Element element = w.getElement();
+    element.setPropertyInt(DELEGATES_PROPERTY, element.getPropertyInt(DELEGATES_PROPERTY) + 1);
+    final HandlerRegistration registration = w.addHandler(handler, type);
+
+    return new HandlerRegistration() {
+
+      private boolean removed;
+
+      @Override
+      public void removeHandler() {
+        if (removed) {
+          return;
+        }
+        removed = true;
+        registration.removeHandler();
+        element.setPropertyInt(DELEGATES_PROPERTY, element.getPropertyInt(DELEGATES_PROPERTY) - 1);
+      }
+    };
+  }
+
+  private static void dispatch(NativeEvent event) {
+    Element element = getTargetElement(event.getEventTarget());
+    if (element == null || !DOM.previewEvent(Event.as(event))) {
+      return;
+    }
+
+    while (element != null) {
+      if (element.getPropertyInt(DELEGATES_PROPERTY) > 0) {
+        // only attached widgets are registered as listener of their element
+        EventListener listener = DOM.getEventListener(element);
+        if (listener instanceof Widget) {
+          DomEvent.fireNativeEvent(event, (Widget) listener, element);
+          if (isPropagationStopped(event)) {
+            return;
+          }
+        }
+      }
+      element = element.getParentElement();
+    }
+  }
+
+  private static Element getTargetElement(EventTarget target) {
+    if (!Node.is(target)) {
+      return null;
+    }
+    Node node = Node.as(target);
+    if (Element.is(node)) {
+      return Element.as(node);
+    }
+    return node.getParentElement();
+  }
+
+  private static native boolean isPropagationStopped(NativeEvent event) /*-{
+    return !!event.cancelBubble;
+  }-*/;
+
+  private static native void listen(String eventName, JavaScriptObject options) /*-{
+    $doc.addEventListener(eventName, $entry(function(event) {
+      @com.googlecode.mgwt.ui.client.widget.touch.DelegatedTouchListener::dispatch(Lcom/google/gwt/dom/client/NativeEvent;)(event);
+    }), options || false);
+  }-*/;
+}
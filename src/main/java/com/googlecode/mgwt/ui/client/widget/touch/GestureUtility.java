@@ -15,17 +15,23 @@
  */
 package com.googlecode.mgwt.ui.client.widget.touch;
 
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.UIObject;
 import com.googlecode.mgwt.dom.client.event.touch.HasTouchHandlers;
+import com.googlecode.mgwt.dom.client.recognizer.GestureArena;
 import com.googlecode.mgwt.dom.client.recognizer.TapRecognizer;
 import com.googlecode.mgwt.dom.client.recognizer.longtap.LongTapRecognizer;
 import com.googlecode.mgwt.dom.client.recognizer.pinch.PinchRecognizer;
 import com.googlecode.mgwt.dom.client.recognizer.pinch.UIObjectToOffsetProvider;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeRecognizer;
+import com.googlecode.mgwt.dom.client.recognizer.transform.TransformRecognizer;
 
 /**
  * {@link GestureUtility} is a utility class for adding standard recognizers to a widget
  *
+ * All recognizers of a widget share one {@link GestureArena}, which is the only touch handler
+ * registered on the widget.
+ *
  * @author Daniel Kurka
  *
  */
@@ -35,6 +41,9 @@ public class GestureUtility {
 	private LongTapRecognizer longTapRecognizer;
 	private SwipeRecognizer swipeRecognizer;
 	private PinchRecognizer pinchRecognizer;
+	private TransformRecognizer transformRecognizer;
+	private GestureArena gestureArena;
+	private HandlerRegistration gestureArenaRegistration;
 
 	public GestureUtility(HasTouchHandlers source) {
 		assert source != null;
@@ -49,7 +58,7 @@ public class GestureUtility {
 			return;
 
 		tapRecognizer = new TapRecognizer(source);
-		source.addTouchHandler(tapRecognizer);
+		getGestureArena().add(tapRecognizer);
 	}
 
   /**
@@ -61,7 +70,7 @@ public class GestureUtility {
 		}
 
 		longTapRecognizer = new LongTapRecognizer(source);
-		source.addTouchHandler(longTapRecognizer);
+		getGestureArena().add(longTapRecognizer);
 	}
 
   /**
@@ -73,7 +82,7 @@ public class GestureUtility {
 		}
 
 		swipeRecognizer = new SwipeRecognizer(source);
-		source.addTouchHandler(swipeRecognizer);
+		getGestureArena().add(swipeRecognizer);
 	}
 
   /**
@@ -88,7 +97,22 @@ public class GestureUtility {
 		}
 
 		pinchRecognizer = new PinchRecognizer(source, new UIObjectToOffsetProvider(object));
-		source.addTouchHandler(pinchRecognizer);
+		getGestureArena().add(pinchRecognizer);
+	}
+
+  /**
+   * ensure that there is a registered {@link TransformRecognizer} on the source
+   *
+   * @param object the {@link UIObject} that is used for offset
+   *
+   */
+	public void ensureTransformRecognizer(UIObject object) {
+		if (transformRecognizer != null) {
+			return;
+		}
+
+		transformRecognizer = new TransformRecognizer(source, new UIObjectToOffsetProvider(object));
+		getGestureArena().add(transformRecognizer);
 	}
 
   /**
@@ -100,6 +124,31 @@ public class GestureUtility {
 		}
 
 		longTapRecognizer = new LongTapRecognizer(source);
-		source.addTouchHandler(longTapRecognizer);
+		getGestureArena().add(longTapRecognizer);
+	}
+
+  /**
+   * get the arena of the source, registering it on first use
+   *
+   * @return the arena
+   */
+	public GestureArena getGestureArena() {
+		if (gestureArena == null) {
+			gestureArena = new GestureArena();
+			gestureArenaRegistration = source.addTouchHandler(gestureArena);
+		}
+		return gestureArena;
+	}
+
+  /**
+   * remove the arena from the source and register it again, e.g. after the touch handlers of the
+   * source have been marked as passive
+   */
+	public void reregisterGestureArena() {
+		if (gestureArena == null) {
+			return;
+		}
+		gestureArenaRegistration.removeHandler();
+		gestureArenaRegistration = source.addTouchHandler(gestureArena);
 	}
 }
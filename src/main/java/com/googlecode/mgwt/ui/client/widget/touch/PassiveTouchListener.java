@@ -0,0 +1,207 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.HandlerManager;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Event;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Registers touch (and emulating mouse) handlers of a widget through a passive
+ * <code>addEventListener</code> on its element.
+ *
+ * A passive listener tells the browser that it will never call <code>preventDefault</code>, so
+ * the browser can start scrolling on the compositor right away instead of waiting for the handler
+ * to run. Widgets that only observe touches (e.g. taps on list items inside a scroll panel) should
+ * be marked passive with {@link #setPassive(Widget, boolean)} before their handlers are added.
+ * Calls to <code>preventDefault</code> on events of a passive widget are ignored by the browser.
+ *
+ * Passive handlers are kept in their own {@link HandlerManager}, so an event is only delivered to
+ * them by the passive listener and never a second time by the normal event dispatch of the
+ * widget. Only touch events can hold up scrolling, handlers of other events (e.g. the mouse events
+ * that emulate touches) are added to the widget as usual, so they keep working with mouse capture.
+ *
+ * Browsers without support for listener options register the listener as a normal bubbling
+ * listener.
+ *
+ * @author Daniel Kurka
+ */
+public class PassiveTouchListener {
+
+  private static final String PASSIVE_PROPERTY = "__mgwtPassiveTouch";
+
+  private static final JavaScriptObject LISTENER_OPTIONS = createListenerOptions();
+
+  private PassiveTouchListener() {
+  }
+
+  /**
+   * Mark the touch handlers of a widget as passive
+   *
+   * This only affects handlers that are added afterwards.
+   *
+   * @param w the widget
+   * @param passive true if the widget never prevents the default of its touch events
+   */
+  public static void setPassive(Widget w, boolean passive) {
+    w.getElement().setPropertyBoolean(PASSIVE_PROPERTY, passive);
+  }
+
+  /**
+   * Are the touch handlers of a widget passive?
+   *
+   * @param w the widget
+   * @return true if handlers of the widget should be added with
+   *         {@link #addHandler(Widget, EventHandler, DomEvent.Type)}
+   */
+  public static boolean isPassive(Widget w) {
+    return w.getElement().getPropertyBoolean(PASSIVE_PROPERTY);
+  }
+
+  /**
+   * Add a handler to a widget that is called by a passive listener on its element
+   *
+   * @param w the widget that the handler should be added to
+   * @param handler the handler to add
+   * @param type the type of the dom event
+   * @return the handlerregistration
+   */
+  public static <H extends EventHandler> HandlerRegistration addHandler(final Widget w, H handler, DomEvent.Type<H> type) {
+    if (!isTouchEvent(type)) {
+      return w.addDomHandler(handler, type);
+    }
+    final Element element = w.getElement();
+    final String eventName = type.getName();
+    HandlerManager handlerManager = getHandlerManager(element);
+    if (handlerManager == null) {
+      handlerManager = new HandlerManager(w);
+      setHandlerManager(element, handlerManager);
+    }
+    listen(w, element, eventName, LISTENER_OPTIONS);
+    final HandlerRegistration registration = handlerManager.addHandler(type, handler);
+
+    return new HandlerRegistration() {
+
+      private boolean removed;
+
+      @Override
+      public void removeHandler() {
+        if (removed) {
+          return;
+        }
+        removed = true;
+        registration.removeHandler();
+        unlisten(element, eventName, LISTENER_OPTIONS);
+      }
+    };
+  }
+
+  private static boolean isTouchEvent(DomEvent.Type<?> type) {
+    return type == TouchStartEvent.getType() || type == TouchMoveEvent.getType() || type == TouchEndEvent.getType()
+        || type == TouchCancelEvent.getType();
+  }
+
+  private static void dispatch(Widget w, Element element, NativeEvent event) {
+    if (!w.isAttached() || !DOM.previewEvent(Event.as(event))) {
+      return;
+    }
+    HandlerManager handlerManager = getHandlerManager(element);
+    if (handlerManager != null) {
+      DomEvent.fireNativeEvent(event, handlerManager, element);
+    }
+  }
+
+  private static native HandlerManager getHandlerManager(Element element) /*-{
+    return element.__mgwtPassiveHandlers || null;
+  }-*/;
+
+  private static native void setHandlerManager(Element element, HandlerManager handlerManager) /*-{
+    element.__mgwtPassiveHandlers = handlerManager;
+  }-*/;
+
+  /**
+   * Creates the options of the listeners; the passive flag is only set if the browser reads the
+   * options object, older browsers treat the third parameter as useCapture and get false instead
+   */
+  private static JavaScriptObject createListenerOptions() {
+    return supportsListenerOptions() ? createOptions(true) : null;
+  }
+
+  /**
+   * Does the browser read an options object as third parameter of addEventListener?
+   *
+   * @return true if listener options (e.g. passive) are supported
+   */
+  static native boolean supportsListenerOptions() /*-{
+    var supported = false;
+    try {
+      var options = Object.defineProperty({}, 'passive', {
+        get: function() {
+          supported = true;
+          return true;
+        }
+      });
+      $wnd.addEventListener('mgwtpassivetest', null, options);
+      $wnd.removeEventListener('mgwtpassivetest', null, options);
+    } catch (e) {
+      // listener options are not supported
+    }
+    return supported;
+  }-*/;
+
+  /**
+   * Creates listener options, only call this if {@link #supportsListenerOptions()}
+   *
+   * @param passive the value of the passive flag
+   * @return the options object
+   */
+  static native JavaScriptObject createOptions(boolean passive) /*-{
+    return {passive: passive, capture: false};
+  }-*/;
+
+  private static native void listen(Widget w, Element element, String eventName, JavaScriptObject options) /*-{
+    var listeners = element.__mgwtPassiveListeners || (element.__mgwtPassiveListeners = {});
+    var entry = listeners[eventName];
+    if (entry) {
+      entry.count++;
+      return;
+    }
+    entry = listeners[eventName] = {count: 1};
+    entry.listener = $entry(function(event) {
+      @com.googlecode.mgwt.ui.client.widget.touch.PassiveTouchListener::dispatch(Lcom/google/gwt/user/client/ui/Widget;Lcom/google/gwt/dom/client/Element;Lcom/google/gwt/dom/client/NativeEvent;)(w, element, event);
+    });
+    element.addEventListener(eventName, entry.listener, options || false);
+  }-*/;
+
+  private static native void unlisten(Element element, String eventName, JavaScriptObject options) /*-{
+    var listeners = element.__mgwtPassiveListeners;
+    var entry = listeners && listeners[eventName];
+    if (!entry || --entry.count > 0) {
+      return;
+    }
+    element.removeEventListener(eventName, entry.listener, options || false);
+    delete listeners[eventName];
+  }-*/;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Controls what the browser may do with touches on a widget (css <code>touch-action</code>)
+ *
+ * With pointer events the browser decides before the first event if a touch pans the page. Touch
+ * widgets default to <code>manipulation</code>, so the page or a native scroll panel can pan when a
+ * touch starts on a button or a list row. Widgets that move their content with the finger (scroll
+ * panels, sliders, swipe menus) have to opt into <code>none</code>, otherwise the browser takes
+ * over the touch and cancels the pointer.
+ *
+ * @author Daniel Kurka
+ */
+public class TouchAction {
+
+  static final String NONE = "none";
+
+  static final String MANIPULATION = "manipulation";
+
+  private static final String TOUCH_ACTION = "touchAction";
+
+  private TouchAction() {
+  }
+
+  /**
+   * Mark a widget that drags its content itself, so the browser never pans or zooms it
+   *
+   * @param w the widget
+   * @param dragging true if the widget handles all touch movement itself
+   */
+  public static void setDragging(Widget w, boolean dragging) {
+    w.getElement().getStyle().setProperty(TOUCH_ACTION, dragging ? NONE : MANIPULATION);
+  }
+
+  /**
+   * Does a widget drag its content itself?
+   *
+   * @param w the widget
+   * @return true if the browser is not allowed to pan or zoom the widget
+   */
+  public static boolean isDragging(Widget w) {
+    return NONE.equals(w.getElement().getStyle().getProperty(TOUCH_ACTION));
+  }
+}
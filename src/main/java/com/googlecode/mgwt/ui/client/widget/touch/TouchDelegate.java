@@ -43,6 +43,9 @@ import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeMoveEvent;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeMoveHandler;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartEvent;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartHandler;
+import com.googlecode.mgwt.dom.client.recognizer.transform.HasTransformHandlers;
+import com.googlecode.mgwt.dom.client.recognizer.transform.TransformEvent;
+import com.googlecode.mgwt.dom.client.recognizer.transform.TransformHandler;
 
 /**
  * A TouchDelegate can be used to source touch events from a widget that does
@@ -51,7 +54,7 @@ import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartHandler;
  * @author Daniel Kurka
  */
 
-public class TouchDelegate implements HasTouchHandlers, HasTapHandlers, HasSwipeHandlers, HasPinchHandlers, HasLongTapHandlers {
+public class TouchDelegate implements HasTouchHandlers, HasTapHandlers, HasSwipeHandlers, HasPinchHandlers, HasLongTapHandlers, HasTransformHandlers {
 
 	protected final GestureUtility gestureUtility;
 	private static final TouchWidgetImpl impl = GWT.create(TouchWidgetImpl.class);
@@ -128,6 +131,12 @@ public class TouchDelegate implements HasTouchHandlers, HasTapHandlers, HasSwipe
 		return w.addHandler(handler, PinchEvent.getType());
 	}
 
+	@Override
+	public HandlerRegistration addTransformHandler(TransformHandler handler) {
+		gestureUtility.ensureTransformRecognizer(w);
+		return w.addHandler(handler, TransformEvent.getType());
+	}
+
 	@Override
 	public HandlerRegistration addLongTapHandler(LongTapHandler handler) {
 		gestureUtility.ensureLongTapHandler();
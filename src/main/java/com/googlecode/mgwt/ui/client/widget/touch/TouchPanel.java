@@ -16,12 +16,17 @@
 package com.googlecode.mgwt.ui.client.widget.touch;
 
 import com.google.gwt.core.shared.GWT;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
 import com.google.gwt.event.dom.client.TouchCancelHandler;
+import com.google.gwt.event.dom.client.TouchEndEvent;
 import com.google.gwt.event.dom.client.TouchEndHandler;
 import com.google.gwt.event.dom.client.TouchEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
 import com.google.gwt.event.dom.client.TouchMoveHandler;
+import com.google.gwt.event.dom.client.TouchStartEvent;
 import com.google.gwt.event.dom.client.TouchStartHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.googlecode.mgwt.dom.client.event.tap.HasTapHandlers;
 import com.googlecode.mgwt.dom.client.event.tap.TapEvent;
@@ -41,13 +46,16 @@ import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeMoveEvent;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeMoveHandler;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartEvent;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartHandler;
+import com.googlecode.mgwt.dom.client.recognizer.transform.HasTransformHandlers;
+import com.googlecode.mgwt.dom.client.recognizer.transform.TransformEvent;
+import com.googlecode.mgwt.dom.client.recognizer.transform.TransformHandler;
 
 /**
  * A simple panel that supports {@link TouchEvent}
  *
  * @author Daniel Kurka
  */
-public class TouchPanel extends FlowPanel implements HasTouchHandlers, HasTapHandlers, HasPinchHandlers, HasSwipeHandlers, HasLongTapHandlers {
+public class TouchPanel extends FlowPanel implements HasTouchHandlers, HasTapHandlers, HasPinchHandlers, HasSwipeHandlers, HasLongTapHandlers, HasTransformHandlers {
 
   private static final TouchWidgetImpl impl = GWT.create(TouchWidgetImpl.class);
 
@@ -84,6 +92,37 @@ public class TouchPanel extends FlowPanel implements HasTouchHandlers, HasTapHan
 	  return impl.addTouchHandler(this, handler);
 	}
 
+	/**
+	 * Register the touch handlers of this widget as passive listeners, so the browser can scroll
+	 * without waiting for them. Only use this if no handler calls preventDefault, and call it before
+	 * adding handlers.
+	 *
+	 * The gesture recognizers of the widget are registered again. Touch events that no remaining
+	 * non passive handler listens to are no longer sunk, so they do not block scrolling.
+	 *
+	 * @param passive true to register touch handlers added from now on as passive
+	 */
+	public void setPassiveTouchHandlers(boolean passive) {
+		PassiveTouchListener.setPassive(this, passive);
+		gestureUtility.reregisterGestureArena();
+		unsinkUnusedTouchEvents();
+	}
+
+	private void unsinkUnusedTouchEvents() {
+		if (getHandlerCount(TouchStartEvent.getType()) == 0) {
+			unsinkEvents(Event.ONTOUCHSTART);
+		}
+		if (getHandlerCount(TouchMoveEvent.getType()) == 0) {
+			unsinkEvents(Event.ONTOUCHMOVE);
+		}
+		if (getHandlerCount(TouchEndEvent.getType()) == 0) {
+			unsinkEvents(Event.ONTOUCHEND);
+		}
+		if (getHandlerCount(TouchCancelEvent.getType()) == 0) {
+			unsinkEvents(Event.ONTOUCHCANCEL);
+		}
+	}
+
 	@Override
 	public HandlerRegistration addTapHandler(TapHandler handler) {
 		gestureUtility.ensureTapRecognizer();
@@ -114,6 +153,12 @@ public class TouchPanel extends FlowPanel implements HasTouchHandlers, HasTapHan
 		return addHandler(handler, PinchEvent.getType());
 	}
 
+	@Override
+	public HandlerRegistration addTransformHandler(TransformHandler handler) {
+		gestureUtility.ensureTransformRecognizer(this);
+		return addHandler(handler, TransformEvent.getType());
+	}
+
 	@Override
 	public HandlerRegistration addLongTapHandler(LongTapHandler handler) {
 		gestureUtility.ensureLongTapHandler();
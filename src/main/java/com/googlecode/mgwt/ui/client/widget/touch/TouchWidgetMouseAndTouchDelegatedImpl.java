@@ -0,0 +1,34 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Supports mouse and touch like {@link TouchWidgetMouseAndTouchImpl}, but routes all events through
+ * one {@link DelegatedTouchListener} on the document instead of listening on every widget
+ *
+ * Widgets marked with {@link PassiveTouchListener#setPassive(Widget, boolean)} are routed through
+ * the document listener as well, since it is shared by all widgets.
+ */
+public class TouchWidgetMouseAndTouchDelegatedImpl extends TouchWidgetMouseAndTouchImpl
+{
+  @Override
+  protected <H extends EventHandler> HandlerRegistration addDomHandler(Widget w, H handler, DomEvent.Type<H> type) {
+    return DelegatedTouchListener.addHandler(w, handler, type);
+  }
+}
@@ -13,13 +13,19 @@
  */
 package com.googlecode.mgwt.ui.client.widget.touch;
 
+import com.google.gwt.event.dom.client.DomEvent;
 import com.google.gwt.event.dom.client.MouseDownEvent;
 import com.google.gwt.event.dom.client.MouseMoveEvent;
 import com.google.gwt.event.dom.client.MouseUpEvent;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
 import com.google.gwt.event.dom.client.TouchCancelHandler;
+import com.google.gwt.event.dom.client.TouchEndEvent;
 import com.google.gwt.event.dom.client.TouchEndHandler;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
 import com.google.gwt.event.dom.client.TouchMoveHandler;
+import com.google.gwt.event.dom.client.TouchStartEvent;
 import com.google.gwt.event.dom.client.TouchStartHandler;
+import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.Widget;
 import com.googlecode.mgwt.dom.client.event.mouse.HandlerRegistrationCollection;
@@ -34,18 +40,16 @@ import com.googlecode.mgwt.ui.client.util.NoopHandlerRegistration;
  */
 public class TouchWidgetMouseAndTouchImpl implements TouchWidgetImpl
 {
-  private static final TouchWidgetImpl delegate = new TouchWidgetTouchOnlyImpl();
-
   @Override
   public HandlerRegistration addTouchStartHandler(Widget w, TouchStartHandler handler) {
     if (TouchSupport.isTouchEventsSupported()) {
       HandlerRegistrationCollection handlerRegistrations = new HandlerRegistrationCollection();
-      handlerRegistrations.addHandlerRegistration(delegate.addTouchStartHandler(w, handler));
-      handlerRegistrations.addHandlerRegistration(w.addDomHandler(new TouchStartToMouseDownHandler(handler), MouseDownEvent.getType()));
+      handlerRegistrations.addHandlerRegistration(addDomHandler(w, handler, TouchStartEvent.getType()));
+      handlerRegistrations.addHandlerRegistration(addDomHandler(w, new TouchStartToMouseDownHandler(handler), MouseDownEvent.getType()));
       return handlerRegistrations;
     }
     else {
-      return w.addDomHandler(new TouchStartToMouseDownHandler(handler), MouseDownEvent.getType());
+      return addDomHandler(w, new TouchStartToMouseDownHandler(handler), MouseDownEvent.getType());
     }
   }
 
@@ -53,19 +57,19 @@ public class TouchWidgetMouseAndTouchImpl implements TouchWidgetImpl
   public HandlerRegistration addTouchMoveHandler(Widget w, TouchMoveHandler handler) {
     HandlerRegistrationCollection handlerRegistrations = new HandlerRegistrationCollection();
     if (TouchSupport.isTouchEventsSupported()) {
-      handlerRegistrations.addHandlerRegistration(delegate.addTouchMoveHandler(w, handler));
+      handlerRegistrations.addHandlerRegistration(addDomHandler(w, handler, TouchMoveEvent.getType()));
     }
     TouchMoveToMouseMoveHandler touchMoveToMouseMoveHandler = new TouchMoveToMouseMoveHandler(handler);
-    handlerRegistrations.addHandlerRegistration(w.addDomHandler(touchMoveToMouseMoveHandler, MouseDownEvent.getType()));
-    handlerRegistrations.addHandlerRegistration(w.addDomHandler(touchMoveToMouseMoveHandler, MouseUpEvent.getType()));
-    handlerRegistrations.addHandlerRegistration(w.addDomHandler(touchMoveToMouseMoveHandler, MouseMoveEvent.getType()));
+    handlerRegistrations.addHandlerRegistration(addDomHandler(w, touchMoveToMouseMoveHandler, MouseDownEvent.getType()));
+    handlerRegistrations.addHandlerRegistration(addDomHandler(w, touchMoveToMouseMoveHandler, MouseUpEvent.getType()));
+    handlerRegistrations.addHandlerRegistration(addDomHandler(w, touchMoveToMouseMoveHandler, MouseMoveEvent.getType()));
     return handlerRegistrations;
   }
 
   @Override
   public HandlerRegistration addTouchCancelHandler(Widget w, TouchCancelHandler handler) {
     if (TouchSupport.isTouchEventsSupported()) {
-      return delegate.addTouchCancelHandler(w, handler);
+      return addDomHandler(w, handler, TouchCancelEvent.getType());
     }
     return new NoopHandlerRegistration();
   }
@@ -74,12 +78,12 @@ public class TouchWidgetMouseAndTouchImpl implements TouchWidgetImpl
   public HandlerRegistration addTouchEndHandler(Widget w, TouchEndHandler handler) {
     if (TouchSupport.isTouchEventsSupported()) {
       HandlerRegistrationCollection handlerRegistrations = new HandlerRegistrationCollection();
-      handlerRegistrations.addHandlerRegistration(delegate.addTouchEndHandler(w, handler));
-      handlerRegistrations.addHandlerRegistration(w.addDomHandler(new TouchEndToMouseUpHandler(handler), MouseUpEvent.getType()));
+      handlerRegistrations.addHandlerRegistration(addDomHandler(w, handler, TouchEndEvent.getType()));
+      handlerRegistrations.addHandlerRegistration(addDomHandler(w, new TouchEndToMouseUpHandler(handler), MouseUpEvent.getType()));
       return handlerRegistrations;
     }
     else {
-      return w.addDomHandler(new TouchEndToMouseUpHandler(handler), MouseUpEvent.getType());
+      return addDomHandler(w, new TouchEndToMouseUpHandler(handler), MouseUpEvent.getType());
     }
   }
 
@@ -93,4 +97,19 @@ public class TouchWidgetMouseAndTouchImpl implements TouchWidgetImpl
     return hrc;
   }
 
+  /**
+   * Add a dom handler to a widget, through a passive listener if the widget is marked as passive
+   * with {@link PassiveTouchListener#setPassive(Widget, boolean)}
+   *
+   * @param w the widget that the handler should be added to
+   * @param handler the handler to add
+   * @param type the type of the dom event
+   * @return the handlerregistration
+   */
+  protected <H extends EventHandler> HandlerRegistration addDomHandler(Widget w, H handler, DomEvent.Type<H> type) {
+    if (PassiveTouchListener.isPassive(w)) {
+      return PassiveTouchListener.addHandler(w, handler, type);
+    }
+    return w.addDomHandler(handler, type);
+  }
 }
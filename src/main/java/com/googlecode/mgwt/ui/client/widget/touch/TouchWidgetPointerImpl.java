@@ -13,10 +13,12 @@
  */
 package com.googlecode.mgwt.ui.client.widget.touch;
 
+import com.google.gwt.event.dom.client.DomEvent;
 import com.google.gwt.event.dom.client.TouchCancelHandler;
 import com.google.gwt.event.dom.client.TouchEndHandler;
 import com.google.gwt.event.dom.client.TouchMoveHandler;
 import com.google.gwt.event.dom.client.TouchStartHandler;
+import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.Widget;
 import com.googlecode.mgwt.dom.client.event.mouse.HandlerRegistrationCollection;
@@ -37,22 +39,22 @@ public class TouchWidgetPointerImpl implements TouchWidgetImpl
 {
   @Override
   public HandlerRegistration addTouchStartHandler(Widget w, TouchStartHandler handler) {
-    return w.addBitlessDomHandler(new TouchStartToMsPointerDownHandler(handler), MsPointerDownEvent.getType());
+    return addDomHandler(w, new TouchStartToMsPointerDownHandler(handler), MsPointerDownEvent.getType());
   }
 
   @Override
   public HandlerRegistration addTouchMoveHandler(Widget w, TouchMoveHandler handler) {
-    return w.addBitlessDomHandler(new TouchMoveToMsPointerMoveHandler(handler), MsPointerMoveEvent.getType());
+    return addDomHandler(w, new TouchMoveToMsPointerMoveHandler(handler), MsPointerMoveEvent.getType());
   }
 
   @Override
   public HandlerRegistration addTouchCancelHandler(Widget w, TouchCancelHandler handler) {
-    return w.addBitlessDomHandler(new TouchCancelToMsPointerCancelHandler(handler), MsPointerCancelEvent.getType());
+    return addDomHandler(w, new TouchCancelToMsPointerCancelHandler(handler), MsPointerCancelEvent.getType());
   }
 
   @Override
   public HandlerRegistration addTouchEndHandler(Widget w, TouchEndHandler handler) {
-    return w.addBitlessDomHandler(new TouchEndToMsPointerUpHandler(handler), MsPointerUpEvent.getType());
+    return addDomHandler(w, new TouchEndToMsPointerUpHandler(handler), MsPointerUpEvent.getType());
   }
 
   @Override
@@ -65,4 +67,15 @@ public class TouchWidgetPointerImpl implements TouchWidgetImpl
     return hrc;
   }
 
+  /**
+   * Add a dom handler to a widget
+   *
+   * @param w the widget that the handler should be added to
+   * @param handler the handler to add
+   * @param type the type of the dom event
+   * @return the handlerregistration
+   */
+  protected <H extends EventHandler> HandlerRegistration addDomHandler(Widget w, H handler, DomEvent.Type<H> type) {
+    return w.addBitlessDomHandler(handler, type);
+  }
 }
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.dom.client.Touch;
+import com.google.gwt.event.dom.client.TouchCancelHandler;
+import com.google.gwt.event.dom.client.TouchEndHandler;
+import com.google.gwt.event.dom.client.TouchMoveHandler;
+import com.google.gwt.event.dom.client.TouchStartHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.Widget;
+import com.googlecode.mgwt.dom.client.event.pointer.PointerTouchCancelEvent;
+import com.googlecode.mgwt.dom.client.event.pointer.PointerTouchEndEvent;
+import com.googlecode.mgwt.dom.client.event.pointer.PointerTouchMoveEvent;
+import com.googlecode.mgwt.dom.client.event.pointer.PointerTouchStartEvent;
+import com.googlecode.mgwt.dom.client.event.pointer.SimulatedTouch;
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+
+/**
+ * Supports the standard (unprefixed) pointer events model
+ *
+ * Every pointer that goes down on a widget is tracked, so touch handlers see all fingers in
+ * {@link com.google.gwt.event.dom.client.TouchEvent#getTouches()} and multi finger recognizers work.
+ * Every <code>pointermove</code> is handed to the move handler as one {@link PointerTouchMoveEvent}.
+ * It exposes the samples the browser coalesced since the last dispatch
+ * (<code>getCoalescedEvents()</code>) through
+ * {@link com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples}, so velocity estimation
+ * gets the full sample rate while the handlers run once per event.
+ *
+ * Widgets get a <code>touch-action</code> of <code>manipulation</code> unless they set one
+ * themselves, so the browser can pan right away without waiting for our handlers. Widgets that drag
+ * their content opt into <code>none</code> with {@link TouchAction#setDragging(Widget, boolean)}.
+ */
+public class TouchWidgetStandardPointerImpl implements TouchWidgetImpl
+{
+  private static final String TOUCH_ACTION = "touchAction";
+
+  @Override
+  public HandlerRegistration addTouchStartHandler(Widget w, TouchStartHandler handler) {
+    return new PointerTracker(w, handler, null, null, null).listen();
+  }
+
+  @Override
+  public HandlerRegistration addTouchMoveHandler(Widget w, TouchMoveHandler handler) {
+    return new PointerTracker(w, null, handler, null, null).listen();
+  }
+
+  @Override
+  public HandlerRegistration addTouchCancelHandler(Widget w, TouchCancelHandler handler) {
+    return new PointerTracker(w, null, null, null, handler).listen();
+  }
+
+  @Override
+  public HandlerRegistration addTouchEndHandler(Widget w, TouchEndHandler handler) {
+    return new PointerTracker(w, null, null, handler, null).listen();
+  }
+
+  @Override
+  public HandlerRegistration addTouchHandler(Widget w, TouchHandler handler) {
+    return new PointerTracker(w, handler, handler, handler, handler).listen();
+  }
+
+  /**
+   * Listens for the pointer events of one element and keeps the pointers that are down on it
+   */
+  private static class PointerTracker implements HandlerRegistration {
+
+    private final Widget widget;
+    private final TouchStartHandler startHandler;
+    private final TouchMoveHandler moveHandler;
+    private final TouchEndHandler endHandler;
+    private final TouchCancelHandler cancelHandler;
+
+    private final JsArray<Touch> touches = SimulatedTouch.createTouchArray();
+    private JavaScriptObject listener;
+
+    public PointerTracker(Widget widget, TouchStartHandler startHandler, TouchMoveHandler moveHandler,
+        TouchEndHandler endHandler, TouchCancelHandler cancelHandler) {
+      this.widget = widget;
+      this.startHandler = startHandler;
+      this.moveHandler = moveHandler;
+      this.endHandler = endHandler;
+      this.cancelHandler = cancelHandler;
+    }
+
+    public HandlerRegistration listen() {
+      Style style = widget.getElement().getStyle();
+      String touchAction = style.getProperty(TOUCH_ACTION);
+      if (touchAction == null || touchAction.isEmpty()) {
+        style.setProperty(TOUCH_ACTION, TouchAction.MANIPULATION);
+      }
+      listener = addListener(widget.getElement());
+      return this;
+    }
+
+    @Override
+    public void removeHandler() {
+      if (listener != null) {
+        removeListener(widget.getElement(), listener);
+        listener = null;
+      }
+    }
+
+    private void onPointerDown(NativeEvent event) {
+      if (isMouse(event) && event.getButton() != NativeEvent.BUTTON_LEFT) {
+        return;
+      }
+      int pointerId = getPointerId(event);
+      int index = indexOf(pointerId);
+      Touch touch = createTouch(pointerId, event);
+      if (index == -1) {
+        touches.push(touch);
+      } else {
+        touches.set(index, touch);
+      }
+      // keep receiving the pointer outside of the element, like touch events do
+      setPointerCapture(widget.getElement(), pointerId);
+
+      if (startHandler != null) {
+        startHandler.onTouchStart(new PointerTouchStartEvent(event, widget, copyTouches(), singleTouch(touch)));
+      }
+    }
+
+    private void onPointerMove(NativeEvent event) {
+      int pointerId = getPointerId(event);
+      int index = indexOf(pointerId);
+      if (index == -1) {
+        // hovering mouse or pen
+        return;
+      }
+
+      JsArray<NativeEvent> samples = getCoalescedEvents(event);
+      int count = samples.length();
+      Touch touch = createTouch(pointerId, samples.get(count - 1));
+      touches.set(index, touch);
+      if (moveHandler == null) {
+        return;
+      }
+
+      // event time stamps are relative to the page load, sample times to the epoch
+      double timeOffset = Duration.currentTimeMillis() - getTimeStamp(event);
+      double[] sampleTimes = new double[count];
+      int[] samplePageX = new int[count];
+      int[] samplePageY = new int[count];
+      for (int i = 0; i < count; i++) {
+        NativeEvent sample = samples.get(i);
+        sampleTimes[i] = timeOffset + getTimeStamp(sample);
+        samplePageX[i] = getPageX(sample);
+        samplePageY[i] = getPageY(sample);
+      }
+      moveHandler.onTouchMove(new PointerTouchMoveEvent(event, widget, copyTouches(), singleTouch(touch), sampleTimes, samplePageX,
+          samplePageY));
+    }
+
+    private void onPointerUp(NativeEvent event, boolean cancel) {
+      int pointerId = getPointerId(event);
+      int index = indexOf(pointerId);
+      if (index == -1) {
+        return;
+      }
+      Touch touch = createTouch(pointerId, event);
+      removeTouch(touches, index);
+
+      if (cancel) {
+        if (cancelHandler != null) {
+          cancelHandler.onTouchCancel(new PointerTouchCancelEvent(event, widget, copyTouches(), singleTouch(touch)));
+        }
+      } else if (endHandler != null) {
+        endHandler.onTouchEnd(new PointerTouchEndEvent(event, widget, copyTouches(), singleTouch(touch)));
+      }
+    }
+
+    private int indexOf(int pointerId) {
+      for (int i = 0; i < touches.length(); i++) {
+        if (touches.get(i).getIdentifier() == pointerId) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private JsArray<Touch> copyTouches() {
+      JsArray<Touch> copy = SimulatedTouch.createTouchArray();
+      for (int i = 0; i < touches.length(); i++) {
+        copy.push(touches.get(i));
+      }
+      return copy;
+    }
+
+    private static JsArray<Touch> singleTouch(Touch touch) {
+      JsArray<Touch> array = SimulatedTouch.createTouchArray();
+      array.push(touch);
+      return array;
+    }
+
+    private static Touch createTouch(int pointerId, NativeEvent event) {
+      SimulatedTouch touch = SimulatedTouch.createTouch();
+      touch.setId(pointerId);
+      touch.setClientX(event.getClientX());
+      touch.setClientY(event.getClientY());
+      touch.setScreenX(event.getScreenX());
+      touch.setScreenY(event.getScreenY());
+      touch.setPageX(getPageX(event));
+      touch.setPageY(getPageY(event));
+      return touch;
+    }
+
+    private native JavaScriptObject addListener(Element element) /*-{
+      var that = this;
+      var listener = $entry(function(event) {
+        switch (event.type) {
+          case 'pointerdown':
+            that.@com.googlecode.mgwt.ui.client.widget.touch.TouchWidgetStandardPointerImpl.PointerTracker::onPointerDown(Lcom/google/gwt/dom/client/NativeEvent;)(event);
+            break;
+          case 'pointermove':
+            that.@com.googlecode.mgwt.ui.client.widget.touch.TouchWidgetStandardPointerImpl.PointerTracker::onPointerMove(Lcom/google/gwt/dom/client/NativeEvent;)(event);
+            break;
+          case 'pointerup':
+            that.@com.googlecode.mgwt.ui.client.widget.touch.TouchWidgetStandardPointerImpl.PointerTracker::onPointerUp(Lcom/google/gwt/dom/client/NativeEvent;Z)(event, false);
+            break;
+          case 'pointercancel':
+            that.@com.googlecode.mgwt.ui.client.widget.touch.TouchWidgetStandardPointerImpl.PointerTracker::onPointerUp(Lcom/google/gwt/dom/client/NativeEvent;Z)(event, true);
+            break;
+        }
+      });
+      element.addEventListener('pointerdown', listener, false);
+      element.addEventListener('pointermove', listener, false);
+      element.addEventListener('pointerup', listener, false);
+      element.addEventListener('pointercancel', listener, false);
+      return listener;
+    }-*/;
+
+    private static native void removeListener(Element element, JavaScriptObject listener) /*-{
+      element.removeEventListener('pointerdown', listener, false);
+      element.removeEventListener('pointermove', listener, false);
+      element.removeEventListener('pointerup', listener, false);
+      element.removeEventListener('pointercancel', listener, false);
+    }-*/;
+
+    private static native JsArray<NativeEvent> getCoalescedEvents(NativeEvent event) /*-{
+      var samples = event.getCoalescedEvents ? event.getCoalescedEvents() : null;
+      if (!samples || samples.length == 0) {
+        return [event];
+      }
+      return samples;
+    }-*/;
+
+    private static native void setPointerCapture(Element element, int pointerId) /*-{
+      try {
+        element.setPointerCapture(pointerId);
+      } catch (e) {
+        // the pointer is already gone
+      }
+    }-*/;
+
+    private static native void removeTouch(JsArray<Touch> touches, int index) /*-{
+      touches.splice(index, 1);
+    }-*/;
+
+    private static native boolean isMouse(NativeEvent event) /*-{
+      return event.pointerType == 'mouse';
+    }-*/;
+
+    private static native int getPointerId(NativeEvent event) /*-{
+      return event.pointerId;
+    }-*/;
+
+    private static native int getPageX(NativeEvent event) /*-{
+      return Math.round(event.pageX);
+    }-*/;
+
+    private static native int getPageY(NativeEvent event) /*-{
+      return Math.round(event.pageY);
+    }-*/;
+
+    private static native double getTimeStamp(NativeEvent event) /*-{
+      return event.timeStamp;
+    }-*/;
+  }
+}
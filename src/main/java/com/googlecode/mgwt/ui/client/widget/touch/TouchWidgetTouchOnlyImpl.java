@@ -13,6 +13,7 @@
  */
 package com.googlecode.mgwt.ui.client.widget.touch;
 
+import com.google.gwt.event.dom.client.DomEvent;
 import com.google.gwt.event.dom.client.TouchCancelEvent;
 import com.google.gwt.event.dom.client.TouchCancelHandler;
 import com.google.gwt.event.dom.client.TouchEndEvent;
@@ -21,6 +22,7 @@ import com.google.gwt.event.dom.client.TouchMoveEvent;
 import com.google.gwt.event.dom.client.TouchMoveHandler;
 import com.google.gwt.event.dom.client.TouchStartEvent;
 import com.google.gwt.event.dom.client.TouchStartHandler;
+import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.Widget;
 import com.googlecode.mgwt.dom.client.event.mouse.HandlerRegistrationCollection;
@@ -33,22 +35,22 @@ public class TouchWidgetTouchOnlyImpl implements TouchWidgetImpl
 {
   @Override
   public HandlerRegistration addTouchStartHandler(Widget w, TouchStartHandler handler) {
-    return w.addDomHandler(handler, TouchStartEvent.getType());
+    return addDomHandler(w, handler, TouchStartEvent.getType());
   }
 
   @Override
   public HandlerRegistration addTouchMoveHandler(Widget w, TouchMoveHandler handler) {
-    return w.addDomHandler(handler, TouchMoveEvent.getType());
+    return addDomHandler(w, handler, TouchMoveEvent.getType());
   }
 
   @Override
   public HandlerRegistration addTouchCancelHandler(Widget w, TouchCancelHandler handler) {
-    return w.addDomHandler(handler, TouchCancelEvent.getType());
+    return addDomHandler(w, handler, TouchCancelEvent.getType());
   }
 
   @Override
   public HandlerRegistration addTouchEndHandler(Widget w, final TouchEndHandler handler) {
-    return w.addDomHandler(handler, TouchEndEvent.getType());
+    return addDomHandler(w, handler, TouchEndEvent.getType());
   }
 
   @Override
@@ -60,4 +62,20 @@ public class TouchWidgetTouchOnlyImpl implements TouchWidgetImpl
     hrc.addHandlerRegistration(addTouchCancelHandler(w, handler));
     return hrc;
   }
+
+  /**
+   * Add a dom handler to a widget, through a passive listener if the widget is marked as passive
+   * with {@link PassiveTouchListener#setPassive(Widget, boolean)}
+   *
+   * @param w the widget that the handler should be added to
+   * @param handler the handler to add
+   * @param type the type of the dom event
+   * @return the handlerregistration
+   */
+  protected <H extends EventHandler> HandlerRegistration addDomHandler(Widget w, H handler, DomEvent.Type<H> type) {
+    if (PassiveTouchListener.isPassive(w)) {
+      return PassiveTouchListener.addHandler(w, handler, type);
+    }
+    return w.addDomHandler(handler, type);
+  }
 }
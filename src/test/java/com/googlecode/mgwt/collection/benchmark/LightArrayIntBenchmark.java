@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.java.JavaLightArrayInt;
+
+/**
+ * Compares the primitive {@link JavaLightArrayInt} with the former boxed implementation.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.collection.benchmark.LightArrayIntBenchmark</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightArrayIntBenchmark {
+
+  @Param({"boxed", "primitive"})
+  public String implementation;
+
+  @Param({"16", "1024"})
+  public int size;
+
+  private LightArrayInt filled;
+
+  @Setup
+  public void setUp() {
+    filled = create();
+    for (int i = 0; i < size; i++) {
+      filled.push(i);
+    }
+  }
+
+  private LightArrayInt create() {
+    if ("boxed".equals(implementation)) {
+      return new BoxedLightArrayInt();
+    }
+    return new JavaLightArrayInt();
+  }
+
+  @Benchmark
+  public int pushAndShift() {
+    LightArrayInt array = create();
+    for (int i = 0; i < size; i++) {
+      array.push(i);
+    }
+    int sum = 0;
+    while (array.length() > 0) {
+      sum += array.shift();
+    }
+    return sum;
+  }
+
+  /**
+   * A fixed window of samples as kept by the recognizers: push one, drop the oldest
+   */
+  @Benchmark
+  public int slidingWindow() {
+    int sum = 0;
+    for (int i = 0; i < 64; i++) {
+      filled.push(i);
+      sum += filled.shift();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int get() {
+    int sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += filled.get(i);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int unshift() {
+    LightArrayInt array = create();
+    for (int i = 0; i < size; i++) {
+      array.unshift(i);
+    }
+    return array.length();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(LightArrayIntBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+import com.googlecode.mgwt.collection.shared.LightDeque;
+import com.googlecode.mgwt.collection.shared.LightDequeInt;
+import com.googlecode.mgwt.collection.shared.java.JavaLightArray;
+import com.googlecode.mgwt.collection.shared.java.JavaLightArrayInt;
+
+/**
+ * Compares {@link LightDeque} / {@link LightDequeInt} with light arrays used as a sliding window
+ * of samples at the window sizes typical for gesture tracking.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.collection.benchmark.LightDequeBenchmark</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightDequeBenchmark {
+
+  private static final int SAMPLES = 64;
+
+  @Param({"5", "10", "20", "50"})
+  public int window;
+
+  private LightArray<Integer> array;
+  private LightArrayInt arrayInt;
+  private LightDeque<Integer> deque;
+  private LightDequeInt dequeInt;
+
+  @Setup
+  public void setUp() {
+    array = new JavaLightArray<Integer>();
+    arrayInt = new JavaLightArrayInt();
+    deque = new LightDeque<Integer>(window);
+    dequeInt = new LightDequeInt(window);
+    for (int i = 0; i < window; i++) {
+      array.push(i);
+      arrayInt.push(i);
+      deque.push(i);
+      dequeInt.push(i);
+    }
+  }
+
+  @Benchmark
+  public int lightArray() {
+    int sum = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      array.push(i);
+      sum += array.shift();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int lightArrayInt() {
+    int sum = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      arrayInt.push(i);
+      sum += arrayInt.shift();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int lightDeque() {
+    int sum = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      deque.push(i);
+      sum += deque.get(0);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int lightDequeInt() {
+    int sum = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      dequeInt.push(i);
+      sum += dequeInt.get(0);
+    }
+    return sum;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(LightDequeBenchmark.class.getSimpleName()).build()).run();
+  }
+}
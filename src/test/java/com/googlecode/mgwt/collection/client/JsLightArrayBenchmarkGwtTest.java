@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.junit.client.GWTTestCase;
+
+import com.googlecode.mgwt.collection.shared.LightArrayDouble;
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+
+/**
+ * Compares the typed array backed light arrays with the plain javascript array versions.
+ *
+ * Timings are only logged, since they depend on the browser the test runs in.
+ */
+public class JsLightArrayBenchmarkGwtTest extends GWTTestCase {
+
+  private static final int SIZE = 1024;
+  private static final int ROUNDS = 20;
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.collection.GwtCollections";
+  }
+
+  public void testIntegerArrays() {
+    if (!JsTypedLightArrayInteger.isSupported()) {
+      return;
+    }
+    int plainSum = 0;
+    double start = Duration.currentTimeMillis();
+    for (int round = 0; round < ROUNDS; round++) {
+      plainSum += run(new JsLightArrayInteger());
+    }
+    double plain = Duration.currentTimeMillis() - start;
+
+    int typedSum = 0;
+    start = Duration.currentTimeMillis();
+    for (int round = 0; round < ROUNDS; round++) {
+      typedSum += run(new JsTypedLightArrayInteger());
+    }
+    double typed = Duration.currentTimeMillis() - start;
+
+    assertEquals(plainSum, typedSum);
+    System.out.println("LightArrayInt plain: " + plain + "ms typed: " + typed + "ms");
+  }
+
+  public void testDoubleArrays() {
+    if (!JsTypedLightArrayDouble.isSupported()) {
+      return;
+    }
+    double plainSum = 0;
+    double start = Duration.currentTimeMillis();
+    for (int round = 0; round < ROUNDS; round++) {
+      plainSum += run(new JsLightArrayDouble());
+    }
+    double plain = Duration.currentTimeMillis() - start;
+
+    double typedSum = 0;
+    start = Duration.currentTimeMillis();
+    for (int round = 0; round < ROUNDS; round++) {
+      typedSum += run(new JsTypedLightArrayDouble());
+    }
+    double typed = Duration.currentTimeMillis() - start;
+
+    assertEquals(plainSum, typedSum, 0.001);
+    System.out.println("LightArrayDouble plain: " + plain + "ms typed: " + typed + "ms");
+  }
+
+  private int run(LightArrayInt array) {
+    for (int i = 0; i < SIZE; i++) {
+      array.push(i);
+    }
+    int sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      sum += array.get(i);
+    }
+    while (array.length() > 0) {
+      sum += array.shift();
+    }
+    return sum;
+  }
+
+  private double run(LightArrayDouble array) {
+    for (int i = 0; i < SIZE; i++) {
+      array.push(i * 0.5);
+    }
+    double sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      sum += array.get(i);
+    }
+    while (array.length() > 0) {
+      sum += array.shift();
+    }
+    return sum;
+  }
+}
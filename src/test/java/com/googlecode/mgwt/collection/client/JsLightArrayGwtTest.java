@@ -19,11 +19,21 @@ import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.junit.client.GWTTestCase;
 
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightArrayContract;
+
 /**
  * Test for {@link JsLightArray}.
  */
 public class JsLightArrayGwtTest extends GWTTestCase {
 
+  private LightArrayContract contract = new LightArrayContract(new LightArrayContract.ArrayFactory() {
+    @Override
+    public <T> LightArray<T> create() {
+      return new JsLightArray<T>();
+    }
+  });
+
   @Override
   public String getModuleName() {
     return "com.googlecode.mgwt.collection.GwtCollections";
@@ -71,4 +81,40 @@ public class JsLightArrayGwtTest extends GWTTestCase {
 
     assertEquals(0, array.length());
   }
+
+  public void testClear() {
+    contract.testClear();
+  }
+
+  public void testAddAll() {
+    contract.testAddAll();
+  }
+
+  public void testIndexOf() {
+    contract.testIndexOf();
+  }
+
+  public void testIndexOfComparesIdentity() {
+    contract.testIndexOfComparesIdentity();
+  }
+
+  public void testSlice() {
+    contract.testSlice();
+  }
+
+  public void testSplice() {
+    contract.testSplice();
+  }
+
+  public void testSpliceInsert() {
+    contract.testSpliceInsert();
+  }
+
+  public void testSort() {
+    contract.testSort();
+  }
+
+  public void testSortWithoutComparator() {
+    contract.testSortWithoutComparator();
+  }
 }
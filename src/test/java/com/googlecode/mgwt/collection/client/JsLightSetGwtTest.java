@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test for {@link JsLightIntMap}, {@link JsLightSet} and {@link JsLightIntSet}.
+ */
+public class JsLightSetGwtTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.collection.GwtCollections";
+  }
+
+  public void testIntMap() {
+    JsLightIntMap<String> map = new JsLightIntMap<String>();
+
+    map.put(0, "0");
+    map.put(-5, "-5");
+    map.put(7, null);
+    map.put(0, "zero");
+
+    assertEquals(3, map.size());
+    assertEquals("zero", map.get(0));
+    assertEquals("-5", map.get(-5));
+    assertTrue(map.containsKey(7));
+    assertNull(map.get(7));
+    assertNull(map.get(1));
+    assertFalse(map.containsKey(1));
+    assertEquals(3, map.getKeys().length());
+
+    map.remove(-5);
+    map.remove(-5);
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey(-5));
+
+    map.clear();
+    assertEquals(0, map.size());
+    assertFalse(map.containsKey(0));
+  }
+
+  public void testSet() {
+    JsLightSet set = new JsLightSet();
+
+    assertTrue(set.add("a"));
+    assertTrue(set.add("__proto__"));
+    assertFalse(set.add("a"));
+
+    assertFalse(set.contains("toString"));
+    assertFalse(set.contains("hasOwnProperty"));
+    assertTrue(set.contains("__proto__"));
+    assertEquals(2, set.size());
+    assertEquals(2, set.getValues().length());
+
+    assertTrue(set.remove("a"));
+    assertFalse(set.remove("a"));
+    assertEquals(1, set.size());
+    assertEquals("__proto__", set.getValues().get(0));
+  }
+
+  public void testIntSet() {
+    JsLightIntSet set = new JsLightIntSet();
+
+    assertTrue(set.add(1));
+    assertTrue(set.add(-1));
+    assertFalse(set.add(1));
+
+    assertTrue(set.contains(-1));
+    assertFalse(set.contains(2));
+    assertEquals(2, set.size());
+
+    assertTrue(set.remove(1));
+    assertEquals(1, set.size());
+    assertEquals(-1, set.getValues().get(0));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.Timer;
+import com.googlecode.mgwt.collection.shared.LightMap;
+import com.googlecode.mgwt.collection.shared.PersistentStorage;
+
+/**
+ * Test for {@link JsPersistentLightMap} and {@link JsLocalStorage}.
+ */
+public class JsPersistentLightMapGwtTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.collection.GwtCollections";
+  }
+
+  public void testLocalStorageRoundTrip() {
+    if (!JsLocalStorage.isSupported()) {
+      return;
+    }
+    final PersistentStorage storage = new JsLocalStorage("mgwt-test");
+    JsPersistentLightMap map = new JsPersistentLightMap(storage, 0);
+    map.clear();
+    map.put("a", "1");
+    map.put("b", "2");
+    map.remove("b");
+    map.flush();
+
+    storage.load(new Callback<LightMap<String>, Throwable>() {
+
+      @Override
+      public void onFailure(Throwable reason) {
+        fail(reason.getMessage());
+      }
+
+      @Override
+      public void onSuccess(LightMap<String> result) {
+        assertEquals("1", result.get("a"));
+        assertFalse(result.containsKey("b"));
+      }
+    });
+  }
+
+  public void testWriteIsDebounced() {
+    if (!JsLocalStorage.isSupported()) {
+      return;
+    }
+    final JsPersistentLightMap map = new JsPersistentLightMap(new JsLocalStorage("mgwt-debounce"), 50);
+    map.put("a", "1");
+    map.put("a", "2");
+    assertTrue(map.hasPendingWrites());
+
+    delayTestFinish(5000);
+    new Timer() {
+
+      @Override
+      public void run() {
+        assertFalse(map.hasPendingWrites());
+        finishTest();
+      }
+    }.schedule(200);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test for {@link JsTypedLightArrayInteger}, {@link JsTypedLightArrayDouble} and the plain
+ * {@link JsLightArrayDouble}.
+ */
+public class JsTypedLightArrayGwtTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.collection.GwtCollections";
+  }
+
+  public void testIntegerPushAndShift() {
+    if (!JsTypedLightArrayInteger.isSupported()) {
+      return;
+    }
+    JsTypedLightArrayInteger array = new JsTypedLightArrayInteger();
+
+    for (int i = 0; i < 100; i++) {
+      array.push(i);
+    }
+    assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, array.get(0));
+      assertEquals(i, array.shift());
+    }
+    assertEquals(0, array.length());
+    assertEquals(0, array.shift());
+  }
+
+  public void testIntegerUnshiftAndSet() {
+    if (!JsTypedLightArrayInteger.isSupported()) {
+      return;
+    }
+    JsTypedLightArrayInteger array = new JsTypedLightArrayInteger();
+
+    for (int i = 0; i < 20; i++) {
+      array.unshift(i);
+    }
+    assertEquals(20, array.length());
+    assertEquals(19, array.get(0));
+    assertEquals(0, array.get(19));
+
+    array.set(25, 7);
+    assertEquals(26, array.length());
+    assertEquals(0, array.get(20));
+    assertEquals(7, array.get(25));
+    assertEquals(0, array.get(26));
+  }
+
+  public void testDoublePushAndShift() {
+    if (!JsTypedLightArrayDouble.isSupported()) {
+      return;
+    }
+    JsTypedLightArrayDouble array = new JsTypedLightArrayDouble();
+
+    for (int i = 0; i < 100; i++) {
+      array.push(i / 10d);
+    }
+    assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i / 10d, array.shift(), 0.0000001);
+    }
+    assertEquals(0, array.length());
+  }
+
+  public void testDoubleSlidingWindow() {
+    if (!JsTypedLightArrayDouble.isSupported()) {
+      return;
+    }
+    JsTypedLightArrayDouble array = new JsTypedLightArrayDouble();
+
+    for (int i = 0; i < 1000; i++) {
+      array.push(i + 0.5);
+      if (array.length() > 5) {
+        array.shift();
+      }
+    }
+    assertEquals(5, array.length());
+    assertEquals(995.5, array.get(0), 0.0000001);
+    assertEquals(999.5, array.get(4), 0.0000001);
+  }
+
+  public void testPlainDoubleFillsGapsWithZero() {
+    JsLightArrayDouble array = new JsLightArrayDouble();
+
+    assertEquals(0, array.shift(), 0);
+
+    array.set(3, 1.5);
+    array.set(-1, 2.5);
+    assertEquals(4, array.length());
+    assertEquals(0, array.get(0), 0);
+    assertEquals(0, array.get(2), 0);
+    assertEquals(1.5, array.get(3), 0);
+    assertEquals(0, array.get(4), 0);
+  }
+}
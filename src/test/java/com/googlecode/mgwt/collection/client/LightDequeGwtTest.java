@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.client;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+import com.googlecode.mgwt.collection.shared.LightDeque;
+import com.googlecode.mgwt.collection.shared.LightDequeDouble;
+import com.googlecode.mgwt.collection.shared.LightDequeInt;
+
+/**
+ * Test for {@link LightDeque}, {@link LightDequeInt} and {@link LightDequeDouble} compiled to
+ * JavaScript.
+ */
+public class LightDequeGwtTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.collection.GwtCollections";
+  }
+
+  public void testIntWindow() {
+    LightDequeInt deque = new LightDequeInt(5);
+    for (int i = 0; i < 12; i++) {
+      deque.push(i);
+    }
+    assertEquals(5, deque.length());
+    assertEquals(7, deque.get(0));
+    assertEquals(11, deque.get(4));
+    assertEquals(0, deque.get(5));
+
+    deque.unshift(100);
+    assertEquals(100, deque.shift());
+    assertEquals(10, deque.pop());
+    assertEquals(7, deque.shift());
+    assertEquals(2, deque.length());
+  }
+
+  public void testDoubleWindow() {
+    LightDequeDouble deque = new LightDequeDouble(2);
+    deque.push(0.5);
+    deque.push(1.5);
+    deque.push(2.5);
+    assertEquals(1.5, deque.shift(), 0.0000001);
+    assertEquals(2.5, deque.pop(), 0.0000001);
+    assertEquals(0, deque.pop(), 0.0000001);
+  }
+
+  public void testObjectDeque() {
+    LightDeque<String> deque = new LightDeque<String>(2);
+    deque.push("a");
+    deque.unshift("b");
+    deque.unshift("c");
+    assertEquals("c", deque.get(0));
+    assertEquals("b", deque.pop());
+    assertEquals("c", deque.pop());
+    assertNull(deque.pop());
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import java.util.Comparator;
+
+import junit.framework.Assert;
+
+/**
+ * Test cases for {@link LightArray} implementations that are run on the jvm as well as compiled to
+ * javascript, so both implementations are held to the same behaviour.
+ */
+public class LightArrayContract {
+
+  /**
+   * creates the implementation under test
+   */
+  public interface ArrayFactory {
+    <T> LightArray<T> create();
+  }
+
+  private static class Value {
+    private final int value;
+
+    public Value(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Value && ((Value) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value;
+    }
+  }
+
+  private final ArrayFactory factory;
+
+  public LightArrayContract(ArrayFactory factory) {
+    this.factory = factory;
+  }
+
+  private LightArray<String> create(String... values) {
+    LightArray<String> array = factory.create();
+    for (String value : values) {
+      array.push(value);
+    }
+    return array;
+  }
+
+  private static void assertContent(LightArray<String> array, String... expected) {
+    Assert.assertEquals(expected.length, array.length());
+    for (int i = 0; i < expected.length; i++) {
+      Assert.assertEquals(expected[i], array.get(i));
+    }
+  }
+
+  public void testClear() {
+    LightArray<String> array = create("a", "b", "c");
+
+    array.clear();
+
+    assertContent(array);
+    array.push("d");
+    assertContent(array, "d");
+  }
+
+  public void testAddAll() {
+    LightArray<String> array = create("a");
+
+    array.addAll(create("b", "c"));
+    array.addAll(create());
+
+    assertContent(array, "a", "b", "c");
+  }
+
+  public void testIndexOf() {
+    LightArray<String> array = create("a", "b", "a");
+
+    Assert.assertEquals(0, array.indexOf("a"));
+    Assert.assertEquals(1, array.indexOf("b"));
+    Assert.assertEquals(-1, array.indexOf("c"));
+  }
+
+  public void testIndexOfComparesIdentity() {
+    LightArray<Value> array = factory.create();
+    Value value = new Value(1);
+    array.push(value);
+
+    Assert.assertEquals(0, array.indexOf(value));
+    // equal, but a different object
+    Assert.assertEquals(-1, array.indexOf(new Value(1)));
+    // strings are compared by value
+    Assert.assertEquals(0, create("a").indexOf(new String("a")));
+  }
+
+  public void testSlice() {
+    LightArray<String> array = create("a", "b", "c", "d");
+
+    assertContent(array.slice(1, 3), "b", "c");
+    assertContent(array.slice(0, 10), "a", "b", "c", "d");
+    assertContent(array.slice(-2, 4), "c", "d");
+    assertContent(array.slice(1, -1), "b", "c");
+    assertContent(array.slice(3, 1));
+    // source is not modified
+    assertContent(array, "a", "b", "c", "d");
+  }
+
+  public void testSplice() {
+    LightArray<String> array = create("a", "b", "c", "d");
+
+    assertContent(array.splice(1, 2), "b", "c");
+    assertContent(array, "a", "d");
+
+    assertContent(array.splice(-1, 5), "d");
+    assertContent(array, "a");
+
+    assertContent(array.splice(0, -1));
+    assertContent(array, "a");
+  }
+
+  public void testSpliceInsert() {
+    LightArray<String> array = create("a", "b", "c");
+
+    assertContent(array.splice(1, 1, create("x", "y")), "b");
+    assertContent(array, "a", "x", "y", "c");
+
+    assertContent(array.splice(4, 0, create("z")));
+    assertContent(array, "a", "x", "y", "c", "z");
+  }
+
+  public void testSort() {
+    LightArray<String> array = create("c", "a", "d", "b");
+
+    array.sort(new Comparator<String>() {
+      @Override
+      public int compare(String o1, String o2) {
+        return o1.compareTo(o2);
+      }
+    });
+
+    assertContent(array, "a", "b", "c", "d");
+  }
+
+  public void testSortWithoutComparator() {
+    LightArray<String> array = create("b", "a");
+
+    try {
+      array.sort(null);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    assertContent(array, "b", "a");
+  }
+}
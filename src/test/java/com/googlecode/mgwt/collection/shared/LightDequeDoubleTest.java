@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link LightDequeDouble}.
+ */
+public class LightDequeDoubleTest {
+
+  private static final double DELTA = 0.0000001;
+
+  @Test
+  public void testSlidingWindow() {
+    LightDequeDouble deque = new LightDequeDouble(3);
+    for (int i = 0; i < 7; i++) {
+      deque.push(i / 10d);
+    }
+
+    Assert.assertEquals(3, deque.length());
+    Assert.assertEquals(0.4, deque.get(0), DELTA);
+    Assert.assertEquals(0.6, deque.get(2), DELTA);
+    Assert.assertEquals(0.6, deque.pop(), DELTA);
+    Assert.assertEquals(0.4, deque.shift(), DELTA);
+    Assert.assertEquals(0.5, deque.shift(), DELTA);
+    Assert.assertEquals(0, deque.shift(), DELTA);
+  }
+
+  @Test
+  public void testUnshift() {
+    LightDequeDouble deque = new LightDequeDouble(3);
+    deque.push(1.5);
+    deque.unshift(0.5);
+    deque.unshift(-0.5);
+    deque.unshift(-1.5);
+
+    Assert.assertEquals(-1.5, deque.get(0), DELTA);
+    Assert.assertEquals(0.5, deque.get(2), DELTA);
+  }
+}
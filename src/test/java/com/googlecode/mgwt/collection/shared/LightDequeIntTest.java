@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link LightDequeInt}.
+ */
+public class LightDequeIntTest {
+
+  private LightDequeInt deque;
+
+  @Before
+  public void before() {
+    deque = new LightDequeInt(4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity() {
+    new LightDequeInt(0);
+  }
+
+  @Test
+  public void testPushAndShift() {
+    deque.push(1);
+    deque.push(2);
+    deque.push(3);
+
+    Assert.assertEquals(3, deque.length());
+    Assert.assertFalse(deque.isFull());
+    Assert.assertEquals(1, deque.shift());
+    Assert.assertEquals(2, deque.shift());
+    Assert.assertEquals(3, deque.shift());
+    Assert.assertEquals(0, deque.length());
+    Assert.assertEquals(0, deque.shift());
+    Assert.assertEquals(0, deque.pop());
+  }
+
+  @Test
+  public void testPushDropsOldestWhenFull() {
+    for (int i = 0; i < 10; i++) {
+      deque.push(i);
+    }
+
+    Assert.assertTrue(deque.isFull());
+    Assert.assertEquals(4, deque.length());
+    Assert.assertEquals(4, deque.capacity());
+    Assert.assertEquals(6, deque.get(0));
+    Assert.assertEquals(7, deque.get(1));
+    Assert.assertEquals(8, deque.get(2));
+    Assert.assertEquals(9, deque.get(3));
+    Assert.assertEquals(0, deque.get(4));
+    Assert.assertEquals(0, deque.get(-1));
+  }
+
+  @Test
+  public void testUnshiftDropsLastWhenFull() {
+    for (int i = 0; i < 6; i++) {
+      deque.unshift(i);
+    }
+
+    Assert.assertEquals(4, deque.length());
+    Assert.assertEquals(5, deque.get(0));
+    Assert.assertEquals(2, deque.get(3));
+    Assert.assertEquals(2, deque.pop());
+    Assert.assertEquals(5, deque.shift());
+    Assert.assertEquals(2, deque.length());
+  }
+
+  @Test
+  public void testMixedEndsWrapAround() {
+    for (int round = 0; round < 20; round++) {
+      deque.push(round);
+      deque.unshift(-round);
+      Assert.assertEquals(-round, deque.get(0));
+      Assert.assertEquals(round, deque.get(1));
+      Assert.assertEquals(round, deque.pop());
+      Assert.assertEquals(-round, deque.pop());
+      Assert.assertEquals(0, deque.length());
+    }
+  }
+
+  @Test
+  public void testClear() {
+    deque.push(1);
+    deque.push(2);
+    deque.clear();
+
+    Assert.assertEquals(0, deque.length());
+    deque.push(3);
+    Assert.assertEquals(3, deque.get(0));
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link LightDeque}.
+ */
+public class LightDequeTest {
+
+  @Test
+  public void testPushPopShiftUnshift() {
+    LightDeque<String> deque = new LightDeque<String>(3);
+    deque.push("b");
+    deque.push("c");
+    deque.unshift("a");
+
+    Assert.assertTrue(deque.isFull());
+    Assert.assertEquals("a", deque.get(0));
+    Assert.assertEquals("c", deque.get(2));
+    Assert.assertNull(deque.get(3));
+
+    deque.push("d");
+    Assert.assertEquals("b", deque.shift());
+    Assert.assertEquals("d", deque.pop());
+    Assert.assertEquals("c", deque.pop());
+    Assert.assertNull(deque.pop());
+    Assert.assertNull(deque.shift());
+  }
+
+  @Test
+  public void testClearReleasesValues() {
+    LightDeque<Object> deque = new LightDeque<Object>(2);
+    deque.push(new Object());
+    deque.push(new Object());
+    deque.push(new Object());
+    deque.clear();
+
+    Assert.assertEquals(0, deque.length());
+    for (int i = 0; i < deque.capacity(); i++) {
+      deque.push(null);
+    }
+    Assert.assertNull(deque.get(0));
+    Assert.assertNull(deque.get(1));
+  }
+}
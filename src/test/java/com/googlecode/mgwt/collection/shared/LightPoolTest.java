@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link LightPool}.
+ */
+public class LightPoolTest {
+
+  private static final LightPool.Factory<Object> FACTORY = new LightPool.Factory<Object>() {
+
+    @Override
+    public Object create() {
+      return new Object();
+    }
+  };
+
+  @Test
+  public void testAcquireCreatesWhenEmpty() {
+    LightPool<Object> pool = new LightPool<Object>(FACTORY, 2);
+
+    Object first = pool.acquire();
+    Object second = pool.acquire();
+
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(2, pool.getCreatedCount());
+    Assert.assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void testReleasedObjectsAreReused() {
+    LightPool<Object> pool = new LightPool<Object>(FACTORY, 2);
+
+    Object object = pool.acquire();
+    pool.release(object);
+    Assert.assertEquals(1, pool.size());
+
+    for (int i = 0; i < 100; i++) {
+      Object acquired = pool.acquire();
+      Assert.assertSame(object, acquired);
+      pool.release(acquired);
+    }
+    Assert.assertEquals(1, pool.getCreatedCount());
+  }
+
+  @Test
+  public void testReleaseBeyondMaxSizeDrops() {
+    LightPool<Object> pool = new LightPool<Object>(FACTORY, 2);
+
+    pool.release(new Object());
+    pool.release(new Object());
+    pool.release(new Object());
+
+    Assert.assertEquals(2, pool.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReleaseNull() {
+    new LightPool<Object>(FACTORY, 2).release(null);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaLightArrayBoolean}.
+ */
+public class JavaLightArrayBooleanTest {
+
+  private JavaLightArrayBoolean array;
+
+  @Before
+  public void before() {
+    array = new JavaLightArrayBoolean();
+  }
+
+  @Test
+  public void testPushAndShift() {
+    for (int i = 0; i < 100; i++) {
+      array.push(i % 3 == 0);
+    }
+    Assert.assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(i % 3 == 0, array.shift());
+    }
+    Assert.assertEquals(0, array.length());
+  }
+
+  @Test
+  public void testShiftOnEmptyArray() {
+    Assert.assertFalse(array.shift());
+    Assert.assertEquals(0, array.length());
+  }
+
+  @Test
+  public void testUnshift() {
+    for (int i = 0; i < 100; i++) {
+      array.unshift(i % 2 == 0);
+    }
+    Assert.assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals((99 - i) % 2 == 0, array.get(i));
+    }
+  }
+
+  @Test
+  public void testSetExpandsArray() {
+    array.set(-1, true);
+    Assert.assertEquals(0, array.length());
+
+    array.set(3, true);
+    Assert.assertEquals(4, array.length());
+    Assert.assertFalse(array.get(0));
+    Assert.assertFalse(array.get(2));
+    Assert.assertTrue(array.get(3));
+    Assert.assertFalse(array.get(4));
+  }
+
+  @Test
+  public void testSetAfterShiftDoesNotExposeOldValues() {
+    for (int i = 0; i < 10; i++) {
+      array.push(true);
+    }
+    for (int i = 0; i < 10; i++) {
+      array.shift();
+    }
+    array.push(true);
+    array.shift();
+
+    array.set(5, true);
+
+    Assert.assertEquals(6, array.length());
+    for (int i = 0; i < 5; i++) {
+      Assert.assertFalse(array.get(i));
+    }
+    Assert.assertTrue(array.get(5));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaLightArrayDouble}.
+ */
+public class JavaLightArrayDoubleTest {
+
+  private static final double DELTA = 0.0000001;
+
+  private JavaLightArrayDouble array;
+
+  @Before
+  public void before() {
+    array = new JavaLightArrayDouble();
+  }
+
+  @Test
+  public void testPushAndShift() {
+    for (int i = 0; i < 100; i++) {
+      array.push(i / 10d);
+    }
+    Assert.assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(i / 10d, array.shift(), DELTA);
+    }
+    Assert.assertEquals(0, array.length());
+    Assert.assertEquals(0, array.shift(), DELTA);
+  }
+
+  @Test
+  public void testUnshift() {
+    array.push(1.5);
+    array.unshift(0.5);
+    array.unshift(-0.5);
+
+    Assert.assertEquals(3, array.length());
+    Assert.assertEquals(-0.5, array.get(0), DELTA);
+    Assert.assertEquals(0.5, array.get(1), DELTA);
+    Assert.assertEquals(1.5, array.get(2), DELTA);
+  }
+
+  @Test
+  public void testSetExpandsArray() {
+    array.set(2, 2.5);
+
+    Assert.assertEquals(3, array.length());
+    Assert.assertEquals(0, array.get(0), DELTA);
+    Assert.assertEquals(0, array.get(1), DELTA);
+    Assert.assertEquals(2.5, array.get(2), DELTA);
+    Assert.assertEquals(0, array.get(3), DELTA);
+  }
+}
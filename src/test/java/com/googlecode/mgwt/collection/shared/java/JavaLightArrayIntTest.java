@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaLightArrayInt}.
+ */
+public class JavaLightArrayIntTest {
+
+  private JavaLightArrayInt array;
+
+  @Before
+  public void before() {
+    array = new JavaLightArrayInt();
+  }
+
+  @Test
+  public void testPushAndShift() {
+    for (int i = 0; i < 100; i++) {
+      array.push(i);
+    }
+    Assert.assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(i, array.get(0));
+      Assert.assertEquals(i, array.shift());
+    }
+    Assert.assertEquals(0, array.length());
+  }
+
+  @Test
+  public void testShiftOnEmptyArray() {
+    Assert.assertEquals(0, array.shift());
+    Assert.assertEquals(0, array.length());
+  }
+
+  @Test
+  public void testUnshift() {
+    for (int i = 0; i < 100; i++) {
+      array.unshift(i);
+    }
+    Assert.assertEquals(100, array.length());
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(99 - i, array.get(i));
+    }
+  }
+
+  @Test
+  public void testGetOutOfBounds() {
+    array.push(1);
+
+    Assert.assertEquals(0, array.get(-1));
+    Assert.assertEquals(0, array.get(1));
+  }
+
+  @Test
+  public void testSetExpandsArray() {
+    array.set(-1, 5);
+    Assert.assertEquals(0, array.length());
+
+    array.set(3, 5);
+    Assert.assertEquals(4, array.length());
+    Assert.assertEquals(0, array.get(0));
+    Assert.assertEquals(0, array.get(2));
+    Assert.assertEquals(5, array.get(3));
+
+    array.set(0, 1);
+    Assert.assertEquals(1, array.get(0));
+    Assert.assertEquals(4, array.length());
+  }
+
+  @Test
+  public void testSetAfterShiftDoesNotExposeOldValues() {
+    for (int i = 1; i <= 10; i++) {
+      array.push(i);
+    }
+    for (int i = 0; i < 10; i++) {
+      array.shift();
+    }
+    array.push(1);
+    array.shift();
+
+    array.set(5, 7);
+
+    Assert.assertEquals(6, array.length());
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(0, array.get(i));
+    }
+    Assert.assertEquals(7, array.get(5));
+  }
+
+  @Test
+  public void testSlidingWindow() {
+    for (int i = 0; i < 10000; i++) {
+      array.push(i);
+      if (array.length() > 5) {
+        Assert.assertEquals(i - 5, array.shift());
+      }
+    }
+    Assert.assertEquals(5, array.length());
+    Assert.assertEquals(9995, array.get(0));
+    Assert.assertEquals(9999, array.get(4));
+  }
+
+  @Test
+  public void testMixedUnshiftAndPush() {
+    array.push(2);
+    array.unshift(1);
+    array.push(3);
+    array.unshift(0);
+
+    Assert.assertEquals(4, array.length());
+    for (int i = 0; i < 4; i++) {
+      Assert.assertEquals(i, array.get(i));
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import org.junit.Test;
+
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightArrayContract;
+
+/**
+ * Runs the {@link LightArrayContract} against {@link JavaLightArray}.
+ */
+public class JavaLightArrayTest {
+
+  private LightArrayContract contract = new LightArrayContract(new LightArrayContract.ArrayFactory() {
+    @Override
+    public <T> LightArray<T> create() {
+      return new JavaLightArray<T>();
+    }
+  });
+
+  @Test
+  public void testClear() {
+    contract.testClear();
+  }
+
+  @Test
+  public void testAddAll() {
+    contract.testAddAll();
+  }
+
+  @Test
+  public void testIndexOf() {
+    contract.testIndexOf();
+  }
+
+  @Test
+  public void testIndexOfComparesIdentity() {
+    contract.testIndexOfComparesIdentity();
+  }
+
+  @Test
+  public void testSlice() {
+    contract.testSlice();
+  }
+
+  @Test
+  public void testSplice() {
+    contract.testSplice();
+  }
+
+  @Test
+  public void testSpliceInsert() {
+    contract.testSpliceInsert();
+  }
+
+  @Test
+  public void testSort() {
+    contract.testSort();
+  }
+
+  @Test
+  public void testSortWithoutComparator() {
+    contract.testSortWithoutComparator();
+  }
+}
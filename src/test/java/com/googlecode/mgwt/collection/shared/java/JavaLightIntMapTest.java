@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.googlecode.mgwt.collection.shared.LightArrayInt;
+
+/**
+ * Test for {@link JavaLightIntMap}.
+ */
+public class JavaLightIntMapTest {
+
+  private JavaLightIntMap<String> map;
+
+  @Before
+  public void before() {
+    map = new JavaLightIntMap<String>();
+  }
+
+  @Test
+  public void testPutAndGet() {
+    map.put(0, "0");
+    map.put(-5, "-5");
+    map.put(Integer.MAX_VALUE, "max");
+
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals("0", map.get(0));
+    Assert.assertEquals("-5", map.get(-5));
+    Assert.assertEquals("max", map.get(Integer.MAX_VALUE));
+    Assert.assertNull(map.get(1));
+    Assert.assertFalse(map.containsKey(1));
+  }
+
+  @Test
+  public void testPutReplacesValue() {
+    map.put(1, "a");
+    map.put(1, "b");
+
+    Assert.assertEquals(1, map.size());
+    Assert.assertEquals("b", map.get(1));
+  }
+
+  @Test
+  public void testNullValue() {
+    map.put(1, null);
+
+    Assert.assertTrue(map.containsKey(1));
+    Assert.assertNull(map.get(1));
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    for (int i = 0; i < 100; i++) {
+      map.put(i, "" + i);
+    }
+    for (int i = 0; i < 100; i += 2) {
+      map.remove(i);
+    }
+    map.remove(1000);
+
+    Assert.assertEquals(50, map.size());
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(i % 2 == 1, map.containsKey(i));
+    }
+
+    map.clear();
+    Assert.assertEquals(0, map.size());
+    Assert.assertFalse(map.containsKey(1));
+  }
+
+  @Test
+  public void testGetKeys() {
+    map.put(3, "3");
+    map.put(1, "1");
+    map.put(2, "2");
+
+    LightArrayInt keys = map.getKeys();
+    Assert.assertEquals(3, keys.length());
+    int sum = 0;
+    for (int i = 0; i < keys.length(); i++) {
+      sum += keys.get(i);
+    }
+    Assert.assertEquals(6, sum);
+  }
+
+  @Test
+  public void testAgainstHashMap() {
+    Random random = new Random(42);
+    Map<Integer, String> reference = new HashMap<Integer, String>();
+
+    for (int i = 0; i < 20000; i++) {
+      int key = random.nextInt(500) - 250;
+      if (random.nextInt(3) == 0) {
+        reference.remove(key);
+        map.remove(key);
+      } else {
+        reference.put(key, "" + i);
+        map.put(key, "" + i);
+      }
+    }
+
+    Assert.assertEquals(reference.size(), map.size());
+    for (int key = -250; key < 250; key++) {
+      Assert.assertEquals(reference.containsKey(key), map.containsKey(key));
+      Assert.assertEquals(reference.get(key), map.get(key));
+    }
+  }
+}
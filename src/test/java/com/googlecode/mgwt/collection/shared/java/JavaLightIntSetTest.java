@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaLightIntSet}.
+ */
+public class JavaLightIntSetTest {
+
+  private JavaLightIntSet set;
+
+  @Before
+  public void before() {
+    set = new JavaLightIntSet();
+  }
+
+  @Test
+  public void testAddContainsRemove() {
+    Assert.assertTrue(set.add(0));
+    Assert.assertTrue(set.add(-1));
+    Assert.assertFalse(set.add(0));
+
+    Assert.assertEquals(2, set.size());
+    Assert.assertTrue(set.contains(0));
+    Assert.assertTrue(set.contains(-1));
+    Assert.assertFalse(set.contains(1));
+
+    Assert.assertTrue(set.remove(0));
+    Assert.assertFalse(set.remove(0));
+    Assert.assertEquals(1, set.size());
+    Assert.assertEquals(1, set.getValues().length());
+    Assert.assertEquals(-1, set.getValues().get(0));
+  }
+
+  @Test
+  public void testAgainstHashSet() {
+    Random random = new Random(42);
+    Set<Integer> reference = new HashSet<Integer>();
+
+    for (int i = 0; i < 20000; i++) {
+      int value = random.nextInt(500);
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(reference.remove(value), set.remove(value));
+      } else {
+        Assert.assertEquals(reference.add(value), set.add(value));
+      }
+    }
+
+    Assert.assertEquals(reference.size(), set.size());
+    for (int value = 0; value < 500; value++) {
+      Assert.assertEquals(reference.contains(value), set.contains(value));
+    }
+  }
+}
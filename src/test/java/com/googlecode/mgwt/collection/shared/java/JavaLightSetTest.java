@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaLightSet}.
+ */
+public class JavaLightSetTest {
+
+  private JavaLightSet set;
+
+  @Before
+  public void before() {
+    set = new JavaLightSet();
+  }
+
+  @Test
+  public void testAddContainsRemove() {
+    Assert.assertTrue(set.add("a"));
+    Assert.assertTrue(set.add("__proto__"));
+    Assert.assertFalse(set.add("a"));
+
+    Assert.assertEquals(2, set.size());
+    Assert.assertTrue(set.contains("a"));
+    Assert.assertTrue(set.contains("__proto__"));
+    Assert.assertFalse(set.contains("b"));
+    Assert.assertFalse(set.contains(null));
+
+    Assert.assertTrue(set.remove("a"));
+    Assert.assertFalse(set.remove("a"));
+    Assert.assertEquals(1, set.size());
+    Assert.assertEquals("__proto__", set.getValues().get(0));
+  }
+
+  @Test
+  public void testAddNull() {
+    try {
+      set.add(null);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testAgainstHashSet() {
+    Random random = new Random(42);
+    Set<String> reference = new HashSet<String>();
+
+    for (int i = 0; i < 20000; i++) {
+      String value = "v" + random.nextInt(500);
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(reference.remove(value), set.remove(value));
+      } else {
+        Assert.assertEquals(reference.add(value), set.add(value));
+      }
+    }
+
+    Assert.assertEquals(reference.size(), set.size());
+    for (int i = 0; i < 500; i++) {
+      Assert.assertEquals(reference.contains("v" + i), set.contains("v" + i));
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.collection.shared.java;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gwt.core.client.Callback;
+import com.googlecode.mgwt.collection.shared.LightArray;
+import com.googlecode.mgwt.collection.shared.LightMap;
+
+/**
+ * Test for {@link JavaPersistentLightMap} and the write behind logic it inherits.
+ */
+public class JavaPersistentLightMapTest {
+
+  private JavaPersistentStorage storage;
+  private JavaPersistentLightMap map;
+
+  @Before
+  public void before() {
+    storage = new JavaPersistentStorage();
+    map = new JavaPersistentLightMap(storage);
+  }
+
+  @Test
+  public void testWritesAreBatched() {
+    load(map);
+
+    for (int i = 0; i < 100; i++) {
+      map.put("key", "value" + i);
+    }
+    map.put("other", "value");
+
+    Assert.assertEquals("value99", map.get("key"));
+    Assert.assertTrue(map.hasPendingWrites());
+    Assert.assertTrue(map.isFlushScheduled());
+    Assert.assertEquals(0, storage.getWriteCount());
+
+    map.flush();
+
+    Assert.assertFalse(map.hasPendingWrites());
+    Assert.assertFalse(map.isFlushScheduled());
+    Assert.assertEquals(1, storage.getWriteCount());
+    Assert.assertEquals("value99", storage.getStored("key"));
+    Assert.assertEquals("value", storage.getStored("other"));
+
+    map.flush();
+    Assert.assertEquals(1, storage.getWriteCount());
+  }
+
+  @Test
+  public void testRemoveAndNullValue() {
+    load(map);
+    map.put("a", "1");
+    map.put("b", "2");
+    map.flush();
+
+    map.remove("a");
+    map.put("b", null);
+    Assert.assertFalse(map.containsKey("a"));
+    Assert.assertFalse(map.containsKey("b"));
+
+    map.flush();
+    Assert.assertEquals(0, storage.getStoredSize());
+  }
+
+  @Test
+  public void testValuesSurviveRestart() {
+    load(map);
+    map.put("a", "1");
+    map.put("b", "2");
+    map.flush();
+
+    JavaPersistentLightMap restarted = new JavaPersistentLightMap(storage);
+    Assert.assertFalse(restarted.isLoaded());
+    Assert.assertNull(restarted.get("a"));
+
+    load(restarted);
+    Assert.assertTrue(restarted.isLoaded());
+    Assert.assertEquals("1", restarted.get("a"));
+    Assert.assertEquals("2", restarted.get("b"));
+    Assert.assertEquals(2, restarted.getKeys().length());
+    Assert.assertFalse(restarted.hasPendingWrites());
+  }
+
+  @Test
+  public void testWritesBeforeLoadWin() {
+    load(map);
+    map.put("a", "stored");
+    map.put("b", "stored");
+    map.flush();
+
+    JavaPersistentLightMap restarted = new JavaPersistentLightMap(storage);
+    restarted.put("a", "new");
+    restarted.remove("b");
+    load(restarted);
+
+    Assert.assertEquals("new", restarted.get("a"));
+    Assert.assertFalse(restarted.containsKey("b"));
+
+    restarted.flush();
+    Assert.assertEquals("new", storage.getStored("a"));
+    Assert.assertNull(storage.getStored("b"));
+  }
+
+  @Test
+  public void testFlushBeforeLoadCompletes() {
+    load(map);
+    map.put("a", "stored");
+    map.put("b", "stored");
+    map.flush();
+
+    // the storage reads its content right away, but reports it later
+    final LightMap<String> snapshot = new JavaLightMap<String>();
+    snapshot.put("a", storage.getStored("a"));
+    snapshot.put("b", storage.getStored("b"));
+    final Callback<?, ?>[] pending = new Callback<?, ?>[1];
+    JavaPersistentLightMap restarted = new JavaPersistentLightMap(new JavaPersistentStorage() {
+      @Override
+      public void load(Callback<LightMap<String>, Throwable> callback) {
+        pending[0] = callback;
+      }
+
+      @Override
+      public void write(LightMap<String> puts, LightArray<String> removes, Callback<Void, Throwable> callback) {
+        storage.write(puts, removes, callback);
+      }
+    });
+    load(restarted);
+    restarted.put("a", "new");
+    restarted.remove("b");
+    restarted.flush();
+    Assert.assertFalse(restarted.hasPendingWrites());
+
+    @SuppressWarnings("unchecked")
+    Callback<LightMap<String>, Throwable> callback = (Callback<LightMap<String>, Throwable>) pending[0];
+    callback.onSuccess(snapshot);
+
+    Assert.assertTrue(restarted.isLoaded());
+    Assert.assertEquals("new", restarted.get("a"));
+    Assert.assertFalse(restarted.containsKey("b"));
+    Assert.assertFalse(restarted.hasPendingWrites());
+    Assert.assertEquals("new", storage.getStored("a"));
+    Assert.assertNull(storage.getStored("b"));
+  }
+
+  @Test
+  public void testClearBeforeLoad() {
+    load(map);
+    map.put("a", "stored");
+    map.flush();
+
+    JavaPersistentLightMap restarted = new JavaPersistentLightMap(storage);
+    restarted.clear();
+    restarted.put("b", "new");
+    load(restarted);
+
+    Assert.assertFalse(restarted.containsKey("a"));
+    Assert.assertEquals("new", restarted.get("b"));
+
+    restarted.flush();
+    Assert.assertNull(storage.getStored("a"));
+    Assert.assertEquals(1, storage.getStoredSize());
+  }
+
+  @Test
+  public void testLoadFailure() {
+    JavaPersistentLightMap failing = new JavaPersistentLightMap(new JavaPersistentStorage() {
+      @Override
+      public void load(Callback<LightMap<String>, Throwable> callback) {
+        callback.onFailure(new RuntimeException("broken"));
+      }
+    });
+
+    final Throwable[] failure = new Throwable[1];
+    failing.load(new Callback<Void, Throwable>() {
+
+      @Override
+      public void onFailure(Throwable reason) {
+        failure[0] = reason;
+      }
+
+      @Override
+      public void onSuccess(Void result) {
+        Assert.fail();
+      }
+    });
+
+    Assert.assertNotNull(failure[0]);
+    Assert.assertFalse(failing.isLoaded());
+  }
+
+  @Test
+  public void testWriteFailureKeepsChanges() {
+    final boolean[] full = {true};
+    JavaPersistentStorage failingStorage = new JavaPersistentStorage() {
+      @Override
+      public void write(LightMap<String> puts, LightArray<String> removes, Callback<Void, Throwable> callback) {
+        if (full[0]) {
+          callback.onFailure(new RuntimeException("quota exceeded"));
+          return;
+        }
+        super.write(puts, removes, callback);
+      }
+    };
+    JavaPersistentLightMap failing = new JavaPersistentLightMap(failingStorage);
+    load(failing);
+    failing.put("a", "1");
+    failing.flush();
+
+    Assert.assertEquals("quota exceeded", failing.getLastWriteFailure().getMessage());
+    Assert.assertTrue(failing.hasPendingWrites());
+    Assert.assertNull(failingStorage.getStored("a"));
+
+    full[0] = false;
+    failing.put("a", "2");
+    failing.flush();
+
+    Assert.assertFalse(failing.hasPendingWrites());
+    Assert.assertEquals("2", failingStorage.getStored("a"));
+  }
+
+  @Test
+  public void testClearAfterLoad() {
+    load(map);
+    map.put("a", "1");
+    map.put("b", "2");
+    map.flush();
+
+    map.clear();
+    LightArray<String> keys = map.getKeys();
+    Assert.assertEquals(0, keys.length());
+    map.flush();
+    Assert.assertEquals(0, storage.getStoredSize());
+  }
+
+  private static void load(JavaPersistentLightMap map) {
+    map.load(new Callback<Void, Throwable>() {
+
+      @Override
+      public void onFailure(Throwable reason) {
+        Assert.fail(reason.getMessage());
+      }
+
+      @Override
+      public void onSuccess(Void result) {
+      }
+    });
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.touch.trace;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace.Type;
+import com.googlecode.mgwt.helper.GestureReplayer;
+import com.googlecode.mgwt.helper.VirtualClock;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class GestureRecorderTest {
+
+  @Test
+  public void testGestureRecorderTimeProvider() {
+    try {
+      new GestureRecorder(null);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testRecordReplayedTrace() {
+    GestureTrace original = GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/pinch.json");
+    VirtualClock clock = new VirtualClock(5000);
+    GestureRecorder recorder = new GestureRecorder(clock);
+
+    new GestureReplayer(clock).replay(original, recorder);
+
+    // move events carry their sample time, all others are recorded at the (whole ms) clock time
+    GestureTrace recorded = recorder.getTrace();
+    Assert.assertEquals(original.size(), recorded.size());
+    for (int i = 0; i < original.size(); i++) {
+      Assert.assertEquals(original.get(i).getType(), recorded.get(i).getType());
+      Assert.assertEquals(original.get(i).getTime(), recorded.get(i).getTime(), 1);
+      Assert.assertEquals(original.get(i).getTouchCount(), recorded.get(i).getTouchCount());
+      Assert.assertEquals(original.get(i).getChangedTouchCount(), recorded.get(i).getChangedTouchCount());
+    }
+    Assert.assertEquals(Type.MOVE, recorded.get(5).getType());
+    Assert.assertEquals(original.get(5).getTime(), recorded.get(5).getTime(), 0.001);
+    Assert.assertEquals(original.get(5).getPageX(1), recorded.get(5).getPageX(1));
+    Assert.assertEquals(original.get(5).getIdentifier(1), recorded.get(5).getIdentifier(1));
+  }
+
+  @Test
+  public void testClear() {
+    VirtualClock clock = new VirtualClock(100);
+    GestureRecorder recorder = new GestureRecorder(clock);
+    GestureReplayer replayer = new GestureReplayer(clock);
+    replayer.replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/tap.json"), recorder);
+
+    recorder.clear();
+    Assert.assertEquals(0, recorder.getTrace().size());
+
+    clock.advanceBy(1000);
+    replayer.replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/tap.json"), recorder);
+    Assert.assertEquals(0, recorder.getTrace().get(0).getTime(), 0);
+    Assert.assertEquals(4, recorder.getTrace().size());
+  }
+}
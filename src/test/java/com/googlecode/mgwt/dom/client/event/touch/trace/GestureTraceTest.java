@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.event.touch.trace;
+
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace.Event;
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace.Type;
+import com.googlecode.mgwt.helper.GestureReplayer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GestureTraceTest {
+
+  private static final String JSON = "{\"version\":1,\"events\":[[\"s\",0,[0,10,20],[0,10,20]],"
+      + "[\"s\",4.5,[0,10,20,3,50,60],[3,50,60]],[\"c\",16,[],[0,10,20,3,50,60]]]}";
+
+  @Test
+  public void testToJson() {
+    GestureTrace trace = new GestureTrace();
+    trace.add(new Event(Type.START, 0, new int[] {0, 10, 20}, new int[] {0, 10, 20}));
+    trace.add(new Event(Type.START, 4.5, new int[] {0, 10, 20, 3, 50, 60}, new int[] {3, 50, 60}));
+    trace.add(new Event(Type.CANCEL, 16, new int[0], new int[] {0, 10, 20, 3, 50, 60}));
+
+    Assert.assertEquals(JSON, trace.toJson());
+  }
+
+  @Test
+  public void testParse() {
+    GestureTrace trace = GestureTrace.parse(JSON);
+
+    Assert.assertEquals(3, trace.size());
+    Assert.assertEquals(16, trace.getDuration(), 0);
+
+    Event event = trace.get(1);
+    Assert.assertEquals(Type.START, event.getType());
+    Assert.assertEquals(4.5, event.getTime(), 0);
+    Assert.assertEquals(2, event.getTouchCount());
+    Assert.assertEquals(3, event.getIdentifier(1));
+    Assert.assertEquals(50, event.getPageX(1));
+    Assert.assertEquals(60, event.getPageY(1));
+    Assert.assertEquals(1, event.getChangedTouchCount());
+    Assert.assertEquals(3, event.getChangedIdentifier(0));
+
+    Assert.assertEquals(0, trace.get(2).getTouchCount());
+    Assert.assertEquals(JSON, trace.toJson());
+  }
+
+  @Test
+  public void testParseWithWhitespace() {
+    GestureTrace trace = GestureTrace.parse("{ \"version\" : 1,\n \"events\" : [\n  [ \"m\" , 1.25 , [ 0 , -3 , 4 ] , [ ] ]\n ] }\n");
+
+    Assert.assertEquals(1, trace.size());
+    Assert.assertEquals(Type.MOVE, trace.get(0).getType());
+    Assert.assertEquals(1.25, trace.get(0).getTime(), 0);
+    Assert.assertEquals(-3, trace.get(0).getPageX(0));
+  }
+
+  @Test
+  public void testParseInvalid() {
+    assertInvalid(null);
+    assertInvalid("");
+    assertInvalid("{\"events\":[]}");
+    assertInvalid("{\"version\":2,\"events\":[]}");
+    assertInvalid("{\"version\":1,\"foo\":[]}");
+    assertInvalid("{\"version\":1,\"events\":[[\"x\",0,[],[]]]}");
+    assertInvalid("{\"version\":1,\"events\":[[\"s\",0,[1,2],[]]]}");
+    assertInvalid("{\"version\":1,\"events\":[[\"s\",5,[],[]],[\"e\",4,[],[]]]}");
+    assertInvalid("{\"version\":1,\"events\":[]} trailing");
+  }
+
+  @Test
+  public void testCheckedInTracesAreValid() {
+    for (String name : new String[] {"tap", "longtap", "swipe", "fling", "fling-down", "pinch"}) {
+      GestureTrace trace = GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/" + name + ".json");
+      Assert.assertEquals(Type.START, trace.get(0).getType());
+      Assert.assertEquals(0, trace.get(trace.size() - 1).getTouchCount());
+      Assert.assertEquals(trace.toJson(), GestureTrace.parse(trace.toJson()).toJson());
+    }
+  }
+
+  private void assertInvalid(String json) {
+    try {
+      GestureTrace.parse(json);
+      Assert.fail("expected exception did not occur for " + json);
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+}
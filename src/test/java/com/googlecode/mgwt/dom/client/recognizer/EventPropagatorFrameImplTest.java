@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
+import com.googlecode.mgwt.dom.client.recognizer.pinch.PinchEvent;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEndEvent;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEvent.DIRECTION;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeMoveEvent;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartEvent;
+
+/**
+ * Test for {@link EventPropagatorFrameImpl}.
+ */
+public class EventPropagatorFrameImplTest {
+
+  private static class RecordingSource implements HasHandlers {
+    private final List<GwtEvent<?>> fired = new ArrayList<GwtEvent<?>>();
+
+    @Override
+    public void fireEvent(GwtEvent<?> event) {
+      fired.add(event);
+    }
+  }
+
+  private int framesScheduled;
+  private int flushesScheduled;
+  private EventPropagatorFrameImpl propagator;
+  private RecordingSource source;
+
+  @Before
+  public void setUp() {
+    framesScheduled = 0;
+    flushesScheduled = 0;
+    propagator = new EventPropagatorFrameImpl() {
+      @Override
+      protected void scheduleFrame() {
+        framesScheduled++;
+      }
+
+      @Override
+      protected void scheduleFlush() {
+        flushesScheduled++;
+      }
+    };
+    source = new RecordingSource();
+  }
+
+  @Test
+  public void testMovesAreCoalescedPerFrame() {
+    for (int i = 1; i <= 5; i++) {
+      propagator.fireEvent(source, new SwipeMoveEvent(new TouchCopy(i, 0, 0), i > 3, i, DIRECTION.LEFT_TO_RIGHT));
+    }
+
+    Assert.assertEquals(1, framesScheduled);
+    Assert.assertEquals(0, flushesScheduled);
+    Assert.assertEquals(1, propagator.getPendingCount());
+    Assert.assertTrue(source.fired.isEmpty());
+
+    propagator.flush();
+
+    Assert.assertEquals(1, source.fired.size());
+    SwipeMoveEvent event = (SwipeMoveEvent) source.fired.get(0);
+    Assert.assertEquals(5, event.getDistance());
+    Assert.assertTrue(event.isDistanceReached());
+    Assert.assertEquals(5, event.getTouch().getPageX());
+  }
+
+  @Test
+  public void testPinchScaleFactorsAccumulate() {
+    propagator.fireEvent(source, new PinchEvent(1, 1, 2));
+    propagator.fireEvent(source, new PinchEvent(2, 2, 1.5));
+    propagator.fireEvent(source, new PinchEvent(3, 4, 0.5));
+    propagator.flush();
+
+    Assert.assertEquals(1, source.fired.size());
+    PinchEvent event = (PinchEvent) source.fired.get(0);
+    Assert.assertEquals(3, event.getX());
+    Assert.assertEquals(4, event.getY());
+    Assert.assertEquals(1.5, event.getScaleFactor(), 0.0001);
+  }
+
+  @Test
+  public void testStartAndEndKeepOrder() {
+    SwipeStartEvent start = new SwipeStartEvent(new TouchCopy(0, 0, 0), 10, DIRECTION.LEFT_TO_RIGHT);
+    SwipeEndEvent end = new SwipeEndEvent(true, 30, DIRECTION.LEFT_TO_RIGHT);
+
+    propagator.fireEvent(source, start);
+    propagator.fireEvent(source, new SwipeMoveEvent(new TouchCopy(20, 0, 0), false, 20, DIRECTION.LEFT_TO_RIGHT));
+    propagator.fireEvent(source, new SwipeMoveEvent(new TouchCopy(30, 0, 0), false, 30, DIRECTION.LEFT_TO_RIGHT));
+    propagator.fireEvent(source, end);
+    // a move after the end must not be merged into a move before it
+    propagator.fireEvent(source, new SwipeMoveEvent(new TouchCopy(40, 0, 0), false, 40, DIRECTION.LEFT_TO_RIGHT));
+
+    Assert.assertEquals(1, flushesScheduled);
+    propagator.flush();
+
+    Assert.assertEquals(4, source.fired.size());
+    Assert.assertSame(start, source.fired.get(0));
+    Assert.assertEquals(30, ((SwipeMoveEvent) source.fired.get(1)).getDistance());
+    Assert.assertSame(end, source.fired.get(2));
+    Assert.assertEquals(40, ((SwipeMoveEvent) source.fired.get(3)).getDistance());
+  }
+
+  @Test
+  public void testEventsOfDifferentSourcesAreNotMerged() {
+    RecordingSource other = new RecordingSource();
+    propagator.fireEvent(source, new PinchEvent(1, 1, 2));
+    propagator.fireEvent(other, new PinchEvent(2, 2, 2));
+    propagator.fireEvent(source, new PinchEvent(3, 3, 2));
+    propagator.flush();
+
+    Assert.assertEquals(2, source.fired.size());
+    Assert.assertEquals(1, other.fired.size());
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+
+import com.googlecode.mgwt.dom.client.event.tap.TapEvent;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeRecognizer;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeStartEvent;
+import com.googlecode.mgwt.helper.TouchTestUtil;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class GestureArenaTest {
+
+  private static class CountingMember implements GestureArenaMember {
+    private GestureArena arena;
+    private int starts;
+    private int moves;
+    private int ends;
+    private int rejections;
+
+    @Override
+    public void onTouchStart(TouchStartEvent event) {
+      starts++;
+    }
+
+    @Override
+    public void onTouchMove(TouchMoveEvent event) {
+      moves++;
+    }
+
+    @Override
+    public void onTouchEnd(TouchEndEvent event) {
+      ends++;
+    }
+
+    @Override
+    public void onTouchCancel(TouchCancelEvent event) {
+    }
+
+    @Override
+    public void setGestureArena(GestureArena arena) {
+      this.arena = arena;
+    }
+
+    @Override
+    public void rejectGesture() {
+      rejections++;
+    }
+  }
+
+  @Mock
+  HasHandlers hasHandlers;
+  @Mock
+  EventPropagator eventPropagator;
+
+  @Captor
+  ArgumentCaptor<GwtEvent<?>> eventCaptor;
+
+  private GestureArena arena;
+
+  @Before
+  public void setUp() {
+    arena = new GestureArena();
+  }
+
+  @Test
+  public void testForwardsEvents() {
+    CountingMember member = new CountingMember();
+    arena.add(member);
+    Assert.assertSame(arena, member.arena);
+
+    arena.onTouchStart(TouchTestUtil.createTouchStartEvent(10, 20));
+    arena.onTouchMove(TouchTestUtil.createTouchMoveEvent(new int[] {30, 40, 100, 100}));
+
+    arena.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+
+    Assert.assertEquals(1, member.starts);
+    Assert.assertEquals(1, member.moves);
+    Assert.assertEquals(1, member.ends);
+  }
+
+  @Test
+  public void testAcceptRejectsOthersUntilGestureEnds() {
+    CountingMember winner = new CountingMember();
+    CountingMember loser = new CountingMember();
+    arena.add(winner);
+    arena.add(loser);
+
+    arena.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    arena.accept(winner);
+    arena.onTouchMove(TouchTestUtil.createTouchMoveEvent(5, 5));
+    arena.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+
+    Assert.assertSame(winner, arena.getWinner());
+    Assert.assertEquals(0, winner.rejections);
+    Assert.assertEquals(1, loser.rejections);
+    Assert.assertEquals(1, winner.moves);
+    Assert.assertEquals(0, loser.moves);
+    Assert.assertEquals(0, loser.ends);
+
+    // the next gesture starts with all members
+    arena.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    Assert.assertNull(arena.getWinner());
+    Assert.assertTrue(arena.isActive(loser));
+    Assert.assertEquals(2, loser.starts);
+  }
+
+  @Test
+  public void testRejectStopsEvents() {
+    CountingMember member = new CountingMember();
+    arena.add(member);
+
+    arena.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    arena.reject(member);
+    arena.reject(member);
+    arena.onTouchMove(TouchTestUtil.createTouchMoveEvent(5, 5));
+
+    Assert.assertEquals(1, member.rejections);
+    Assert.assertEquals(0, member.moves);
+    Assert.assertFalse(arena.isActive(member));
+  }
+
+  @Test
+  public void testSwipeWinsOverTap() {
+    TapRecognizer tapRecognizer = new TapRecognizer(hasHandlers) {
+      @Override
+      protected EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+    };
+    SwipeRecognizer swipeRecognizer = new SwipeRecognizer(hasHandlers, 40, 5);
+    arena.add(tapRecognizer);
+    arena.add(swipeRecognizer);
+
+    arena.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    // beyond the swipe threshold but within the tap distance
+    arena.onTouchMove(TouchTestUtil.createTouchMoveEvent(8, 0));
+
+    Assert.assertSame(swipeRecognizer, arena.getWinner());
+    Assert.assertFalse(arena.isActive(tapRecognizer));
+
+    arena.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+    verify(eventPropagator, never()).fireEvent(any(HasHandlers.class), any(TapEvent.class));
+  }
+
+  @Test
+  public void testTapWins() {
+    TapRecognizer tapRecognizer = new TapRecognizer(hasHandlers) {
+      @Override
+      protected EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+    };
+    SwipeRecognizer swipeRecognizer = new SwipeRecognizer(hasHandlers);
+    arena.add(swipeRecognizer);
+    arena.add(tapRecognizer);
+
+    arena.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    arena.onTouchMove(TouchTestUtil.createTouchMoveEvent(2, 0));
+    arena.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+
+    Assert.assertSame(tapRecognizer, arena.getWinner());
+    verify(eventPropagator).fireEvent(eq(hasHandlers), eventCaptor.capture());
+    Assert.assertTrue(eventCaptor.getValue() instanceof TapEvent);
+    Assert.assertFalse(eventCaptor.getValue() instanceof SwipeStartEvent);
+  }
+}
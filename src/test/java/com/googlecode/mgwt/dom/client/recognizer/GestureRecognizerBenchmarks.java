@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.googlecode.mgwt.dom.client.recognizer.longtap.LongTapRecognizerBenchmark;
+import com.googlecode.mgwt.dom.client.recognizer.pinch.PinchRecognizerBenchmark;
+import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeRecognizerBenchmark;
+import com.googlecode.mgwt.dom.client.recognizer.tap.MultiTapRecognizerBenchmark;
+
+/**
+ * Runs the benchmarks of all gesture recognizers with the GC profiler.
+ *
+ * The benchmarks feed synthetic touch streams into the recognizers on the JVM, using the java
+ * collections and stubbed time providers and timers. The score is the time per touch event, the
+ * <code>gc.alloc.rate.norm</code> line of each benchmark is the number of bytes allocated per touch
+ * event.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.GestureRecognizerBenchmarks</code>
+ */
+public class GestureRecognizerBenchmarks {
+
+  public static void main(String[] args) throws RunnerException {
+    OptionsBuilder options = new OptionsBuilder();
+    options.include(TapRecognizerBenchmark.class.getName());
+    options.include(MultiTapRecognizerBenchmark.class.getName());
+    options.include(LongTapRecognizerBenchmark.class.getName());
+    options.include(SwipeRecognizerBenchmark.class.getName());
+    options.include(PinchRecognizerBenchmark.class.getName());
+    options.addProfiler(GCProfiler.class);
+    new Runner(options.build()).run();
+  }
+}
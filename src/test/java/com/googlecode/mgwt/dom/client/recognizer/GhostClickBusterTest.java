@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.googlecode.mgwt.helper.StubClock;
+
+public class GhostClickBusterTest {
+
+  private StubClock clock;
+  private boolean needed;
+  private int installs;
+  private GhostClickBuster buster;
+
+  @Before
+  public void setUp() {
+    clock = new StubClock();
+    clock.setTime(10000);
+    needed = true;
+    buster = new GhostClickBuster(clock) {
+      @Override
+      boolean isNeeded() {
+        return needed;
+      }
+
+      @Override
+      void install() {
+        installs++;
+      }
+    };
+  }
+
+  @Test
+  public void testBustsClickCloseToTap() {
+    buster.preventGhostClick(100, 200);
+    clock.advanceBy(300);
+
+    Assert.assertFalse(buster.bust(100 + GhostClickBuster.RADIUS + 1, 200));
+    Assert.assertTrue(buster.bust(110, 180));
+    // a tap only swallows one click
+    Assert.assertFalse(buster.bust(110, 180));
+  }
+
+  @Test
+  public void testLetsLateClicksThrough() {
+    buster.preventGhostClick(100, 200);
+    clock.advanceBy(GhostClickBuster.DURATION_IN_MS + 1);
+
+    Assert.assertFalse(buster.bust(100, 200));
+  }
+
+  @Test
+  public void testRemembersSeveralTaps() {
+    buster.preventGhostClick(100, 200);
+    buster.preventGhostClick(300, 400);
+
+    Assert.assertTrue(buster.bust(300, 400));
+    Assert.assertTrue(buster.bust(100, 200));
+    Assert.assertEquals(1, installs);
+  }
+
+  @Test
+  public void testNothingInstalledWithoutClickDelay() {
+    needed = false;
+    buster.preventGhostClick(100, 200);
+
+    Assert.assertEquals(0, installs);
+    Assert.assertFalse(buster.bust(100, 200));
+  }
+}
@@ -24,11 +24,15 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 
 import com.googlecode.mgwt.dom.client.event.tap.TapEvent;
+import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
+import com.googlecode.mgwt.helper.GestureReplayer;
 import com.googlecode.mgwt.helper.TouchTestUtil;
+import com.googlecode.mgwt.helper.VirtualClock;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -159,4 +163,54 @@ public class TapRecognizerTest {
     tapRecognizer.onTouchEnd(mock(TouchEndEvent.class));
     verifyNoMoreInteractions(hasHandlers);
   }
+
+  @Test
+  public void testReplayTapTrace() {
+    new GestureReplayer(new VirtualClock()).replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/tap.json"), tapRecognizer);
+
+    verify(hasHandlers).fireEvent(eventCaptor.capture());
+    TapEvent tapEvent = (TapEvent) eventCaptor.getValue();
+    Assert.assertEquals(160, tapEvent.getStartX());
+    Assert.assertEquals(300, tapEvent.getStartY());
+  }
+
+  @Test
+  public void testReplaySwipeTraceIsNoTap() {
+    new GestureReplayer(new VirtualClock()).replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/swipe.json"), tapRecognizer);
+
+    verifyNoMoreInteractions(hasHandlers);
+  }
+
+  @Test
+  public void testTouchTapPreventsGhostClickAtEndPosition() {
+    final GhostClickBuster ghostClickBuster = mock(GhostClickBuster.class);
+    TapRecognizer recognizer = new TapRecognizer(hasHandlers, distance) {
+      @Override
+      GhostClickBuster getGhostClickBuster() {
+        return ghostClickBuster;
+      }
+    };
+
+    recognizer.start(null, new TouchCopy(100, 200, 0), true);
+    recognizer.move(104, 197);
+    recognizer.end();
+
+    verify(ghostClickBuster).preventGhostClick(104, 197);
+  }
+
+  @Test
+  public void testEmulatedTapDoesNotPreventClick() {
+    final GhostClickBuster ghostClickBuster = mock(GhostClickBuster.class);
+    TapRecognizer recognizer = new TapRecognizer(hasHandlers, distance) {
+      @Override
+      GhostClickBuster getGhostClickBuster() {
+        return ghostClickBuster;
+      }
+    };
+
+    recognizer.start(null, new TouchCopy(100, 200, 0), false);
+    recognizer.end();
+
+    verifyZeroInteractions(ghostClickBuster);
+  }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.TimerHandle;
+import com.googlecode.mgwt.helper.StubClock;
+
+public class TimerWheelTest {
+
+  private StubClock clock;
+  private TimerWheel wheel;
+  private boolean ticking;
+  private List<Integer> delays;
+  private List<String> runs;
+
+  @Before
+  public void setUp() {
+    clock = new StubClock();
+    clock.setTime(1000);
+    runs = new ArrayList<String>();
+    delays = new ArrayList<Integer>();
+    wheel = new TimerWheel(clock, 10, 8) {
+      @Override
+      void scheduleTick(int delay) {
+        ticking = true;
+        delays.add(delay);
+      }
+
+      @Override
+      void stopTicking() {
+        ticking = false;
+      }
+    };
+  }
+
+  private CodeToRun record(final String name) {
+    return new CodeToRun() {
+
+      @Override
+      public void onExecution() {
+        runs.add(name + "@" + clock.getTime());
+      }
+    };
+  }
+
+  private void advanceBy(int ms) {
+    // let the native timer fire on every tick, ticks without due timers do nothing
+    for (int i = 0; i < ms / 10; i++) {
+      clock.advanceBy(10);
+      wheel.advance();
+    }
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new TimerWheel(null, 10, 8);
+      Assert.fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      new TimerWheel(clock, 0, 8);
+      Assert.fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      new TimerWheel(clock, 10, 12);
+      Assert.fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testRunsTimersWhenDue() {
+    wheel.execute(record("b"), 30);
+    wheel.execute(record("a"), 1);
+    wheel.execute(record("c"), 35);
+
+    Assert.assertTrue(ticking);
+    // the native timer is moved to the earliest timer
+    Assert.assertEquals("[30, 10]", delays.toString());
+    Assert.assertEquals(3, wheel.getPendingCount());
+
+    advanceBy(20);
+    Assert.assertEquals("[a@1010]", runs.toString());
+
+    advanceBy(20);
+    Assert.assertEquals("[a@1010, b@1030, c@1040]", runs.toString());
+    Assert.assertEquals(0, wheel.getPendingCount());
+    Assert.assertFalse(ticking);
+  }
+
+  @Test
+  public void testTimersLongerThanOneRound() {
+    // one round of the wheel is 80 ms
+    wheel.execute(record("a"), 250);
+    wheel.execute(record("b"), 90);
+
+    advanceBy(240);
+    Assert.assertEquals("[b@1090]", runs.toString());
+
+    advanceBy(10);
+    Assert.assertEquals("[b@1090, a@1250]", runs.toString());
+  }
+
+  @Test
+  public void testNativeTimerSkipsEmptySlots() {
+    wheel.execute(record("a"), 10);
+    wheel.execute(record("b"), 250);
+    Assert.assertEquals("[10]", delays.toString());
+
+    clock.advanceBy(10);
+    wheel.advance();
+    Assert.assertEquals("[a@1010]", runs.toString());
+    Assert.assertEquals("[10, 240]", delays.toString());
+
+    clock.advanceBy(240);
+    wheel.advance();
+    Assert.assertEquals("[a@1010, b@1250]", runs.toString());
+    Assert.assertFalse(ticking);
+  }
+
+  @Test
+  public void testCancel() {
+    TimerHandle a = wheel.execute(record("a"), 20);
+    TimerHandle b = wheel.execute(record("b"), 20);
+
+    a.cancel();
+    Assert.assertEquals(1, wheel.getPendingCount());
+
+    b.cancel();
+    Assert.assertEquals(0, wheel.getPendingCount());
+    Assert.assertFalse(ticking);
+
+    advanceBy(50);
+    Assert.assertTrue(runs.isEmpty());
+
+    // cancelling again or after running does nothing
+    a.cancel();
+    TimerHandle c = wheel.execute(record("c"), 10);
+    advanceBy(10);
+    c.cancel();
+    Assert.assertEquals("[c@1060]", runs.toString());
+  }
+
+  @Test
+  public void testCancelFromAnotherTimerOfTheSameTick() {
+    final TimerHandle[] b = new TimerHandle[1];
+    wheel.execute(new CodeToRun() {
+
+      @Override
+      public void onExecution() {
+        b[0].cancel();
+      }
+    }, 10);
+    b[0] = wheel.execute(record("b"), 10);
+
+    advanceBy(10);
+    Assert.assertTrue(runs.isEmpty());
+  }
+
+  @Test
+  public void testCatchesUpWithLateTicks() {
+    wheel.execute(record("a"), 10);
+    wheel.execute(record("b"), 40);
+
+    // the native timer was throttled for 45 ms
+    clock.advanceBy(45);
+    wheel.advance();
+    Assert.assertEquals("[a@1045, b@1045]", runs.toString());
+  }
+
+  @Test
+  public void testScheduleFromTimer() {
+    wheel.execute(new CodeToRun() {
+
+      @Override
+      public void onExecution() {
+        wheel.execute(record("b"), 20);
+      }
+    }, 10);
+
+    advanceBy(10);
+    Assert.assertTrue(runs.isEmpty());
+    Assert.assertTrue(ticking);
+
+    advanceBy(20);
+    Assert.assertEquals("[b@1030]", runs.toString());
+    Assert.assertFalse(ticking);
+
+    // an idle wheel counts ticks from the time a timer is scheduled
+    clock.advanceBy(5);
+    wheel.execute(record("c"), 10);
+    Assert.assertEquals(Integer.valueOf(10), delays.get(delays.size() - 1));
+    clock.advanceBy(10);
+    wheel.advance();
+    Assert.assertEquals("[b@1030, c@1045]", runs.toString());
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace;
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace.Type;
+import com.googlecode.mgwt.helper.GestureReplayer;
+
+/**
+ * Replays recorded traces through a {@link TouchPredictor} and measures how far the drawn position
+ * is from the finger when the frame is presented.
+ *
+ * For every move sample at time t the content is drawn either at the sample (no prediction) or at
+ * the sample plus the predicted offset. The frame is presented at t + lead time, where the real
+ * finger position is interpolated between the recorded samples. Samples whose presentation time
+ * lies after the last move are skipped.
+ *
+ * Run with
+ * <code>mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.TouchPredictionEvaluation</code>
+ */
+public class TouchPredictionEvaluation {
+
+  private static final String TRACES = "/com/googlecode/mgwt/dom/client/event/touch/trace/";
+
+  /**
+   * the single finger traces that move
+   */
+  public static final String[] TRACE_NAMES = {"swipe", "fling", "fling-down"};
+
+  /**
+   * The prediction error of one trace
+   */
+  public static class Result {
+    private int count;
+    private double sumErrorWithout;
+    private double maxErrorWithout;
+    private double sumErrorWith;
+    private double maxErrorWith;
+
+    void add(double errorWithout, double errorWith) {
+      count++;
+      sumErrorWithout += errorWithout;
+      maxErrorWithout = Math.max(maxErrorWithout, errorWithout);
+      sumErrorWith += errorWith;
+      maxErrorWith = Math.max(maxErrorWith, errorWith);
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public double getMeanErrorWithout() {
+      return count == 0 ? 0 : sumErrorWithout / count;
+    }
+
+    public double getMaxErrorWithout() {
+      return maxErrorWithout;
+    }
+
+    public double getMeanErrorWith() {
+      return count == 0 ? 0 : sumErrorWith / count;
+    }
+
+    public double getMaxErrorWith() {
+      return maxErrorWith;
+    }
+  }
+
+  /**
+   * load a trace by name
+   *
+   * @param name the name of the trace without extension
+   * @return the trace
+   */
+  public static GestureTrace load(String name) {
+    return GestureReplayer.load(TRACES + name + ".json");
+  }
+
+  /**
+   * replay the first finger of a trace through a predictor
+   *
+   * @param trace the trace
+   * @param predictor the predictor to evaluate
+   * @param leadTime the lead time the predictor was built with
+   * @return the prediction error
+   */
+  public static Result evaluate(GestureTrace trace, TouchPredictor predictor, double leadTime) {
+    predictor.clear();
+    Result result = new Result();
+
+    double lastMoveTime = 0;
+    for (int i = 0; i < trace.size(); i++) {
+      if (trace.get(i).getType() == Type.MOVE) {
+        lastMoveTime = trace.get(i).getTime();
+      }
+    }
+
+    for (int i = 0; i < trace.size(); i++) {
+      GestureTrace.Event event = trace.get(i);
+      if (event.getType() != Type.START && event.getType() != Type.MOVE) {
+        continue;
+      }
+      double time = event.getTime();
+      int x = event.getPageX(0);
+      int y = event.getPageY(0);
+      predictor.addSample(time, x, y);
+
+      double presentTime = time + leadTime;
+      if (event.getType() != Type.MOVE || presentTime > lastMoveTime) {
+        continue;
+      }
+      double actualX = interpolate(trace, presentTime, true);
+      double actualY = interpolate(trace, presentTime, false);
+
+      double errorWithout = distance(x - actualX, y - actualY);
+      double errorWith =
+          distance(x + predictor.getOffsetX() - actualX, y + predictor.getOffsetY() - actualY);
+      result.add(errorWithout, errorWith);
+    }
+    return result;
+  }
+
+  private static double interpolate(GestureTrace trace, double time, boolean xAxis) {
+    GestureTrace.Event previous = null;
+    for (int i = 0; i < trace.size(); i++) {
+      GestureTrace.Event event = trace.get(i);
+      if (event.getType() != Type.START && event.getType() != Type.MOVE) {
+        continue;
+      }
+      int value = xAxis ? event.getPageX(0) : event.getPageY(0);
+      if (event.getTime() >= time) {
+        if (previous == null || event.getTime() == previous.getTime()) {
+          return value;
+        }
+        int previousValue = xAxis ? previous.getPageX(0) : previous.getPageY(0);
+        double fraction = (time - previous.getTime()) / (event.getTime() - previous.getTime());
+        return previousValue + (value - previousValue) * fraction;
+      }
+      previous = event;
+    }
+    throw new IllegalArgumentException("time is after the last move");
+  }
+
+  private static double distance(double x, double y) {
+    return Math.sqrt(x * x + y * y);
+  }
+
+  public static void main(String[] args) {
+    double[] leadTimes = {8, TouchPredictor.DEFAULT_LEAD_TIME, 33};
+    System.out.println("trace         lead  samples  mean without  mean with  max without  max with");
+    for (String name : TRACE_NAMES) {
+      GestureTrace trace = load(name);
+      for (double leadTime : leadTimes) {
+        Result result =
+            evaluate(trace, new TouchPredictor(leadTime, TouchPredictor.DEFAULT_MAX_DISTANCE), leadTime);
+        System.out.println(String.format("%-12s %5.0f %8d %13.1f %10.1f %12.1f %9.1f", name,
+            leadTime, result.getCount(), result.getMeanErrorWithout(), result.getMeanErrorWith(),
+            result.getMaxErrorWithout(), result.getMaxErrorWith()));
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.googlecode.mgwt.dom.client.recognizer.TouchPredictionEvaluation.Result;
+
+public class TouchPredictorTest {
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new TouchPredictor(0, 32);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    try {
+      new TouchPredictor(16, 0);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testNoPredictionWithFewSamples() {
+    TouchPredictor predictor = new TouchPredictor();
+    Assert.assertEquals(0, predictor.getOffsetX(), 0);
+
+    predictor.addSample(0, 0, 0);
+    predictor.addSample(10, 10, 5);
+    Assert.assertEquals(0, predictor.getOffsetX(), 0);
+    Assert.assertEquals(0, predictor.getOffsetY(), 0);
+  }
+
+  @Test
+  public void testConstantVelocity() {
+    TouchPredictor predictor = new TouchPredictor(16, 100);
+    for (int i = 0; i <= 5; i++) {
+      predictor.addSample(i * 8, 100 + i * 8, 300 - i * 4);
+    }
+
+    // 1 px / ms and -0.5 px / ms
+    Assert.assertEquals(16, predictor.getOffsetX(), 0.0001);
+    Assert.assertEquals(-8, predictor.getOffsetY(), 0.0001);
+  }
+
+  @Test
+  public void testOffsetIsClampedKeepingDirection() {
+    TouchPredictor predictor = new TouchPredictor(16, 10);
+    for (int i = 0; i <= 5; i++) {
+      predictor.addSample(i * 8, i * 24, i * 32);
+    }
+
+    // 3 px / ms and 4 px / ms would be 80 px, clamped to a length of 10
+    Assert.assertEquals(6, predictor.getOffsetX(), 0.0001);
+    Assert.assertEquals(8, predictor.getOffsetY(), 0.0001);
+  }
+
+  @Test
+  public void testClear() {
+    TouchPredictor predictor = new TouchPredictor();
+    for (int i = 0; i <= 5; i++) {
+      predictor.addSample(i * 8, i * 8, 0);
+    }
+    Assert.assertTrue(predictor.getOffsetX() > 0);
+
+    predictor.clear();
+    Assert.assertEquals(0, predictor.getOffsetX(), 0);
+    predictor.addSample(100, 0, 0);
+    Assert.assertEquals(0, predictor.getOffsetX(), 0);
+  }
+
+  @Test
+  public void testNoPredictionAfterPause() {
+    TouchPredictor predictor = new TouchPredictor();
+    for (int i = 0; i <= 5; i++) {
+      predictor.addSample(i * 8, i * 8, 0);
+    }
+    predictor.addSample(40 + VelocityTracker.ASSUME_STOPPED_TIME + 1, 40, 0);
+
+    Assert.assertEquals(0, predictor.getOffsetX(), 0);
+  }
+
+  @Test
+  public void testPredictionLowersErrorOnRecordedTraces() {
+    for (String name : TouchPredictionEvaluation.TRACE_NAMES) {
+      Result result = TouchPredictionEvaluation.evaluate(TouchPredictionEvaluation.load(name),
+          new TouchPredictor(), TouchPredictor.DEFAULT_LEAD_TIME);
+
+      Assert.assertTrue(name, result.getCount() > 5);
+      Assert.assertTrue(name, result.getMeanErrorWith() < result.getMeanErrorWithout() / 2);
+      Assert.assertTrue(name, result.getMaxErrorWith() < result.getMaxErrorWithout());
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Feeds a jittery fling of 1,000 samples at 8ms intervals into a {@link VelocityTracker} and reports
+ * the cost per sample, once for only adding samples and once for adding a sample and reading the
+ * velocity after every sample (the worst case, a fling is normally estimated once per gesture).
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.VelocityTrackerBenchmark</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VelocityTrackerBenchmark {
+
+  private static final int SAMPLES = 1000;
+
+  @Param({"1", "2"})
+  private int degree;
+
+  private final double[] samples = new double[SAMPLES * 3];
+  private VelocityTracker tracker;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < SAMPLES; i++) {
+      samples[i * 3] = i * 8 + (i % 3);
+      samples[i * 3 + 1] = i * 12 + (i % 2 == 0 ? 1 : -1);
+      samples[i * 3 + 2] = 300 + (i % 5) - 2;
+    }
+    tracker = new VelocityTracker(VelocityTracker.DEFAULT_CAPACITY, VelocityTracker.DEFAULT_HORIZON, degree);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void addSample() {
+    tracker.clear();
+    for (int i = 0; i < SAMPLES; i++) {
+      int offset = i * 3;
+      tracker.addSample(samples[offset], samples[offset + 1], samples[offset + 2]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void addSampleAndComputeVelocity(Blackhole blackhole) {
+    tracker.clear();
+    for (int i = 0; i < SAMPLES; i++) {
+      int offset = i * 3;
+      tracker.addSample(samples[offset], samples[offset + 1], samples[offset + 2]);
+      blackhole.consume(tracker.getVelocityX());
+      blackhole.consume(tracker.getVelocityY());
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(VelocityTrackerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer;
+
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class VelocityTrackerTest {
+
+  /**
+   * a horizontal fling at 1.5 px / ms recorded on a jittery digitizer: {time, x, y}
+   */
+  private static final double[][] JITTERY_FLING = {
+      {0, 100, 300}, {8, 113, 301}, {16, 123, 299}, {25, 138, 300}, {33, 149, 301},
+      {41, 163, 300}, {49, 173, 299}, {58, 188, 300}, {66, 198, 301}, {74, 213, 300},
+      {82, 222, 299}, {91, 238, 300}, {99, 247, 301}, {107, 262, 300}, {115, 272, 299}};
+
+  /**
+   * a vertical fling that slows down, y = 2 t - 0.005 t^2: {time, x, y}
+   */
+  private static final double[][] DECELERATING_FLING = {
+      {0, 50, 0}, {10, 50, 19.5}, {20, 50, 38}, {30, 50, 55.5}, {40, 50, 72}, {50, 50, 87.5},
+      {60, 50, 102}, {70, 50, 115.5}, {80, 50, 128}};
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new VelocityTracker(1, 100, 2);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    try {
+      new VelocityTracker(20, 0, 2);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    try {
+      new VelocityTracker(20, 100, 3);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testNoVelocityWithoutMovement() {
+    VelocityTracker tracker = new VelocityTracker();
+    Assert.assertEquals(0, tracker.getVelocityX(), 0);
+
+    tracker.addSample(0, 10, 10);
+    Assert.assertEquals(0, tracker.getVelocityX(), 0);
+    Assert.assertEquals(0, tracker.getVelocityY(), 0);
+
+    tracker.addSample(10, 10, 10);
+    tracker.addSample(20, 10, 10);
+    Assert.assertEquals(0, tracker.getVelocityX(), 0);
+    Assert.assertEquals(0, tracker.getVelocityY(), 0);
+  }
+
+  @Test
+  public void testCoalescedSamples() {
+    // three samples of one dispatch, the content is 100px behind the finger
+    HasCoalescedSamples samples = Mockito.mock(HasCoalescedSamples.class);
+    Mockito.when(samples.getSampleCount()).thenReturn(3);
+    Mockito.when(samples.getSampleTime(0)).thenReturn(0.0);
+    Mockito.when(samples.getSampleTime(1)).thenReturn(4.0);
+    Mockito.when(samples.getSampleTime(2)).thenReturn(8.0);
+    Mockito.when(samples.getSamplePageX(0)).thenReturn(100);
+    Mockito.when(samples.getSamplePageX(1)).thenReturn(108);
+    Mockito.when(samples.getSamplePageX(2)).thenReturn(116);
+    Mockito.when(samples.getSamplePageY(Mockito.anyInt())).thenReturn(50);
+
+    VelocityTracker tracker = new VelocityTracker();
+    tracker.addSamples(samples, 16, 0);
+
+    Assert.assertEquals(3, tracker.getSampleCount());
+    Assert.assertEquals(2, tracker.getVelocityX(), 0.0001);
+    Assert.assertEquals(0, tracker.getVelocityY(), 0.0001);
+  }
+
+  @Test
+  public void testTwoSamples() {
+    VelocityTracker tracker = new VelocityTracker();
+    tracker.addSample(0, 0, 0);
+    tracker.addSample(10, 20, -5);
+
+    Assert.assertEquals(2, tracker.getVelocityX(), 0.0001);
+    Assert.assertEquals(-0.5, tracker.getVelocityY(), 0.0001);
+  }
+
+  @Test
+  public void testJitteryFling() {
+    VelocityTracker tracker = new VelocityTracker(20, 100, 1);
+    replay(tracker, JITTERY_FLING);
+
+    Assert.assertEquals(1.5, tracker.getVelocityX(), 0.05);
+    Assert.assertEquals(0, tracker.getVelocityY(), 0.05);
+
+    // the last two samples alone are off by far more
+    double[] last = JITTERY_FLING[JITTERY_FLING.length - 1];
+    double[] previous = JITTERY_FLING[JITTERY_FLING.length - 2];
+    double twoPoint = (last[1] - previous[1]) / (last[0] - previous[0]);
+    Assert.assertTrue(Math.abs(twoPoint - 1.5) > 5 * Math.abs(tracker.getVelocityX() - 1.5));
+  }
+
+  @Test
+  public void testDeceleratingFling() {
+    VelocityTracker tracker = new VelocityTracker();
+    replay(tracker, DECELERATING_FLING);
+
+    // dy / dt = 2 - 0.01 t at t = 80
+    Assert.assertEquals(1.2, tracker.getVelocityY(), 0.0001);
+    Assert.assertEquals(0, tracker.getVelocityX(), 0.0001);
+
+    // a linear fit lags behind
+    VelocityTracker linear = new VelocityTracker(20, 100, 1);
+    replay(linear, DECELERATING_FLING);
+    Assert.assertTrue(linear.getVelocityY() > 1.3);
+  }
+
+  @Test
+  public void testPauseBeforeLift() {
+    VelocityTracker tracker = new VelocityTracker();
+    replay(tracker, JITTERY_FLING);
+    Assert.assertTrue(tracker.getVelocityX() > 1);
+
+    double[] last = JITTERY_FLING[JITTERY_FLING.length - 1];
+    tracker.addSample(last[0] + VelocityTracker.ASSUME_STOPPED_TIME + 1, last[1], last[2]);
+
+    Assert.assertEquals(1, tracker.getSampleCount());
+    Assert.assertEquals(0, tracker.getVelocityX(), 0);
+  }
+
+  @Test
+  public void testOldSamplesAreIgnored() {
+    VelocityTracker tracker = new VelocityTracker();
+    // fast movement first, then slow movement for longer than the horizon
+    double x = 0;
+    double time = 0;
+    for (; time < 50; time += 10) {
+      tracker.addSample(time, x, 0);
+      x += 30;
+    }
+    for (; time < 50 + VelocityTracker.DEFAULT_HORIZON + 20; time += 10) {
+      tracker.addSample(time, x, 0);
+      x += 1;
+    }
+
+    Assert.assertEquals(0.1, tracker.getVelocityX(), 0.0001);
+  }
+
+  @Test
+  public void testCapacity() {
+    VelocityTracker tracker = new VelocityTracker(5, 100, 2);
+    for (int i = 0; i < 10; i++) {
+      tracker.addSample(i, i * 3, 0);
+    }
+
+    Assert.assertEquals(5, tracker.getSampleCount());
+    Assert.assertEquals(3, tracker.getVelocityX(), 0.0001);
+
+    tracker.clear();
+    Assert.assertEquals(0, tracker.getSampleCount());
+    Assert.assertEquals(0, tracker.getVelocityX(), 0);
+  }
+
+  private void replay(VelocityTracker tracker, double[][] trace) {
+    for (double[] sample : trace) {
+      tracker.addSample(sample[0], sample[1], sample[2]);
+    }
+  }
+}
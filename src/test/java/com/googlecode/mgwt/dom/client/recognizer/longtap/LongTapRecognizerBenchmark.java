@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.longtap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagatorStandardImpl;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+import com.googlecode.mgwt.helper.StubClock;
+
+/**
+ * Drives synthetic long taps through {@link LongTapRecognizer} and reports the cost per touch
+ * event. Each long tap is a touch start, a few small moves, the timer firing the
+ * {@link LongTapEvent} and a touch end.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.longtap.LongTapRecognizerBenchmark</code>, or all recognizers with {@link com.googlecode.mgwt.dom.client.recognizer.GestureRecognizerBenchmarks}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongTapRecognizerBenchmark {
+
+  private static final int LONG_TAPS = 100;
+  private static final int MOVES = 8;
+  private static final int EVENTS = LONG_TAPS * (MOVES + 2);
+
+  private static final HasHandlers NO_HANDLERS = new HasHandlers() {
+
+    @Override
+    public void fireEvent(GwtEvent<?> event) {
+    }
+  };
+
+  private final int[] samples = new int[MOVES * 2];
+  private StubClock clock;
+  private LongTapRecognizer recognizer;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < MOVES; i++) {
+      samples[i * 2] = 100 + (i % 3) - 1;
+      samples[i * 2 + 1] = 200 + (i % 5) - 2;
+    }
+
+    clock = new StubClock();
+    final EventPropagator eventPropagator = new EventPropagatorStandardImpl();
+    recognizer = new LongTapRecognizer(NO_HANDLERS) {
+      @Override
+      TimerExecutor getTimerExecutor() {
+        return clock;
+      }
+
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+    };
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void longTap() {
+    for (int tap = 0; tap < LONG_TAPS; tap++) {
+      // the copy is made by the touch start handler as well
+      recognizer.start(new TouchCopy(100, 200, 0));
+      for (int i = 0; i < MOVES; i++) {
+        recognizer.move(0, samples[i * 2], samples[i * 2 + 1]);
+      }
+      clock.runPending();
+      recognizer.end(0);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(LongTapRecognizerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -20,7 +20,9 @@ import com.google.gwtmockito.GwtMockitoTestRunner;
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
 import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
 import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor.CodeToRun;
+import com.googlecode.mgwt.helper.GestureReplayer;
 import com.googlecode.mgwt.helper.TouchTestUtil;
+import com.googlecode.mgwt.helper.VirtualClock;
 
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.verify;
@@ -146,4 +148,74 @@ public class LongTapRecognizerTest {
 
     verifyNoMoreInteractions(eventPropagator);
   }
+
+  @Test
+  public void testReplayLongTapTrace() {
+    final VirtualClock clock = new VirtualClock(1000);
+    longTapRecognizer = new LongTapRecognizer(handlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+      @Override
+      TimerExecutor getTimerExecutor() {
+        return clock;
+      }
+    };
+
+    // the trace holds the finger for 1750 ms with small movements, the timer fires in between
+    new GestureReplayer(clock).replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/longtap.json"), longTapRecognizer);
+
+    verify(eventPropagator).fireEvent(hasHandlersCaptor.capture(), eventCaptor.capture());
+    LongTapEvent tapEvent = (LongTapEvent) eventCaptor.getValue();
+    Assert.assertEquals(160, tapEvent.getStartPositions().get(0).getPageX());
+    Assert.assertEquals(300, tapEvent.getStartPositions().get(0).getPageY());
+    Assert.assertEquals(0, clock.getPendingCount());
+  }
+
+  @Test
+  public void testReplayTapTraceIsNoLongTap() {
+    final VirtualClock clock = new VirtualClock(1000);
+    longTapRecognizer = new LongTapRecognizer(handlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+      @Override
+      TimerExecutor getTimerExecutor() {
+        return clock;
+      }
+    };
+
+    new GestureReplayer(clock).replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/tap.json"), longTapRecognizer);
+    // lifting the finger cancels the timer
+    Assert.assertEquals(0, clock.getPendingCount());
+    clock.advanceBy(2000);
+
+    verifyNoMoreInteractions(eventPropagator);
+  }
+
+  @Test
+  public void testRejectGestureCancelsTimer() {
+    final VirtualClock clock = new VirtualClock(1000);
+    longTapRecognizer = new LongTapRecognizer(handlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+      @Override
+      TimerExecutor getTimerExecutor() {
+        return clock;
+      }
+    };
+
+    longTapRecognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(1, 2));
+    Assert.assertEquals(1, clock.getPendingCount());
+
+    longTapRecognizer.rejectGesture();
+    Assert.assertEquals(0, clock.getPendingCount());
+    clock.advanceBy(2000);
+
+    verifyNoMoreInteractions(eventPropagator);
+  }
 }
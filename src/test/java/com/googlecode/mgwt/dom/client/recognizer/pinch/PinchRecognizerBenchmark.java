@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.pinch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagatorStandardImpl;
+
+/**
+ * Drives a synthetic pinch of 1,000 move samples through {@link PinchRecognizer} and reports the
+ * cost per move. {@code legacyMove} repeats the per move work of the former implementation (offset
+ * reads, Math.pow / Math.sqrt, a new event per move) as a baseline.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.pinch.PinchRecognizerBenchmark</code>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PinchRecognizerBenchmark {
+
+  private static final int SAMPLES = 1000;
+
+  private static final HasHandlers NO_HANDLERS = new HasHandlers() {
+
+    @Override
+    public void fireEvent(GwtEvent<?> event) {
+    }
+  };
+
+  /**
+   * stands in for a layout read of the source
+   */
+  private static class FixedOffsetProvider implements OffsetProvider {
+
+    private int reads;
+
+    @Override
+    public int getLeft() {
+      reads++;
+      return 10;
+    }
+
+    @Override
+    public int getTop() {
+      reads++;
+      return 20;
+    }
+  }
+
+  private final int[] samples = new int[SAMPLES * 4];
+  private FixedOffsetProvider offsetProvider;
+  private PinchRecognizer recognizer;
+
+  @Setup
+  public void setUp() {
+    // two fingers moving apart and back together around a center point
+    for (int i = 0; i < SAMPLES; i++) {
+      int spread = 50 + (int) (100 * Math.abs(Math.sin(i * Math.PI / SAMPLES * 4)));
+      samples[i * 4] = 200 - spread;
+      samples[i * 4 + 1] = 300 - spread / 2;
+      samples[i * 4 + 2] = 200 + spread;
+      samples[i * 4 + 3] = 300 + spread / 2;
+    }
+
+    offsetProvider = new FixedOffsetProvider();
+    final EventPropagator eventPropagator = new EventPropagatorStandardImpl();
+    recognizer = new PinchRecognizer(NO_HANDLERS, offsetProvider) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+    };
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void move() {
+    recognizer.startTwoFinger(samples[0], samples[1], samples[2], samples[3]);
+    for (int i = 0; i < SAMPLES; i++) {
+      int offset = i * 4;
+      recognizer.onTwoFingerMove(samples[offset], samples[offset + 1], samples[offset + 2], samples[offset + 3]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void legacyMove(Blackhole blackhole) {
+    double distance =
+        (int) Math.sqrt(Math.pow(samples[0] - samples[2], 2) + Math.pow(samples[1] - samples[3], 2));
+    for (int i = 0; i < SAMPLES; i++) {
+      int offset = i * 4;
+      int left = offsetProvider.getLeft();
+      int top = offsetProvider.getTop();
+
+      int x1 = samples[offset] - left;
+      int y1 = samples[offset + 1] - top;
+      int x2 = samples[offset + 2] - left;
+      int y2 = samples[offset + 3] - top;
+
+      double newDistance = Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
+      int x = (x1 + x2) / 2;
+      int y = (y1 + y2) / 2;
+
+      blackhole.consume(new PinchEvent(x, y, distance / newDistance));
+      distance = newDistance;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(PinchRecognizerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -20,10 +20,12 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagatorStandardImpl;
 import com.googlecode.mgwt.helper.TouchTestUtil;
 
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.junit.Assert;
@@ -77,8 +79,67 @@ public class PinchRecognizerTest {
 
 		Assert.assertEquals(25, pinchEvent.getX());
 		Assert.assertEquals(25, pinchEvent.getY());
+		Assert.assertEquals(4, pinchEvent.getScaleFactor(), 0.0001);
+	}
+
+	@Test
+	public void testOffsetsAreReadOncePerGesture() {
+		CountingOffsetProvider offsetProvider = new CountingOffsetProvider();
+		PinchRecognizer recognizer = new PinchRecognizer(hasHandlers, offsetProvider) {
+			@Override
+			EventPropagator getEventPropagator() {
+				return eventPropagator;
+			}
+		};
+
+		recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+		recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(new int[]{0, 0, 200, 200}));
+		for (int i = 0; i < 10; i++) {
+			recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(new int[]{i, i, 200 - i, 200 - i}));
+		}
+		Assert.assertEquals(1, offsetProvider.calls);
+
+		recognizer.invalidateOffsets();
+		recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(new int[]{20, 20, 150, 150}));
+		Assert.assertEquals(2, offsetProvider.calls);
+
+		verify(eventPropagator, times(11)).fireEvent(eq(hasHandlers), eventCaptor.capture());
+		PinchEvent last = (PinchEvent) eventCaptor.getValue();
+		Assert.assertEquals(85 - 10, last.getX());
+		Assert.assertEquals(85 - 20, last.getY());
+	}
+
+	@Test
+	public void testEventsAreRecycled() {
+		final EventPropagator recyclingPropagator = new EventPropagatorStandardImpl();
+		PinchRecognizer recognizer = new PinchRecognizer(hasHandlers, new CountingOffsetProvider()) {
+			@Override
+			EventPropagator getEventPropagator() {
+				return recyclingPropagator;
+			}
+		};
+
+		recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+		recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(new int[]{0, 0, 200, 200}));
+		for (int i = 0; i < 50; i++) {
+			recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(new int[]{i, i, 200, 200}));
+		}
+
+		Assert.assertEquals(1, recognizer.getEventPool().getCreatedCount());
+	}
+
+	private static class CountingOffsetProvider implements OffsetProvider {
+		private int calls;
 
-		// TODO
-		//Assert.assertEquals(1.41421356237309, pinchEvent.getScaleFactor(), 0.0001);
+		@Override
+		public int getLeft() {
+			calls++;
+			return 10;
+		}
+
+		@Override
+		public int getTop() {
+			return 20;
+		}
 	}
 }
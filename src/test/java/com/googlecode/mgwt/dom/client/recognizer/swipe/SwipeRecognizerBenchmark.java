@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.swipe;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagatorStandardImpl;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.helper.StubClock;
+
+/**
+ * Drives synthetic horizontal swipes through {@link SwipeRecognizer} and reports the cost per touch
+ * event. Each swipe is a touch start, 100 moves sampled every 8 ms and a touch end
+ * that computes the release velocity.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeRecognizerBenchmark</code>, or all recognizers with {@link com.googlecode.mgwt.dom.client.recognizer.GestureRecognizerBenchmarks}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwipeRecognizerBenchmark {
+
+  private static final int SWIPES = 10;
+  private static final int MOVES = 100;
+  private static final int EVENTS = SWIPES * (MOVES + 2);
+
+  private static final HasHandlers NO_HANDLERS = new HasHandlers() {
+
+    @Override
+    public void fireEvent(GwtEvent<?> event) {
+    }
+  };
+
+  private final TouchCopy[] samples = new TouchCopy[MOVES];
+  private StubClock clock;
+  private SwipeRecognizer recognizer;
+
+  @Setup
+  public void setUp() {
+    // a finger that speeds up and slows down again while moving 400px to the right
+    for (int i = 0; i < MOVES; i++) {
+      int x = 40 + (int) (200 * (1 - Math.cos(Math.PI * (i + 1) / MOVES)));
+      samples[i] = new TouchCopy(x, 300 + (i % 3), 0);
+    }
+
+    clock = new StubClock();
+    final EventPropagator eventPropagator = new EventPropagatorStandardImpl();
+    recognizer = new SwipeRecognizer(NO_HANDLERS) {
+      @Override
+      TimeProvider getTimeProvider() {
+        return clock;
+      }
+
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+    };
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void swipe() {
+    for (int swipe = 0; swipe < SWIPES; swipe++) {
+      clock.setTime(0);
+      recognizer.start(40, 300);
+      for (int i = 0; i < MOVES; i++) {
+        clock.advanceBy(8);
+        recognizer.move(clock.getTime(), samples[i]);
+      }
+      recognizer.end();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SwipeRecognizerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
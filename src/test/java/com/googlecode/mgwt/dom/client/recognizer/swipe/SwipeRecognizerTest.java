@@ -20,10 +20,15 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 
 import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagatorStandardImpl;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
 import com.googlecode.mgwt.dom.client.recognizer.swipe.SwipeEvent.DIRECTION;
+import com.googlecode.mgwt.helper.GestureReplayer;
 import com.googlecode.mgwt.helper.TouchTestUtil;
+import com.googlecode.mgwt.helper.VirtualClock;
 
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -394,4 +399,197 @@ public class SwipeRecognizerTest {
 
     Assert.assertTrue(swipeEndEvent.isDistanceReached());
   }
+
+  @Test
+  public void testMoveEventsAreAllocatedWithoutRecycling() {
+    // an event propagator that never recycles, as before pooling: one new event per move
+    int created = allocationsPerGesture(swipeRecognizer);
+
+    // 59 moves, the one reaching the threshold fires the start event
+    Assert.assertEquals(59 - swipeRecognizer.getThreshold(), created);
+  }
+
+  @Test
+  public void testMoveEventsAreRecycled() {
+    final EventPropagator recyclingPropagator = new EventPropagatorStandardImpl();
+    SwipeRecognizer recognizer = new SwipeRecognizer(hasHandlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return recyclingPropagator;
+      }
+    };
+
+    Assert.assertEquals(1, allocationsPerGesture(recognizer));
+    // a second gesture does not allocate any move events
+    Assert.assertEquals(1, allocationsPerGesture(recognizer));
+  }
+
+  @Test
+  public void testRecycledEventIsReused() {
+    SwipeMoveEvent event = swipeRecognizer.getMoveEventPool().acquire();
+    event.recycle();
+    event.recycle();
+
+    Assert.assertEquals(1, swipeRecognizer.getMoveEventPool().size());
+    Assert.assertSame(event, swipeRecognizer.getMoveEventPool().acquire());
+  }
+
+  private int allocationsPerGesture(SwipeRecognizer recognizer) {
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    for (int i = 1; i < 60; i++) {
+      recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(i, 0));
+    }
+    recognizer.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+    return recognizer.getMoveEventPool().getCreatedCount();
+  }
+
+  @Test
+  public void testVelocityOnSwipeEnd() {
+    final long[] time = new long[1];
+    SwipeRecognizer recognizer = new SwipeRecognizer(hasHandlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+
+      @Override
+      TimeProvider getTimeProvider() {
+        return new TimeProvider() {
+
+          @Override
+          public long getTime() {
+            return time[0];
+          }
+        };
+      }
+    };
+
+    // right to left at 2 px / ms
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(200, 0));
+    for (int i = 1; i <= 10; i++) {
+      time[0] += 10;
+      recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(200 - i * 20, 0));
+    }
+    reset(eventPropagator);
+    recognizer.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+
+    verify(eventPropagator).fireEvent(eq(hasHandlers), eventCaptor.capture());
+    SwipeEndEvent endEvent = (SwipeEndEvent) eventCaptor.getValue();
+    Assert.assertEquals(DIRECTION.RIGHT_TO_LEFT, endEvent.getDirection());
+    Assert.assertEquals(2, endEvent.getVelocity(), 0.0001);
+  }
+
+  @Test
+  public void testSwipeEventsCarrySampleTime() {
+    final long[] time = new long[] {100};
+    SwipeRecognizer recognizer = new SwipeRecognizer(hasHandlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+
+      @Override
+      TimeProvider getTimeProvider() {
+        return new TimeProvider() {
+
+          @Override
+          public long getTime() {
+            return time[0];
+          }
+        };
+      }
+    };
+
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    for (int i = 1; i <= 20; i++) {
+      time[0] += 16;
+      recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(i * 10, 0));
+    }
+
+    verify(eventPropagator, atLeastOnce()).fireEvent(eq(hasHandlers), eventCaptor.capture());
+    GwtEvent<?> last = eventCaptor.getValue();
+    Assert.assertTrue(last instanceof SwipeMoveEvent);
+    Assert.assertEquals(time[0], ((SwipeMoveEvent) last).getSampleTime(), 0);
+    for (GwtEvent<?> event : eventCaptor.getAllValues()) {
+      if (event instanceof SwipeStartEvent) {
+        Assert.assertTrue(((SwipeStartEvent) event).getSampleTime() > 100);
+      }
+    }
+  }
+
+  @Test
+  public void testNoVelocityAfterPause() {
+    final long[] time = new long[1];
+    SwipeRecognizer recognizer = new SwipeRecognizer(hasHandlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+
+      @Override
+      TimeProvider getTimeProvider() {
+        return new TimeProvider() {
+
+          @Override
+          public long getTime() {
+            return time[0];
+          }
+        };
+      }
+    };
+
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(0, 0));
+    for (int i = 1; i <= 10; i++) {
+      time[0] += 10;
+      recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(i * 20, 0));
+    }
+    // finger rests before it is lifted
+    time[0] += 200;
+    reset(eventPropagator);
+    recognizer.onTouchEnd(TouchTestUtil.createTouchEndEvent());
+
+    verify(eventPropagator).fireEvent(eq(hasHandlers), eventCaptor.capture());
+    SwipeEndEvent endEvent = (SwipeEndEvent) eventCaptor.getValue();
+    Assert.assertEquals(0, endEvent.getVelocity(), 0);
+  }
+
+  @Test
+  public void testReplaySwipeTrace() {
+    SwipeEndEvent endEvent = replay("swipe.json");
+
+    Assert.assertEquals(DIRECTION.LEFT_TO_RIGHT, endEvent.getDirection());
+    Assert.assertTrue(endEvent.isDistanceReached());
+    Assert.assertEquals(400, endEvent.getDistance());
+  }
+
+  @Test
+  public void testReplayFlingTrace() {
+    SwipeEndEvent endEvent = replay("fling.json");
+
+    // the finger left the screen at 3.2 px / ms
+    Assert.assertEquals(DIRECTION.BOTTOM_TO_TOP, endEvent.getDirection());
+    Assert.assertEquals(3.2, endEvent.getVelocity(), 0.2);
+  }
+
+  private SwipeEndEvent replay(String traceName) {
+    final VirtualClock clock = new VirtualClock(1000);
+    SwipeRecognizer recognizer = new SwipeRecognizer(hasHandlers) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+
+      @Override
+      TimeProvider getTimeProvider() {
+        return clock;
+      }
+    };
+
+    new GestureReplayer(clock).replay(GestureReplayer.load("/com/googlecode/mgwt/dom/client/event/touch/trace/" + traceName), recognizer);
+
+    verify(eventPropagator, atLeastOnce()).fireEvent(eq(hasHandlers), eventCaptor.capture());
+    GwtEvent<?> lastEvent = eventCaptor.getValue();
+    Assert.assertTrue(lastEvent instanceof SwipeEndEvent);
+    return (SwipeEndEvent) lastEvent;
+  }
 }
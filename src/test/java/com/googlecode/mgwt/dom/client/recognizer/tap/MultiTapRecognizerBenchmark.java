@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.tap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchCopy;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.helper.StubClock;
+
+/**
+ * Drives synthetic two finger double taps through {@link MultiTapRecognizer} and reports the cost
+ * per touch event. Each tap puts down two fingers, moves both of them a little and lifts them again,
+ * a move of both fingers counts as one event.
+ *
+ * Run with <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.googlecode.mgwt.dom.client.recognizer.tap.MultiTapRecognizerBenchmark</code>, or all recognizers with {@link com.googlecode.mgwt.dom.client.recognizer.GestureRecognizerBenchmarks}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiTapRecognizerBenchmark {
+
+  private static final int DOUBLE_TAPS = 64;
+  private static final int MOVES = 4;
+  private static final int EVENTS = DOUBLE_TAPS * 2 * (MOVES + 4);
+
+  private static final HasHandlers NO_HANDLERS = new HasHandlers() {
+
+    @Override
+    public void fireEvent(GwtEvent<?> event) {
+    }
+  };
+
+  private final int[] samples = new int[MOVES * 4];
+  private StubClock clock;
+  private MultiTapRecognizer recognizer;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < MOVES; i++) {
+      samples[i * 4] = 100 + (i % 3) - 1;
+      samples[i * 4 + 1] = 200 + (i % 5) - 2;
+      samples[i * 4 + 2] = 160 - (i % 3) + 1;
+      samples[i * 4 + 3] = 200 - (i % 5) + 2;
+    }
+
+    clock = new StubClock();
+    recognizer = new MultiTapRecognizer(NO_HANDLERS, 2, 2) {
+      @Override
+      TimeProvider getTimeProvider() {
+        return clock;
+      }
+    };
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void doubleTap() {
+    for (int i = 0; i < DOUBLE_TAPS * 2; i++) {
+      // the copies are made by the touch start handler as well
+      recognizer.start(new TouchCopy(100, 200, 0));
+      recognizer.start(new TouchCopy(160, 200, 1));
+      for (int j = 0; j < MOVES; j++) {
+        int offset = j * 4;
+        recognizer.move(0, samples[offset], samples[offset + 1]);
+        recognizer.move(1, samples[offset + 2], samples[offset + 3]);
+      }
+      recognizer.end(1);
+      recognizer.end(0);
+      clock.advanceBy(100);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MultiTapRecognizerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.dom.client.recognizer.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+
+import com.googlecode.mgwt.dom.client.recognizer.EventPropagator;
+import com.googlecode.mgwt.dom.client.recognizer.RecyclableEvent;
+import com.googlecode.mgwt.dom.client.recognizer.pinch.OffsetProvider;
+import com.googlecode.mgwt.helper.TouchTestUtil;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class TransformRecognizerTest {
+
+  private static final double EPSILON = 0.0001;
+
+  /**
+   * records the values of every fired event, then recycles it like the real propagators do
+   */
+  private static class RecordingEventPropagator implements EventPropagator {
+    private final List<double[]> events = new ArrayList<double[]>();
+
+    @Override
+    public void fireEvent(HasHandlers source, GwtEvent<?> event) {
+      TransformEvent transformEvent = (TransformEvent) event;
+      events.add(new double[] {transformEvent.getX(), transformEvent.getY(), transformEvent.getDeltaX(),
+          transformEvent.getDeltaY(), transformEvent.getScale(), transformEvent.getRotation()});
+      ((RecyclableEvent) event).recycle();
+    }
+  }
+
+  private static class CountingOffsetProvider implements OffsetProvider {
+    private int calls;
+
+    @Override
+    public int getLeft() {
+      calls++;
+      return 10;
+    }
+
+    @Override
+    public int getTop() {
+      return 20;
+    }
+  }
+
+  @Mock
+  HasHandlers hasHandlers;
+
+  private RecordingEventPropagator eventPropagator;
+  private CountingOffsetProvider offsetProvider;
+  private TransformRecognizer recognizer;
+
+  @Before
+  public void setUp() {
+    eventPropagator = new RecordingEventPropagator();
+    offsetProvider = new CountingOffsetProvider();
+    recognizer = new TransformRecognizer(hasHandlers, offsetProvider) {
+      @Override
+      EventPropagator getEventPropagator() {
+        return eventPropagator;
+      }
+    };
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new TransformRecognizer(null, offsetProvider);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    try {
+      new TransformRecognizer(hasHandlers, null);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testPan() {
+    start(100, 100, 200, 100);
+    move(110, 105, 210, 105);
+
+    Assert.assertEquals(1, eventPropagator.events.size());
+    double[] event = eventPropagator.events.get(0);
+    // center relative to the offsets of the source
+    Assert.assertEquals(160 - 10, event[0], EPSILON);
+    Assert.assertEquals(105 - 20, event[1], EPSILON);
+    Assert.assertEquals(10, event[2], EPSILON);
+    Assert.assertEquals(5, event[3], EPSILON);
+    Assert.assertEquals(1, event[4], EPSILON);
+    Assert.assertEquals(0, event[5], EPSILON);
+  }
+
+  @Test
+  public void testScale() {
+    start(100, 100, 200, 100);
+    move(50, 100, 250, 100);
+    move(100, 100, 200, 100);
+
+    Assert.assertEquals(2, eventPropagator.events.get(0)[4], EPSILON);
+    Assert.assertEquals(0.5, eventPropagator.events.get(1)[4], EPSILON);
+    Assert.assertEquals(0, eventPropagator.events.get(0)[2], EPSILON);
+    Assert.assertEquals(0, eventPropagator.events.get(0)[5], EPSILON);
+  }
+
+  @Test
+  public void testRotation() {
+    start(100, 100, 200, 100);
+    // a quarter turn clockwise around the center
+    move(150, 50, 150, 150);
+    // and half a turn back
+    move(150, 150, 150, 50);
+
+    double[] quarter = eventPropagator.events.get(0);
+    Assert.assertEquals(Math.PI / 2, quarter[5], EPSILON);
+    Assert.assertEquals(1, quarter[4], EPSILON);
+    Assert.assertEquals(0, quarter[2], EPSILON);
+    Assert.assertEquals(0, quarter[3], EPSILON);
+
+    Assert.assertEquals(Math.PI, Math.abs(eventPropagator.events.get(1)[5]), EPSILON);
+  }
+
+  @Test
+  public void testCombinedTrace() {
+    // two fingers 100px apart rotating by 5 degrees, growing by 2% and moving 3px to the right per
+    // move; the deltas of all events add up to the whole transform
+    int steps = 18;
+    double centerX = 200;
+    double centerY = 200;
+    double radius = 50;
+    double angle = 0;
+    start(round(centerX - radius), round(centerY), round(centerX + radius), round(centerY));
+    for (int i = 1; i <= steps; i++) {
+      centerX += 3;
+      radius *= 1.02;
+      angle += Math.toRadians(5);
+      double dx = radius * Math.cos(angle);
+      double dy = radius * Math.sin(angle);
+      move(round(centerX - dx), round(centerY - dy), round(centerX + dx), round(centerY + dy));
+    }
+
+    double sumX = 0;
+    double scale = 1;
+    double rotation = 0;
+    for (double[] event : eventPropagator.events) {
+      sumX += event[2];
+      scale *= event[4];
+      rotation += event[5];
+    }
+
+    Assert.assertEquals(steps, eventPropagator.events.size());
+    Assert.assertEquals(3 * steps, sumX, 1);
+    Assert.assertEquals(Math.pow(1.02, steps), scale, 0.02);
+    Assert.assertEquals(Math.toRadians(5 * steps), rotation, 0.02);
+  }
+
+  @Test
+  public void testOffsetsAreReadOncePerGesture() {
+    start(0, 0, 200, 200);
+    for (int i = 0; i < 20; i++) {
+      move(i, i, 200 - i, 200 - i);
+    }
+    Assert.assertEquals(1, offsetProvider.calls);
+
+    recognizer.invalidateOffsets();
+    move(20, 20, 150, 150);
+    Assert.assertEquals(2, offsetProvider.calls);
+  }
+
+  @Test
+  public void testEventsAreRecycled() {
+    start(0, 0, 200, 200);
+    for (int i = 0; i < 50; i++) {
+      move(i, i, 200, 200);
+    }
+
+    Assert.assertEquals(50, eventPropagator.events.size());
+    Assert.assertEquals(1, recognizer.getEventPool().getCreatedCount());
+  }
+
+  @Test
+  public void testSecondFingerLifted() {
+    start(0, 0, 200, 200);
+    recognizer.onTouchEnd(TouchTestUtil.createTouchEndEvent(new int[] {0, 0}));
+    move(10, 10, 200, 200);
+
+    Assert.assertEquals(0, eventPropagator.events.size());
+
+    // a new second finger starts a new transform
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(new int[] {0, 0, 100, 0}));
+    move(0, 0, 100, 0);
+    Assert.assertEquals(1, eventPropagator.events.size());
+    Assert.assertEquals(1, eventPropagator.events.get(0)[4], EPSILON);
+  }
+
+  private void start(int x1, int y1, int x2, int y2) {
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(x1, y1));
+    recognizer.onTouchStart(TouchTestUtil.createTouchStartEvent(new int[] {x1, y1, x2, y2}));
+  }
+
+  private void move(int x1, int y1, int x2, int y2) {
+    recognizer.onTouchMove(TouchTestUtil.createTouchMoveEvent(new int[] {x1, y1, x2, y2}));
+  }
+
+  private static int round(double value) {
+    return (int) Math.round(value);
+  }
+}
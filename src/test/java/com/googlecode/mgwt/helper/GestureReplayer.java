@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.helper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.Touch;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+
+import com.googlecode.mgwt.dom.client.event.touch.HasSampleTime;
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Replays a recorded {@link GestureTrace} through a touch handler on the JVM
+ *
+ * Before every event the {@link VirtualClock} is advanced to the time of the event, so recognizers
+ * and scroll panels that use the clock as their time provider, timer executor and animation
+ * scheduler see the same timing as on the device, and timers that fire in between run in between.
+ * Move events also carry their exact sample time ({@link HasSampleTime}).
+ */
+public class GestureReplayer {
+
+  private final VirtualClock clock;
+
+  public GestureReplayer(VirtualClock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * replay a trace starting at the current time of the clock
+   *
+   * @param trace the trace to replay
+   * @param handler the handler that receives the events
+   */
+  public void replay(GestureTrace trace, TouchHandler handler) {
+    long startTime = clock.getTime();
+    List<TouchEvent<?>> events = createEvents(trace, startTime);
+    for (int i = 0; i < events.size(); i++) {
+      clock.advanceTo(startTime + (long) Math.floor(trace.get(i).getTime()));
+      dispatch(events.get(i), handler);
+    }
+  }
+
+  /**
+   * dispatch an event created by {@link #createEvents(GestureTrace, long)} to a handler
+   *
+   * @param event the event
+   * @param handler the handler
+   */
+  public static void dispatch(TouchEvent<?> event, TouchHandler handler) {
+    if (event instanceof TouchStartEvent) {
+      handler.onTouchStart((TouchStartEvent) event);
+    } else if (event instanceof TouchMoveEvent) {
+      handler.onTouchMove((TouchMoveEvent) event);
+    } else if (event instanceof TouchEndEvent) {
+      handler.onTouchEnd((TouchEndEvent) event);
+    } else {
+      handler.onTouchCancel((TouchCancelEvent) event);
+    }
+  }
+
+  /**
+   * create the touch events of a trace up front, e.g. to replay it without allocating mocks
+   *
+   * @param trace the trace
+   * @param startTime the time the trace starts at, used for the sample times
+   * @return the events in the order of the trace
+   */
+  public static List<TouchEvent<?>> createEvents(GestureTrace trace, long startTime) {
+    List<TouchEvent<?>> events = new ArrayList<TouchEvent<?>>(trace.size());
+    for (int i = 0; i < trace.size(); i++) {
+      events.add(createEvent(trace.get(i), startTime));
+    }
+    return events;
+  }
+
+  /**
+   * load a trace from the classpath
+   *
+   * @param resource the absolute name of the resource
+   * @return the trace
+   */
+  public static GestureTrace load(String resource) {
+    InputStream in = GestureReplayer.class.getResourceAsStream(resource);
+    if (in == null) {
+      throw new IllegalArgumentException("can not find trace " + resource);
+    }
+    try {
+      Reader reader = new InputStreamReader(in, "UTF-8");
+      StringBuilder json = new StringBuilder();
+      char[] buffer = new char[4096];
+      int read;
+      while ((read = reader.read(buffer)) != -1) {
+        json.append(buffer, 0, read);
+      }
+      return GestureTrace.parse(json.toString());
+    } catch (IOException e) {
+      throw new RuntimeException("can not read trace " + resource, e);
+    } finally {
+      try {
+        in.close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+
+  private static TouchEvent<?> createEvent(GestureTrace.Event traceEvent, long startTime) {
+    TouchEvent<?> event;
+    switch (traceEvent.getType()) {
+      case START:
+        event = mock(TouchStartEvent.class);
+        break;
+      case MOVE:
+        event = mock(TouchMoveEvent.class, withSettings().extraInterfaces(HasSampleTime.class));
+        when(((HasSampleTime) event).getSampleTime()).thenReturn(startTime + traceEvent.getTime());
+        break;
+      case END:
+        event = mock(TouchEndEvent.class);
+        break;
+      default:
+        event = mock(TouchCancelEvent.class);
+        break;
+    }
+
+    JsArray<Touch> touches = createTouches(traceEvent.getTouchCount());
+    for (int i = 0; i < traceEvent.getTouchCount(); i++) {
+      setupTouch(touches.get(i), traceEvent.getIdentifier(i), traceEvent.getPageX(i), traceEvent.getPageY(i));
+    }
+    when(event.getTouches()).thenReturn(touches);
+    when(event.getTargetTouches()).thenReturn(touches);
+
+    JsArray<Touch> changedTouches = createTouches(traceEvent.getChangedTouchCount());
+    for (int i = 0; i < traceEvent.getChangedTouchCount(); i++) {
+      setupTouch(changedTouches.get(i), traceEvent.getChangedIdentifier(i), traceEvent.getChangedPageX(i), traceEvent.getChangedPageY(i));
+    }
+    when(event.getChangedTouches()).thenReturn(changedTouches);
+    return event;
+  }
+
+  private static JsArray<Touch> createTouches(int count) {
+    @SuppressWarnings("unchecked")
+    JsArray<Touch> touches = mock(JsArray.class);
+    when(touches.length()).thenReturn(count);
+    for (int i = 0; i < count; i++) {
+      Touch touch = mock(Touch.class);
+      when(touches.get(i)).thenReturn(touch);
+    }
+    return touches;
+  }
+
+  private static void setupTouch(Touch touch, int identifier, int pageX, int pageY) {
+    when(touch.getIdentifier()).thenReturn(identifier);
+    when(touch.getPageX()).thenReturn(pageX);
+    when(touch.getPageY()).thenReturn(pageY);
+    when(touch.getClientX()).thenReturn(pageX);
+    when(touch.getClientY()).thenReturn(pageY);
+    when(touch.getScreenX()).thenReturn(pageX);
+    when(touch.getScreenY()).thenReturn(pageY);
+  }
+}
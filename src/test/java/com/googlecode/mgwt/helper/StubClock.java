@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.helper;
+
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+
+/**
+ * A clock for benchmarks that does not allocate
+ *
+ * Unlike {@link VirtualClock} it only keeps the last timer that was scheduled, which is run by
+ * {@link #runPending()}.
+ */
+public class StubClock implements TimeProvider, TimerExecutor {
+
+  private long time;
+  private CodeToRun pending;
+
+  private final TimerHandle handle = new TimerHandle() {
+
+    @Override
+    public void cancel() {
+      pending = null;
+    }
+  };
+
+  @Override
+  public long getTime() {
+    return time;
+  }
+
+  public void setTime(long time) {
+    this.time = time;
+  }
+
+  public void advanceBy(long delta) {
+    time += delta;
+  }
+
+  @Override
+  public TimerHandle execute(CodeToRun codeToRun, int delay) {
+    pending = codeToRun;
+    return handle;
+  }
+
+  /**
+   * run the last scheduled timer, if there is one
+   */
+  public void runPending() {
+    CodeToRun codeToRun = pending;
+    pending = null;
+    if (codeToRun != null) {
+      codeToRun.onExecution();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.helper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Element;
+
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+
+/**
+ * A clock for tests that only moves when it is told to
+ *
+ * Timers and animation frames scheduled through the clock run in order of their due time while the
+ * clock is advanced, with the clock set to that due time.
+ */
+public class VirtualClock implements TimeProvider, TimerExecutor {
+
+  /**
+   * the interval of the animation frames in ms
+   */
+  public static final int FRAME_INTERVAL = 16;
+
+  private static class Task {
+    private final long due;
+    private final long sequence;
+    private final Runnable runnable;
+    private boolean cancelled;
+
+    public Task(long due, long sequence, Runnable runnable) {
+      this.due = due;
+      this.sequence = sequence;
+      this.runnable = runnable;
+    }
+
+    private boolean before(Task other) {
+      return due < other.due || (due == other.due && sequence < other.sequence);
+    }
+  }
+
+  private final List<Task> tasks = new ArrayList<Task>();
+  private long time;
+  private long sequence;
+
+  private final AnimationScheduler animationScheduler = new AnimationScheduler() {
+
+    @Override
+    public AnimationHandle requestAnimationFrame(final AnimationCallback callback, Element element) {
+      final Task task = schedule(new Runnable() {
+
+        @Override
+        public void run() {
+          callback.execute(time);
+        }
+      }, FRAME_INTERVAL);
+
+      return new AnimationHandle() {
+
+        @Override
+        public void cancel() {
+          task.cancelled = true;
+        }
+      };
+    }
+  };
+
+  public VirtualClock() {
+    this(0);
+  }
+
+  public VirtualClock(long time) {
+    this.time = time;
+  }
+
+  @Override
+  public long getTime() {
+    return time;
+  }
+
+  @Override
+  public TimerHandle execute(final CodeToRun codeToRun, int delay) {
+    final Task task = schedule(new Runnable() {
+
+      @Override
+      public void run() {
+        codeToRun.onExecution();
+      }
+    }, delay);
+
+    return new TimerHandle() {
+
+      @Override
+      public void cancel() {
+        task.cancelled = true;
+      }
+    };
+  }
+
+  /**
+   * @return an animation scheduler that runs its frames every {@link #FRAME_INTERVAL} ms of this
+   *         clock
+   */
+  public AnimationScheduler getAnimationScheduler() {
+    return animationScheduler;
+  }
+
+  /**
+   * move the clock forward, running all timers and frames that are due until then
+   *
+   * @param target the time to move to, moving backwards is not allowed
+   */
+  public void advanceTo(long target) {
+    if (target < time) {
+      throw new IllegalArgumentException("the clock can not go back from " + time + " to " + target);
+    }
+    Task task;
+    while ((task = nextTaskUntil(target)) != null) {
+      time = task.due;
+      task.runnable.run();
+    }
+    time = target;
+  }
+
+  public void advanceBy(long delta) {
+    advanceTo(time + delta);
+  }
+
+  /**
+   * @return the number of timers and frames that did not run yet
+   */
+  public int getPendingCount() {
+    int count = 0;
+    for (Task task : tasks) {
+      if (!task.cancelled) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private Task schedule(Runnable runnable, int delay) {
+    Task task = new Task(time + Math.max(0, delay), sequence++, runnable);
+    tasks.add(task);
+    return task;
+  }
+
+  private Task nextTaskUntil(long target) {
+    Task next = null;
+    for (Iterator<Task> iterator = tasks.iterator(); iterator.hasNext();) {
+      Task task = iterator.next();
+      if (task.cancelled) {
+        iterator.remove();
+      } else if (task.due <= target && (next == null || task.before(next))) {
+        next = task;
+      }
+    }
+    if (next != null) {
+      tasks.remove(next);
+    }
+    return next;
+  }
+}
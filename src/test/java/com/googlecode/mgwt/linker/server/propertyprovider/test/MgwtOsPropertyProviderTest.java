@@ -182,6 +182,56 @@ public class MgwtOsPropertyProviderTest {
     Assert.assertEquals("desktop", propertyValue);
   }
 
+  @Test
+  public void testGetPropertyValueIphoneWithRetinaClientHint() throws PropertyProviderException {
+    HttpServletRequest mockServletRequest = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(mockServletRequest.getHeader("User-Agent")).thenReturn(
+        UserAgents.IPHONE_IOS5_USER_AGENT);
+    Mockito.when(mockServletRequest.getHeader("Sec-CH-DPR")).thenReturn("2");
+
+    String propertyValue = provider.getPropertyValue(mockServletRequest);
+
+    Assert.assertEquals("retina", propertyValue);
+  }
+
+  @Test
+  public void testGetPropertyValueIpadWithNonRetinaLegacyClientHint() throws PropertyProviderException {
+    HttpServletRequest mockServletRequest = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(mockServletRequest.getHeader("User-Agent")).thenReturn(
+        UserAgents.IPAD_IOS5_USER_AGENT);
+    Mockito.when(mockServletRequest.getHeader("DPR")).thenReturn("1.0");
+
+    String propertyValue = provider.getPropertyValue(mockServletRequest);
+
+    Assert.assertEquals("ipad", propertyValue);
+  }
+
+  @Test
+  public void testGetPropertyValueIphoneCookieWinsOverClientHint() throws PropertyProviderException {
+    HttpServletRequest mockServletRequest = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(mockServletRequest.getHeader("User-Agent")).thenReturn(
+        UserAgents.IPHONE_IOS5_USER_AGENT);
+    Mockito.when(mockServletRequest.getCookies()).thenReturn(
+        new Cookie[] {new Cookie("mgwt_ios_retina", "0")});
+    Mockito.when(mockServletRequest.getHeader("Sec-CH-DPR")).thenReturn("2");
+
+    String propertyValue = provider.getPropertyValue(mockServletRequest);
+
+    Assert.assertEquals("iphone", propertyValue);
+  }
+
+  @Test
+  public void testGetPropertyValueIphoneWithInvalidClientHint() throws PropertyProviderException {
+    HttpServletRequest mockServletRequest = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(mockServletRequest.getHeader("User-Agent")).thenReturn(
+        UserAgents.IPHONE_IOS5_USER_AGENT);
+    Mockito.when(mockServletRequest.getHeader("Sec-CH-DPR")).thenReturn("bla");
+
+    String propertyValue = provider.getPropertyValue(mockServletRequest);
+
+    Assert.assertEquals("iphone_undefined", propertyValue);
+  }
+
   @Test
   public void testGetRetinaCookieValueValid() {
     HttpServletRequest mockServletRequest = Mockito.mock(HttpServletRequest.class);
@@ -3,6 +3,8 @@ package com.googlecode.mgwt.linker.server.test;
 import com.googlecode.mgwt.linker.server.BindingProperty;
 import com.googlecode.mgwt.linker.server.Html5ManifestServletBase;
 import com.googlecode.mgwt.linker.server.MGWTHtml5ManifestServlet;
+import com.googlecode.mgwt.linker.server.PermutationKey;
+import com.googlecode.mgwt.linker.server.PermutationKeyFilter;
 import com.googlecode.mgwt.linker.server.propertyprovider.test.UserAgents;
 
 import junit.framework.Assert;
@@ -11,13 +13,16 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 public class Html5ManifestServletTest {
 
@@ -168,4 +173,106 @@ public class Html5ManifestServletTest {
     Assert.assertEquals("test_bla", moduleName);
 
   }
+
+  @Test
+  public void testRequestClientHints() {
+    HttpServletResponse mockServletResponse = Mockito.mock(HttpServletResponse.class);
+
+    servlet.requestClientHints(mockServletResponse);
+
+    Mockito.verify(mockServletResponse).setHeader("Accept-CH", "Sec-CH-DPR, DPR");
+  }
+
+  @Test
+  public void testIsSharedCacheableDisabledByDefault() throws ServletException {
+    HttpServletRequest mockServletRequest = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(mockServletRequest.getHeader(PermutationKey.KEY_HEADER)).thenReturn("mgwt.os=desktop");
+
+    ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+    Mockito.when(servletConfig.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+    servlet.init(servletConfig);
+
+    Assert.assertFalse(servlet.isSharedCacheable(mockServletRequest, "mgwt.os=desktop"));
+  }
+
+  @Test
+  public void testIsSharedCacheable() throws ServletException {
+    ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+    Mockito.when(servletConfig.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+    Mockito.when(servletConfig.getInitParameter("sharedCacheMaxAge")).thenReturn("60");
+    servlet.init(servletConfig);
+
+    HttpServletRequest matching = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(matching.getHeader(PermutationKey.KEY_HEADER)).thenReturn("mgwt.os=desktop");
+    Assert.assertTrue(servlet.isSharedCacheable(matching, "mgwt.os=desktop"));
+
+    HttpServletRequest missing = Mockito.mock(HttpServletRequest.class);
+    Assert.assertFalse(servlet.isSharedCacheable(missing, "mgwt.os=desktop"));
+
+    HttpServletRequest forged = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(forged.getHeader(PermutationKey.KEY_HEADER)).thenReturn("mgwt.os=retina");
+    Assert.assertFalse(servlet.isSharedCacheable(forged, "mgwt.os=desktop"));
+  }
+
+  @Test
+  public void testIsSharedCacheableWithKeyAddedBehindProxy() throws ServletException {
+    ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+    Mockito.when(servletConfig.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+    Mockito.when(servletConfig.getInitParameter("sharedCacheMaxAge")).thenReturn("60");
+    servlet.init(servletConfig);
+
+    HttpServletRequest filtered = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(filtered.getHeader(PermutationKey.KEY_HEADER)).thenReturn("mgwt.os=desktop");
+    Mockito.when(filtered.getAttribute(PermutationKeyFilter.KEY_ADDED_ATTRIBUTE)).thenReturn(Boolean.TRUE);
+    Assert.assertFalse(servlet.isSharedCacheable(filtered, "mgwt.os=desktop"));
+  }
+
+  @Test
+  public void testServeManifestWithoutKeyHeaderIsNotShared() throws ServletException, IOException {
+    ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+    Mockito.when(servletConfig.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+    Mockito.when(servletConfig.getInitParameter("sharedCacheMaxAge")).thenReturn("60");
+    servlet.init(servletConfig);
+
+    HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+    Mockito.when(response.getOutputStream()).thenReturn(Mockito.mock(ServletOutputStream.class));
+
+    servlet.serveStringManifest(request, response, "CACHE MANIFEST\n", "ABC", "mgwt.os=desktop");
+
+    Mockito.verify(response).setHeader("Cache-Control", "no-cache");
+    Mockito.verify(response, Mockito.never()).setHeader(Mockito.eq("Vary"), Mockito.anyString());
+    Mockito.verify(response, Mockito.never()).setHeader(Mockito.eq(PermutationKey.STRONG_NAME_HEADER), Mockito.anyString());
+  }
+
+  @Test
+  public void testServeManifestWithKeyHeaderIsShared() throws ServletException, IOException {
+    ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+    Mockito.when(servletConfig.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+    Mockito.when(servletConfig.getInitParameter("sharedCacheMaxAge")).thenReturn("60");
+    servlet.init(servletConfig);
+
+    HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(request.getHeader(PermutationKey.KEY_HEADER)).thenReturn("mgwt.os=desktop");
+    HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+    Mockito.when(response.getOutputStream()).thenReturn(Mockito.mock(ServletOutputStream.class));
+
+    servlet.serveStringManifest(request, response, "CACHE MANIFEST\n", "ABC", "mgwt.os=desktop");
+
+    Mockito.verify(response).setHeader("Cache-Control", "public, max-age=0, s-maxage=60");
+    Mockito.verify(response).setHeader("Vary", PermutationKey.KEY_HEADER);
+    Mockito.verify(response).setHeader(PermutationKey.STRONG_NAME_HEADER, "ABC");
+  }
+
+  @Test
+  public void testInitWithInvalidSharedCacheMaxAge() {
+    ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+    Mockito.when(servletConfig.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+    Mockito.when(servletConfig.getInitParameter("sharedCacheMaxAge")).thenReturn("bla");
+    try {
+      servlet.init(servletConfig);
+      Assert.fail("expected exception did not occur");
+    } catch (ServletException ignored) {
+    }
+  }
 }
@@ -0,0 +1,101 @@
+package com.googlecode.mgwt.linker.server.test;
+
+import com.googlecode.mgwt.linker.server.BindingProperty;
+import com.googlecode.mgwt.linker.server.PermutationKey;
+import com.googlecode.mgwt.linker.server.PermutationKeyFilter;
+import com.googlecode.mgwt.linker.server.propertyprovider.test.UserAgents;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.HashSet;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class PermutationKeyFilterTest {
+
+  private PermutationKeyFilter filter;
+
+  @Before
+  public void before() {
+    filter = new PermutationKeyFilter();
+  }
+
+  @Test
+  public void testComputeIsIndependentOfOrder() {
+    HashSet<BindingProperty> set1 = new HashSet<BindingProperty>();
+    set1.add(new BindingProperty("user.agent", "safari"));
+    set1.add(new BindingProperty("mgwt.os", "retina"));
+
+    HashSet<BindingProperty> set2 = new HashSet<BindingProperty>();
+    set2.add(new BindingProperty("mgwt.os", "retina"));
+    set2.add(new BindingProperty("user.agent", "safari"));
+
+    Assert.assertEquals("mgwt.os=retina;user.agent=safari", PermutationKey.compute(set1));
+    Assert.assertEquals(PermutationKey.compute(set1), PermutationKey.compute(set2));
+  }
+
+  @Test
+  public void testComputeKeySameForDifferentUserAgentsOfSamePermutation() {
+    HttpServletRequest ios6 = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(ios6.getHeader("User-Agent")).thenReturn(UserAgents.IOS_IPHONE_6_0);
+    Mockito.when(ios6.getCookies()).thenReturn(new Cookie[] {new Cookie("mgwt_ios_retina", "1")});
+
+    HttpServletRequest ios7 = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(ios7.getHeader("User-Agent")).thenReturn(UserAgents.IOS_IPHONE_7_1);
+    Mockito.when(ios7.getCookies()).thenReturn(new Cookie[] {new Cookie("mgwt_ios_retina", "1")});
+
+    Assert.assertEquals("mgwt.os=retina;mobile.user.agent=mobilesafari;user.agent=safari", filter.computeKey(ios6));
+    Assert.assertEquals(filter.computeKey(ios6), filter.computeKey(ios7));
+  }
+
+  @Test
+  public void testComputeKeyWithoutUserAgent() {
+    HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+
+    Assert.assertNull(filter.computeKey(request));
+  }
+
+  @Test
+  public void testDoFilterAddsKeyHeader() throws IOException, ServletException {
+    HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(request.getHeader("User-Agent")).thenReturn(UserAgents.BLACKBERRY_USER_AGENT);
+    FilterChain chain = Mockito.mock(FilterChain.class);
+
+    filter.doFilter(request, Mockito.mock(HttpServletResponse.class), chain);
+
+    ArgumentCaptor<ServletRequest> captor = ArgumentCaptor.forClass(ServletRequest.class);
+    Mockito.verify(chain).doFilter(captor.capture(), Mockito.any(ServletResponse.class));
+    HttpServletRequest filtered = (HttpServletRequest) captor.getValue();
+
+    Assert.assertEquals("mgwt.os=blackberry;mobile.user.agent=not_mobile;user.agent=safari", filtered.getHeader(PermutationKey.KEY_HEADER));
+    Assert.assertEquals(UserAgents.BLACKBERRY_USER_AGENT, filtered.getHeader("User-Agent"));
+    Mockito.verify(request).setAttribute(PermutationKeyFilter.KEY_ADDED_ATTRIBUTE, Boolean.TRUE);
+  }
+
+  @Test
+  public void testDoFilterKeepsIncomingKeyHeader() throws IOException, ServletException {
+    HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(request.getHeader("User-Agent")).thenReturn(UserAgents.BLACKBERRY_USER_AGENT);
+    Mockito.when(request.getHeader(PermutationKey.KEY_HEADER)).thenReturn("mgwt.os=retina");
+    FilterChain chain = Mockito.mock(FilterChain.class);
+    HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+
+    filter.doFilter(request, response, chain);
+
+    // the key computed by the proxy is passed on untouched
+    Mockito.verify(chain).doFilter(request, response);
+    Mockito.verify(request, Mockito.never()).setAttribute(Mockito.eq(PermutationKeyFilter.KEY_ADDED_ATTRIBUTE), Mockito.any());
+  }
+}
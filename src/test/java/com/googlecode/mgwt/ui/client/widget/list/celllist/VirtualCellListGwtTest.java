@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.list.celllist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.user.client.ui.RootPanel;
+
+public class VirtualCellListGwtTest extends GWTTestCase {
+
+  private static final Cell<Integer> CELL = new Cell<Integer>() {
+
+    @Override
+    public void render(SafeHtmlBuilder safeHtmlBuilder, Integer model) {
+      safeHtmlBuilder.append(model);
+    }
+
+    @Override
+    public boolean canBeSelected(Integer model) {
+      return true;
+    }
+  };
+
+  private VirtualCellList<Integer> list;
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.ui.UI";
+  }
+
+  @Override
+  protected void gwtSetUp() throws Exception {
+    list = new VirtualCellList<Integer>(CELL);
+    list.setFixedRowHeight(40);
+    list.setOverscan(80);
+    list.getElement().getStyle().setHeight(400, Unit.PX);
+    RootPanel.get().add(list);
+    list.refresh();
+  }
+
+  @Override
+  protected void gwtTearDown() throws Exception {
+    RootPanel.get().remove(list);
+  }
+
+  private static List<Integer> models(int count) {
+    List<Integer> models = new ArrayList<Integer>();
+    for (int i = 0; i < count; i++) {
+      models.add(i);
+    }
+    return models;
+  }
+
+  public void testRendersOnlyTheWindow() {
+    list.render(models(10000));
+
+    // 400px visible and 80px overscan below, 40px rows
+    Element ul = list.getElement().getElementsByTagName("ul").getItem(0);
+    assertEquals("400000px", ul.getStyle().getHeight());
+    assertEquals(13, list.getRowElementCount());
+    assertEquals(13, ul.getChildCount());
+    assertEquals("0", Element.as(ul.getChild(0)).getAttribute("__idx"));
+  }
+
+  public void testRowElementsAreRecycled() {
+    list.render(models(10000));
+    int count = list.getRowElementCount();
+
+    // 80px overscan above the visible rows as well
+    list.scrollToRow(5000, 0);
+    assertEquals(count + 2, list.getRowElementCount());
+
+    list.scrollToRow(9000, 0);
+    list.scrollToRow(20, 0);
+    assertEquals(count + 2, list.getRowElementCount());
+
+    list.render(models(100000));
+    assertEquals(count + 2, list.getRowElementCount());
+  }
+}
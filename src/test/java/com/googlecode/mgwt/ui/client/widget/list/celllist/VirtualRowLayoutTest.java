@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.list.celllist;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VirtualRowLayoutTest {
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new VirtualRowLayout(0, true);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+
+    VirtualRowLayout layout = new VirtualRowLayout(40, false);
+    layout.setRowCount(3);
+    try {
+      layout.getRowHeight(3);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    try {
+      layout.getRowTop(4);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+    try {
+      layout.setRowHeight(0, -1);
+      Assert.fail("expected exception did not occur");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    VirtualRowLayout layout = new VirtualRowLayout(40, false);
+    layout.setRowCount(0);
+
+    Assert.assertEquals(0, layout.getTotalHeight());
+    Assert.assertEquals(0, layout.getRowTop(0));
+    Assert.assertEquals(-1, layout.getRowAt(100));
+  }
+
+  @Test
+  public void testFixedRowHeight() {
+    VirtualRowLayout layout = new VirtualRowLayout(40, true);
+    layout.setRowCount(10000);
+
+    Assert.assertEquals(400000, layout.getTotalHeight());
+    Assert.assertEquals(40, layout.getRowHeight(5000));
+    Assert.assertEquals(200000, layout.getRowTop(5000));
+    Assert.assertEquals(5000, layout.getRowAt(200000));
+    Assert.assertEquals(5000, layout.getRowAt(200039));
+    Assert.assertEquals(0, layout.getRowAt(-100));
+    Assert.assertEquals(9999, layout.getRowAt(500000));
+
+    // measured heights are ignored
+    Assert.assertEquals(0, layout.setRowHeight(3, 100));
+    Assert.assertEquals(40, layout.getRowHeight(3));
+  }
+
+  @Test
+  public void testVariableRowHeight() {
+    VirtualRowLayout layout = new VirtualRowLayout(40, false);
+    layout.setRowCount(5);
+    Assert.assertEquals(200, layout.getTotalHeight());
+    Assert.assertEquals(120, layout.getRowTop(3));
+
+    Assert.assertEquals(60, layout.setRowHeight(1, 100));
+    Assert.assertEquals(-20, layout.setRowHeight(3, 20));
+    Assert.assertEquals(0, layout.setRowHeight(3, 20));
+
+    // 40, 100, 40, 20, 40
+    Assert.assertEquals(240, layout.getTotalHeight());
+    Assert.assertEquals(100, layout.getRowHeight(1));
+    Assert.assertEquals(0, layout.getRowTop(0));
+    Assert.assertEquals(40, layout.getRowTop(1));
+    Assert.assertEquals(140, layout.getRowTop(2));
+    Assert.assertEquals(180, layout.getRowTop(3));
+    Assert.assertEquals(200, layout.getRowTop(4));
+    Assert.assertEquals(240, layout.getRowTop(5));
+
+    Assert.assertEquals(0, layout.getRowAt(39));
+    Assert.assertEquals(1, layout.getRowAt(40));
+    Assert.assertEquals(1, layout.getRowAt(139));
+    Assert.assertEquals(2, layout.getRowAt(140));
+    Assert.assertEquals(3, layout.getRowAt(199));
+    Assert.assertEquals(4, layout.getRowAt(200));
+    Assert.assertEquals(4, layout.getRowAt(240));
+  }
+
+  @Test
+  public void testSetRowCountForgetsMeasuredHeights() {
+    VirtualRowLayout layout = new VirtualRowLayout(40, false);
+    layout.setRowCount(10);
+    layout.setRowHeight(2, 100);
+
+    layout.setRowCount(4);
+    Assert.assertEquals(160, layout.getTotalHeight());
+    Assert.assertEquals(40, layout.getRowHeight(2));
+    Assert.assertEquals(3, layout.getRowAt(159));
+  }
+
+  @Test
+  public void testMatchesLinearLayout() {
+    Random random = new Random(42);
+    int count = 1000;
+    int[] heights = new int[count];
+
+    VirtualRowLayout layout = new VirtualRowLayout(44, false);
+    layout.setRowCount(count);
+    for (int i = 0; i < count; i++) {
+      heights[i] = 44;
+    }
+    for (int n = 0; n < 3000; n++) {
+      int index = random.nextInt(count);
+      heights[index] = random.nextInt(200);
+      layout.setRowHeight(index, heights[index]);
+    }
+
+    int top = 0;
+    for (int i = 0; i < count; i++) {
+      Assert.assertEquals(top, layout.getRowTop(i));
+      Assert.assertEquals(heights[i], layout.getRowHeight(i));
+      if (heights[i] > 0) {
+        Assert.assertEquals(i, layout.getRowAt(top));
+        Assert.assertEquals(i, layout.getRowAt(top + heights[i] - 1));
+      }
+      top += heights[i];
+    }
+    Assert.assertEquals(top, layout.getTotalHeight());
+  }
+}
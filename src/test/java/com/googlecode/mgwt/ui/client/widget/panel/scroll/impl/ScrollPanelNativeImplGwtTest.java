@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.panel.scroll.impl;
+
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.RootPanel;
+import com.google.gwt.user.client.ui.SimplePanel;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollPanel;
+
+public class ScrollPanelNativeImplGwtTest extends GWTTestCase {
+
+  private ScrollPanelNativeImpl impl;
+
+  private ScrollPanel scrollPanel;
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.ui.UI";
+  }
+
+  @Override
+  protected void gwtSetUp() throws Exception {
+    impl = new ScrollPanelNativeImpl();
+    scrollPanel = new ScrollPanel(impl);
+    scrollPanel.getElement().getStyle().setHeight(100, Unit.PX);
+
+    FlowPanel content = new FlowPanel();
+    for (int i = 0; i < 5; i++) {
+      SimplePanel page = new SimplePanel();
+      page.getElement().getStyle().setHeight(100, Unit.PX);
+      content.add(page);
+    }
+    scrollPanel.setWidget(content);
+    scrollPanel.setScrollingEnabledX(false);
+    RootPanel.get().add(scrollPanel);
+    scrollPanel.refresh();
+  }
+
+  @Override
+  protected void gwtTearDown() throws Exception {
+    RootPanel.get().remove(scrollPanel);
+  }
+
+  public void testScrollStyles() {
+    assertEquals("auto", scrollPanel.getElement().getStyle().getProperty("overflowY"));
+    assertEquals("hidden", scrollPanel.getElement().getStyle().getProperty("overflowX"));
+    assertEquals("touch", scrollPanel.getElement().getStyle().getProperty("WebkitOverflowScrolling"));
+
+    scrollPanel.setBounce(false);
+
+    assertEquals("none", scrollPanel.getElement().getStyle().getProperty("overscrollBehavior"));
+  }
+
+  public void testSnapUsesCssScrollSnapping() {
+    scrollPanel.setSnap(true);
+
+    assertEquals("y mandatory", scrollPanel.getElement().getStyle().getProperty("scrollSnapType"));
+    assertEquals("start", impl.iterator().next().getElement().getFirstChildElement().getStyle()
+        .getProperty("scrollSnapAlign"));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.panel.scroll.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+
+import com.googlecode.mgwt.dom.client.recognizer.TimerExecutor;
+import com.googlecode.mgwt.helper.VirtualClock;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationMoveEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollAnimationStartEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollEndEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollMoveEvent;
+import com.googlecode.mgwt.ui.client.widget.panel.scroll.ScrollStartEvent;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class ScrollPanelNativeImplTest {
+
+  private VirtualClock clock;
+  private ScrollPanelNativeImpl scrollPanel;
+  private List<String> events;
+
+  @Before
+  public void setUp() {
+    clock = new VirtualClock(1000);
+    events = new ArrayList<String>();
+    scrollPanel = new ScrollPanelNativeImpl() {
+      @Override
+      TimerExecutor getTimerExecutor() {
+        return clock;
+      }
+
+      // handlers are stubbed by GwtMockito, so the fired events are recorded here
+      @Override
+      public void fireEvent(GwtEvent<?> event) {
+        if (event instanceof ScrollStartEvent) {
+          events.add(((ScrollStartEvent) event).getEvent() == null ? "start" : "touchStart");
+        } else if (event instanceof ScrollMoveEvent) {
+          events.add("move");
+        } else if (event instanceof ScrollAnimationStartEvent) {
+          events.add("animationStart");
+        } else if (event instanceof ScrollAnimationMoveEvent) {
+          events.add("animationMove");
+        } else if (event instanceof ScrollAnimationEndEvent) {
+          events.add("animationEnd");
+        } else if (event instanceof ScrollEndEvent) {
+          events.add("end");
+        }
+      }
+    };
+  }
+
+  @Test
+  public void testFlingEndsAfterMomentum() {
+    scrollPanel.getTouchHandler().onTouchStart(mock(TouchStartEvent.class));
+    scrollPanel.onScroll();
+    scrollPanel.onScroll();
+    clock.advanceBy(ScrollPanelNativeImpl.SCROLL_END_DELAY * 2);
+
+    // the finger is still down, a pause does not end the scroll
+    Assert.assertEquals(Arrays.asList("touchStart", "move", "move"), events);
+
+    scrollPanel.onScroll();
+    scrollPanel.getTouchHandler().onTouchEnd(mock(TouchEndEvent.class));
+    scrollPanel.onScroll();
+    scrollPanel.onScroll();
+    clock.advanceBy(ScrollPanelNativeImpl.SCROLL_END_DELAY - 1);
+
+    Assert.assertEquals(Arrays.asList("touchStart", "move", "move", "move", "animationStart", "animationMove", "animationMove"), events);
+
+    clock.advanceBy(1);
+
+    Assert.assertEquals(
+        Arrays.asList("touchStart", "move", "move", "move", "animationStart", "animationMove", "animationMove", "animationEnd", "end"), events);
+    Assert.assertEquals(0, clock.getPendingCount());
+  }
+
+  @Test
+  public void testTapEndsImmediately() {
+    scrollPanel.getTouchHandler().onTouchStart(mock(TouchStartEvent.class));
+    scrollPanel.getTouchHandler().onTouchEnd(mock(TouchEndEvent.class));
+
+    Assert.assertEquals(Arrays.asList("touchStart", "end"), events);
+  }
+
+  @Test
+  public void testScrollWithoutFinger() {
+    scrollPanel.onScroll();
+    scrollPanel.onScroll();
+    clock.advanceBy(ScrollPanelNativeImpl.SCROLL_END_DELAY);
+
+    Assert.assertEquals(Arrays.asList("start", "animationStart", "animationMove", "animationMove", "animationEnd", "end"), events);
+  }
+}
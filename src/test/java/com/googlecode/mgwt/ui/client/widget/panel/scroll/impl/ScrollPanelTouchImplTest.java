@@ -0,0 +1,235 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.panel.scroll.impl;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwtmockito.GwtMockito;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import com.google.gwtmockito.fakes.FakeProvider;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+import com.googlecode.mgwt.dom.client.event.touch.trace.GestureTrace;
+import com.googlecode.mgwt.dom.client.recognizer.TimeProvider;
+import com.googlecode.mgwt.helper.GestureReplayer;
+import com.googlecode.mgwt.helper.VirtualClock;
+import com.googlecode.mgwt.ui.client.util.impl.CssUtilImpl;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class ScrollPanelTouchImplTest {
+
+  private static final String TRACES = "/com/googlecode/mgwt/dom/client/event/touch/trace/";
+
+  // CssUtil keeps the first CssUtilImpl it gets for all tests of this class
+  private static final com.google.gwt.user.client.Element scrollerElement = mock(com.google.gwt.user.client.Element.class);
+  // the position the scroller was translated to, as the browser would report it
+  private static final int[] translation = new int[2];
+  private static CssUtilImpl cssUtilImpl;
+  // the panel whose draws are counted, null to count nothing
+  private static ScrollPanelTouchImpl drawnPanel;
+  private static int draws;
+  // the smallest and largest distance between the drawn and the committed position
+  private static int minLead;
+  private static int maxLead;
+
+  private VirtualClock clock;
+  private ScrollPanelTouchImpl scrollPanel;
+
+  @Before
+  public void setUp() {
+    if (cssUtilImpl == null) {
+      cssUtilImpl = createCssUtilImpl();
+    }
+    translation[0] = 0;
+    translation[1] = 0;
+    drawnPanel = null;
+    draws = 0;
+    minLead = Integer.MAX_VALUE;
+    maxLead = Integer.MIN_VALUE;
+    GwtMockito.useProviderForType(CssUtilImpl.class, new FakeProvider<CssUtilImpl>() {
+
+      @Override
+      public CssUtilImpl getFake(Class<?> type) {
+        return cssUtilImpl;
+      }
+    });
+
+    clock = new VirtualClock(1000);
+    scrollPanel = new ScrollPanelTouchImpl() {
+      @Override
+      TimeProvider getTimeProvider() {
+        return clock;
+      }
+
+      @Override
+      AnimationScheduler getAnimationScheduler() {
+        return clock.getAnimationScheduler();
+      }
+    };
+    scrollPanel.setWidget(new FlowPanel() {
+      @Override
+      public com.google.gwt.user.client.Element getElement() {
+        return scrollerElement;
+      }
+    });
+    scrollPanel.setMaxScrollY(-20000);
+    scrollPanel.onAttach();
+  }
+
+  @Test
+  public void testReplayFlingTrace() {
+    scrollPanel.scrollTo(0, -10000, 0);
+
+    new GestureReplayer(clock).replay(GestureReplayer.load(TRACES + "fling-down.json"), scrollPanel.getTouchHandler());
+
+    // the finger moved 436px, the first move stays below the threshold that unlocks scrolling
+    Assert.assertEquals(-9566, scrollPanel.getY());
+    Assert.assertEquals(1, clock.getPendingCount());
+
+    // the finger left at 2.6 px / ms, momentum decelerates over about 4.3s
+    clock.advanceBy(2000);
+    int scrolling = scrollPanel.getY();
+    Assert.assertTrue(scrolling > -9566 && scrolling < -4423);
+
+    clock.advanceBy(3000);
+    Assert.assertEquals(-4423, scrollPanel.getY());
+    Assert.assertEquals(-4423, translation[1]);
+    Assert.assertEquals(0, clock.getPendingCount());
+  }
+
+  @Test
+  public void testMovesAreDrawnOncePerFrame() {
+    scrollPanel.scrollTo(0, -10000, 0);
+    drawnPanel = scrollPanel;
+
+    final TouchHandler touchHandler = scrollPanel.getTouchHandler();
+    final int[] moves = new int[1];
+    final int[] drawsBeforeEnd = new int[1];
+    GestureTrace trace = GestureReplayer.load(TRACES + "fling-down.json");
+    new GestureReplayer(clock).replay(trace, new TouchHandler() {
+
+      @Override
+      public void onTouchStart(TouchStartEvent event) {
+        touchHandler.onTouchStart(event);
+      }
+
+      @Override
+      public void onTouchMove(TouchMoveEvent event) {
+        moves[0]++;
+        int before = draws;
+        touchHandler.onTouchMove(event);
+        // a move only records the position
+        Assert.assertEquals(before, draws);
+      }
+
+      @Override
+      public void onTouchEnd(TouchEndEvent event) {
+        drawsBeforeEnd[0] = draws;
+        touchHandler.onTouchEnd(event);
+      }
+
+      @Override
+      public void onTouchCancel(TouchCancelEvent event) {
+        touchHandler.onTouchCancel(event);
+      }
+    });
+
+    // the samples come every 8ms, the frames every 16ms
+    Assert.assertEquals(24, moves[0]);
+    Assert.assertTrue(drawsBeforeEnd[0] > 0 && drawsBeforeEnd[0] < moves[0]);
+    Assert.assertTrue(drawsBeforeEnd[0] <= trace.getDuration() / VirtualClock.FRAME_INTERVAL + 1);
+
+    // the last move is drawn when the finger lifts
+    Assert.assertEquals(-9566, scrollPanel.getY());
+    Assert.assertEquals(-9566, translation[1]);
+  }
+
+  @Test
+  public void testReplayFlingTraceWithTouchPrediction() {
+    scrollPanel.setTouchPrediction(true);
+    scrollPanel.scrollTo(0, -10000, 0);
+    drawnPanel = scrollPanel;
+
+    new GestureReplayer(clock).replay(GestureReplayer.load(TRACES + "fling-down.json"), scrollPanel.getTouchHandler());
+
+    // the finger moves down, the drawn position runs ahead of the committed one
+    Assert.assertTrue(minLead >= 0);
+    Assert.assertTrue(maxLead > 10);
+
+    // the committed position and the momentum do not depend on the prediction
+    Assert.assertEquals(-9566, scrollPanel.getY());
+    drawnPanel = null;
+    clock.advanceBy(5000);
+    Assert.assertEquals(-4423, scrollPanel.getY());
+    Assert.assertEquals(-4423, translation[1]);
+  }
+
+  @Test
+  public void testReplayTapTrace() {
+    scrollPanel.scrollTo(0, -10000, 0);
+
+    new GestureReplayer(clock).replay(GestureReplayer.load(TRACES + "tap.json"), scrollPanel.getTouchHandler());
+    clock.advanceBy(5000);
+
+    Assert.assertEquals(-10000, scrollPanel.getY());
+    Assert.assertEquals(0, clock.getPendingCount());
+  }
+
+  private static CssUtilImpl createCssUtilImpl() {
+    CssUtilImpl cssUtilImpl = mock(CssUtilImpl.class);
+    when(cssUtilImpl.hasTransform()).thenReturn(true);
+    doAnswer(new Answer<Void>() {
+
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        translation[0] = (Integer) invocation.getArguments()[1];
+        translation[1] = (Integer) invocation.getArguments()[2];
+        if (drawnPanel != null) {
+          draws++;
+          int lead = translation[1] - drawnPanel.getY();
+          minLead = Math.min(minLead, lead);
+          maxLead = Math.max(maxLead, lead);
+        }
+        return null;
+      }
+    }).when(cssUtilImpl).translate(same(scrollerElement), anyInt(), anyInt());
+    when(cssUtilImpl.getPositionFromTransForm(any(Element.class))).thenAnswer(new Answer<int[]>() {
+
+      @Override
+      public int[] answer(InvocationOnMock invocation) {
+        return new int[] {translation[0], translation[1]};
+      }
+    });
+    return cssUtilImpl;
+  }
+}
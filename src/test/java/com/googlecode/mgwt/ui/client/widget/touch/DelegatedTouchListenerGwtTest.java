@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.dom.client.TouchStartHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.RootPanel;
+
+public class DelegatedTouchListenerGwtTest extends GWTTestCase {
+
+  private static class RecordingHandler implements TouchStartHandler {
+    private final StringBuilder log;
+    private final String name;
+    private final boolean stopPropagation;
+
+    public RecordingHandler(StringBuilder log, String name, boolean stopPropagation) {
+      this.log = log;
+      this.name = name;
+      this.stopPropagation = stopPropagation;
+    }
+
+    @Override
+    public void onTouchStart(TouchStartEvent event) {
+      log.append(name);
+      if (stopPropagation) {
+        event.stopPropagation();
+      }
+    }
+  }
+
+  private TouchWidgetImpl impl;
+  private FlowPanel outer;
+  private HTML inner;
+  private StringBuilder log;
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.ui.UI";
+  }
+
+  @Override
+  protected void gwtSetUp() throws Exception {
+    impl = new TouchWidgetMouseAndTouchDelegatedImpl();
+    outer = new FlowPanel();
+    inner = new HTML("<span>content</span>");
+    outer.add(inner);
+    RootPanel.get().add(outer);
+    log = new StringBuilder();
+  }
+
+  @Override
+  protected void gwtTearDown() throws Exception {
+    outer.removeFromParent();
+  }
+
+  public void testEventReachesWidgetFromChildElement() {
+    impl.addTouchStartHandler(inner, new RecordingHandler(log, "inner", false));
+
+    mouseDown(inner.getElement().getFirstChildElement());
+
+    assertEquals("inner", log.toString());
+  }
+
+  public void testInnermostWidgetFirst() {
+    impl.addTouchStartHandler(outer, new RecordingHandler(log, "outer", false));
+    impl.addTouchStartHandler(inner, new RecordingHandler(log, "inner", false));
+
+    mouseDown(inner.getElement());
+
+    assertEquals("innerouter", log.toString());
+  }
+
+  public void testStopPropagation() {
+    impl.addTouchStartHandler(outer, new RecordingHandler(log, "outer", false));
+    impl.addTouchStartHandler(inner, new RecordingHandler(log, "inner", true));
+
+    mouseDown(inner.getElement());
+
+    assertEquals("inner", log.toString());
+  }
+
+  public void testRemovedHandler() {
+    HandlerRegistration registration = impl.addTouchStartHandler(inner, new RecordingHandler(log, "inner", false));
+    registration.removeHandler();
+    registration.removeHandler();
+
+    mouseDown(inner.getElement());
+
+    assertEquals("", log.toString());
+  }
+
+  public void testDetachedWidget() {
+    impl.addTouchStartHandler(inner, new RecordingHandler(log, "inner", false));
+    Element element = inner.getElement();
+    inner.removeFromParent();
+    // keep the element in the document without its widget being attached
+    outer.getElement().appendChild(element);
+
+    mouseDown(element);
+
+    assertEquals("", log.toString());
+  }
+
+  private void mouseDown(Element element) {
+    NativeEvent event = Document.get().createMouseDownEvent(0, 0, 0, 0, 0, false, false, false, false, NativeEvent.BUTTON_LEFT);
+    element.dispatchEvent(event);
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.dom.client.TouchStartHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Event;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.RootPanel;
+import com.googlecode.mgwt.dom.client.event.tap.TapEvent;
+import com.googlecode.mgwt.dom.client.event.tap.TapHandler;
+import com.googlecode.mgwt.ui.client.widget.button.Button;
+
+public class PassiveTouchListenerGwtTest extends GWTTestCase {
+
+  private static class RecordingHandler implements TouchStartHandler {
+    private final StringBuilder log;
+    private final String name;
+
+    public RecordingHandler(StringBuilder log, String name) {
+      this.log = log;
+      this.name = name;
+    }
+
+    @Override
+    public void onTouchStart(TouchStartEvent event) {
+      log.append(name);
+    }
+  }
+
+  private TouchWidgetImpl impl;
+  private HTML widget;
+  private StringBuilder log;
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.ui.UI";
+  }
+
+  @Override
+  protected void gwtSetUp() throws Exception {
+    impl = new TouchWidgetTouchOnlyImpl();
+    widget = new HTML("<span>content</span>");
+    RootPanel.get().add(widget);
+    log = new StringBuilder();
+  }
+
+  @Override
+  protected void gwtTearDown() throws Exception {
+    widget.removeFromParent();
+  }
+
+  public void testPassiveHandlers() {
+    PassiveTouchListener.setPassive(widget, true);
+    assertTrue(PassiveTouchListener.isPassive(widget));
+
+    impl.addTouchStartHandler(widget, new RecordingHandler(log, "a"));
+    impl.addTouchStartHandler(widget, new RecordingHandler(log, "b"));
+
+    touchStart(widget.getElement().getFirstChildElement());
+
+    assertEquals("ab", log.toString());
+  }
+
+  public void testNotPassiveByDefault() {
+    assertFalse(PassiveTouchListener.isPassive(widget));
+
+    new TouchWidgetMouseAndTouchImpl().addTouchStartHandler(widget, new RecordingHandler(log, "a"));
+
+    mouseDown(widget.getElement());
+
+    assertEquals("a", log.toString());
+  }
+
+  public void testRemovedHandlers() {
+    PassiveTouchListener.setPassive(widget, true);
+    HandlerRegistration first = impl.addTouchStartHandler(widget, new RecordingHandler(log, "a"));
+    HandlerRegistration second = impl.addTouchStartHandler(widget, new RecordingHandler(log, "b"));
+
+    first.removeHandler();
+    first.removeHandler();
+    touchStart(widget.getElement());
+    assertEquals("b", log.toString());
+
+    second.removeHandler();
+    touchStart(widget.getElement());
+    assertEquals("b", log.toString());
+  }
+
+  public void testDetachedWidget() {
+    PassiveTouchListener.setPassive(widget, true);
+    impl.addTouchStartHandler(widget, new RecordingHandler(log, "a"));
+    Element element = widget.getElement();
+    widget.removeFromParent();
+    // keep the element in the document without its widget being attached
+    RootPanel.getBodyElement().appendChild(element);
+
+    touchStart(element);
+    element.removeFromParent();
+
+    assertEquals("", log.toString());
+  }
+
+  public void testPassiveAndNonPassiveHandlers() {
+    impl.addTouchStartHandler(widget, new RecordingHandler(log, "n"));
+    PassiveTouchListener.setPassive(widget, true);
+    impl.addTouchStartHandler(widget, new RecordingHandler(log, "p"));
+
+    // the passive listener only calls the passive handler
+    NativeEvent event = createTouchStart();
+    widget.getElement().dispatchEvent(event);
+    assertEquals("p", log.toString());
+
+    // the dispatch of the widget only calls the non-passive handler
+    DomEvent.fireNativeEvent(event, widget);
+    assertEquals("pn", log.toString());
+  }
+
+  public void testPassiveHandlersOfButtonFireOnce() {
+    final Button button = new Button("button");
+    RootPanel.get().add(button);
+    button.setPassiveTouchHandlers(true);
+    button.addTouchStartHandler(new RecordingHandler(log, "a"));
+    button.addTapHandler(new TapHandler() {
+
+      @Override
+      public void onTap(TapEvent event) {
+        log.append("tap");
+        // tap events are dispatched deferred
+        assertEquals("atap", log.toString());
+        button.removeFromParent();
+        finishTest();
+      }
+    });
+
+    // the default handlers of the button no longer sink touch events
+    assertEquals(0, DOM.getEventsSunk(button.getElement()) & Event.TOUCHEVENTS);
+
+    mouseDown(button.getElement());
+    assertEquals("a", log.toString());
+    assertTrue(button.isActive());
+
+    delayTestFinish(5000);
+    mouseUp(button.getElement());
+    assertFalse(button.isActive());
+  }
+
+  private void mouseDown(Element element) {
+    NativeEvent event = Document.get().createMouseDownEvent(0, 0, 0, 0, 0, false, false, false, false, NativeEvent.BUTTON_LEFT);
+    element.dispatchEvent(event);
+  }
+
+  private void mouseUp(Element element) {
+    NativeEvent event = Document.get().createMouseUpEvent(0, 0, 0, 0, 0, false, false, false, false, NativeEvent.BUTTON_LEFT);
+    element.dispatchEvent(event);
+  }
+
+  private void touchStart(Element element) {
+    element.dispatchEvent(createTouchStart());
+  }
+
+  private native NativeEvent createTouchStart() /*-{
+    var event = $doc.createEvent('Event');
+    event.initEvent('touchstart', true, true);
+    return event;
+  }-*/;
+}
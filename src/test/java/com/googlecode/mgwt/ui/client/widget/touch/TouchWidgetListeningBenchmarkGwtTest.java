@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.Label;
+import com.google.gwt.user.client.ui.RootPanel;
+
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+
+/**
+ * Compares attaching and detaching widgets that listen for touch events on their own element with
+ * widgets that use the delegated document listener.
+ *
+ * Timings and heap sizes are only logged, since they depend on the browser the test runs in. The
+ * heap size is only available in browsers exposing <code>performance.memory</code>.
+ */
+public class TouchWidgetListeningBenchmarkGwtTest extends GWTTestCase {
+
+  private static final int WIDGETS = 1000;
+  private static final int ROUNDS = 5;
+
+  private static final TouchHandler HANDLER = new TouchHandler() {
+
+    @Override
+    public void onTouchStart(TouchStartEvent event) {
+    }
+
+    @Override
+    public void onTouchMove(TouchMoveEvent event) {
+    }
+
+    @Override
+    public void onTouchEnd(TouchEndEvent event) {
+    }
+
+    @Override
+    public void onTouchCancel(TouchCancelEvent event) {
+    }
+  };
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.ui.UI";
+  }
+
+  public void testAttachAndDetach() {
+    // warm up both paths once
+    run(new TouchWidgetMouseAndTouchImpl(), "element");
+    run(new TouchWidgetMouseAndTouchDelegatedImpl(), "document");
+
+    run(new TouchWidgetMouseAndTouchImpl(), "element");
+    run(new TouchWidgetMouseAndTouchDelegatedImpl(), "document");
+  }
+
+  private void run(TouchWidgetImpl impl, String name) {
+    double attach = 0;
+    double detach = 0;
+    double heap = 0;
+    boolean heapAvailable = usedHeapSize() >= 0;
+
+    for (int round = 0; round < ROUNDS; round++) {
+      double heapBefore = usedHeapSize();
+      FlowPanel panel = new FlowPanel();
+
+      double start = Duration.currentTimeMillis();
+      for (int i = 0; i < WIDGETS; i++) {
+        Label label = new Label();
+        impl.addTouchHandler(label, HANDLER);
+        panel.add(label);
+      }
+      RootPanel.get().add(panel);
+      attach += Duration.currentTimeMillis() - start;
+      heap += usedHeapSize() - heapBefore;
+
+      start = Duration.currentTimeMillis();
+      panel.removeFromParent();
+      detach += Duration.currentTimeMillis() - start;
+
+      assertEquals(WIDGETS, panel.getWidgetCount());
+    }
+
+    System.out.println(WIDGETS + " touch widgets listening on " + name + ": attach " + (attach / ROUNDS) + "ms detach "
+        + (detach / ROUNDS) + "ms heap " + (!heapAvailable ? "n/a" : (heap / ROUNDS / 1024) + "kb"));
+  }
+
+  private static native double usedHeapSize() /*-{
+    var performance = $wnd.performance;
+    if (performance && performance.memory) {
+      return performance.memory.usedJSHeapSize;
+    }
+    return -1;
+  }-*/;
+}
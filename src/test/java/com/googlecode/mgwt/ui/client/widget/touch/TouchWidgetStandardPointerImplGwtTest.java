@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014 Daniel Kurka
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.googlecode.mgwt.ui.client.widget.touch;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.dom.client.TouchCancelEvent;
+import com.google.gwt.event.dom.client.TouchEndEvent;
+import com.google.gwt.event.dom.client.TouchEvent;
+import com.google.gwt.event.dom.client.TouchMoveEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.ui.Label;
+import com.google.gwt.user.client.ui.RootPanel;
+
+import com.googlecode.mgwt.dom.client.event.touch.HasCoalescedSamples;
+import com.googlecode.mgwt.dom.client.event.touch.TouchHandler;
+
+public class TouchWidgetStandardPointerImplGwtTest extends GWTTestCase {
+
+  private static class RecordingHandler implements TouchHandler {
+    private final StringBuilder log = new StringBuilder();
+
+    @Override
+    public void onTouchStart(TouchStartEvent event) {
+      record("start", event);
+    }
+
+    @Override
+    public void onTouchMove(TouchMoveEvent event) {
+      // one event per pointermove, synthetic events have no coalesced samples
+      HasCoalescedSamples samples = (HasCoalescedSamples) event;
+      assertEquals(1, samples.getSampleCount());
+      assertEquals(event.getChangedTouches().get(0).getPageX(), samples.getSamplePageX(0));
+      record("move", event);
+    }
+
+    @Override
+    public void onTouchEnd(TouchEndEvent event) {
+      record("end", event);
+    }
+
+    @Override
+    public void onTouchCancel(TouchCancelEvent event) {
+      record("cancel", event);
+    }
+
+    private void record(String type, TouchEvent<?> event) {
+      log.append(type).append(event.getTouches().length());
+      for (int i = 0; i < event.getTouches().length(); i++) {
+        log.append(' ').append(event.getTouches().get(i).getPageX());
+      }
+      log.append(';');
+    }
+  }
+
+  private TouchWidgetImpl impl;
+  private Label label;
+  private RecordingHandler handler;
+
+  @Override
+  public String getModuleName() {
+    return "com.googlecode.mgwt.ui.UI";
+  }
+
+  @Override
+  protected void gwtSetUp() throws Exception {
+    impl = new TouchWidgetStandardPointerImpl();
+    label = new Label("pointer");
+    RootPanel.get().add(label);
+    handler = new RecordingHandler();
+  }
+
+  @Override
+  protected void gwtTearDown() throws Exception {
+    label.removeFromParent();
+  }
+
+  public void testTracksAllPointers() {
+    impl.addTouchHandler(label, handler);
+    Element element = label.getElement();
+
+    dispatch(element, "pointerdown", 1, 10);
+    dispatch(element, "pointerdown", 2, 100);
+    dispatch(element, "pointermove", 2, 120);
+    dispatch(element, "pointerup", 1, 10);
+    dispatch(element, "pointercancel", 2, 120);
+
+    assertEquals("start1 10;start2 10 100;move2 10 120;end1 120;cancel0;", handler.log.toString());
+  }
+
+  public void testIgnoresHoveringPointers() {
+    impl.addTouchHandler(label, handler);
+
+    dispatch(label.getElement(), "pointermove", 1, 10);
+    dispatch(label.getElement(), "pointerup", 1, 10);
+
+    assertEquals("", handler.log.toString());
+  }
+
+  public void testRemoveHandler() {
+    HandlerRegistration registration = impl.addTouchHandler(label, handler);
+    registration.removeHandler();
+
+    dispatch(label.getElement(), "pointerdown", 1, 10);
+
+    assertEquals("", handler.log.toString());
+  }
+
+  public void testTouchAction() {
+    // handling moves alone does not keep the browser from panning
+    impl.addTouchHandler(label, handler);
+    assertEquals("manipulation", label.getElement().getStyle().getProperty("touchAction"));
+
+    Label dragged = new Label("dragged");
+    TouchAction.setDragging(dragged, true);
+    impl.addTouchHandler(dragged, handler);
+    assertEquals("none", dragged.getElement().getStyle().getProperty("touchAction"));
+    assertTrue(TouchAction.isDragging(dragged));
+  }
+
+  private static native void dispatch(Element element, String type, int pointerId, int pageX) /*-{
+    var event = $doc.createEvent('MouseEvents');
+    event.initMouseEvent(type, true, true, $wnd, 0, pageX, 0, pageX, 0, false, false, false, false, 0, null);
+    event.pointerId = pointerId;
+    event.pointerType = 'touch';
+    element.dispatchEvent(event);
+  }-*/;
+}